@@ -0,0 +1,59 @@
+package me.christianrobert.ora2postgre.transfer.benchmark;
+
+import me.christianrobert.ora2postgre.transfer.RowCodec;
+import me.christianrobert.ora2postgre.transfer.copy.CopyBinaryWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-row throughput of COPY binary encoding, for the column mixes that have a binary
+ * encoder for every column (ANYDATA has none and always goes through text COPY).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BinaryCopyBenchmark {
+
+  @Param({"NARROW_NUMERIC", "WIDE_VARCHAR", "TIMESTAMPS", "CLOB"})
+  public ColumnMix mix;
+
+  private InMemoryResultSet rs;
+  private RowCodec codec;
+  private CopyBinaryWriter binaryWriter;
+
+  @Setup
+  public void setUp() throws SQLException {
+    rs = new InMemoryResultSet(mix.labels(), mix.rows(RowEncodingBenchmark.ROWS));
+    codec = RowCodec.compile(mix.columns());
+    if (!codec.supportsBinaryCopy()) {
+      throw new IllegalStateException("Column mix " + mix + " has no binary COPY encoding");
+    }
+    binaryWriter = new CopyBinaryWriter(new DiscardingCopyIn());
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RowEncodingBenchmark.ROWS)
+  public long copyBinary() throws SQLException {
+    rs.rewind();
+    while (rs.next()) {
+      codec.writeBinaryRow(rs, binaryWriter);
+    }
+    return binaryWriter.getBytesWritten();
+  }
+}
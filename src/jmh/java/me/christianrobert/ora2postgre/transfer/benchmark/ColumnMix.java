@@ -0,0 +1,179 @@
+package me.christianrobert.ora2postgre.transfer.benchmark;
+
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Representative column mixes of Oracle tables, with generated rows for each.
+ *
+ * Rows are generated from a fixed seed, so every run encodes the same data. Character data
+ * mixes plain ASCII with the characters COPY text format escapes (tab, newline, backslash)
+ * and with multi-byte UTF-8 characters.
+ */
+public enum ColumnMix {
+
+  /** Keys, counters, amounts and a double: the typical fact table. */
+  NARROW_NUMERIC {
+    @Override
+    List<ColumnMetadata> columns() {
+      return List.of(
+              new ColumnMetadata("ID", "NUMBER", null, 10, 0, false, null),
+              new ColumnMetadata("CUSTOMER_ID", "NUMBER", null, 10, 0, false, null),
+              new ColumnMetadata("QUANTITY", "INTEGER", null, 38, 0, true, null),
+              new ColumnMetadata("AMOUNT", "NUMBER", null, 12, 2, true, null),
+              new ColumnMetadata("RATIO", "BINARY_DOUBLE", null, null, null, true, null),
+              new ColumnMetadata("STATUS", "NUMBER", null, 1, 0, true, null));
+    }
+
+    @Override
+    Object[] row(Random random, int rowNumber) {
+      return new Object[]{
+              BigDecimal.valueOf(rowNumber + 1_000_000L),
+              BigDecimal.valueOf(random.nextInt(100_000)),
+              BigDecimal.valueOf(random.nextInt(1_000)),
+              BigDecimal.valueOf(random.nextInt(10_000_000), 2),
+              random.nextDouble(),
+              random.nextInt(20) == 0 ? null : BigDecimal.valueOf(random.nextInt(3))};
+    }
+  },
+
+  /** Several long VARCHAR2 columns: descriptions, addresses, free text. */
+  WIDE_VARCHAR {
+    @Override
+    List<ColumnMetadata> columns() {
+      List<ColumnMetadata> columns = new ArrayList<>();
+      columns.add(new ColumnMetadata("ID", "NUMBER", null, 10, 0, false, null));
+      for (int i = 1; i <= 6; i++) {
+        columns.add(new ColumnMetadata("TEXT_" + i, "VARCHAR2", 4000, null, null, true, null));
+      }
+      columns.add(new ColumnMetadata("NAME_LOCAL", "NVARCHAR2", 200, null, null, true, null));
+      return columns;
+    }
+
+    @Override
+    Object[] row(Random random, int rowNumber) {
+      Object[] row = new Object[8];
+      row[0] = BigDecimal.valueOf(rowNumber);
+      for (int i = 1; i <= 6; i++) {
+        row[i] = random.nextInt(20) == 0 ? null : text(random, 50 + random.nextInt(950));
+      }
+      row[7] = text(random, 10 + random.nextInt(90));
+      return row;
+    }
+  },
+
+  /** Audit columns: DATE and TIMESTAMP values, some of them NULL. */
+  TIMESTAMPS {
+    @Override
+    List<ColumnMetadata> columns() {
+      return List.of(
+              new ColumnMetadata("ID", "NUMBER", null, 10, 0, false, null),
+              new ColumnMetadata("CREATED", "DATE", null, null, null, false, null),
+              new ColumnMetadata("UPDATED", "TIMESTAMP(6)", null, null, null, true, null),
+              new ColumnMetadata("VALID_FROM", "DATE", null, null, null, true, null),
+              new ColumnMetadata("VALID_TO", "TIMESTAMP(6)", null, null, null, true, null));
+    }
+
+    @Override
+    Object[] row(Random random, int rowNumber) {
+      long created = BASE_TIME + random.nextInt(Integer.MAX_VALUE) * 1000L;
+      Timestamp updated = new Timestamp(created + random.nextInt(86_400_000));
+      updated.setNanos(random.nextInt(1_000_000) * 1000);
+      return new Object[]{
+              BigDecimal.valueOf(rowNumber),
+              new Timestamp(created),
+              updated,
+              random.nextInt(10) == 0 ? null : new Timestamp(created - created % 86_400_000L),
+              random.nextInt(3) == 0 ? null : new Timestamp(created + 365L * 86_400_000L)};
+    }
+  },
+
+  /** A document table: key plus a CLOB of 4 to 64 KB. */
+  CLOB {
+    @Override
+    List<ColumnMetadata> columns() {
+      return List.of(
+              new ColumnMetadata("ID", "NUMBER", null, 10, 0, false, null),
+              new ColumnMetadata("TITLE", "VARCHAR2", 200, null, null, true, null),
+              new ColumnMetadata("BODY", "CLOB", null, null, null, true, null));
+    }
+
+    @Override
+    Object[] row(Random random, int rowNumber) {
+      return new Object[]{
+              BigDecimal.valueOf(rowNumber),
+              text(random, 20 + random.nextInt(100)),
+              new InMemoryClob(text(random, 4 * 1024 + random.nextInt(60 * 1024)))};
+    }
+  },
+
+  /** ANYDATA payloads of mixed types, converted to JSON. */
+  ANYDATA_JSON {
+    @Override
+    List<ColumnMetadata> columns() {
+      return List.of(
+              new ColumnMetadata("ID", "NUMBER", null, 10, 0, false, null),
+              new ColumnMetadata("PAYLOAD", "ANYDATA", null, null, null, true, null));
+    }
+
+    @Override
+    Object[] row(Random random, int rowNumber) {
+      Object payload = switch (rowNumber % 4) {
+        case 0 -> BigDecimal.valueOf(random.nextInt(10_000_000), 3);
+        case 1 -> text(random, 10 + random.nextInt(200));
+        case 2 -> new Timestamp(BASE_TIME + random.nextInt(Integer.MAX_VALUE) * 1000L);
+        default -> null;
+      };
+      return new Object[]{BigDecimal.valueOf(rowNumber), payload};
+    }
+  };
+
+  // 2000-01-01T00:00:00Z
+  private static final long BASE_TIME = 946_684_800_000L;
+  private static final long SEED = 42;
+  private static final String PLAIN = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 .,;-";
+  private static final String SPECIAL = "\t\n\\äöüßé€";
+
+  abstract List<ColumnMetadata> columns();
+
+  abstract Object[] row(Random random, int rowNumber);
+
+  /**
+   * Generates the rows of this mix.
+   */
+  Object[][] rows(int count) {
+    Random random = new Random(SEED);
+    Object[][] rows = new Object[count][];
+    for (int i = 0; i < count; i++) {
+      rows[i] = row(random, i);
+    }
+    return rows;
+  }
+
+  /**
+   * Column labels in column order.
+   */
+  String[] labels() {
+    return columns().stream().map(ColumnMetadata::getColumnName).toArray(String[]::new);
+  }
+
+  /**
+   * Text of mostly plain ASCII with about one special character per hundred.
+   */
+  static String text(Random random, int length) {
+    StringBuilder text = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      if (random.nextInt(100) == 0) {
+        text.append(SPECIAL.charAt(random.nextInt(SPECIAL.length())));
+      } else {
+        text.append(PLAIN.charAt(random.nextInt(PLAIN.length())));
+      }
+    }
+    return text.toString();
+  }
+}
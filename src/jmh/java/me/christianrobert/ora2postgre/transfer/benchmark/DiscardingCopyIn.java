@@ -0,0 +1,66 @@
+package me.christianrobert.ora2postgre.transfer.benchmark;
+
+import org.postgresql.copy.CopyIn;
+import org.postgresql.util.ByteStreamWriter;
+
+import java.sql.SQLException;
+
+/**
+ * COPY operation that drops the bytes the writers send, so that a benchmark
+ * measures encoding without a PostgreSQL connection.
+ */
+final class DiscardingCopyIn implements CopyIn {
+
+  private boolean active = true;
+
+  @Override
+  public void writeToCopy(byte[] buf, int off, int siz) {
+    // Dropped; the writers count the bytes themselves
+  }
+
+  @Override
+  public void writeToCopy(ByteStreamWriter from) throws SQLException {
+    throw new SQLException("Stream writers are not used by the COPY writers");
+  }
+
+  @Override
+  public void flushCopy() {
+    // Nothing buffered
+  }
+
+  @Override
+  public long endCopy() {
+    active = false;
+    return 0;
+  }
+
+  @Override
+  public int getFieldCount() {
+    return 0;
+  }
+
+  @Override
+  public int getFormat() {
+    return 0;
+  }
+
+  @Override
+  public int getFieldFormat(int field) {
+    return 0;
+  }
+
+  @Override
+  public boolean isActive() {
+    return active;
+  }
+
+  @Override
+  public void cancelCopy() {
+    active = false;
+  }
+
+  @Override
+  public long getHandledRowCount() {
+    return 0;
+  }
+}
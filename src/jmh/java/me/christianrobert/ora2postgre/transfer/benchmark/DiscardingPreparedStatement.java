@@ -0,0 +1,94 @@
+package me.christianrobert.ora2postgre.transfer.benchmark;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+/**
+ * INSERT statement that keeps the bound parameters of the current row, as the driver does
+ * until addBatch(), and drops them on the next row. Measures the parameter setters without a
+ * PostgreSQL connection.
+ */
+final class DiscardingPreparedStatement extends UnsupportedPreparedStatement {
+
+  private final Object[] parameters;
+  private long batchedRows = 0;
+
+  DiscardingPreparedStatement(int parameterCount) {
+    this.parameters = new Object[parameterCount];
+  }
+
+  long getBatchedRows() {
+    return batchedRows;
+  }
+
+  private void bind(int parameterIndex, Object value) throws SQLException {
+    if (parameterIndex < 1 || parameterIndex > parameters.length) {
+      throw new SQLException("Parameter index " + parameterIndex + " out of range 1.." + parameters.length);
+    }
+    parameters[parameterIndex - 1] = value;
+  }
+
+  @Override
+  public void setNull(int parameterIndex, int sqlType) throws SQLException {
+    bind(parameterIndex, null);
+  }
+
+  @Override
+  public void setString(int parameterIndex, String x) throws SQLException {
+    bind(parameterIndex, x);
+  }
+
+  @Override
+  public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+    bind(parameterIndex, x);
+  }
+
+  @Override
+  public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+    bind(parameterIndex, x);
+  }
+
+  @Override
+  public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+    bind(parameterIndex, x);
+  }
+
+  @Override
+  public void setBinaryStream(int parameterIndex, InputStream inputStream, long length) throws SQLException {
+    bind(parameterIndex, inputStream);
+  }
+
+  @Override
+  public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
+    bind(parameterIndex, reader);
+  }
+
+  @Override
+  public void setObject(int parameterIndex, Object x) throws SQLException {
+    bind(parameterIndex, x);
+  }
+
+  @Override
+  public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+    bind(parameterIndex, x);
+  }
+
+  @Override
+  public void clearParameters() {
+    Arrays.fill(parameters, null);
+  }
+
+  @Override
+  public void addBatch() {
+    batchedRows++;
+  }
+
+  @Override
+  public void close() {
+    // Nothing to release
+  }
+}
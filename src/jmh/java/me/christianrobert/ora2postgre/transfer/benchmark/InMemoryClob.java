@@ -0,0 +1,90 @@
+package me.christianrobert.ora2postgre.transfer.benchmark;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * Read-only CLOB over a string. Unlike SerialClob it survives {@link #free()}, which the
+ * encoders call after every value, so the same instance can be read in every invocation.
+ */
+final class InMemoryClob implements Clob {
+
+  private final String text;
+
+  InMemoryClob(String text) {
+    this.text = text;
+  }
+
+  @Override
+  public long length() {
+    return text.length();
+  }
+
+  @Override
+  public String getSubString(long pos, int length) {
+    int start = (int) pos - 1;
+    return text.substring(start, Math.min(text.length(), start + length));
+  }
+
+  @Override
+  public Reader getCharacterStream() {
+    return new StringReader(text);
+  }
+
+  @Override
+  public Reader getCharacterStream(long pos, long length) {
+    return new StringReader(getSubString(pos, (int) length));
+  }
+
+  @Override
+  public InputStream getAsciiStream() throws SQLException {
+    throw new SQLFeatureNotSupportedException("getAsciiStream");
+  }
+
+  @Override
+  public long position(String searchstr, long start) {
+    int index = text.indexOf(searchstr, (int) start - 1);
+    return index >= 0 ? index + 1 : -1;
+  }
+
+  @Override
+  public long position(Clob searchstr, long start) throws SQLException {
+    return position(searchstr.getSubString(1, (int) searchstr.length()), start);
+  }
+
+  @Override
+  public int setString(long pos, String str) throws SQLException {
+    throw new SQLFeatureNotSupportedException("CLOB is read-only");
+  }
+
+  @Override
+  public int setString(long pos, String str, int offset, int len) throws SQLException {
+    throw new SQLFeatureNotSupportedException("CLOB is read-only");
+  }
+
+  @Override
+  public OutputStream setAsciiStream(long pos) throws SQLException {
+    throw new SQLFeatureNotSupportedException("CLOB is read-only");
+  }
+
+  @Override
+  public Writer setCharacterStream(long pos) throws SQLException {
+    throw new SQLFeatureNotSupportedException("CLOB is read-only");
+  }
+
+  @Override
+  public void truncate(long len) throws SQLException {
+    throw new SQLFeatureNotSupportedException("CLOB is read-only");
+  }
+
+  @Override
+  public void free() {
+    // Kept for the next invocation
+  }
+}
@@ -0,0 +1,152 @@
+package me.christianrobert.ora2postgre.transfer.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Result set over rows held in memory, for feeding the encoders without a database.
+ *
+ * Getters return the stored objects the way the Oracle driver returns them for the column
+ * type: String for character columns, BigDecimal for NUMBER, Timestamp for DATE and TIMESTAMP,
+ * Clob and Struct for LOBs and object types. After the last row, {@link #rewind()} starts
+ * over, so every benchmark invocation encodes the same rows.
+ */
+final class InMemoryResultSet extends UnsupportedResultSet {
+
+  private final String[] columnLabels;
+  private final Object[][] rows;
+  private int row = -1;
+  private boolean lastWasNull;
+
+  /**
+   * @param columnLabels column labels in SELECT list order
+   * @param rows row values, one array per row in column order; null for SQL NULL
+   */
+  InMemoryResultSet(String[] columnLabels, Object[][] rows) {
+    this.columnLabels = columnLabels;
+    this.rows = rows;
+  }
+
+  int getRowCount() {
+    return rows.length;
+  }
+
+  /**
+   * Positions the cursor before the first row again.
+   */
+  void rewind() {
+    row = -1;
+  }
+
+  private Object value(int columnIndex) {
+    Object value = rows[row][columnIndex - 1];
+    lastWasNull = value == null;
+    return value;
+  }
+
+  @Override
+  public boolean next() {
+    if (row + 1 < rows.length) {
+      row++;
+      return true;
+    }
+    row = rows.length;
+    return false;
+  }
+
+  @Override
+  public int findColumn(String columnLabel) throws SQLException {
+    for (int i = 0; i < columnLabels.length; i++) {
+      if (columnLabels[i].equalsIgnoreCase(columnLabel)) {
+        return i + 1;
+      }
+    }
+    throw new SQLException("Unknown column " + columnLabel);
+  }
+
+  @Override
+  public boolean wasNull() {
+    return lastWasNull;
+  }
+
+  @Override
+  public String getString(int columnIndex) throws SQLException {
+    Object value = value(columnIndex);
+    if (value instanceof Clob) {
+      // The driver reads the whole LOB for getString()
+      Clob clob = (Clob) value;
+      return clob.getSubString(1, (int) clob.length());
+    }
+    return value != null ? value.toString() : null;
+  }
+
+  @Override
+  public String getString(String columnLabel) throws SQLException {
+    return getString(findColumn(columnLabel));
+  }
+
+  @Override
+  public int getInt(int columnIndex) {
+    Object value = value(columnIndex);
+    return value != null ? ((Number) value).intValue() : 0;
+  }
+
+  @Override
+  public long getLong(int columnIndex) {
+    Object value = value(columnIndex);
+    return value != null ? ((Number) value).longValue() : 0L;
+  }
+
+  @Override
+  public float getFloat(int columnIndex) {
+    Object value = value(columnIndex);
+    return value != null ? ((Number) value).floatValue() : 0f;
+  }
+
+  @Override
+  public double getDouble(int columnIndex) {
+    Object value = value(columnIndex);
+    return value != null ? ((Number) value).doubleValue() : 0d;
+  }
+
+  @Override
+  public BigDecimal getBigDecimal(int columnIndex) {
+    Object value = value(columnIndex);
+    if (value == null || value instanceof BigDecimal) {
+      return (BigDecimal) value;
+    }
+    return new BigDecimal(value.toString());
+  }
+
+  @Override
+  public Timestamp getTimestamp(int columnIndex) {
+    return (Timestamp) value(columnIndex);
+  }
+
+  @Override
+  public byte[] getBytes(int columnIndex) {
+    return (byte[]) value(columnIndex);
+  }
+
+  @Override
+  public Clob getClob(int columnIndex) {
+    return (Clob) value(columnIndex);
+  }
+
+  @Override
+  public Object getObject(int columnIndex) {
+    return value(columnIndex);
+  }
+
+  @Override
+  public Object getObject(String columnLabel) throws SQLException {
+    return getObject(findColumn(columnLabel));
+  }
+
+  @Override
+  public void close() {
+    // Nothing to release
+  }
+}
@@ -0,0 +1,33 @@
+package me.christianrobert.ora2postgre.transfer.benchmark;
+
+import java.sql.Struct;
+import java.util.Map;
+
+/**
+ * Object type value as the Oracle driver returns it from getObject().
+ */
+final class InMemoryStruct implements Struct {
+
+  private final String typeName;
+  private final Object[] attributes;
+
+  InMemoryStruct(String typeName, Object... attributes) {
+    this.typeName = typeName;
+    this.attributes = attributes;
+  }
+
+  @Override
+  public String getSQLTypeName() {
+    return typeName;
+  }
+
+  @Override
+  public Object[] getAttributes() {
+    return attributes;
+  }
+
+  @Override
+  public Object[] getAttributes(Map<String, Class<?>> map) {
+    return attributes;
+  }
+}
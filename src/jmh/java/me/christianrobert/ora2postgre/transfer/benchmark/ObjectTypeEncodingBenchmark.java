@@ -0,0 +1,107 @@
+package me.christianrobert.ora2postgre.transfer.benchmark;
+
+import me.christianrobert.ora2postgre.plsql.ast.DataTypeSpec;
+import me.christianrobert.ora2postgre.plsql.ast.ObjectType;
+import me.christianrobert.ora2postgre.plsql.ast.Variable;
+import me.christianrobert.ora2postgre.transfer.ObjectTypeMapper;
+import me.christianrobert.ora2postgre.transfer.copy.CopyTextWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-row throughput of object type columns, encoded as PostgreSQL composite literals the
+ * way ObjectTypeMappingStrategy does: LANGDATA2 from the langtable example plus an ADDRESS
+ * type with numeric and date attributes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ObjectTypeEncodingBenchmark {
+
+  private final ObjectTypeMapper mapper = new ObjectTypeMapper();
+  private ObjectType langdata2;
+  private ObjectType address;
+  private InMemoryResultSet rs;
+  private CopyTextWriter textWriter;
+  private DiscardingPreparedStatement statement;
+
+  @Setup
+  public void setUp() {
+    langdata2 = objectType("LANGDATA2",
+            new Variable("de", new DataTypeSpec("VARCHAR2", null, null, null), null),
+            new Variable("en", new DataTypeSpec("VARCHAR2", null, null, null), null));
+    address = objectType("ADDRESS",
+            new Variable("street", new DataTypeSpec("VARCHAR2", null, null, null), null),
+            new Variable("zip", new DataTypeSpec("NUMBER", null, null, null), null),
+            new Variable("city", new DataTypeSpec("VARCHAR2", null, null, null), null),
+            new Variable("valid_from", new DataTypeSpec("DATE", null, null, null), null));
+
+    Random random = new Random(42);
+    Object[][] rows = new Object[RowEncodingBenchmark.ROWS][];
+    for (int i = 0; i < rows.length; i++) {
+      rows[i] = new Object[]{
+              BigDecimal.valueOf(i),
+              new InMemoryStruct("LANGDATA2", ColumnMix.text(random, 20 + random.nextInt(200)),
+                      ColumnMix.text(random, 20 + random.nextInt(200))),
+              random.nextInt(10) == 0 ? null : new InMemoryStruct("ADDRESS",
+                      ColumnMix.text(random, 10 + random.nextInt(40)),
+                      BigDecimal.valueOf(10_000 + random.nextInt(90_000)),
+                      ColumnMix.text(random, 5 + random.nextInt(20)),
+                      new Timestamp(946_684_800_000L + random.nextInt(Integer.MAX_VALUE) * 1000L))};
+    }
+    rs = new InMemoryResultSet(new String[]{"ID", "LANGY", "ADDR"}, rows);
+    textWriter = new CopyTextWriter(new DiscardingCopyIn());
+    statement = new DiscardingPreparedStatement(3);
+  }
+
+  private static ObjectType objectType(String name, Variable... variables) {
+    return new ObjectType(name, "BENCH", new ArrayList<>(List.of(variables)),
+            new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), null, null);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RowEncodingBenchmark.ROWS)
+  public long copyText() throws SQLException {
+    rs.rewind();
+    while (rs.next()) {
+      textWriter.writeText(rs.getString(1));
+      textWriter.writeText(mapper.convertObjectToCompositeType(rs.getObject(2), langdata2));
+      textWriter.writeText(mapper.convertObjectToCompositeType(rs.getObject(3), address));
+      textWriter.endRow();
+    }
+    return textWriter.getBytesWritten();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RowEncodingBenchmark.ROWS)
+  public long insertParameters() throws SQLException {
+    rs.rewind();
+    while (rs.next()) {
+      statement.setBigDecimal(1, rs.getBigDecimal(1));
+      mapper.setCompositeTypeParameter(statement, 2, mapper.convertObjectToCompositeType(rs.getObject(2), langdata2));
+      mapper.setCompositeTypeParameter(statement, 3, mapper.convertObjectToCompositeType(rs.getObject(3), address));
+      statement.addBatch();
+    }
+    return statement.getBatchedRows();
+  }
+}
@@ -0,0 +1,74 @@
+package me.christianrobert.ora2postgre.transfer.benchmark;
+
+import me.christianrobert.ora2postgre.transfer.RowCodec;
+import me.christianrobert.ora2postgre.transfer.copy.CopyTextWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-row throughput of the {@link RowCodec} paths every table goes through: COPY text
+ * encoding and binding the INSERT parameters.
+ *
+ * One operation is one row, so the scores read as rows per second, and with
+ * {@code -prof gc} the {@code gc.alloc.rate.norm} figure is the bytes allocated per row.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RowEncodingBenchmark {
+
+  static final int ROWS = 1000;
+
+  @Param({"NARROW_NUMERIC", "WIDE_VARCHAR", "TIMESTAMPS", "CLOB", "ANYDATA_JSON"})
+  public ColumnMix mix;
+
+  private InMemoryResultSet rs;
+  private RowCodec codec;
+  private CopyTextWriter textWriter;
+  private DiscardingPreparedStatement statement;
+
+  @Setup
+  public void setUp() {
+    rs = new InMemoryResultSet(mix.labels(), mix.rows(ROWS));
+    codec = RowCodec.compile(mix.columns());
+    textWriter = new CopyTextWriter(new DiscardingCopyIn());
+    statement = new DiscardingPreparedStatement(codec.getColumnCount());
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public long copyText() throws SQLException {
+    rs.rewind();
+    while (rs.next()) {
+      codec.writeTextRow(rs, textWriter);
+    }
+    return textWriter.getBytesWritten();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public long insertParameters() throws SQLException {
+    rs.rewind();
+    while (rs.next()) {
+      codec.bindParameters(rs, statement);
+      statement.addBatch();
+    }
+    return statement.getBatchedRows();
+  }
+}
@@ -2,7 +2,13 @@ package me.christianrobert.ora2postgre.controllers;
 
 import me.christianrobert.ora2postgre.global.Everything;
 import me.christianrobert.ora2postgre.global.Config;
+import me.christianrobert.ora2postgre.global.ConnectionPool;
 import me.christianrobert.ora2postgre.transfer.DataTransferService;
+import me.christianrobert.ora2postgre.transfer.TransferConfig;
+import me.christianrobert.ora2postgre.transfer.bulkload.BulkLoadTuning;
+import me.christianrobert.ora2postgre.transfer.delta.DeltaSyncReport;
+import me.christianrobert.ora2postgre.transfer.verify.DataVerificationService;
+import me.christianrobert.ora2postgre.transfer.verify.VerificationReport;
 import me.christianrobert.ora2postgre.jobs.JobManager;
 import me.christianrobert.ora2postgre.jobs.MigrationProgressService;
 import me.christianrobert.ora2postgre.jobs.MigrationStep;
@@ -26,6 +32,7 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Path("/migration")
 @ApplicationScoped
@@ -49,25 +56,119 @@ public class DataTransferController {
   @Inject
   MigrationProgressService progressService;
 
+  @Inject
+  TransferConfig transferConfig;
+
+  private volatile VerificationReport lastVerificationReport;
+  private volatile DeltaSyncReport lastDeltaSyncReport;
+
   @POST
   @Path("/transferdata")
   @Produces(MediaType.APPLICATION_JSON)
   @Operation(
           summary = "Transfer Table Data Oracle → PostgreSQL",
-          description = "Phase 5: Performs high-performance bulk data transfer from Oracle to PostgreSQL with data type conversion, ANYDATA handling, and parallel processing."
+          description = "Phase 5: Performs high-performance bulk data transfer from Oracle to PostgreSQL with data type conversion, ANYDATA handling, and parallel processing. "
+                  + "With resume=true, tables and chunks completed by a previous checkpointed run are skipped."
   )
   @APIResponses({
           @APIResponse(responseCode = "202", description = "Data transfer job started successfully"),
           @APIResponse(responseCode = "409", description = "Another data transfer job is running")
   })
-  public Response transferData() {
+  public Response transferData(@QueryParam("resume") @DefaultValue("false") boolean resume) {
     if (jobManager.isAnyJobRunning()) {
       return Response.status(409).entity(jobManager.getJobError()).build();
     }
 
     String jobId = jobManager.startJob("transferdata", () -> {
       try {
-        performDataTransfer();
+        performDataTransfer(resume);
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+    });
+
+    Map<String, String> result = new HashMap<>();
+    result.put("status", "started");
+    result.put("jobId", jobId);
+    result.put("message", resume ? "transfer data resumed" : "transfer data started");
+    return Response.accepted(result).build();
+  }
+
+  @POST
+  @Path("/verifydata")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Operation(
+          summary = "Verify Transferred Data",
+          description = "Compares row counts and order-independent column checksums, computed in Oracle and PostgreSQL, "
+                  + "per primary key range of every table. The report lists the ranges that differ."
+  )
+  @APIResponses({
+          @APIResponse(responseCode = "202", description = "Verification job started successfully"),
+          @APIResponse(responseCode = "409", description = "Another job is running")
+  })
+  public Response verifyData() {
+    if (jobManager.isAnyJobRunning()) {
+      return Response.status(409).entity(jobManager.getJobError()).build();
+    }
+
+    String jobId = jobManager.startJob("verifydata", () -> {
+      try {
+        performDataVerification();
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+    });
+
+    Map<String, String> result = new HashMap<>();
+    result.put("status", "started");
+    result.put("jobId", jobId);
+    result.put("message", "data verification started");
+    return Response.accepted(result).build();
+  }
+
+  @GET
+  @Path("/verifydata/report")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Operation(
+          summary = "Get Verification Report",
+          description = "Returns the result of the last data verification, including mismatching key ranges per table"
+  )
+  @APIResponses({
+          @APIResponse(responseCode = "200", description = "Verification report"),
+          @APIResponse(responseCode = "404", description = "No verification has run yet")
+  })
+  public Response getVerificationReport() {
+    VerificationReport report = lastVerificationReport;
+    if (report == null) {
+      Map<String, String> result = new HashMap<>();
+      result.put("status", "not_found");
+      result.put("message", "No data verification has run yet");
+      return Response.status(404).entity(result).build();
+    }
+    return Response.ok(report).build();
+  }
+
+  @POST
+  @Path("/deltasync")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Operation(
+          summary = "Apply Changed Rows Oracle → PostgreSQL",
+          description = "Copies the rows changed in Oracle since the watermarks recorded by the last transfer "
+                  + "(with transfer.delta.enabled) or delta sync, using INSERT ... ON CONFLICT, and deletes rows "
+                  + "removed in Oracle. Repeat until the remaining changes fit into the cutover window."
+  )
+  @APIResponses({
+          @APIResponse(responseCode = "202", description = "Delta sync job started successfully"),
+          @APIResponse(responseCode = "409", description = "Another job is running")
+  })
+  public Response deltaSync() {
+    if (jobManager.isAnyJobRunning()) {
+      return Response.status(409).entity(jobManager.getJobError()).build();
+    }
+
+    String jobId = jobManager.startJob("deltasync", () -> {
+      try {
+        performDeltaSync();
       } catch (Exception e) {
         throw new RuntimeException(e);
       }
@@ -76,11 +177,40 @@ public class DataTransferController {
     Map<String, String> result = new HashMap<>();
     result.put("status", "started");
     result.put("jobId", jobId);
-    result.put("message", "transfer data started");
+    result.put("message", "delta sync started");
     return Response.accepted(result).build();
   }
 
+  @GET
+  @Path("/deltasync/report")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Operation(
+          summary = "Get Delta Sync Report",
+          description = "Returns the result of the last delta sync, including upserted and deleted rows per table"
+  )
+  @APIResponses({
+          @APIResponse(responseCode = "200", description = "Delta sync report"),
+          @APIResponse(responseCode = "404", description = "No delta sync has run yet")
+  })
+  public Response getDeltaSyncReport() {
+    DeltaSyncReport report = lastDeltaSyncReport;
+    if (report == null) {
+      Map<String, String> result = new HashMap<>();
+      result.put("status", "not_found");
+      result.put("message", "No delta sync has run yet");
+      return Response.status(404).entity(result).build();
+    }
+    return Response.ok(report).build();
+  }
+
   public void performDataTransfer() throws Exception {
+    performDataTransfer(false);
+  }
+
+  /**
+   * @param resume skip tables and chunks that a previous checkpointed run completed
+   */
+  public void performDataTransfer(boolean resume) throws Exception {
     boolean doData = configurationService.isDoData();
 
     if (doData) {
@@ -94,21 +224,12 @@ public class DataTransferController {
         throw new RuntimeException("PostgreSQL password not configured - please update configuration with real password before data transfer");
       }
 
-      log.info("Starting data transfer for {} tables using new streaming approach", data.getTableSql().size());
+      log.info("Starting data transfer for {} tables using new streaming approach{}",
+              data.getTableSql().size(), resume ? " (resuming from checkpoints)" : "");
 
-      try (Connection oracleConn = DriverManager.getConnection(
-              configurationService.getOracleUrl(),
-              configurationService.getOracleUser(),
-              oraclePasswordForExport);
-           Connection postgresConn = DriverManager.getConnection(
-                   configurationService.getPostgreUrl(),
-                   configurationService.getPostgreUsername(),
-                   postgresPassword)) {
-
-        // Use new DataTransferService for direct data transfer
-        DataTransferService transferService = new DataTransferService(true); // Enable fallback
-        DataTransferService.DataTransferResults results = transferService.transferTables(
-                data.getTableSql(), oracleConn, postgresConn, data, config);
+      try {
+        DataTransferService.DataTransferResults results = runTransfer(
+                oraclePasswordForExport, postgresPassword, null, resume);
 
         log.info("Data transfer completed: {}", results.getSummary());
 
@@ -127,6 +248,10 @@ public class DataTransferController {
                   results.getFailedTables().size());
         }
 
+        if (transferConfig.verify().afterTransfer()) {
+          performDataVerification();
+        }
+
       } catch (Exception e) {
         log.error("Data transfer failed with database connection error", e);
         throw e;
@@ -158,41 +283,30 @@ public class DataTransferController {
       progressService.updateSubStepProgress(jobId, MigrationStep.TRANSFERDATA, 0,
               "Starting data transfer for " + data.getTableSql().size() + " tables");
 
-      try (Connection oracleConn = DriverManager.getConnection(
-              configurationService.getOracleUrl(),
-              configurationService.getOracleUser(),
-              oraclePasswordForExport);
-           Connection postgresConn = DriverManager.getConnection(
-                   configurationService.getPostgreUrl(),
-                   configurationService.getPostgreUsername(),
-                   postgresPassword)) {
-
-        // Create DataTransferService with progress callback integration
-        DataTransferService transferService = new DataTransferService(true);
-
-        // Track total rows transferred for enhanced progress reporting
-        final long[] totalRowsTransferred = {0};
+      try {
+        // Track total rows transferred for enhanced progress reporting (workers may complete concurrently)
+        final AtomicLong totalRowsTransferred = new AtomicLong(0);
 
         // Create progress callback that integrates with our job progress system
         DataTransferService.ProgressCallback progressCallback = new DataTransferService.ProgressCallback() {
           @Override
           public void onTableStart(int tableIndex, int totalTables, String tableName) {
             progressService.updateDynamicDataTransferProgress(jobId, tableIndex, totalTables,
-                    tableName, true, totalRowsTransferred[0]);
+                    tableName, true, totalRowsTransferred.get());
           }
 
           @Override
           public void onTableComplete(int tableIndex, int totalTables, String tableName,
                                       boolean success, long rowsTransferred) {
-            totalRowsTransferred[0] += rowsTransferred;
+            long total = totalRowsTransferred.addAndGet(rowsTransferred);
             progressService.updateDynamicDataTransferProgress(jobId, tableIndex, totalTables,
-                    tableName, false, totalRowsTransferred[0]);
+                    tableName, false, total);
           }
         };
 
         // Execute transfer with dynamic progress tracking
-        DataTransferService.DataTransferResults results = transferService.transferTables(
-                data.getTableSql(), oracleConn, postgresConn, data, config, progressCallback);
+        DataTransferService.DataTransferResults results = runTransfer(
+                oraclePasswordForExport, postgresPassword, progressCallback, false);
 
         log.info("Data transfer completed: {}", results.getSummary());
 
@@ -211,6 +325,10 @@ public class DataTransferController {
                   results.getFailedTables().size());
         }
 
+        if (transferConfig.verify().afterTransfer()) {
+          performDataVerification();
+        }
+
       } catch (Exception e) {
         log.error("Data transfer failed with database connection error", e);
         throw e;
@@ -221,4 +339,141 @@ public class DataTransferController {
               MigrationStep.TRANSFERDATA.getSubStepCount(), "Data transfer skipped (disabled in configuration)");
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * Verifies all tables of the extracted metadata against the PostgreSQL target and keeps the
+   * report for {@link #getVerificationReport()}.
+   */
+  public VerificationReport performDataVerification() throws Exception {
+    String oraclePassword = configurationService.getOraclePassword();
+    String postgresPassword = configurationService.getPostgrePassword();
+
+    if ("xxx".equals(oraclePassword)) {
+      throw new RuntimeException("Oracle password not configured - please update configuration with real password before data verification");
+    }
+    if ("xxx".equals(postgresPassword)) {
+      throw new RuntimeException("PostgreSQL password not configured - please update configuration with real password before data verification");
+    }
+
+    DataVerificationService verificationService = new DataVerificationService(
+            transferConfig.verify().parallelism(), transferConfig.verify().rangesPerTable());
+    int connections = verificationService.getParallelism();
+
+    VerificationReport report;
+    try (ConnectionPool oraclePool = new ConnectionPool("Oracle", connections,
+            () -> DriverManager.getConnection(
+                    configurationService.getOracleUrl(),
+                    configurationService.getOracleUser(),
+                    oraclePassword));
+         ConnectionPool postgresPool = new ConnectionPool("PostgreSQL", connections,
+                 () -> DriverManager.getConnection(
+                         configurationService.getPostgreUrl(),
+                         configurationService.getPostgreUsername(),
+                         postgresPassword))) {
+      report = verificationService.verifyTables(data.getTableSql(), oraclePool, postgresPool);
+    }
+    lastVerificationReport = report;
+
+    log.info("Data verification completed: {}", report.getSummary());
+    for (var result : report.getMismatchedTables()) {
+      for (var mismatch : result.getMismatches()) {
+        log.warn("Mismatch in {}: {}", result.getFullTableName(), mismatch);
+      }
+    }
+    return report;
+  }
+
+  /**
+   * Applies the rows changed in Oracle since the last transfer or delta sync and keeps the
+   * report for {@link #getDeltaSyncReport()}.
+   */
+  public DeltaSyncReport performDeltaSync() throws Exception {
+    String oraclePassword = configurationService.getOraclePassword();
+    String postgresPassword = configurationService.getPostgrePassword();
+
+    if ("xxx".equals(oraclePassword)) {
+      throw new RuntimeException("Oracle password not configured - please update configuration with real password before delta sync");
+    }
+    if ("xxx".equals(postgresPassword)) {
+      throw new RuntimeException("PostgreSQL password not configured - please update configuration with real password before delta sync");
+    }
+
+    DataTransferService transferService = new DataTransferService(true, transferConfig);
+    DeltaSyncReport report;
+    try (Connection oracleConn = DriverManager.getConnection(
+            configurationService.getOracleUrl(),
+            configurationService.getOracleUser(),
+            oraclePassword);
+         Connection postgresConn = DriverManager.getConnection(
+                 configurationService.getPostgreUrl(),
+                 configurationService.getPostgreUsername(),
+                 postgresPassword)) {
+      report = transferService.syncChanges(data.getTableSql(), oracleConn, postgresConn);
+    }
+    lastDeltaSyncReport = report;
+
+    log.info("Delta sync completed: {}", report.getSummary());
+    for (var result : report.getSkippedTables()) {
+      log.warn("Not synced, reload at cutover: {}", result);
+    }
+    return report;
+  }
+
+  /**
+   * Runs the transfer over a single connection pair, or over connection pools when
+   * parallel workers or chunking are configured. PostgreSQL connections get the bulk-load
+   * session settings, and the phase timings are recorded with the running job, which also
+   * exposes the live transfer metrics.
+   */
+  private DataTransferService.DataTransferResults runTransfer(String oraclePassword,
+                                                              String postgresPassword,
+                                                              DataTransferService.ProgressCallback progressCallback,
+                                                              boolean resume) throws Exception {
+    DataTransferService transferService = new DataTransferService(true, transferConfig, resume); // Enable fallback
+    jobManager.attachTransferProgress(transferService::getCurrentProgress);
+    BulkLoadTuning bulkLoad = transferService.getBulkLoadTuning();
+    log.info("PostgreSQL transfer sessions use {}", bulkLoad);
+    try {
+      return runTransfer(transferService, bulkLoad, oraclePassword, postgresPassword, progressCallback);
+    } finally {
+      transferService.getPhaseTimings().forEach(jobManager::recordPhaseTiming);
+    }
+  }
+
+  private DataTransferService.DataTransferResults runTransfer(DataTransferService transferService,
+                                                              BulkLoadTuning bulkLoad,
+                                                              String oraclePassword,
+                                                              String postgresPassword,
+                                                              DataTransferService.ProgressCallback progressCallback) throws Exception {
+    if (!transferService.usesConnectionPools()) {
+      try (Connection oracleConn = DriverManager.getConnection(
+              configurationService.getOracleUrl(),
+              configurationService.getOracleUser(),
+              oraclePassword);
+           Connection postgresConn = bulkLoad.configureSession(DriverManager.getConnection(
+                   configurationService.getPostgreUrl(),
+                   configurationService.getPostgreUsername(),
+                   postgresPassword))) {
+        return transferService.transferTables(
+                data.getTableSql(), oracleConn, postgresConn, data, config, progressCallback);
+      }
+    }
+
+    int connections = transferService.getRequiredConnectionCount();
+    log.info("Using {} parallel transfer workers with up to {} connections per database",
+            transferService.getParallelWorkers(), connections);
+    try (ConnectionPool oraclePool = new ConnectionPool("Oracle", connections,
+            () -> DriverManager.getConnection(
+                    configurationService.getOracleUrl(),
+                    configurationService.getOracleUser(),
+                    oraclePassword));
+         ConnectionPool postgresPool = new ConnectionPool("PostgreSQL", connections,
+                 () -> bulkLoad.configureSession(DriverManager.getConnection(
+                         configurationService.getPostgreUrl(),
+                         configurationService.getPostgreUsername(),
+                         postgresPassword)))) {
+      return transferService.transferTablesParallel(
+              data.getTableSql(), oraclePool, postgresPool, data, config, progressCallback);
+    }
+  }
+}
@@ -1,9 +1,12 @@
 package me.christianrobert.ora2postgre.controllers;
 
+import me.christianrobert.ora2postgre.postgre.ParallelDdlBuilder;
 import me.christianrobert.ora2postgre.postgre.PostgresExecuter;
 import me.christianrobert.ora2postgre.postgre.PostgresExecuter.ExecutionPhase;
 import me.christianrobert.ora2postgre.jobs.JobManager;
 import me.christianrobert.ora2postgre.config.ConfigurationService;
+import me.christianrobert.ora2postgre.transfer.TransferConfig;
+import me.christianrobert.ora2postgre.transfer.bulkload.BulkLoadTuning;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,6 +42,9 @@ public class ExecutionController {
   @Inject
   ConfigurationService configurationService;
 
+  @Inject
+  TransferConfig transferConfig;
+
   @POST
   @Path("/execute-pre")
   @Produces(MediaType.APPLICATION_JSON)
@@ -114,20 +120,8 @@ public class ExecutionController {
               configurationService.getPostgreUrl(),
               configurationService.getPostgreUsername(),
               postgresPassword)) {
-        PostgresExecuter.executeAllSqlFiles(
-                path,
-                postgresConn,
-                new ArrayList<>(),
-                new ArrayList<>(),
-                ExecutionPhase.PRE_TRANSFER_TYPES
-        );
-        PostgresExecuter.executeAllSqlFiles(
-                path,
-                postgresConn,
-                new ArrayList<>(),
-                new ArrayList<>(),
-                ExecutionPhase.PRE_TRANSFER_TABLES
-        );
+        executePhase(path, postgresConn, ExecutionPhase.PRE_TRANSFER_TYPES, "Create types");
+        executePhase(path, postgresConn, ExecutionPhase.PRE_TRANSFER_TABLES, "Create tables");
 
         log.info("Pre-transfer SQL execution completed successfully (schema and tables)");
       }
@@ -143,63 +137,25 @@ public class ExecutionController {
         throw new RuntimeException("PostgreSQL password not configured - please update configuration with real password before execution");
       }
       String path = configurationService.getPathTargetProjectRoot() + configurationService.getPathTargetProjectPostgre();
-      try (Connection postgresConn = DriverManager.getConnection(
+      // Index and constraint builds run with the bulk-load maintenance_work_mem
+      try (Connection postgresConn = BulkLoadTuning.of(transferConfig).configureSession(DriverManager.getConnection(
               configurationService.getPostgreUrl(),
               configurationService.getPostgreUsername(),
-              postgresPassword)) {
-        PostgresExecuter.executeAllSqlFiles(
-                path,
-                postgresConn,
-                new ArrayList<>(),
-                new ArrayList<>(),
-                ExecutionPhase.POST_TRANSFER
-        );
+              postgresPassword))) {
+        executePhase(path, postgresConn, ExecutionPhase.POST_TRANSFER, "Create views and packages");
 
         log.info("Post-transfer SQL execution completed successfully (views and packages)");
 
-        // Execute constraints after basic objects are created but before triggers
-        try {
-          PostgresExecuter.executeAllSqlFiles(
-                  path,
-                  postgresConn,
-                  new ArrayList<>(),
-                  new ArrayList<>(),
-                  ExecutionPhase.POST_TRANSFER_CONSTRAINTS
-          );
-
-          log.info("Constraint execution completed successfully (foreign keys and advanced constraints)");
-        } catch (Exception constraintException) {
-          log.error("Constraint execution failed - some constraints may not have been created", constraintException);
-          log.warn("Continuing with migration despite constraint errors - constraints can be created manually later");
-          // Don't re-throw the exception - allow migration to continue
-        }
-
-        // Execute indexes after constraints but before triggers
-        try {
-          PostgresExecuter.executeAllSqlFiles(
-                  path,
-                  postgresConn,
-                  new ArrayList<>(),
-                  new ArrayList<>(),
-                  ExecutionPhase.POST_TRANSFER_INDEXES
-          );
-
-          log.info("Index execution completed successfully");
-        } catch (Exception indexException) {
-          log.error("Index execution failed - some indexes may not have been created", indexException);
-          log.warn("Continuing with migration despite index errors - indexes can be created manually later");
-          // Don't re-throw the exception - allow migration to continue
+        int buildParallelism = transferConfig != null ? transferConfig.indexBuild().parallelism() : 1;
+        if (buildParallelism > 1) {
+          buildIndexesAndConstraintsInParallel(path, postgresPassword, buildParallelism);
+        } else {
+          executeIndexesAndConstraints(path, postgresConn);
         }
 
         // Execute triggers after all other objects are created
         try {
-          PostgresExecuter.executeAllSqlFiles(
-                  path,
-                  postgresConn,
-                  new ArrayList<>(),
-                  new ArrayList<>(),
-                  ExecutionPhase.POST_TRANSFER_TRIGGERS
-          );
+          executePhase(path, postgresConn, ExecutionPhase.POST_TRANSFER_TRIGGERS, "Create triggers");
 
           log.info("Trigger execution completed successfully (functions and definitions)");
         } catch (Exception triggerException) {
@@ -210,4 +166,88 @@ public class ExecutionController {
       }
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * Adds the primary key, unique and check constraints, builds the indexes and adds the foreign
+   * keys last, one statement after the other, in the same order as the parallel build.
+   */
+  private void executeIndexesAndConstraints(String path, Connection postgresConn) {
+    // Execute constraints after basic objects are created but before triggers
+    try {
+      executePhase(path, postgresConn, ExecutionPhase.POST_TRANSFER_CONSTRAINTS, "Add constraints");
+
+      log.info("Constraint execution completed successfully (primary keys, unique and check constraints)");
+    } catch (Exception constraintException) {
+      log.error("Constraint execution failed - some constraints may not have been created", constraintException);
+      log.warn("Continuing with migration despite constraint errors - constraints can be created manually later");
+      // Don't re-throw the exception - allow migration to continue
+    }
+
+    // Execute indexes after constraints but before triggers
+    try {
+      executePhase(path, postgresConn, ExecutionPhase.POST_TRANSFER_INDEXES, "Create indexes");
+
+      log.info("Index execution completed successfully");
+    } catch (Exception indexException) {
+      log.error("Index execution failed - some indexes may not have been created", indexException);
+      log.warn("Continuing with migration despite index errors - indexes can be created manually later");
+      // Don't re-throw the exception - allow migration to continue
+    }
+
+    // Execute foreign keys once all keys and indexes exist
+    long start = System.currentTimeMillis();
+    try {
+      PostgresExecuter.executeForeignKeys(path, postgresConn);
+
+      log.info("Foreign key execution completed successfully");
+    } catch (Exception foreignKeyException) {
+      log.error("Foreign key execution failed - some foreign keys may not have been created", foreignKeyException);
+      log.warn("Continuing with migration despite foreign key errors - foreign keys can be created manually later");
+      // Don't re-throw the exception - allow migration to continue
+    } finally {
+      jobManager.recordPhaseTiming("Add foreign keys", System.currentTimeMillis() - start);
+    }
+  }
+
+  /**
+   * Builds keys and indexes of different tables at the same time, then adds the foreign keys
+   * NOT VALID and validates them in parallel.
+   */
+  private void buildIndexesAndConstraintsInParallel(String path, String postgresPassword, int parallelism) {
+    BulkLoadTuning bulkLoad = BulkLoadTuning.of(transferConfig);
+    try {
+      ParallelDdlBuilder.BuildSummary summary = PostgresExecuter.executeIndexesAndConstraintsInParallel(path,
+              () -> bulkLoad.configureSession(DriverManager.getConnection(
+                      configurationService.getPostgreUrl(),
+                      configurationService.getPostgreUsername(),
+                      postgresPassword)),
+              parallelism);
+      summary.getPhaseTimings().forEach(jobManager::recordPhaseTiming);
+      if (!summary.getFailures().isEmpty()) {
+        log.warn("{} index and constraint statements failed - they can be created manually later",
+                summary.getFailures().size());
+      }
+    } catch (Exception buildException) {
+      log.error("Parallel index and constraint build failed - some indexes and constraints may not have been created",
+              buildException);
+      log.warn("Continuing with migration despite index and constraint errors");
+      // Don't re-throw the exception - allow migration to continue
+      if (buildException instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Executes the SQL files of one phase and records its duration with the running job.
+   */
+  private void executePhase(String path, Connection postgresConn, ExecutionPhase phase, String timingName)
+          throws Exception {
+    long start = System.currentTimeMillis();
+    try {
+      PostgresExecuter.executeAllSqlFiles(path, postgresConn, new ArrayList<>(), new ArrayList<>(), phase);
+    } finally {
+      jobManager.recordPhaseTiming(timingName, System.currentTimeMillis() - start);
+    }
+  }
+}
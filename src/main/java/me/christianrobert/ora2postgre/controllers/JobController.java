@@ -4,6 +4,7 @@ import me.christianrobert.ora2postgre.global.Everything;
 import me.christianrobert.ora2postgre.jobs.JobManager;
 import me.christianrobert.ora2postgre.jobs.JobStatus;
 import me.christianrobert.ora2postgre.jobs.MigrationProgressService;
+import me.christianrobert.ora2postgre.transfer.progress.PrometheusMetricsWriter;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,7 +73,7 @@ public class JobController {
   @Produces(MediaType.APPLICATION_JSON)
   @Operation(
           summary = "📊 Get Detailed Migration Progress",
-          description = "Returns detailed progress information including current migration step, sub-step progress, and step-specific details for comprehensive progress tracking."
+          description = "Returns detailed progress information including current migration step, sub-step progress, and step-specific details for comprehensive progress tracking. Jobs that transfer data also report rows/s, bytes/s and the time spent fetching, encoding and sending per table and per worker."
   )
   @APIResponses({
           @APIResponse(responseCode = "200", description = "Progress information retrieved successfully"),
@@ -89,6 +90,20 @@ public class JobController {
     return Response.ok(progressInfo).build();
   }
 
+  @GET
+  @Path("/metrics")
+  @Produces(MediaType.TEXT_PLAIN)
+  @Operation(
+          summary = "📈 Transfer Metrics (Prometheus)",
+          description = "Exposes the metrics of the running or last data transfer in the Prometheus text format: rows, bytes, fetch/encode/send time and batch latency histograms per table, and the time breakdown per worker."
+  )
+  @APIResponse(responseCode = "200", description = "Metrics rendered; empty before the first data transfer")
+  public Response getTransferMetrics() {
+    return Response.ok(PrometheusMetricsWriter.write(jobManager.getLatestTransferProgress()))
+            .type(PrometheusMetricsWriter.CONTENT_TYPE)
+            .build();
+  }
+
   @GET
   @Path("/jobs")
   @Produces(MediaType.APPLICATION_JSON)
@@ -202,6 +217,9 @@ public class JobController {
     data.getStandaloneProcedureAst().clear();
     data.getTriggerAst().clear();
     data.setTotalRowCount(0);
+    data.getTableRowCounts().clear();
+    data.getObjectDdlTimes().clear();
+    data.setChangedObjects(null);
     data.resetIntendation();
 
     // Clear completed jobs from job manager
@@ -2,8 +2,12 @@ package me.christianrobert.ora2postgre.controllers;
 
 import me.christianrobert.ora2postgre.global.Everything;
 import me.christianrobert.ora2postgre.global.Config;
+import me.christianrobert.ora2postgre.oracledb.ExtractionConfig;
+import me.christianrobert.ora2postgre.oracledb.ExtractionSnapshot;
+import me.christianrobert.ora2postgre.oracledb.IncrementalExtractor;
 import me.christianrobert.ora2postgre.oracledb.ObjectTypeExtractor;
 import me.christianrobert.ora2postgre.oracledb.PackageExtractor;
+import me.christianrobert.ora2postgre.oracledb.ParallelExtractor;
 import me.christianrobert.ora2postgre.oracledb.RowCountExtractor;
 import me.christianrobert.ora2postgre.oracledb.StandaloneFunctionExtractor;
 import me.christianrobert.ora2postgre.oracledb.StandaloneProcedureExtractor;
@@ -12,14 +16,14 @@ import me.christianrobert.ora2postgre.oracledb.SchemaExtractor;
 import me.christianrobert.ora2postgre.oracledb.SynonymExtractor;
 import me.christianrobert.ora2postgre.oracledb.TableExtractor;
 import me.christianrobert.ora2postgre.oracledb.ViewExtractor;
+import me.christianrobert.ora2postgre.oracledb.ViewMetadata;
 import me.christianrobert.ora2postgre.oracledb.TriggerExtractor;
 import me.christianrobert.ora2postgre.oracledb.IndexExtractor;
-import me.christianrobert.ora2postgre.oracledb.ViewMetadata;
+import me.christianrobert.ora2postgre.plsql.ParallelAstParser;
+import me.christianrobert.ora2postgre.plsql.ParseConfig;
 import me.christianrobert.ora2postgre.plsql.PlSqlAstMain;
-import me.christianrobert.ora2postgre.plsql.ast.Function;
 import me.christianrobert.ora2postgre.plsql.ast.ObjectType;
 import me.christianrobert.ora2postgre.plsql.ast.OraclePackage;
-import me.christianrobert.ora2postgre.plsql.ast.Procedure;
 import me.christianrobert.ora2postgre.plsql.ast.SelectStatement;
 import me.christianrobert.ora2postgre.global.PlsqlCode;
 import me.christianrobert.ora2postgre.global.ViewSpecAndQuery;
@@ -36,6 +40,7 @@ import me.christianrobert.ora2postgre.writing.ExportTable;
 import me.christianrobert.ora2postgre.writing.ExportTrigger;
 import me.christianrobert.ora2postgre.writing.ExportView;
 import me.christianrobert.ora2postgre.writing.ExportConstraint;
+import me.christianrobert.ora2postgre.writing.ExportDroppedObjects;
 import me.christianrobert.ora2postgre.writing.ExportIndex;
 import me.christianrobert.ora2postgre.jobs.JobManager;
 import me.christianrobert.ora2postgre.jobs.MigrationProgressService;
@@ -56,14 +61,22 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.stream.Collectors;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
 
 @Path("/migration")
 @ApplicationScoped
@@ -87,6 +100,12 @@ public class MigrationController {
   @Inject
   RowCountConfig rowCountConfig;
 
+  @Inject
+  ExtractionConfig extractionConfig;
+
+  @Inject
+  ParseConfig parseConfig;
+
   @Inject
   MigrationProgressService progressService;
 
@@ -133,6 +152,126 @@ public class MigrationController {
     return Response.accepted(result).build();
   }
 
+  @POST
+  @Path("/extract/incremental")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Operation(
+          summary = "Incrementally Extract Oracle Database Metadata",
+          description = "Compares ALL_OBJECTS.LAST_DDL_TIME with the previous extraction and re-extracts only the object kinds of schemas with changed, new or dropped objects. The changed objects are recorded, so the following /migration/parse and /migration/export only process their units. Runs a full extraction if there is no previous one."
+  )
+  @APIResponses({
+          @APIResponse(responseCode = "202", description = "Incremental extraction job started successfully"),
+          @APIResponse(responseCode = "409", description = "Another job is already running")
+  })
+  public Response extractIncremental() {
+    log.info("Incremental extract endpoint called");
+
+    if (jobManager.isAnyJobRunning()) {
+      return Response.status(409).entity(jobManager.getJobError()).build();
+    }
+
+    String jobId = jobManager.startJob("extract-incremental", () -> {
+      try {
+        log.info("Starting incremental extraction job");
+        performIncrementalExtraction();
+        log.info("Incremental extraction job completed successfully");
+      } catch (Exception e) {
+        log.error("Incremental extraction job failed", e);
+        throw new RuntimeException(e);
+      }
+    });
+
+    Map<String, String> result = new HashMap<>();
+    result.put("status", "started");
+    result.put("jobId", jobId);
+    result.put("message", "Incremental extraction started");
+    log.info("Incremental extract job started with ID: {}", jobId);
+    return Response.accepted(result).build();
+  }
+
+  @POST
+  @Path("/snapshot/save")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Operation(
+          summary = "Save Extraction Snapshot",
+          description = "Writes the extracted metadata, PL/SQL code and row counts to the snapshot file (extraction.snapshot.path), so that they can be loaded again after a restart."
+  )
+  @APIResponses({
+          @APIResponse(responseCode = "200", description = "Snapshot saved"),
+          @APIResponse(responseCode = "409", description = "A job is running"),
+          @APIResponse(responseCode = "500", description = "Snapshot could not be written")
+  })
+  public Response saveSnapshot() {
+    if (jobManager.isAnyJobRunning()) {
+      return Response.status(409).entity(jobManager.getJobError()).build();
+    }
+    java.nio.file.Path file = Paths.get(extractionConfig.snapshot().path());
+    try {
+      return Response.ok(snapshotResult("saved", file, ExtractionSnapshot.save(data, file))).build();
+    } catch (IOException e) {
+      log.error("Failed to save extraction snapshot {}", file, e);
+      return Response.status(500).entity(Map.of("status", "error", "message", e.getMessage())).build();
+    }
+  }
+
+  @POST
+  @Path("/snapshot/load")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Operation(
+          summary = "Load Extraction Snapshot",
+          description = "Replaces the extracted data with the contents of the snapshot file (extraction.snapshot.path) instead of extracting from Oracle. Parsed ASTs are cleared; continue with /migration/parse."
+  )
+  @APIResponses({
+          @APIResponse(responseCode = "200", description = "Snapshot loaded"),
+          @APIResponse(responseCode = "404", description = "No snapshot file"),
+          @APIResponse(responseCode = "409", description = "A job is running"),
+          @APIResponse(responseCode = "500", description = "Snapshot could not be read")
+  })
+  public Response loadSnapshot() {
+    if (jobManager.isAnyJobRunning()) {
+      return Response.status(409).entity(jobManager.getJobError()).build();
+    }
+    java.nio.file.Path file = Paths.get(extractionConfig.snapshot().path());
+    if (!Files.isRegularFile(file)) {
+      return Response.status(404).entity(Map.of("status", "not_found", "message", "No snapshot file " + file)).build();
+    }
+    try {
+      return Response.ok(snapshotResult("loaded", file, ExtractionSnapshot.load(file, data))).build();
+    } catch (IOException e) {
+      log.error("Failed to load extraction snapshot {}", file, e);
+      return Response.status(500).entity(Map.of("status", "error", "message", e.getMessage())).build();
+    }
+  }
+
+  private Map<String, Object> snapshotResult(String status, java.nio.file.Path file, ExtractionSnapshot.Summary summary) {
+    Map<String, Object> result = new HashMap<>();
+    result.put("status", status);
+    result.put("path", file.toAbsolutePath().toString());
+    result.put("createdAt", summary.getCreatedAt());
+    result.put("schemas", summary.getSchemas());
+    result.put("tables", summary.getTables());
+    result.put("views", summary.getViews());
+    result.put("plsqlUnits", summary.getPlsqlUnits());
+    result.put("bytes", summary.getBytes());
+    return result;
+  }
+
+  /**
+   * Saves the completed extraction when extraction.snapshot.save-after-extract is set. A failed
+   * save is logged and does not fail the extraction.
+   */
+  private void saveSnapshotAfterExtract() {
+    if (!extractionConfig.snapshot().saveAfterExtract()) {
+      return;
+    }
+    java.nio.file.Path file = Paths.get(extractionConfig.snapshot().path());
+    try {
+      ExtractionSnapshot.save(data, file);
+    } catch (IOException e) {
+      log.error("Failed to save extraction snapshot {}", file, e);
+    }
+  }
+
   @POST
   @Path("/parse")
   @Produces(MediaType.APPLICATION_JSON)
@@ -305,47 +444,54 @@ public class MigrationController {
       } else {
         data.getUserNames().addAll(doOnlySomeSchema);
       }
-      if (doTable) {
-        data.getTableSql().addAll(TableExtractor.extractAllTables(conn, data.getUserNames()));
-      }
-      if (doViewSignature) {
-        data.getViewDefinition().addAll(ViewExtractor.extractAllViews(conn, data.getUserNames()));
-      }
-      if (doSynonyms) {
-        data.getSynonyms().addAll(SynonymExtractor.extractAllSynonyms(conn, data.getUserNames()));
-      }
-      if (doObjectTypeSpec) {
-        data.getObjectTypeSpecPlsql().addAll(ObjectTypeExtractor.extract(conn, data.getUserNames(), true));
-      }
-      if (doObjectTypeBody) {
-        data.getObjectTypeBodyPlsql().addAll(ObjectTypeExtractor.extract(conn, data.getUserNames(), false));
-      }
-      if (doPackageSpec) {
-        data.getPackageSpecPlsql().addAll(PackageExtractor.extract(conn, data.getUserNames(), true));
-      }
-      if (doPackageBody) {
-        data.getPackageBodyPlsql().addAll(PackageExtractor.extract(conn, data.getUserNames(), false));
-      }
-      if (doStandaloneFunctions) {
-        data.getStandaloneFunctionPlsql().addAll(StandaloneFunctionExtractor.extract(conn, data.getUserNames()));
-      }
-      if (doStandaloneProcedures) {
-        data.getStandaloneProcedurePlsql().addAll(StandaloneProcedureExtractor.extract(conn, data.getUserNames()));
-      }
-      if (doTriggers) {
-        data.getTriggerPlsql().addAll(TriggerExtractor.extract(conn, data.getUserNames()));
-      }
-      if (doIndexes) {
-        data.getIndexes().addAll(IndexExtractor.extractAllIndexes(conn, data.getUserNames()));
+      Map<String, Long> ddlTimes = fetchDdlTimes(conn);
+      if (extractionConfig.parallelism() > 1) {
+        extractInParallel(oraclePassword, (completed, total, description) ->
+                log.info("Extracted {} ({}/{})", description, completed, total));
+      } else {
+        if (doTable) {
+          data.getTableSql().addAll(TableExtractor.extractAllTables(conn, data.getUserNames()));
+        }
+        if (doViewSignature) {
+          data.getViewDefinition().addAll(ViewExtractor.extractAllViews(conn, data.getUserNames()));
+        }
+        if (doSynonyms) {
+          data.getSynonyms().addAll(SynonymExtractor.extractAllSynonyms(conn, data.getUserNames()));
+        }
+        if (doObjectTypeSpec) {
+          data.getObjectTypeSpecPlsql().addAll(ObjectTypeExtractor.extract(conn, data.getUserNames(), true));
+        }
+        if (doObjectTypeBody) {
+          data.getObjectTypeBodyPlsql().addAll(ObjectTypeExtractor.extract(conn, data.getUserNames(), false));
+        }
+        if (doPackageSpec) {
+          data.getPackageSpecPlsql().addAll(PackageExtractor.extract(conn, data.getUserNames(), true));
+        }
+        if (doPackageBody) {
+          data.getPackageBodyPlsql().addAll(PackageExtractor.extract(conn, data.getUserNames(), false));
+        }
+        if (doStandaloneFunctions) {
+          data.getStandaloneFunctionPlsql().addAll(StandaloneFunctionExtractor.extract(conn, data.getUserNames()));
+        }
+        if (doStandaloneProcedures) {
+          data.getStandaloneProcedurePlsql().addAll(StandaloneProcedureExtractor.extract(conn, data.getUserNames()));
+        }
+        if (doTriggers) {
+          data.getTriggerPlsql().addAll(TriggerExtractor.extract(conn, data.getUserNames()));
+        }
+        if (doIndexes) {
+          data.getIndexes().addAll(IndexExtractor.extractAllIndexes(conn, data.getUserNames()));
+        }
       }
 
       if (configurationService.isDoData()) {
-        log.info("Calculating total row count for extracted schemas");
-        long totalRowCount = RowCountExtractor.calculateTotalRowCount(conn, doAllSchema, data.getUserNames(), rowCountConfig);
-        data.setTotalRowCount(totalRowCount);
+        calculateRowCounts(conn, doAllSchema);
       } else {
+        data.getTableRowCounts().clear();
         data.setTotalRowCount(0);
       }
+      data.getObjectDdlTimes().putAll(ddlTimes);
+      data.setChangedObjects(null);
 
       log.info("Extraction completed: {} schemas, {} tables, {} object type specs, {} package specs, {} standalone functions, {} standalone procedures, {} triggers, {} indexes",
               data.getUserNames().size(), data.getTableSql().size(),
@@ -353,6 +499,7 @@ public class MigrationController {
               data.getStandaloneFunctionPlsqlCount(), data.getStandaloneProcedurePlsqlCount(),
               data.getTriggerPlsql().size(), data.getIndexes().size());
     }
+    saveSnapshotAfterExtract();
   }
 
   private void performExtractionWithProgress(String jobId) throws Exception {
@@ -403,94 +550,105 @@ public class MigrationController {
       } else {
         data.getUserNames().addAll(doOnlySomeSchema);
       }
+      Map<String, Long> ddlTimes = fetchDdlTimes(conn);
       completedSubSteps++;
 
-      // Sub-step 2: Extract table metadata
-      progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting table metadata");
-      if (doTable) {
-        data.getTableSql().addAll(TableExtractor.extractAllTables(conn, data.getUserNames()));
-      }
-      completedSubSteps++;
+      if (extractionConfig.parallelism() > 1) {
+        // Sub-steps 2-12 run as concurrent tasks, progress advances with the completed tasks
+        int firstObjectSubStep = completedSubSteps;
+        extractInParallel(oraclePassword, (completed, total, description) ->
+                progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT,
+                        firstObjectSubStep + completed * 11 / total, "Extracted " + description));
+        completedSubSteps += 11;
+      } else {
+        // Sub-step 2: Extract table metadata
+        progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting table metadata");
+        if (doTable) {
+          data.getTableSql().addAll(TableExtractor.extractAllTables(conn, data.getUserNames()));
+        }
+        completedSubSteps++;
 
-      // Sub-step 3: Extract view definitions
-      progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting view definitions");
-      if (doViewSignature) {
-        data.getViewDefinition().addAll(ViewExtractor.extractAllViews(conn, data.getUserNames()));
-      }
-      completedSubSteps++;
+        // Sub-step 3: Extract view definitions
+        progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting view definitions");
+        if (doViewSignature) {
+          data.getViewDefinition().addAll(ViewExtractor.extractAllViews(conn, data.getUserNames()));
+        }
+        completedSubSteps++;
 
-      // Sub-step 4: Extract synonyms
-      progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting synonyms");
-      if (doSynonyms) {
-        data.getSynonyms().addAll(SynonymExtractor.extractAllSynonyms(conn, data.getUserNames()));
-      }
-      completedSubSteps++;
+        // Sub-step 4: Extract synonyms
+        progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting synonyms");
+        if (doSynonyms) {
+          data.getSynonyms().addAll(SynonymExtractor.extractAllSynonyms(conn, data.getUserNames()));
+        }
+        completedSubSteps++;
 
-      // Sub-step 5: Extract object type specs
-      progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting object type specs");
-      if (doObjectTypeSpec) {
-        data.getObjectTypeSpecPlsql().addAll(ObjectTypeExtractor.extract(conn, data.getUserNames(), true));
-      }
-      completedSubSteps++;
+        // Sub-step 5: Extract object type specs
+        progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting object type specs");
+        if (doObjectTypeSpec) {
+          data.getObjectTypeSpecPlsql().addAll(ObjectTypeExtractor.extract(conn, data.getUserNames(), true));
+        }
+        completedSubSteps++;
 
-      // Sub-step 6: Extract object type bodies
-      progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting object type bodies");
-      if (doObjectTypeBody) {
-        data.getObjectTypeBodyPlsql().addAll(ObjectTypeExtractor.extract(conn, data.getUserNames(), false));
-      }
-      completedSubSteps++;
+        // Sub-step 6: Extract object type bodies
+        progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting object type bodies");
+        if (doObjectTypeBody) {
+          data.getObjectTypeBodyPlsql().addAll(ObjectTypeExtractor.extract(conn, data.getUserNames(), false));
+        }
+        completedSubSteps++;
 
-      // Sub-step 7: Extract package specs
-      progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting package specs");
-      if (doPackageSpec) {
-        data.getPackageSpecPlsql().addAll(PackageExtractor.extract(conn, data.getUserNames(), true));
-      }
-      completedSubSteps++;
+        // Sub-step 7: Extract package specs
+        progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting package specs");
+        if (doPackageSpec) {
+          data.getPackageSpecPlsql().addAll(PackageExtractor.extract(conn, data.getUserNames(), true));
+        }
+        completedSubSteps++;
 
-      // Sub-step 8: Extract package bodies
-      progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting package bodies");
-      if (doPackageBody) {
-        data.getPackageBodyPlsql().addAll(PackageExtractor.extract(conn, data.getUserNames(), false));
-      }
-      completedSubSteps++;
+        // Sub-step 8: Extract package bodies
+        progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting package bodies");
+        if (doPackageBody) {
+          data.getPackageBodyPlsql().addAll(PackageExtractor.extract(conn, data.getUserNames(), false));
+        }
+        completedSubSteps++;
 
-      // Sub-step 9: Extract standalone functions
-      progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting standalone functions");
-      if (doStandaloneFunctions) {
-        data.getStandaloneFunctionPlsql().addAll(StandaloneFunctionExtractor.extract(conn, data.getUserNames()));
-      }
-      completedSubSteps++;
+        // Sub-step 9: Extract standalone functions
+        progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting standalone functions");
+        if (doStandaloneFunctions) {
+          data.getStandaloneFunctionPlsql().addAll(StandaloneFunctionExtractor.extract(conn, data.getUserNames()));
+        }
+        completedSubSteps++;
 
-      // Sub-step 10: Extract standalone procedures
-      progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting standalone procedures");
-      if (doStandaloneProcedures) {
-        data.getStandaloneProcedurePlsql().addAll(StandaloneProcedureExtractor.extract(conn, data.getUserNames()));
-      }
-      completedSubSteps++;
+        // Sub-step 10: Extract standalone procedures
+        progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting standalone procedures");
+        if (doStandaloneProcedures) {
+          data.getStandaloneProcedurePlsql().addAll(StandaloneProcedureExtractor.extract(conn, data.getUserNames()));
+        }
+        completedSubSteps++;
 
-      // Sub-step 11: Extract triggers
-      progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting triggers");
-      if (doTriggers) {
-        data.getTriggerPlsql().addAll(TriggerExtractor.extract(conn, data.getUserNames()));
-      }
-      completedSubSteps++;
+        // Sub-step 11: Extract triggers
+        progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting triggers");
+        if (doTriggers) {
+          data.getTriggerPlsql().addAll(TriggerExtractor.extract(conn, data.getUserNames()));
+        }
+        completedSubSteps++;
 
-      // Sub-step 12: Extract indexes
-      progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting indexes");
-      if (doIndexes) {
-        data.getIndexes().addAll(IndexExtractor.extractAllIndexes(conn, data.getUserNames()));
+        // Sub-step 12: Extract indexes
+        progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Extracting indexes");
+        if (doIndexes) {
+          data.getIndexes().addAll(IndexExtractor.extractAllIndexes(conn, data.getUserNames()));
+        }
+        completedSubSteps++;
       }
-      completedSubSteps++;
 
       // Sub-step 13: Calculate total row counts
       if (configurationService.isDoData()) {
         progressService.updateSubStepProgress(jobId, MigrationStep.EXTRACT, completedSubSteps, "Calculating total row count");
-        log.info("Calculating total row count for extracted schemas");
-        long totalRowCount = RowCountExtractor.calculateTotalRowCount(conn, doAllSchema, data.getUserNames(), rowCountConfig);
-        data.setTotalRowCount(totalRowCount);
+        calculateRowCounts(conn, doAllSchema);
       } else {
+        data.getTableRowCounts().clear();
         data.setTotalRowCount(0);
       }
+      data.getObjectDdlTimes().putAll(ddlTimes);
+      data.setChangedObjects(null);
       completedSubSteps++;
 
       // Complete extraction step
@@ -500,6 +658,115 @@ public class MigrationController {
               data.getUserNames().size(), data.getTableSql().size(),
               data.getObjectTypeSpecPlsql().size(), data.getPackageSpecPlsql().size(), data.getTriggerPlsql().size(), data.getIndexes().size());
     }
+    saveSnapshotAfterExtract();
+  }
+
+  /**
+   * Re-extracts the object kinds of the schemas that changed since the last extraction, see
+   * {@link IncrementalExtractor}. Falls back to a full extraction if there is nothing to
+   * compare with, e.g. after a reset or after loading a snapshot without DDL times.
+   */
+  private void performIncrementalExtraction() throws Exception {
+    if (data.getObjectDdlTimes().isEmpty()) {
+      log.info("No DDL times of a previous extraction, running a full extraction");
+      performExtraction();
+      return;
+    }
+
+    String oraclePassword = configurationService.getOraclePassword();
+    if ("xxx".equals(oraclePassword)) {
+      throw new RuntimeException("Oracle password not configured - please update configuration with real password before extraction");
+    }
+
+    try (Connection conn = DriverManager.getConnection(
+            configurationService.getOracleUrl(),
+            configurationService.getOracleUser(),
+            oraclePassword)) {
+
+      IncrementalExtractor.Result result = IncrementalExtractor.extract(conn, data, enabledExtractionKinds());
+
+      if (configurationService.isDoData() && !result.getReextracted().isEmpty()) {
+        calculateRowCounts(conn, configurationService.isDoAllSchemas());
+      }
+
+      log.info("Incremental extraction completed: {} objects changed, re-extracted {}",
+              result.getChangedObjects(), result.getReextracted());
+    }
+    saveSnapshotAfterExtract();
+  }
+
+  /**
+   * Reads LAST_DDL_TIME of the objects about to be extracted, as the baseline for the next
+   * incremental extraction. Read before extracting, so that objects changed meanwhile count as
+   * changed next time. The previous baseline is dropped right away and the new one is only
+   * stored once the extraction succeeded, so a failed extraction is followed by a full one.
+   */
+  private Map<String, Long> fetchDdlTimes(Connection conn) throws SQLException {
+    data.getObjectDdlTimes().clear();
+    return IncrementalExtractor.fetchDdlTimes(conn, data.getUserNames(), enabledExtractionKinds());
+  }
+
+  private void calculateRowCounts(Connection conn, boolean doAllSchema) throws SQLException {
+    log.info("Calculating row counts for extracted schemas");
+    Map<String, Long> tableRowCounts = RowCountExtractor.calculateTableRowCounts(conn, doAllSchema, data.getUserNames(), rowCountConfig);
+    data.getTableRowCounts().clear();
+    data.getTableRowCounts().putAll(tableRowCounts);
+    data.setTotalRowCount(RowCountExtractor.sum(tableRowCounts));
+  }
+
+  /**
+   * Extracts the enabled object kinds of all schemas in data.getUserNames() concurrently over
+   * extraction.parallelism Oracle connections.
+   */
+  private void extractInParallel(String oraclePassword, ParallelExtractor.ProgressListener listener) throws Exception {
+    Set<ParallelExtractor.Kind> kinds = enabledExtractionKinds();
+    new ParallelExtractor(extractionConfig.parallelism()).extract(data, kinds, data.getUserNames(),
+            () -> DriverManager.getConnection(
+                    configurationService.getOracleUrl(),
+                    configurationService.getOracleUser(),
+                    oraclePassword),
+            listener);
+  }
+
+  /**
+   * Object kinds enabled in the configuration.
+   */
+  private Set<ParallelExtractor.Kind> enabledExtractionKinds() {
+    Set<ParallelExtractor.Kind> kinds = EnumSet.noneOf(ParallelExtractor.Kind.class);
+    if (configurationService.isDoTable()) {
+      kinds.add(ParallelExtractor.Kind.TABLES);
+    }
+    if (configurationService.isDoViewSignature()) {
+      kinds.add(ParallelExtractor.Kind.VIEWS);
+    }
+    if (configurationService.isDoSynonyms()) {
+      kinds.add(ParallelExtractor.Kind.SYNONYMS);
+    }
+    if (configurationService.isDoObjectTypeSpec()) {
+      kinds.add(ParallelExtractor.Kind.OBJECT_TYPE_SPECS);
+    }
+    if (configurationService.isDoObjectTypeBody()) {
+      kinds.add(ParallelExtractor.Kind.OBJECT_TYPE_BODIES);
+    }
+    if (configurationService.isDoPackageSpec()) {
+      kinds.add(ParallelExtractor.Kind.PACKAGE_SPECS);
+    }
+    if (configurationService.isDoPackageBody()) {
+      kinds.add(ParallelExtractor.Kind.PACKAGE_BODIES);
+    }
+    if (configurationService.isDoStandaloneFunctions()) {
+      kinds.add(ParallelExtractor.Kind.STANDALONE_FUNCTIONS);
+    }
+    if (configurationService.isDoStandaloneProcedures()) {
+      kinds.add(ParallelExtractor.Kind.STANDALONE_PROCEDURES);
+    }
+    if (configurationService.isDoTriggers()) {
+      kinds.add(ParallelExtractor.Kind.TRIGGERS);
+    }
+    if (configurationService.isDoIndexes()) {
+      kinds.add(ParallelExtractor.Kind.INDEXES);
+    }
+    return kinds;
   }
 
   private void performParsingWithProgress(String jobId) throws Exception {
@@ -558,69 +825,71 @@ public class MigrationController {
     boolean doStandaloneProcedures = configurationService.isDoStandaloneProcedures();
     boolean doTriggers = configurationService.isDoTriggers();
 
-    if (doViewDdl) {
-      for (ViewMetadata view : data.getViewDefinition()) {
-        data.getViewSpecAndQueries().add(
-                new ViewSpecAndQuery(
+    // After an incremental extraction only the changed units are parsed, see IncrementalExtractor
+    Set<String> changed = data.getChangedObjects();
+    if (changed != null) {
+      log.info("Parsing the units of {} objects changed since the last export", changed.size());
+    }
+
+    // One task per unit; failed units are skipped and reported, the others are still parsed
+    List<ParallelAstParser.Failure> failures;
+    try (ParallelAstParser parser = new ParallelAstParser(parseConfig.parallelism())) {
+      if (doViewDdl) {
+        parser.parseChanged("view", data.getViewDefinition(),
+                view -> IncrementalExtractor.changeKey(view.getSchema(), "VIEW", view.getViewName()),
+                data.getViewSpecAndQueries(),
+                view -> IncrementalExtractor.changeKey(view.spec.getSchema(), "VIEW", view.spec.getViewName()),
+                changed, view -> view.getSchema() + "." + view.getViewName(),
+                view -> new ViewSpecAndQuery(
                         view,
                         (SelectStatement) PlSqlAstMain.processPlsqlCode(
-                                new PlsqlCode(view.getSchema(),view.getRawQuery()))));
+                                new PlsqlCode(view.getSchema(), view.getRawQuery()))));
       }
-    }
-    if (doObjectTypeSpec) {
-      for (PlsqlCode s : data.getObjectTypeSpecPlsql()) {
-        data.getObjectTypeSpecAst().add((ObjectType) PlSqlAstMain.processPlsqlCode(s));
+      if (doObjectTypeSpec) {
+        parser.parseChanged("object type spec", data.getObjectTypeSpecPlsql(), unit -> unitKey("TYPE", unit),
+                data.getObjectTypeSpecAst(), ast -> IncrementalExtractor.changeKey(ast.getSchema(), "TYPE", ast.getName()),
+                changed, ParallelAstParser::describe, s -> (ObjectType) PlSqlAstMain.processPlsqlCode(s));
       }
-    }
-    if (doObjectTypeBody) {
-      for (PlsqlCode s : data.getObjectTypeBodyPlsql()) {
-        data.getObjectTypeBodyAst().add((ObjectType) PlSqlAstMain.processPlsqlCode(s));
+      if (doObjectTypeBody) {
+        parser.parseChanged("object type body", data.getObjectTypeBodyPlsql(), unit -> unitKey("TYPE BODY", unit),
+                data.getObjectTypeBodyAst(), ast -> IncrementalExtractor.changeKey(ast.getSchema(), "TYPE BODY", ast.getName()),
+                changed, ParallelAstParser::describe, s -> (ObjectType) PlSqlAstMain.processPlsqlCode(s));
       }
-    }
-    if (doPackageSpec) {
-      for (PlsqlCode s : data.getPackageSpecPlsql()) {
-        data.getPackageSpecAst().add((OraclePackage) PlSqlAstMain.processPlsqlCode(s));
+      if (doPackageSpec) {
+        parser.parseChanged("package spec", data.getPackageSpecPlsql(), unit -> unitKey("PACKAGE", unit),
+                data.getPackageSpecAst(), ast -> IncrementalExtractor.changeKey(ast.getSchema(), "PACKAGE", ast.getName()),
+                changed, ParallelAstParser::describe, s -> (OraclePackage) PlSqlAstMain.processPlsqlCode(s));
       }
-    }
-    if (doPackageBody) {
-      for (PlsqlCode s : data.getPackageBodyPlsql()) {
-        data.getPackageBodyAst().add((OraclePackage) PlSqlAstMain.processPlsqlCode(s));
+      if (doPackageBody) {
+        parser.parseChanged("package body", data.getPackageBodyPlsql(), unit -> unitKey("PACKAGE BODY", unit),
+                data.getPackageBodyAst(), ast -> IncrementalExtractor.changeKey(ast.getSchema(), "PACKAGE BODY", ast.getName()),
+                changed, ParallelAstParser::describe, s -> (OraclePackage) PlSqlAstMain.processPlsqlCode(s));
       }
-    }
-    if (doStandaloneFunctions) {
-      for (PlsqlCode s : data.getStandaloneFunctionPlsql()) {
-        try {
-          Function function = PlSqlAstMain.buildStandaloneFunctionAst(s);
-          data.getStandaloneFunctionAst().add(function);
-        } catch (Exception e) {
-          log.error("Error parsing standalone function from schema: " + s.schema, e);
-        }
+      if (doStandaloneFunctions) {
+        parser.parseChanged("standalone function", data.getStandaloneFunctionPlsql(), unit -> unitKey("FUNCTION", unit),
+                data.getStandaloneFunctionAst(), ast -> IncrementalExtractor.changeKey(ast.getSchema(), "FUNCTION", ast.getName()),
+                changed, ParallelAstParser::describe, PlSqlAstMain::buildStandaloneFunctionAst);
       }
-    }
-    if (doStandaloneProcedures) {
-      for (PlsqlCode s : data.getStandaloneProcedurePlsql()) {
-        try {
-          Procedure procedure = PlSqlAstMain.buildStandaloneProcedureAst(s);
-          data.getStandaloneProcedureAst().add(procedure);
-        } catch (Exception e) {
-          log.error("Error parsing standalone procedure from schema: " + s.schema, e);
-        }
+      if (doStandaloneProcedures) {
+        parser.parseChanged("standalone procedure", data.getStandaloneProcedurePlsql(), unit -> unitKey("PROCEDURE", unit),
+                data.getStandaloneProcedureAst(), ast -> IncrementalExtractor.changeKey(ast.getSchema(), "PROCEDURE", ast.getName()),
+                changed, ParallelAstParser::describe, PlSqlAstMain::buildStandaloneProcedureAst);
       }
+      if (doTriggers) {
+        log.info("Starting trigger parsing...");
+        parser.parseChanged("trigger", data.getTriggerPlsql(), unit -> unitKey("TRIGGER", unit),
+                data.getTriggerAst(), ast -> IncrementalExtractor.changeKey(ast.getSchema(), "TRIGGER", ast.getTriggerName()),
+                changed, ParallelAstParser::describe, this::parseTriggerFromPlsqlCode);
+        log.info("Trigger parsing completed: {} triggers parsed", data.getTriggerAst().size());
+      }
+      failures = parser.getFailures();
     }
-    if (doTriggers) {
-      log.info("Starting trigger parsing...");
-      for (PlsqlCode triggerCode : data.getTriggerPlsql()) {
-        try {
-          Trigger triggerAst =
-                  parseTriggerFromPlsqlCode(triggerCode);
-          data.getTriggerAst().add(triggerAst);
-          log.debug("Parsed trigger: {}", triggerAst.getTriggerName());
-        } catch (Exception e) {
-          log.error("Failed to parse trigger from schema {}: {}",
-                  triggerCode.schema, e.getMessage());
-        }
+
+    if (!failures.isEmpty()) {
+      log.warn("{} PL/SQL units could not be parsed and were skipped:", failures.size());
+      for (ParallelAstParser.Failure failure : failures) {
+        log.warn("  - {}", failure);
       }
-      log.info("Trigger parsing completed: {} triggers parsed", data.getTriggerAst().size());
     }
 
     log.info("Parsing completed: {} object type ASTs, {} package spec ASTs, {} package body ASTs",
@@ -636,6 +905,10 @@ public class MigrationController {
     }
   }
 
+  private static String unitKey(String objectType, PlsqlCode unit) {
+    return IncrementalExtractor.changeKey(unit.schema, objectType, unit.name);
+  }
+
   private Trigger parseTriggerFromPlsqlCode(PlsqlCode triggerCode) {
     String fullCode = triggerCode.code;
     String schema = triggerCode.schema;
@@ -823,6 +1096,8 @@ public class MigrationController {
     }
 
     if (doWritePostgreFiles) {
+      // After an incremental extraction only the units of changed objects are written again
+      Set<String> changed = data.getChangedObjects();
       String path = configurationService.getPathTargetProjectRoot() + configurationService.getPathTargetProjectPostgre();
       ExportProjectPostgre.save(path);
 
@@ -842,35 +1117,101 @@ public class MigrationController {
         log.info("Index export completed");
       }
       if (doViewSignature) {
-        ExportView.saveEmptyViews(path, data.getViewDefinition());
+        ExportView.saveEmptyViews(path, changedOnly(data.getViewDefinition(), changed,
+                ViewMetadata::getSchema, ViewMetadata::getViewName, "VIEW"));
       }
       if (doObjectTypeSpec) {
-        ExportObjectType.saveObjectTypeSpecToPostgre(path, data.getObjectTypeSpecAst(), data.getObjectTypeBodyAst(), data);
+        ExportObjectType.saveObjectTypeSpecToPostgre(path, changedObjectTypes(data.getObjectTypeSpecAst(), changed),
+                changedObjectTypes(data.getObjectTypeBodyAst(), changed), data);
       }
       if (doPackageSpec) {
-        ExportPackage.savePackageSpecToPostgre(path, data.getPackageSpecAst(), data.getPackageBodyAst(), data);
+        ExportPackage.savePackageSpecToPostgre(path, changedPackages(data.getPackageSpecAst(), changed),
+                changedPackages(data.getPackageBodyAst(), changed), data);
       }
       if (doStandaloneFunctions) {
-        ExportStandaloneFunction.saveStandaloneFunctionsToPostgre(path, data.getStandaloneFunctionAst(), data);
+        ExportStandaloneFunction.saveStandaloneFunctionsToPostgre(path, changedOnly(data.getStandaloneFunctionAst(),
+                changed, ast -> ast.getSchema(), ast -> ast.getName(), "FUNCTION"), data);
       }
       if (doStandaloneProcedures) {
-        ExportStandaloneProcedure.saveStandaloneProceduresToPostgre(path, data.getStandaloneProcedureAst(), data);
+        ExportStandaloneProcedure.saveStandaloneProceduresToPostgre(path, changedOnly(data.getStandaloneProcedureAst(),
+                changed, ast -> ast.getSchema(), ast -> ast.getName(), "PROCEDURE"), data);
       }
       if (doViewDdl) {
-        ExportView.saveFullViews(path, data.getViewSpecAndQueries(), data);
+        ExportView.saveFullViews(path, changedOnly(data.getViewSpecAndQueries(), changed,
+                view -> view.spec.getSchema(), view -> view.spec.getViewName(), "VIEW"), data);
       }
       if (doObjectTypeBody) {
-        ExportObjectType.saveObjectTypeBodyToPostgre(path, data.getObjectTypeSpecAst(), data.getObjectTypeBodyAst(), data);
+        ExportObjectType.saveObjectTypeBodyToPostgre(path, changedObjectTypes(data.getObjectTypeSpecAst(), changed),
+                changedObjectTypes(data.getObjectTypeBodyAst(), changed), data);
       }
       if (doPackageBody) {
-        ExportPackage.savePackageBodyToPostgre(path, data.getPackageSpecAst(), data.getPackageBodyAst(), data);
+        ExportPackage.savePackageBodyToPostgre(path, changedPackages(data.getPackageSpecAst(), changed),
+                changedPackages(data.getPackageBodyAst(), changed), data);
       }
       if (doTriggers) {
         log.info("Starting trigger export to PostgreSQL files");
-        ExportTrigger.saveAllTriggers(path, data);
+        ExportTrigger.saveAllTriggers(path, changedOnly(data.getTriggerAst(), changed,
+                Trigger::getSchema, Trigger::getTriggerName, "TRIGGER"), data);
         log.info("Trigger export completed");
       }
+
+      if (changed != null) {
+        Set<String> exportedTypes = new HashSet<>();
+        if (doViewSignature || doViewDdl) exportedTypes.add("VIEW");
+        if (doObjectTypeSpec || doObjectTypeBody) exportedTypes.add("TYPE");
+        if (doPackageSpec || doPackageBody) exportedTypes.add("PACKAGE");
+        if (doStandaloneFunctions) exportedTypes.add("FUNCTION");
+        if (doStandaloneProcedures) exportedTypes.add("PROCEDURE");
+        if (doTriggers) exportedTypes.add("TRIGGER");
+        ExportDroppedObjects.deleteFiles(path, droppedObjects(changed, exportedTypes));
+      }
+
+      // Later incremental extractions collect their changes from here, unless some kinds were not
+      // written; those still need a full export
+      if (doViewSignature && doViewDdl && doObjectTypeSpec && doObjectTypeBody && doPackageSpec && doPackageBody
+              && doStandaloneFunctions && doStandaloneProcedures && doTriggers) {
+        data.setChangedObjects(new HashSet<>());
+      }
     }
   }
 
+  /**
+   * The changed objects of the given object types that no longer exist in Oracle, i.e. have no
+   * recorded LAST_DDL_TIME anymore.
+   */
+  private List<String> droppedObjects(Set<String> changed, Set<String> objectTypes) {
+    Set<String> existing = data.getObjectDdlTimes().keySet().stream()
+            .map(String::toUpperCase)
+            .collect(Collectors.toSet());
+    return changed.stream()
+            .filter(key -> !existing.contains(key))
+            .filter(key -> objectTypes.contains(key.split("\\|", 3)[1]))
+            .sorted()
+            .toList();
+  }
+
+  /**
+   * The entries to export: all if changed is null, otherwise those whose object is changed
+   * under any of the given object types.
+   */
+  private static <T> List<T> changedOnly(List<T> entries, Set<String> changed, Function<T, String> schema,
+                                         Function<T, String> name, String... objectTypes) {
+    if (changed == null) {
+      return entries;
+    }
+    return entries.stream()
+            .filter(entry -> Arrays.stream(objectTypes).anyMatch(objectType ->
+                    changed.contains(IncrementalExtractor.changeKey(schema.apply(entry), objectType, name.apply(entry)))))
+            .toList();
+  }
+
+  // Spec and body are merged on export, so both are written again if either changed
+  private static List<ObjectType> changedObjectTypes(List<ObjectType> types, Set<String> changed) {
+    return changedOnly(types, changed, ObjectType::getSchema, ObjectType::getName, "TYPE", "TYPE BODY");
+  }
+
+  private static List<OraclePackage> changedPackages(List<OraclePackage> packages, Set<String> changed) {
+    return changedOnly(packages, changed, OraclePackage::getSchema, OraclePackage::getName, "PACKAGE", "PACKAGE BODY");
+  }
+
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+package me.christianrobert.ora2postgre.global;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Small fixed-size connection pool used by the parallel extraction, data transfer,
+ * verification and index build workers.
+ *
+ * Connections are opened lazily up to the configured maximum. A connection that is
+ * no longer valid when it is released is closed and replaced on the next acquire,
+ * so a broken network stream only costs the work that was using it.
+ */
+public class ConnectionPool implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(ConnectionPool.class);
+  private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+  /**
+   * Opens a new physical connection, typically via DriverManager.
+   */
+  @FunctionalInterface
+  public interface ConnectionFactory {
+    Connection open() throws SQLException;
+  }
+
+  private final String name;
+  private final int maxSize;
+  private final ConnectionFactory factory;
+  private final BlockingQueue<Connection> idle = new LinkedBlockingQueue<>();
+  private final List<Connection> opened = new ArrayList<>();
+  private boolean closed = false;
+
+  public ConnectionPool(String name, int maxSize, ConnectionFactory factory) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("Connection pool size must be at least 1, got " + maxSize);
+    }
+    this.name = name;
+    this.maxSize = maxSize;
+    this.factory = factory;
+  }
+
+  public String getName() { return name; }
+  public int getMaxSize() { return maxSize; }
+
+  public synchronized int getOpenedCount() {
+    return opened.size();
+  }
+
+  /**
+   * Returns an idle connection, opens a new one while below the maximum size,
+   * or blocks until another worker releases one.
+   */
+  public Connection acquire() throws SQLException {
+    while (true) {
+      Connection conn = idle.poll();
+      if (conn != null) {
+        return conn;
+      }
+
+      synchronized (this) {
+        if (closed) {
+          throw new SQLException("Connection pool " + name + " is closed");
+        }
+        if (opened.size() < maxSize) {
+          Connection newConn = factory.open();
+          opened.add(newConn);
+          log.debug("Opened {} connection {}/{}", name, opened.size(), maxSize);
+          return newConn;
+        }
+      }
+
+      // Wait for a release; re-check capacity periodically in case a broken connection was dropped
+      try {
+        conn = idle.poll(1, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SQLException("Interrupted while waiting for a " + name + " connection", e);
+      }
+      if (conn != null) {
+        return conn;
+      }
+    }
+  }
+
+  /**
+   * Returns a connection to the pool. Invalid connections are closed and dropped
+   * so that the next acquire opens a fresh one.
+   */
+  public void release(Connection conn) {
+    if (conn == null) {
+      return;
+    }
+
+    boolean valid;
+    try {
+      valid = !conn.isClosed() && conn.isValid(VALIDATION_TIMEOUT_SECONDS);
+    } catch (SQLException e) {
+      valid = false;
+    }
+
+    synchronized (this) {
+      if (valid && !closed) {
+        idle.offer(conn);
+        return;
+      }
+      opened.remove(conn);
+    }
+
+    log.warn("Discarding invalid {} connection", name);
+    closeQuietly(conn);
+  }
+
+  @Override
+  public void close() {
+    List<Connection> toClose;
+    synchronized (this) {
+      closed = true;
+      toClose = new ArrayList<>(opened);
+      opened.clear();
+      idle.clear();
+    }
+    for (Connection conn : toClose) {
+      closeQuietly(conn);
+    }
+    log.debug("Closed {} connection pool ({} connections)", name, toClose.size());
+  }
+
+  private void closeQuietly(Connection conn) {
+    try {
+      conn.close();
+    } catch (SQLException e) {
+      log.debug("Error closing {} connection: {}", name, e.getMessage());
+    }
+  }
+}
@@ -2,6 +2,7 @@ package me.christianrobert.ora2postgre.global;
 
 import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
 import me.christianrobert.ora2postgre.oracledb.IndexMetadata;
+import me.christianrobert.ora2postgre.oracledb.SamplingRowCounter;
 import me.christianrobert.ora2postgre.oracledb.SynonymMetadata;
 import me.christianrobert.ora2postgre.oracledb.TableMetadata;
 import me.christianrobert.ora2postgre.oracledb.ViewMetadata;
@@ -20,7 +21,9 @@ import me.christianrobert.ora2postgre.plsql.ast.VarrayType;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.HashSet;
 
@@ -58,6 +61,13 @@ public class Everything {
   private List<Trigger> triggerAst = new ArrayList<>();
 
   private long totalRowCount = 0;
+  // per-table row counts from the extract phase, keyed by upper-case OWNER.TABLE_NAME
+  private Map<String, Long> tableRowCounts = new HashMap<>();
+  // LAST_DDL_TIME of the extracted objects, keyed by OWNER|OBJECT_TYPE|OBJECT_NAME (see IncrementalExtractor)
+  private Map<String, Long> objectDdlTimes = new HashMap<>();
+  // objects changed, added or dropped by incremental extractions since the last export, keys as
+  // above in upper case; null if every unit has to be parsed and exported
+  private Set<String> changedObjects = null;
   private int intendations = 0;
 
   public List<String> getUserNames() {
@@ -144,6 +154,44 @@ public class Everything {
     this.totalRowCount = totalRowCount;
   }
 
+  public Map<String, Long> getTableRowCounts() {
+    return tableRowCounts;
+  }
+
+  public Map<String, Long> getObjectDdlTimes() {
+    return objectDdlTimes;
+  }
+
+  public Set<String> getChangedObjects() {
+    return changedObjects;
+  }
+
+  public void setChangedObjects(Set<String> changedObjects) {
+    this.changedObjects = changedObjects;
+  }
+
+  /**
+   * Clears the parsed ASTs, which have to be rebuilt after the extracted code changed.
+   */
+  public void clearParsedAsts() {
+    viewSpecAndQueries.clear();
+    objectTypeSpecAst.clear();
+    objectTypeBodyAst.clear();
+    packageSpecAst.clear();
+    packageBodyAst.clear();
+    standaloneFunctionAst.clear();
+    standaloneProcedureAst.clear();
+    triggerAst.clear();
+  }
+
+  /**
+   * Row count of a table as determined in the extract phase.
+   * @return the count, or null if the table was not counted
+   */
+  public Long getTableRowCount(String schema, String tableName) {
+    return tableRowCounts.get(SamplingRowCounter.tableKey(schema, tableName));
+  }
+
   // Statistics methods for standalone functions and procedures
   public int getStandaloneFunctionCount() {
     return standaloneFunctionAst.size();
@@ -2,10 +2,17 @@ package me.christianrobert.ora2postgre.global;
 
 public class PlsqlCode {
   public String schema;
+  // OBJECT_NAME of the unit in ALL_OBJECTS, null if not known
+  public String name;
   public String code;
 
   public PlsqlCode(String schema, String code) {
+    this(schema, null, code);
+  }
+
+  public PlsqlCode(String schema, String name, String code) {
     this.schema = schema;
+    this.name = name;
     this.code = code;
   }
 }
@@ -1,6 +1,7 @@
 package me.christianrobert.ora2postgre.jobs;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import me.christianrobert.ora2postgre.transfer.progress.TransferProgress;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,6 +17,7 @@ import java.util.concurrent.CancellationException;
 import java.util.Map;
 import java.util.LinkedList;
 import java.util.Queue;
+import java.util.function.Supplier;
 
 @ApplicationScoped
 public class JobManager {
@@ -28,6 +30,8 @@ public class JobManager {
   private final ReentrantLock globalJobLock = new ReentrantLock();
   private final Queue<PendingJob> jobQueue = new LinkedList<>();
   private volatile String currentRunningJobId = null;
+  private final Map<String, Supplier<TransferProgress>> transferProgress = new ConcurrentHashMap<>();
+  private volatile Supplier<TransferProgress> latestTransferProgress = () -> null;
 
   public String startJob(String jobType, Runnable task) {
     String jobId = UUID.randomUUID().toString();
@@ -176,6 +180,7 @@ public class JobManager {
             entry.getValue().getState() == JobState.COMPLETED ||
                     entry.getValue().getState() == JobState.FAILED ||
                     entry.getValue().getState() == JobState.CANCELLED);
+    transferProgress.keySet().retainAll(jobs.keySet());
   }
 
   /**
@@ -252,6 +257,45 @@ public class JobManager {
     }
   }
 
+  /**
+   * Records how long a phase of the running job took; shown with the job's status.
+   */
+  public void recordPhaseTiming(String phase, long millis) {
+    String jobId = currentRunningJobId;
+    JobStatus status = jobId != null ? jobs.get(jobId) : null;
+    if (status != null) {
+      status.recordPhaseTiming(phase, millis);
+    }
+  }
+
+  /**
+   * Makes the progress of a data transfer available to the progress and metrics endpoints,
+   * for the running job and as the latest transfer. The supplier is asked on every request,
+   * so it can hand out the session the transfer started last.
+   */
+  public void attachTransferProgress(Supplier<TransferProgress> progress) {
+    latestTransferProgress = progress;
+    String jobId = currentRunningJobId;
+    if (jobId != null) {
+      transferProgress.put(jobId, progress);
+    }
+  }
+
+  /**
+   * Progress of the data transfer a job performed, or null if it did not transfer data.
+   */
+  public TransferProgress getTransferProgress(String jobId) {
+    Supplier<TransferProgress> progress = transferProgress.get(jobId);
+    return progress != null ? progress.get() : null;
+  }
+
+  /**
+   * Progress of the most recent data transfer, or null if none ran yet.
+   */
+  public TransferProgress getLatestTransferProgress() {
+    return latestTransferProgress.get();
+  }
+
   /**
    * Get current running job ID
    */
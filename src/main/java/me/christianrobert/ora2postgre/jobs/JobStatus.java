@@ -1,6 +1,8 @@
 package me.christianrobert.ora2postgre.jobs;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class JobStatus {
   private final String jobId;
@@ -23,6 +25,9 @@ public class JobStatus {
   private String subStepDetails;
   private LocalDateTime estimatedCompletionTime;
 
+  // Milliseconds per executed phase, e.g. data load and index build, in execution order
+  private final Map<String, Long> phaseTimings = new LinkedHashMap<>();
+
   public JobStatus(String jobId, String jobType, JobState state, LocalDateTime startedAt) {
     this.jobId = jobId;
     this.jobType = jobType;
@@ -50,6 +55,7 @@ public class JobStatus {
   public double getOverallProgress() { return overallProgress; }
   public String getSubStepDetails() { return subStepDetails; }
   public LocalDateTime getEstimatedCompletionTime() { return estimatedCompletionTime; }
+  public synchronized Map<String, Long> getPhaseTimings() { return new LinkedHashMap<>(phaseTimings); }
 
   // Convenience methods for frontend
   public int getStepProgressPercentage() { return (int) Math.round(stepProgress * 100); }
@@ -72,6 +78,7 @@ public class JobStatus {
   public void setOverallProgress(double overallProgress) { this.overallProgress = Math.max(0.0, Math.min(1.0, overallProgress)); }
   public void setSubStepDetails(String subStepDetails) { this.subStepDetails = subStepDetails; }
   public void setEstimatedCompletionTime(LocalDateTime estimatedCompletionTime) { this.estimatedCompletionTime = estimatedCompletionTime; }
+  public synchronized void recordPhaseTiming(String phase, long millis) { phaseTimings.put(phase, millis); }
 
   // Convenience methods for job lifecycle
   public boolean isActive() { return state == JobState.RUNNING; }
@@ -2,11 +2,13 @@ package me.christianrobert.ora2postgre.jobs;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import me.christianrobert.ora2postgre.transfer.progress.TransferMetricsReport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
 
 /**
  * Service for tracking detailed progress of migration jobs.
@@ -194,7 +196,7 @@ public class MigrationProgressService {
       return null;
     }
 
-    return new JobProgressInfo(jobStatus);
+    return new JobProgressInfo(jobStatus, TransferMetricsReport.of(jobManager.getTransferProgress(jobId)));
   }
 
   /**
@@ -240,8 +242,17 @@ public class MigrationProgressService {
     private final LocalDateTime startedAt;
     private final LocalDateTime estimatedCompletionTime;
     private final String error;
+    private final Map<String, Long> phaseTimings;
+    private final TransferMetricsReport transferMetrics;
 
     public JobProgressInfo(JobStatus jobStatus) {
+      this(jobStatus, null);
+    }
+
+    /**
+     * @param transferMetrics throughput and time breakdown of the job's data transfer, may be null
+     */
+    public JobProgressInfo(JobStatus jobStatus, TransferMetricsReport transferMetrics) {
       this.jobId = jobStatus.getJobId();
       this.jobType = jobStatus.getJobType();
       this.state = jobStatus.getState();
@@ -254,6 +265,8 @@ public class MigrationProgressService {
       this.startedAt = jobStatus.getStartedAt();
       this.estimatedCompletionTime = jobStatus.getEstimatedCompletionTime();
       this.error = jobStatus.getError();
+      this.phaseTimings = jobStatus.getPhaseTimings();
+      this.transferMetrics = transferMetrics;
     }
 
     // Getters
@@ -269,5 +282,7 @@ public class MigrationProgressService {
     public LocalDateTime getStartedAt() { return startedAt; }
     public LocalDateTime getEstimatedCompletionTime() { return estimatedCompletionTime; }
     public String getError() { return error; }
+    public Map<String, Long> getPhaseTimings() { return phaseTimings; }
+    public TransferMetricsReport getTransferMetrics() { return transferMetrics; }
   }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package me.christianrobert.ora2postgre.oracledb;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration properties for the metadata extraction from Oracle.
+ */
+@ConfigMapping(prefix = "extraction")
+public interface ExtractionConfig {
+
+  /**
+   * Number of Oracle connections extracting schemas and object kinds concurrently.
+   * 1 keeps the sequential extraction on a single connection.
+   * @return the extraction parallelism
+   */
+  @WithDefault("1")
+  int parallelism();
+
+  /**
+   * Binary snapshot of the extracted data, to reload it without extracting from Oracle again.
+   * @return the snapshot configuration
+   */
+  Snapshot snapshot();
+
+  interface Snapshot {
+
+    /**
+     * Whether every extraction is saved to the snapshot file when it completes.
+     * @return true if extractions are saved automatically
+     */
+    @WithDefault("false")
+    boolean saveAfterExtract();
+
+    /**
+     * The snapshot file written after extraction and by POST /migration/snapshot/save,
+     * and read by POST /migration/snapshot/load.
+     * @return the snapshot file path
+     */
+    @WithDefault("extract-snapshot.bin")
+    String path();
+  }
+}
@@ -0,0 +1,530 @@
+package me.christianrobert.ora2postgre.oracledb;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.PlsqlCode;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Saves the results of the extract phase to a binary snapshot file and loads them back, so
+ * that parsing and export can be repeated after a restart without extracting from Oracle again.
+ *
+ * The file starts with a magic number and a format version, followed by the extracted lists
+ * in a fixed order, the DDL times used for incremental extraction, and an end marker. Strings
+ * are written as UTF-8 with a length prefix; short strings such as schema names and data types
+ * are written once and then referenced by number, which keeps the file compact and lets the
+ * loaded model share those strings. Reading streams the file through one buffer, so even large
+ * catalogs load in seconds.
+ */
+public final class ExtractionSnapshot {
+
+  private static final Logger log = LoggerFactory.getLogger(ExtractionSnapshot.class);
+
+  static final int MAGIC = 0x4F325053; // "O2PS"
+  // Version 2 added the names of the PL/SQL units and the LAST_DDL_TIME of the extracted
+  // objects; version 1 files load without them
+  static final int FORMAT_VERSION = 2;
+  static final int MIN_FORMAT_VERSION = 1;
+
+  // Strings up to this many UTF-8 bytes are written once and referenced afterwards
+  private static final int MAX_SHARED_STRING_BYTES = 64;
+  private static final int NULL_STRING = -1;
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private ExtractionSnapshot() {
+  }
+
+  /**
+   * Numbers of objects in a snapshot, as reported to the caller.
+   */
+  public static class Summary {
+    private final long createdAt;
+    private final int schemas;
+    private final int tables;
+    private final int views;
+    private final int plsqlUnits;
+    private final long bytes;
+
+    Summary(long createdAt, int schemas, int tables, int views, int plsqlUnits, long bytes) {
+      this.createdAt = createdAt;
+      this.schemas = schemas;
+      this.tables = tables;
+      this.views = views;
+      this.plsqlUnits = plsqlUnits;
+      this.bytes = bytes;
+    }
+
+    public long getCreatedAt() { return createdAt; }
+    public int getSchemas() { return schemas; }
+    public int getTables() { return tables; }
+    public int getViews() { return views; }
+    public int getPlsqlUnits() { return plsqlUnits; }
+    public long getBytes() { return bytes; }
+
+    @Override
+    public String toString() {
+      return schemas + " schemas, " + tables + " tables, " + views + " views, "
+              + plsqlUnits + " PL/SQL units, " + bytes + " bytes";
+    }
+  }
+
+  /**
+   * Writes the extracted data to the file. The file is replaced only once the snapshot is
+   * complete, so a failed save keeps the previous snapshot.
+   */
+  public static Summary save(Everything data, Path file) throws IOException {
+    long start = System.currentTimeMillis();
+    Path parent = file.toAbsolutePath().getParent();
+    Files.createDirectories(parent);
+    Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+    try {
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_SIZE))) {
+        new Writer(out).write(data, start);
+      }
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+
+    Summary summary = summarize(data, start, Files.size(file));
+    log.info("Saved extraction snapshot {} ({}) in {} ms", file, summary, System.currentTimeMillis() - start);
+    return summary;
+  }
+
+  /**
+   * Replaces the extracted data in the model with the contents of the file. Parsed ASTs are
+   * cleared as they belong to the previous data. The model is left unchanged if the file
+   * cannot be read.
+   */
+  public static Summary load(Path file, Everything data) throws IOException {
+    long start = System.currentTimeMillis();
+    Everything loaded = new Everything();
+    long createdAt;
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE))) {
+      createdAt = new Reader(in).read(loaded);
+    }
+
+    clearExtracted(data);
+    data.getUserNames().addAll(loaded.getUserNames());
+    data.getTableSql().addAll(loaded.getTableSql());
+    data.getViewDefinition().addAll(loaded.getViewDefinition());
+    data.getSynonyms().addAll(loaded.getSynonyms());
+    data.getIndexes().addAll(loaded.getIndexes());
+    data.getObjectTypeSpecPlsql().addAll(loaded.getObjectTypeSpecPlsql());
+    data.getObjectTypeBodyPlsql().addAll(loaded.getObjectTypeBodyPlsql());
+    data.getPackageSpecPlsql().addAll(loaded.getPackageSpecPlsql());
+    data.getPackageBodyPlsql().addAll(loaded.getPackageBodyPlsql());
+    data.getStandaloneFunctionPlsql().addAll(loaded.getStandaloneFunctionPlsql());
+    data.getStandaloneProcedurePlsql().addAll(loaded.getStandaloneProcedurePlsql());
+    data.getTriggerPlsql().addAll(loaded.getTriggerPlsql());
+    data.getTableRowCounts().putAll(loaded.getTableRowCounts());
+    data.setTotalRowCount(loaded.getTotalRowCount());
+    data.getObjectDdlTimes().putAll(loaded.getObjectDdlTimes());
+    // Nothing has been parsed or exported from the loaded model yet
+    data.setChangedObjects(null);
+
+    Summary summary = summarize(data, createdAt, Files.size(file));
+    log.info("Loaded extraction snapshot {} ({}) in {} ms", file, summary, System.currentTimeMillis() - start);
+    return summary;
+  }
+
+  private static void clearExtracted(Everything data) {
+    data.getUserNames().clear();
+    data.getTableSql().clear();
+    data.getViewDefinition().clear();
+    data.getSynonyms().clear();
+    data.getIndexes().clear();
+    data.getObjectTypeSpecPlsql().clear();
+    data.getObjectTypeBodyPlsql().clear();
+    data.getPackageSpecPlsql().clear();
+    data.getPackageBodyPlsql().clear();
+    data.getStandaloneFunctionPlsql().clear();
+    data.getStandaloneProcedurePlsql().clear();
+    data.getTriggerPlsql().clear();
+    data.clearParsedAsts();
+    data.getTableRowCounts().clear();
+    data.setTotalRowCount(0);
+    data.getObjectDdlTimes().clear();
+  }
+
+  private static Summary summarize(Everything data, long createdAt, long bytes) {
+    int plsqlUnits = data.getObjectTypeSpecPlsql().size() + data.getObjectTypeBodyPlsql().size()
+            + data.getPackageSpecPlsql().size() + data.getPackageBodyPlsql().size()
+            + data.getStandaloneFunctionPlsql().size() + data.getStandaloneProcedurePlsql().size()
+            + data.getTriggerPlsql().size();
+    return new Summary(createdAt, data.getUserNames().size(), data.getTableSql().size(),
+            data.getViewDefinition().size(), plsqlUnits, bytes);
+  }
+
+  private static final class Writer {
+    private final DataOutputStream out;
+    private final Map<String, Integer> shared = new HashMap<>();
+
+    Writer(DataOutputStream out) {
+      this.out = out;
+    }
+
+    void write(Everything data, long createdAt) throws IOException {
+      out.writeInt(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      out.writeLong(createdAt);
+
+      writeStrings(data.getUserNames());
+
+      out.writeInt(data.getTableSql().size());
+      for (TableMetadata table : data.getTableSql()) {
+        writeString(table.getSchema());
+        writeString(table.getTableName());
+        writeColumns(table.getColumns());
+        out.writeInt(table.getConstraints().size());
+        for (ConstraintMetadata constraint : table.getConstraints()) {
+          writeConstraint(constraint);
+        }
+      }
+
+      out.writeInt(data.getViewDefinition().size());
+      for (ViewMetadata view : data.getViewDefinition()) {
+        writeString(view.getSchema());
+        writeString(view.getViewName());
+        writeColumns(view.getColumns());
+        writeString(view.getRawQuery());
+      }
+
+      out.writeInt(data.getSynonyms().size());
+      for (SynonymMetadata synonym : data.getSynonyms()) {
+        writeString(synonym.getSchema());
+        writeString(synonym.getSynonymName());
+        writeString(synonym.getReferencedSchema());
+        writeString(synonym.getReferencedObjectName());
+        writeString(synonym.getReferencedObjectType());
+      }
+
+      out.writeInt(data.getIndexes().size());
+      for (IndexMetadata index : data.getIndexes()) {
+        writeIndex(index);
+      }
+
+      writePlsql(data.getObjectTypeSpecPlsql());
+      writePlsql(data.getObjectTypeBodyPlsql());
+      writePlsql(data.getPackageSpecPlsql());
+      writePlsql(data.getPackageBodyPlsql());
+      writePlsql(data.getStandaloneFunctionPlsql());
+      writePlsql(data.getStandaloneProcedurePlsql());
+      writePlsql(data.getTriggerPlsql());
+
+      out.writeInt(data.getTableRowCounts().size());
+      for (Map.Entry<String, Long> entry : data.getTableRowCounts().entrySet()) {
+        writeString(entry.getKey());
+        out.writeLong(entry.getValue());
+      }
+      out.writeLong(data.getTotalRowCount());
+
+      out.writeInt(data.getObjectDdlTimes().size());
+      for (Map.Entry<String, Long> entry : data.getObjectDdlTimes().entrySet()) {
+        writeString(entry.getKey());
+        out.writeLong(entry.getValue());
+      }
+
+      out.writeInt(MAGIC);
+    }
+
+    private void writeColumns(List<ColumnMetadata> columns) throws IOException {
+      out.writeInt(columns.size());
+      for (ColumnMetadata column : columns) {
+        writeString(column.getColumnName());
+        writeString(column.getDataType());
+        writeInteger(column.getCharacterLength());
+        writeInteger(column.getNumericPrecision());
+        writeInteger(column.getNumericScale());
+        out.writeBoolean(column.isNullable());
+        writeString(column.getDefaultValue());
+      }
+    }
+
+    private void writeConstraint(ConstraintMetadata constraint) throws IOException {
+      writeString(constraint.getConstraintName());
+      writeString(constraint.getConstraintType());
+      writeStrings(constraint.getColumnNames());
+      writeString(constraint.getReferencedSchema());
+      writeString(constraint.getReferencedTable());
+      writeStrings(constraint.getReferencedColumns());
+      writeString(constraint.getDeleteRule());
+      writeString(constraint.getUpdateRule());
+      writeString(constraint.getCheckCondition());
+      writeString(constraint.getStatus());
+      out.writeBoolean(constraint.isDeferrable());
+      out.writeBoolean(constraint.isInitiallyDeferred());
+      out.writeBoolean(constraint.isValidated());
+      writeString(constraint.getIndexName());
+    }
+
+    private void writeIndex(IndexMetadata index) throws IOException {
+      writeString(index.getIndexName());
+      writeString(index.getTableName());
+      writeString(index.getSchemaName());
+      writeString(index.getIndexType());
+      out.writeBoolean(index.isUniqueIndex());
+      out.writeBoolean(index.isPartialIndex());
+      writeString(index.getWhereClause());
+      writeString(index.getTablespace());
+      writeString(index.getStatus());
+      out.writeBoolean(index.isPartitioned());
+      out.writeInt(index.getColumns().size());
+      for (IndexColumn column : index.getColumns()) {
+        writeString(column.getColumnName());
+        writeString(column.getColumnExpression());
+        writeString(column.getSortOrder());
+        out.writeInt(column.getPosition());
+        out.writeBoolean(column.isDescending());
+      }
+    }
+
+    private void writePlsql(List<PlsqlCode> units) throws IOException {
+      out.writeInt(units.size());
+      for (PlsqlCode unit : units) {
+        writeString(unit.schema);
+        writeString(unit.name);
+        writeString(unit.code);
+      }
+    }
+
+    private void writeStrings(List<String> values) throws IOException {
+      out.writeInt(values.size());
+      for (String value : values) {
+        writeString(value);
+      }
+    }
+
+    private void writeInteger(Integer value) throws IOException {
+      out.writeBoolean(value != null);
+      if (value != null) {
+        out.writeInt(value);
+      }
+    }
+
+    /**
+     * null as -1, a shared string seen before as -2 - its number, otherwise the byte length
+     * followed by the UTF-8 bytes.
+     */
+    private void writeString(String value) throws IOException {
+      if (value == null) {
+        out.writeInt(NULL_STRING);
+        return;
+      }
+      Integer reference = shared.get(value);
+      if (reference != null) {
+        out.writeInt(-2 - reference);
+        return;
+      }
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+      if (bytes.length <= MAX_SHARED_STRING_BYTES) {
+        shared.put(value, shared.size());
+      }
+    }
+  }
+
+  private static final class Reader {
+    private final DataInputStream in;
+    private final List<String> shared = new ArrayList<>();
+    private byte[] bytes = new byte[256];
+
+    Reader(DataInputStream in) {
+      this.in = in;
+    }
+
+    /**
+     * @return the creation time of the snapshot
+     */
+    long read(Everything data) throws IOException {
+      if (in.readInt() != MAGIC) {
+        throw new IOException("Not an extraction snapshot");
+      }
+      int version = in.readInt();
+      if (version < MIN_FORMAT_VERSION || version > FORMAT_VERSION) {
+        throw new IOException("Unsupported extraction snapshot version " + version + ", expected "
+                + MIN_FORMAT_VERSION + " to " + FORMAT_VERSION);
+      }
+      long createdAt = in.readLong();
+
+      data.getUserNames().addAll(readStrings());
+
+      int tables = in.readInt();
+      for (int i = 0; i < tables; i++) {
+        TableMetadata table = new TableMetadata(readString(), readString());
+        readColumns(table.getColumns());
+        int constraints = in.readInt();
+        for (int j = 0; j < constraints; j++) {
+          table.addConstraint(readConstraint());
+        }
+        data.getTableSql().add(table);
+      }
+
+      int views = in.readInt();
+      for (int i = 0; i < views; i++) {
+        ViewMetadata view = new ViewMetadata(readString(), readString());
+        readColumns(view.getColumns());
+        view.setRawQuery(readString());
+        data.getViewDefinition().add(view);
+      }
+
+      int synonyms = in.readInt();
+      for (int i = 0; i < synonyms; i++) {
+        data.getSynonyms().add(new SynonymMetadata(readString(), readString(), readString(), readString(), readString()));
+      }
+
+      int indexes = in.readInt();
+      for (int i = 0; i < indexes; i++) {
+        data.getIndexes().add(readIndex());
+      }
+
+      boolean unitNames = version >= 2;
+      readPlsql(data.getObjectTypeSpecPlsql(), unitNames);
+      readPlsql(data.getObjectTypeBodyPlsql(), unitNames);
+      readPlsql(data.getPackageSpecPlsql(), unitNames);
+      readPlsql(data.getPackageBodyPlsql(), unitNames);
+      readPlsql(data.getStandaloneFunctionPlsql(), unitNames);
+      readPlsql(data.getStandaloneProcedurePlsql(), unitNames);
+      readPlsql(data.getTriggerPlsql(), unitNames);
+
+      int rowCounts = in.readInt();
+      Map<String, Long> tableRowCounts = new LinkedHashMap<>();
+      for (int i = 0; i < rowCounts; i++) {
+        tableRowCounts.put(readString(), in.readLong());
+      }
+      data.getTableRowCounts().putAll(tableRowCounts);
+      data.setTotalRowCount(in.readLong());
+
+      if (version >= 2) {
+        int ddlTimes = in.readInt();
+        for (int i = 0; i < ddlTimes; i++) {
+          data.getObjectDdlTimes().put(readString(), in.readLong());
+        }
+      }
+
+      if (in.readInt() != MAGIC) {
+        throw new IOException("Extraction snapshot is corrupt: missing end marker");
+      }
+      return createdAt;
+    }
+
+    private void readColumns(List<ColumnMetadata> columns) throws IOException {
+      int count = in.readInt();
+      for (int i = 0; i < count; i++) {
+        String columnName = readString();
+        String dataType = readString();
+        Integer characterLength = readInteger();
+        Integer numericPrecision = readInteger();
+        Integer numericScale = readInteger();
+        boolean nullable = in.readBoolean();
+        String defaultValue = readString();
+        columns.add(new ColumnMetadata(columnName, dataType, characterLength, numericPrecision, numericScale,
+                nullable, defaultValue));
+      }
+    }
+
+    private ConstraintMetadata readConstraint() throws IOException {
+      ConstraintMetadata constraint = new ConstraintMetadata(readString(), readString());
+      constraint.getColumnNames().addAll(readStrings());
+      constraint.setReferencedSchema(readString());
+      constraint.setReferencedTable(readString());
+      constraint.getReferencedColumns().addAll(readStrings());
+      constraint.setDeleteRule(readString());
+      constraint.setUpdateRule(readString());
+      constraint.setCheckCondition(readString());
+      constraint.setStatus(readString());
+      constraint.setDeferrable(in.readBoolean());
+      constraint.setInitiallyDeferred(in.readBoolean());
+      constraint.setValidated(in.readBoolean());
+      constraint.setIndexName(readString());
+      return constraint;
+    }
+
+    private IndexMetadata readIndex() throws IOException {
+      String indexName = readString();
+      String tableName = readString();
+      String schemaName = readString();
+      String indexType = readString();
+      boolean uniqueIndex = in.readBoolean();
+      boolean partialIndex = in.readBoolean();
+      String whereClause = readString();
+      String tablespace = readString();
+      String status = readString();
+      boolean partitioned = in.readBoolean();
+      IndexMetadata index = new IndexMetadata(indexName, tableName, schemaName, indexType, uniqueIndex,
+              partialIndex, whereClause, tablespace, status, partitioned);
+      int columns = in.readInt();
+      for (int i = 0; i < columns; i++) {
+        String columnName = readString();
+        String columnExpression = readString();
+        String sortOrder = readString();
+        int position = in.readInt();
+        boolean descending = in.readBoolean();
+        index.addColumn(new IndexColumn(columnName, columnExpression, sortOrder, position, descending));
+      }
+      return index;
+    }
+
+    private void readPlsql(List<PlsqlCode> units, boolean withNames) throws IOException {
+      int count = in.readInt();
+      for (int i = 0; i < count; i++) {
+        String schema = readString();
+        String name = withNames ? readString() : null;
+        units.add(new PlsqlCode(schema, name, readString()));
+      }
+    }
+
+    private List<String> readStrings() throws IOException {
+      int count = in.readInt();
+      List<String> values = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        values.add(readString());
+      }
+      return values;
+    }
+
+    private Integer readInteger() throws IOException {
+      return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private String readString() throws IOException {
+      int length = in.readInt();
+      if (length == NULL_STRING) {
+        return null;
+      }
+      if (length < NULL_STRING) {
+        int reference = -2 - length;
+        if (reference >= shared.size()) {
+          throw new IOException("Extraction snapshot is corrupt: unknown string reference " + reference);
+        }
+        return shared.get(reference);
+      }
+      if (length > bytes.length) {
+        bytes = new byte[Math.max(length, bytes.length * 2)];
+      }
+      in.readFully(bytes, 0, length);
+      String value = new String(bytes, 0, length, StandardCharsets.UTF_8);
+      if (length <= MAX_SHARED_STRING_BYTES) {
+        shared.add(value);
+      }
+      return value;
+    }
+  }
+}
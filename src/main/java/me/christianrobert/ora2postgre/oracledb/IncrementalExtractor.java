@@ -0,0 +1,225 @@
+package me.christianrobert.ora2postgre.oracledb;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.PlsqlCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Brings a previous extraction up to date by re-extracting only what changed in Oracle since.
+ *
+ * Every extraction records LAST_DDL_TIME of the extracted objects from ALL_OBJECTS. An
+ * incremental run reads these times again and compares them with the recorded ones. Each
+ * object kind of a schema with changed, new or dropped objects is extracted again with the
+ * existing bulk extractor for that schema, and its entries in {@link Everything} are replaced
+ * in place. Schemas and kinds without changes are not queried at all. The changed objects are
+ * recorded in {@link Everything#getChangedObjects()}, so that the parse and export phases only
+ * process these units again.
+ */
+public class IncrementalExtractor {
+
+  private static final Logger log = LoggerFactory.getLogger(IncrementalExtractor.class);
+
+  // One short row per object; even schemas with tens of thousands of objects need few round trips
+  static final int DDL_TIME_FETCH_SIZE = 5000;
+
+  private static final String DDL_TIME_SQL = """
+          SELECT object_type, object_name, last_ddl_time
+          FROM all_objects
+          WHERE owner = ?
+            AND object_type IN (%s)
+      """;
+
+  /**
+   * Outcome of an incremental extraction.
+   */
+  public static class Result {
+    private final int changedObjects;
+    private final List<String> reextracted;
+
+    Result(int changedObjects, List<String> reextracted) {
+      this.changedObjects = changedObjects;
+      this.reextracted = reextracted;
+    }
+
+    /** Number of changed, new and dropped objects. */
+    public int getChangedObjects() { return changedObjects; }
+
+    /** Object kinds and schemas that were extracted again, e.g. "package bodies of HR". */
+    public List<String> getReextracted() { return reextracted; }
+  }
+
+  /**
+   * Key of an object in {@link Everything#getObjectDdlTimes()}.
+   */
+  public static String key(String owner, String objectType, String objectName) {
+    return owner + "|" + objectType + "|" + objectName;
+  }
+
+  /**
+   * Key of an extracted unit or a parsed AST in {@link Everything#getChangedObjects()}. Parsed
+   * names keep the case of the source, so schema and name are compared in upper case.
+   *
+   * @return the key, or null if schema or name are not known
+   */
+  public static String changeKey(String schema, String objectType, String name) {
+    return schema == null || name == null ? null : key(schema.toUpperCase(), objectType, name.toUpperCase());
+  }
+
+  /**
+   * Reads LAST_DDL_TIME of all objects of the given kinds in the given schemas.
+   *
+   * @return epoch milliseconds keyed by {@link #key(String, String, String)}, with the owner in upper case
+   */
+  public static Map<String, Long> fetchDdlTimes(Connection conn, List<String> schemas,
+                                                Set<ParallelExtractor.Kind> kinds) throws SQLException {
+    Map<String, Long> ddlTimes = new HashMap<>();
+    if (kinds.isEmpty()) {
+      return ddlTimes;
+    }
+    String objectTypes = kinds.stream()
+            .map(kind -> "'" + kind.objectType + "'")
+            .collect(Collectors.joining(", "));
+    String sql = String.format(DDL_TIME_SQL, objectTypes);
+
+    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+      ps.setFetchSize(DDL_TIME_FETCH_SIZE);
+      for (String schema : schemas) {
+        String owner = schema.toUpperCase();
+        ps.setString(1, owner);
+        try (ResultSet rs = ps.executeQuery()) {
+          while (rs.next()) {
+            Timestamp lastDdlTime = rs.getTimestamp("last_ddl_time");
+            ddlTimes.put(key(owner, rs.getString("object_type"), rs.getString("object_name")),
+                    lastDdlTime == null ? 0L : lastDdlTime.getTime());
+          }
+        }
+      }
+    }
+    return ddlTimes;
+  }
+
+  /**
+   * Objects whose time differs between the two maps, including objects only in one of them.
+   */
+  static Set<String> diff(Map<String, Long> previous, Map<String, Long> current) {
+    Set<String> dirty = new HashSet<>();
+    for (Map.Entry<String, Long> entry : current.entrySet()) {
+      if (!entry.getValue().equals(previous.get(entry.getKey()))) {
+        dirty.add(entry.getKey());
+      }
+    }
+    for (String key : previous.keySet()) {
+      if (!current.containsKey(key)) {
+        dirty.add(key);
+      }
+    }
+    return dirty;
+  }
+
+  /**
+   * Compares the current DDL times with those recorded in the model and re-extracts the
+   * affected object kinds per schema. Afterwards the model holds the new DDL times, and the
+   * changed objects are added to those not exported yet. Without recorded DDL times every
+   * object counts as new, and the parsed ASTs are dropped for a full parse and export.
+   */
+  public static Result extract(Connection conn, Everything data, Set<ParallelExtractor.Kind> kinds)
+          throws SQLException, IOException {
+    boolean hasBaseline = !data.getObjectDdlTimes().isEmpty();
+    Map<String, Long> current = fetchDdlTimes(conn, data.getUserNames(), kinds);
+    Set<String> changed = diff(data.getObjectDdlTimes(), current);
+    log.info("Incremental extraction: {} of {} objects changed, added or dropped", changed.size(), current.size());
+
+    List<String> reextracted = new ArrayList<>();
+    for (ParallelExtractor.Kind kind : ParallelExtractor.Kind.values()) {
+      if (!kinds.contains(kind)) {
+        continue;
+      }
+      for (String schema : data.getUserNames()) {
+        if (kind.skips(schema) || !hasChangedObject(changed, schema.toUpperCase(), kind.objectType)) {
+          continue;
+        }
+        long start = System.currentTimeMillis();
+        List<?> extracted = kind.extractor.extract(conn, List.of(schema));
+        replaceSchema(kind.target.apply(data), schema, extracted);
+        reextracted.add(kind.getDescription() + " of " + schema);
+        log.info("Re-extracted {} {} of {} in {} ms", extracted.size(), kind.getDescription(), schema,
+                System.currentTimeMillis() - start);
+      }
+    }
+
+    data.getObjectDdlTimes().clear();
+    data.getObjectDdlTimes().putAll(current);
+    if (!hasBaseline) {
+      data.clearParsedAsts();
+      data.setChangedObjects(null);
+    } else if (data.getChangedObjects() != null) {
+      for (String key : changed) {
+        data.getChangedObjects().add(key.toUpperCase());
+      }
+    }
+    return new Result(changed.size(), reextracted);
+  }
+
+  private static boolean hasChangedObject(Set<String> changed, String owner, String objectType) {
+    String prefix = key(owner, objectType, "");
+    for (String key : changed) {
+      if (key.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Replaces the entries of a schema in an extracted list, keeping the position of the schema's
+   * entries so that the list order stays the same as after a full extraction.
+   */
+  @SuppressWarnings("unchecked")
+  static void replaceSchema(List<?> target, String schema, List<?> extracted) {
+    List<Object> list = (List<Object>) target;
+    int insertAt = -1;
+    List<Object> kept = new ArrayList<>(list.size());
+    for (Object entry : list) {
+      if (schema.equalsIgnoreCase(schemaOf(entry))) {
+        if (insertAt < 0) {
+          insertAt = kept.size();
+        }
+      } else {
+        kept.add(entry);
+      }
+    }
+    kept.addAll(insertAt < 0 ? kept.size() : insertAt, extracted);
+    list.clear();
+    list.addAll(kept);
+  }
+
+  private static String schemaOf(Object entry) {
+    if (entry instanceof TableMetadata) {
+      return ((TableMetadata) entry).getSchema();
+    } else if (entry instanceof ViewMetadata) {
+      return ((ViewMetadata) entry).getSchema();
+    } else if (entry instanceof SynonymMetadata) {
+      return ((SynonymMetadata) entry).getSchema();
+    } else if (entry instanceof IndexMetadata) {
+      return ((IndexMetadata) entry).getSchemaName();
+    } else if (entry instanceof PlsqlCode) {
+      return ((PlsqlCode) entry).schema;
+    }
+    throw new IllegalArgumentException("Unknown extracted entry " + entry.getClass().getName());
+  }
+}
@@ -2,20 +2,15 @@ package me.christianrobert.ora2postgre.oracledb;
 
 import me.christianrobert.ora2postgre.global.PlsqlCode;
 import me.christianrobert.ora2postgre.oracledb.tools.UserExcluder;
-import me.christianrobert.ora2postgre.oracledb.tools.CodeCleaner;
-import me.christianrobert.ora2postgre.oracledb.tools.NameNormalizer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.StringJoiner;
 
 public class ObjectTypeExtractor {
 
@@ -31,86 +26,15 @@ public class ObjectTypeExtractor {
     //do this in a later step separately
     // Map<String, String> buildTypeNameMap = HelpObjectType.buildObjectTypeNameMap(connection);
 
-    // Prepare SQL query to get type metadata from ALL_TYPES
-    String typeSql = """
-            SELECT owner, type_name, typecode, attributes, methods
-            FROM all_types
-            WHERE owner IN (%s)
-            ORDER BY owner, type_name
-        """;
-    StringJoiner placeholders = new StringJoiner(",");
-    for (int i = 0; i < schemas.size(); i++) {
-      placeholders.add("?");
-    }
-    typeSql = String.format(typeSql, placeholders);
-
-    try (PreparedStatement typeStmt = connection.prepareStatement(typeSql)) {
-      // Set schema parameters
-      for (int i = 0; i < schemas.size(); i++) {
-        typeStmt.setString(i + 1, schemas.get(i));
-      }
-
-      // Execute query to get type metadata
-      try (ResultSet typeRs = typeStmt.executeQuery()) {
-        while (typeRs.next()) {
-          String schema = typeRs.getString("owner");
-          String typeName = NameNormalizer.normalizeObjectTypeName(typeRs.getString("type_name"));
-
-          if (typeName.contains("="))
-            continue;
-
-          // Query ALL_SOURCE for type specification (TYPE)
-          if (doSpecYesdoBodyNo) {
-            String sourceCode = getSourceCode(connection, schema, typeName, "TYPE");
-            if (sourceCode != null) {
-              dllList.add(new PlsqlCode(schema, sourceCode));
-              log.info("Extracted type spec {} from schema {}", typeName, schema);
-            }
-          }
-          // Query ALL_SOURCE for type body (TYPE BODY)
-          else {
-            String sourceCode = getSourceCode(connection, schema, typeName, "TYPE BODY");
-            if (sourceCode != null) {
-              //if (typeName.toUpperCase().contains("DCOBJECTCONTEXT")) //DEBUG
-              dllList.add(new PlsqlCode(schema, sourceCode));
-              log.info("Extracted type body {} from schema {}", typeName, schema);
-            }
-          }
-        }
-      }
+    // One ordered scan of ALL_SOURCE per schema for the type specification (TYPE) or body (TYPE BODY)
+    String sourceType = doSpecYesdoBodyNo ? "TYPE" : "TYPE BODY";
+    String label = doSpecYesdoBodyNo ? "type spec" : "type body";
+    for (String schema : schemas) {
+      SourceScanner.scan(connection, schema, sourceType, false, (typeName, sourceCode) -> {
+        dllList.add(new PlsqlCode(schema, typeName, sourceCode));
+        log.info("Extracted {} {} from schema {}", label, typeName, schema);
+      });
     }
     return dllList;
   }
-
-  private static String getSourceCode(Connection connection, String schema,
-                                      String typeName, String sourceType)
-          throws SQLException {
-    String sourceSql = """
-            SELECT text
-            FROM all_source
-            WHERE owner = ?
-              AND name = ?
-              AND type = ?
-            ORDER BY line
-        """;
-
-    StringBuilder sourceCode = new StringBuilder();
-    try (PreparedStatement sourceStmt = connection.prepareStatement(sourceSql)) {
-      sourceStmt.setString(1, schema);
-      sourceStmt.setString(2, typeName);
-      sourceStmt.setString(3, sourceType);
-
-      try (ResultSet sourceRs = sourceStmt.executeQuery()) {
-        while (sourceRs.next()) {
-          String line = sourceRs.getString("text");
-          if (line != null) {
-            sourceCode.append(line);
-          }
-        }
-      }
-    }
-    if (sourceCode.isEmpty())
-      return null;
-    return "CREATE " + CodeCleaner.noComments(sourceCode.toString().trim());
-  }
-}
\ No newline at end of file
+}
@@ -2,19 +2,15 @@ package me.christianrobert.ora2postgre.oracledb;
 
 import me.christianrobert.ora2postgre.global.PlsqlCode;
 import me.christianrobert.ora2postgre.oracledb.tools.UserExcluder;
-import me.christianrobert.ora2postgre.oracledb.tools.CodeCleaner;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.StringJoiner;
 
 public class PackageExtractor {
 
@@ -26,87 +22,15 @@ public class PackageExtractor {
     schemas = schemas.stream().filter(e -> !UserExcluder.is2BeExclueded(e, "PACKAGE")).toList();
 
     List<PlsqlCode> dllList = new ArrayList<>();
-
-    // Prepare SQL query to get package metadata from ALL_OBJECTS
-    String packageSql = """
-                SELECT owner, object_name
-                FROM all_objects
-                WHERE owner IN (%s)
-                  AND object_type = ?
-                ORDER BY owner, object_name
-            """;
-    StringJoiner placeholders = new StringJoiner(",");
-    for (int i = 0; i < schemas.size(); i++) {
-      placeholders.add("?");
-    }
-    packageSql = String.format(packageSql, placeholders);
-
-    try (PreparedStatement packageStmt = connection.prepareStatement(packageSql)) {
-      // Set schema parameters
-      for (int i = 0; i < schemas.size(); i++) {
-        packageStmt.setString(i + 1, schemas.get(i));
-      }
-      // Set object type (PACKAGE for spec, PACKAGE BODY for body)
-      packageStmt.setString(schemas.size() + 1, doSpecYesdoBodyNo ? "PACKAGE" : "PACKAGE BODY");
-
-      // Execute query to get package metadata
-      try (ResultSet packageRs = packageStmt.executeQuery()) {
-        while (packageRs.next()) {
-          String schema = packageRs.getString("owner");
-          String packageName = packageRs.getString("object_name");
-
-          if (packageName.contains("=")) {
-            continue;
-          }
-
-          // Query ALL_SOURCE for package specification or body
-          String sourceType = doSpecYesdoBodyNo ? "PACKAGE" : "PACKAGE BODY";
-          String sourceCode = getSourceCode(connection, schema, packageName, sourceType);
-          if (sourceCode != null) {
-            dllList.add(new PlsqlCode(schema, sourceCode));
-          }
-
-          log.info("Extracted {} {} from schema {}", sourceType, packageName, schema);
-        }
-      }
+    String sourceType = doSpecYesdoBodyNo ? "PACKAGE" : "PACKAGE BODY";
+
+    // One ordered scan of ALL_SOURCE per schema for the package specification or body
+    for (String schema : schemas) {
+      SourceScanner.scan(connection, schema, sourceType, true, (packageName, sourceCode) -> {
+        dllList.add(new PlsqlCode(schema, packageName, sourceCode));
+        log.info("Extracted {} {} from schema {}", sourceType, packageName, schema);
+      });
     }
     return dllList;
   }
-
-  private static String getSourceCode(Connection connection, String schema,
-                                      String packageName, String sourceType)
-          throws SQLException {
-    String sourceSql = """
-                SELECT text
-                FROM all_source
-                WHERE owner = ?
-                  AND name = ?
-                  AND type = ?
-                ORDER BY line
-            """;
-
-    StringBuilder sourceCode = new StringBuilder();
-    boolean isWrapped = false;
-    try (PreparedStatement sourceStmt = connection.prepareStatement(sourceSql)) {
-      sourceStmt.setString(1, schema);
-      sourceStmt.setString(2, packageName);
-      sourceStmt.setString(3, sourceType);
-
-      try (ResultSet sourceRs = sourceStmt.executeQuery()) {
-        while (sourceRs.next()) {
-          String line = sourceRs.getString("text");
-          if (line != null) {
-            if (line.toLowerCase().contains("wrapped"))
-              return null;
-            sourceCode.append(line);
-          }
-        }
-      }
-    }
-    if (sourceCode.isEmpty()) {
-      return null;
-    }
-
-    return "CREATE " + CodeCleaner.noComments(sourceCode.toString().trim());
-  }
-}
\ No newline at end of file
+}
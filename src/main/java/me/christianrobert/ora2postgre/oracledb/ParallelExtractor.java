@@ -0,0 +1,212 @@
+package me.christianrobert.ora2postgre.oracledb;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.ConnectionPool;
+import me.christianrobert.ora2postgre.oracledb.tools.UserExcluder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Extracts the metadata of several schemas concurrently over a small pool of Oracle connections.
+ *
+ * The work is split into one task per object kind and schema, each running the existing
+ * extractor for that single schema on a pooled connection. Results are kept per task and added
+ * to {@link Everything} on the calling thread once all tasks are done, in object kind and schema
+ * order, so the extracted lists look the same as after a sequential run and no worker touches
+ * the shared model.
+ */
+public class ParallelExtractor {
+
+  private static final Logger log = LoggerFactory.getLogger(ParallelExtractor.class);
+
+  /**
+   * Object kinds that can be extracted per schema, in the order of the sequential extraction.
+   */
+  public enum Kind {
+    TABLES("table metadata", "TABLE", null, TableExtractor::extractAllTables, Everything::getTableSql),
+    VIEWS("view definitions", "VIEW", null, ViewExtractor::extractAllViews, Everything::getViewDefinition),
+    SYNONYMS("synonyms", "SYNONYM", null, SynonymExtractor::extractAllSynonyms, Everything::getSynonyms),
+    OBJECT_TYPE_SPECS("object type specs", "TYPE", "TYPE",
+            (conn, schemas) -> ObjectTypeExtractor.extract(conn, schemas, true), Everything::getObjectTypeSpecPlsql),
+    OBJECT_TYPE_BODIES("object type bodies", "TYPE BODY", "TYPE",
+            (conn, schemas) -> ObjectTypeExtractor.extract(conn, schemas, false), Everything::getObjectTypeBodyPlsql),
+    PACKAGE_SPECS("package specs", "PACKAGE", "PACKAGE",
+            (conn, schemas) -> PackageExtractor.extract(conn, schemas, true), Everything::getPackageSpecPlsql),
+    PACKAGE_BODIES("package bodies", "PACKAGE BODY", "PACKAGE",
+            (conn, schemas) -> PackageExtractor.extract(conn, schemas, false), Everything::getPackageBodyPlsql),
+    STANDALONE_FUNCTIONS("standalone functions", "FUNCTION", "FUNCTION",
+            StandaloneFunctionExtractor::extract, Everything::getStandaloneFunctionPlsql),
+    STANDALONE_PROCEDURES("standalone procedures", "PROCEDURE", "PROCEDURE",
+            StandaloneProcedureExtractor::extract, Everything::getStandaloneProcedurePlsql),
+    TRIGGERS("triggers", "TRIGGER", null, TriggerExtractor::extract, Everything::getTriggerPlsql),
+    INDEXES("indexes", "INDEX", null, IndexExtractor::extractAllIndexes, Everything::getIndexes);
+
+    private final String description;
+    // OBJECT_TYPE of the extracted objects in ALL_OBJECTS
+    final String objectType;
+    private final String excluderUseCase;
+    final KindExtractor extractor;
+    final Function<Everything, List<?>> target;
+
+    Kind(String description, String objectType, String excluderUseCase, KindExtractor extractor,
+         Function<Everything, List<?>> target) {
+      this.description = description;
+      this.objectType = objectType;
+      this.excluderUseCase = excluderUseCase;
+      this.extractor = extractor;
+      this.target = target;
+    }
+
+    public String getDescription() {
+      return description;
+    }
+
+    /**
+     * Whether the extractor of this kind would skip the schema anyway. The PL/SQL extractors
+     * filter their schema list with {@link UserExcluder} and cannot run with an empty one.
+     */
+    boolean skips(String schema) {
+      return excluderUseCase != null && UserExcluder.is2BeExclueded(schema, excluderUseCase);
+    }
+  }
+
+  /**
+   * Runs one of the existing extractors for a list of schemas.
+   */
+  @FunctionalInterface
+  interface KindExtractor {
+    List<?> extract(Connection conn, List<String> schemas) throws SQLException, IOException;
+  }
+
+  /**
+   * Notified on the worker thread after every finished task.
+   */
+  @FunctionalInterface
+  public interface ProgressListener {
+    void taskCompleted(int completedTasks, int totalTasks, String description);
+  }
+
+  /**
+   * One object kind of one schema.
+   */
+  static final class Task {
+    final Kind kind;
+    final String schema;
+    List<?> result = List.of();
+
+    Task(Kind kind, String schema) {
+      this.kind = kind;
+      this.schema = schema;
+    }
+
+    String describe() {
+      return kind.description + " of " + schema;
+    }
+  }
+
+  private final int parallelism;
+
+  public ParallelExtractor(int parallelism) {
+    this.parallelism = Math.max(1, parallelism);
+  }
+
+  /**
+   * Plans one task per kind and schema, in kind order, leaving out schemas the kind's
+   * extractor excludes.
+   */
+  static List<Task> planTasks(Set<Kind> kinds, List<String> schemas) {
+    List<Task> tasks = new ArrayList<>();
+    for (Kind kind : Kind.values()) {
+      if (!kinds.contains(kind)) {
+        continue;
+      }
+      for (String schema : schemas) {
+        if (!kind.skips(schema)) {
+          tasks.add(new Task(kind, schema));
+        }
+      }
+    }
+    return tasks;
+  }
+
+  /**
+   * Extracts the given kinds for all schemas and adds the results to the model.
+   *
+   * @throws SQLException if a task failed; nothing is added to the model in that case
+   */
+  public void extract(Everything data, Set<Kind> kinds, List<String> schemas,
+                      ConnectionPool.ConnectionFactory connectionFactory,
+                      ProgressListener listener) throws SQLException, InterruptedException {
+    List<Task> tasks = planTasks(kinds, schemas);
+    if (tasks.isEmpty()) {
+      return;
+    }
+    log.info("Extracting {} object kinds of {} schemas as {} tasks with {} Oracle connections",
+            kinds.size(), schemas.size(), tasks.size(), parallelism);
+
+    long start = System.currentTimeMillis();
+    AtomicInteger completed = new AtomicInteger(0);
+    AtomicInteger threadCounter = new AtomicInteger(0);
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+      Thread thread = new Thread(runnable, "extract-" + threadCounter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    try (ConnectionPool pool = new ConnectionPool("Oracle extraction", parallelism, connectionFactory)) {
+      ExecutorCompletionService<Task> completion = new ExecutorCompletionService<>(executor);
+      for (Task task : tasks) {
+        completion.submit(() -> {
+          runTask(pool, task);
+          listener.taskCompleted(completed.incrementAndGet(), tasks.size(), task.describe());
+          return task;
+        });
+      }
+      for (int i = 0; i < tasks.size(); i++) {
+        Future<Task> done = completion.take();
+        try {
+          done.get();
+        } catch (ExecutionException e) {
+          Throwable cause = e.getCause();
+          throw new SQLException("Parallel extraction failed: " + cause.getMessage(), cause);
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    for (Task task : tasks) {
+      merge(data, task);
+    }
+    log.info("Extracted {} tasks in {} ms", tasks.size(), System.currentTimeMillis() - start);
+  }
+
+  private void runTask(ConnectionPool pool, Task task) throws SQLException, IOException {
+    long start = System.currentTimeMillis();
+    Connection conn = pool.acquire();
+    try {
+      task.result = task.kind.extractor.extract(conn, List.of(task.schema));
+    } finally {
+      pool.release(conn);
+    }
+    log.debug("Extracted {} {} in {} ms", task.result.size(), task.describe(), System.currentTimeMillis() - start);
+  }
+
+  @SuppressWarnings("unchecked")
+  static void merge(Everything data, Task task) {
+    ((List<Object>) task.kind.target.apply(data)).addAll(task.result);
+  }
+}
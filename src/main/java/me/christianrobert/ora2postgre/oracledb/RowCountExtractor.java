@@ -7,8 +7,10 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Map;
 
 public class RowCountExtractor {
 
@@ -42,6 +44,36 @@ public class RowCountExtractor {
     }
   }
 
+  /**
+   * Calculates the row count of every table using the specified method and configuration.
+   * The result is cached in the extract phase so that the data transfer does not have to
+   * count tables again.
+   *
+   * @param conn Oracle database connection
+   * @param allSchemas whether to include all schemas or limit to specific ones
+   * @param schemaList list of specific schemas to include (used when allSchemas is false)
+   * @param config row count configuration
+   * @return row counts keyed by {@link SamplingRowCounter#tableKey(String, String)}
+   * @throws SQLException if database query fails
+   */
+  public static Map<String, Long> calculateTableRowCounts(Connection conn, boolean allSchemas,
+                                                          List<String> schemaList, RowCountConfig config) throws SQLException {
+
+    switch (config.method()) {
+      case STATISTICS_ONLY:
+        return calculateTableRowCountsByStatistics(conn, allSchemas, schemaList);
+      case EXACT_COUNT:
+        return calculateTableRowCountsExact(conn, allSchemas, schemaList, config);
+      case SAMPLING:
+        return calculateTableRowCountsBySampling(conn, allSchemas, schemaList, config);
+      case HYBRID:
+        return calculateTableRowCountsHybrid(conn, allSchemas, schemaList, config);
+      default:
+        log.warn("Unknown row count method: {}, falling back to STATISTICS_ONLY", config.method());
+        return calculateTableRowCountsByStatistics(conn, allSchemas, schemaList);
+    }
+  }
+
   /**
    * Calculates the total row count for tables in the specified schemas using statistics only.
    * Uses Oracle's all_tables view to get approximate row counts via num_rows statistics.
@@ -103,9 +135,58 @@ public class RowCountExtractor {
    */
   private static long calculateTotalRowCountExact(Connection conn, boolean allSchemas,
                                                   List<String> schemaList, RowCountConfig config) throws SQLException {
+    return sum(calculateTableRowCountsExact(conn, allSchemas, schemaList, config));
+  }
+
+  /**
+   * Calculates total row count using hybrid approach.
+   */
+  private static long calculateTotalRowCountHybrid(Connection conn, boolean allSchemas,
+                                                   List<String> schemaList, RowCountConfig config) throws SQLException {
+    return sum(calculateTableRowCountsHybrid(conn, allSchemas, schemaList, config));
+  }
+
+  /**
+   * Per-table row counts from optimizer statistics, read in one query per schema set.
+   * Tables without statistics are left out.
+   */
+  private static Map<String, Long> calculateTableRowCountsByStatistics(Connection conn, boolean allSchemas,
+                                                                       List<String> schemaList) throws SQLException {
+    List<String> schemas = schemaList;
+    if (allSchemas || schemaList.isEmpty()) {
+      schemas = getTableList(conn, allSchemas, schemaList).stream()
+              .map(table -> table.substring(0, table.indexOf('.')))
+              .distinct()
+              .toList();
+    }
+    return SamplingRowCounter.getStatisticsRowCounts(conn, schemas);
+  }
+
+  /**
+   * Per-table row counts by sampling every table.
+   */
+  private static Map<String, Long> calculateTableRowCountsBySampling(Connection conn, boolean allSchemas,
+                                                                     List<String> schemaList, RowCountConfig config) throws SQLException {
+
+    Map<String, Long> counts = new LinkedHashMap<>();
+    for (String table : getTableList(conn, allSchemas, schemaList)) {
+      String[] parts = table.split("\\.");
+      if (parts.length != 2) continue;
+
+      counts.put(SamplingRowCounter.tableKey(parts[0], parts[1]),
+              SamplingRowCounter.estimateRowCountBySampling(conn, parts[0], parts[1], config.samplingPercentage()));
+    }
+    return counts;
+  }
+
+  /**
+   * Per-table row counts using exact counting with limits.
+   */
+  private static Map<String, Long> calculateTableRowCountsExact(Connection conn, boolean allSchemas,
+                                                                List<String> schemaList, RowCountConfig config) throws SQLException {
 
     List<String> tableList = getTableList(conn, allSchemas, schemaList);
-    long totalCount = 0;
+    Map<String, Long> counts = new LinkedHashMap<>();
     int exactCountUsed = 0;
 
     for (String table : tableList) {
@@ -115,26 +196,27 @@ public class RowCountExtractor {
       String owner = parts[0];
       String tableName = parts[1];
 
+      String key = SamplingRowCounter.tableKey(owner, tableName);
       if (exactCountUsed < config.maxExactCountTables()) {
-        totalCount += SamplingRowCounter.getExactRowCount(conn, owner, tableName);
+        counts.put(key, SamplingRowCounter.getExactRowCount(conn, owner, tableName));
         exactCountUsed++;
       } else {
         // Fall back to sampling for remaining tables
-        totalCount += SamplingRowCounter.estimateRowCountBySampling(conn, owner, tableName, config.samplingPercentage());
+        counts.put(key, SamplingRowCounter.estimateRowCountBySampling(conn, owner, tableName, config.samplingPercentage()));
       }
     }
 
-    return totalCount;
+    return counts;
   }
 
   /**
-   * Calculates total row count using hybrid approach.
+   * Per-table row counts using the hybrid approach.
    */
-  private static long calculateTotalRowCountHybrid(Connection conn, boolean allSchemas,
-                                                   List<String> schemaList, RowCountConfig config) throws SQLException {
+  private static Map<String, Long> calculateTableRowCountsHybrid(Connection conn, boolean allSchemas,
+                                                                 List<String> schemaList, RowCountConfig config) throws SQLException {
 
     List<String> tableList = getTableList(conn, allSchemas, schemaList);
-    long totalCount = 0;
+    Map<String, Long> counts = new LinkedHashMap<>();
     int exactCountUsed = 0;
 
     for (String table : tableList) {
@@ -143,6 +225,7 @@ public class RowCountExtractor {
 
       String owner = parts[0];
       String tableName = parts[1];
+      String key = SamplingRowCounter.tableKey(owner, tableName);
 
       // Check statistics freshness
       StatisticsFreshness.StatisticsFreshnessInfo freshness =
@@ -150,11 +233,11 @@ public class RowCountExtractor {
 
       if (!freshness.isStale() && freshness.getNumRows() > 0) {
         // Use statistics if they're fresh
-        totalCount += freshness.getNumRows();
+        counts.put(key, freshness.getNumRows());
         log.debug("Using fresh statistics for {}.{}: {} rows", owner, tableName, freshness.getNumRows());
       } else if (exactCountUsed < config.maxExactCountTables() && freshness.getNumRows() < config.samplingThreshold()) {
         // Use exact count for small tables
-        totalCount += SamplingRowCounter.getExactRowCount(conn, owner, tableName);
+        counts.put(key, SamplingRowCounter.getExactRowCount(conn, owner, tableName));
         exactCountUsed++;
         log.debug("Using exact count for small table {}.{}", owner, tableName);
       } else {
@@ -164,12 +247,19 @@ public class RowCountExtractor {
           // Fall back to segment size estimation
           sampledCount = SamplingRowCounter.estimateRowCountBySegmentSize(conn, owner, tableName);
         }
-        totalCount += sampledCount;
+        counts.put(key, sampledCount);
         log.debug("Using sampling for {}.{}: {} rows", owner, tableName, sampledCount);
       }
     }
 
-    return totalCount;
+    return counts;
+  }
+
+  /**
+   * Sum of per-table row counts.
+   */
+  public static long sum(Map<String, Long> tableRowCounts) {
+    return tableRowCounts.values().stream().mapToLong(Long::longValue).sum();
   }
 
   /**
@@ -7,7 +7,10 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Utility class for Oracle table row counting using sampling techniques.
@@ -243,4 +246,59 @@ public class SamplingRowCounter {
     log.warn("All segment size estimation methods failed for {}.{}", owner, tableName);
     return 0;
   }
-}
\ No newline at end of file
+
+  /**
+   * Reads optimizer statistics row counts for all tables of the given schemas in a single query.
+   * Tables without usable statistics are left out of the result.
+   *
+   * @param conn Oracle database connection
+   * @param schemas schemas to read statistics for
+   * @return estimated row counts keyed by {@link #tableKey(String, String)}
+   * @throws SQLException if database query fails
+   */
+  public static Map<String, Long> getStatisticsRowCounts(Connection conn, List<String> schemas) throws SQLException {
+    Map<String, Long> rowCounts = new HashMap<>();
+    if (schemas.isEmpty()) {
+      return rowCounts;
+    }
+
+    String placeholders = String.join(",", Collections.nCopies(schemas.size(), "?"));
+    String sql = "SELECT owner, table_name, NVL(num_rows, 0), NVL(blocks, 0), NVL(avg_row_len, 0) "
+            + "FROM all_tables WHERE owner IN (" + placeholders + ")";
+
+    try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+      for (int i = 0; i < schemas.size(); i++) {
+        stmt.setString(i + 1, schemas.get(i).toUpperCase());
+      }
+
+      try (ResultSet rs = stmt.executeQuery()) {
+        while (rs.next()) {
+          long numRows = rs.getLong(3);
+          long blocks = rs.getLong(4);
+          long avgRowLen = rs.getLong(5);
+
+          long estimatedRows = 0;
+          if (numRows > 0) {
+            estimatedRows = numRows;
+          } else if (blocks > 0 && avgRowLen > 0) {
+            // Same block size assumption as estimateRowCountBySegmentSize
+            estimatedRows = (blocks * 8192 * 80 / 100) / avgRowLen;
+          }
+          if (estimatedRows > 0) {
+            rowCounts.put(tableKey(rs.getString(1), rs.getString(2)), estimatedRows);
+          }
+        }
+      }
+    }
+
+    log.debug("Read statistics row counts for {} tables in {} schemas", rowCounts.size(), schemas.size());
+    return rowCounts;
+  }
+
+  /**
+   * Key used for per-table row count maps: upper-case OWNER.TABLE_NAME.
+   */
+  public static String tableKey(String owner, String tableName) {
+    return owner.toUpperCase() + "." + tableName.toUpperCase();
+  }
+}
@@ -0,0 +1,81 @@
+package me.christianrobert.ora2postgre.oracledb;
+
+import me.christianrobert.ora2postgre.oracledb.tools.CodeCleaner;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Reads the source of all PL/SQL units of one type in a schema with a single ordered scan of
+ * ALL_SOURCE, instead of one query per unit. The lines arrive sorted by unit and line number,
+ * so each unit's text is built up while streaming and handed over as soon as the next unit starts.
+ */
+public class SourceScanner {
+
+  // ALL_SOURCE rows are single, mostly short source lines, so many of them fit in one round trip
+  static final int SOURCE_FETCH_SIZE = 2000;
+
+  private static final String SOURCE_SQL = """
+          SELECT name, text
+          FROM all_source
+          WHERE owner = ?
+            AND type = ?
+          ORDER BY owner, name, type, line
+      """;
+
+  /**
+   * Receives each complete unit, as "CREATE " followed by its source without comments.
+   */
+  @FunctionalInterface
+  public interface UnitConsumer {
+    void accept(String name, String sourceCode);
+  }
+
+  /**
+   * Scans all units of the given ALL_SOURCE type (e.g. PACKAGE BODY) in a schema. Units without
+   * source and units with '=' in their name are skipped.
+   *
+   * @param skipWrapped whether to skip units with a line containing "wrapped", whose source is obfuscated
+   */
+  public static void scan(Connection connection, String schema, String sourceType, boolean skipWrapped,
+                          UnitConsumer consumer) throws SQLException {
+    try (PreparedStatement sourceStmt = connection.prepareStatement(SOURCE_SQL)) {
+      sourceStmt.setFetchSize(SOURCE_FETCH_SIZE);
+      sourceStmt.setString(1, schema);
+      sourceStmt.setString(2, sourceType);
+
+      try (ResultSet sourceRs = sourceStmt.executeQuery()) {
+        String unitName = null;
+        StringBuilder sourceCode = new StringBuilder();
+        boolean wrapped = false;
+        while (sourceRs.next()) {
+          String name = sourceRs.getString("name");
+          if (!name.equals(unitName)) {
+            complete(unitName, sourceCode, wrapped, consumer);
+            unitName = name;
+            sourceCode.setLength(0);
+            wrapped = false;
+          }
+          String line = sourceRs.getString("text");
+          if (line != null && !wrapped) {
+            if (skipWrapped && line.toLowerCase().contains("wrapped")) {
+              wrapped = true;
+            } else {
+              sourceCode.append(line);
+            }
+          }
+        }
+        complete(unitName, sourceCode, wrapped, consumer);
+      }
+    }
+  }
+
+  private static void complete(String unitName, StringBuilder sourceCode, boolean wrapped, UnitConsumer consumer) {
+    if (unitName == null || wrapped || sourceCode.isEmpty() || unitName.contains("=")) {
+      return;
+    }
+    consumer.accept(unitName, "CREATE " + CodeCleaner.noComments(sourceCode.toString().trim()));
+  }
+}
@@ -12,6 +12,9 @@ public class TableExtractor {
 
   private static final Logger log = LoggerFactory.getLogger(TableExtractor.class);
 
+  // Dictionary rows per round trip; the driver default of 10 makes the per-schema queries chatty
+  private static final int DICTIONARY_FETCH_SIZE = 1000;
+
   public static List<TableMetadata> extractAllTables(Connection oracleConn, List<String> users) throws SQLException {
     List<TableMetadata> tableMetadataList = new ArrayList<>();
 
@@ -20,251 +23,213 @@ public class TableExtractor {
         continue;
       }
 
-      List<String> tables = fetchTableNames(oracleConn, user);
-
-      for (String table : tables) {
-        //if (table.matches("SYS_IOT_OVER_.*|BIN\\$.*|BW_STUDIUM_SEM_CFG_BAK\\$.*|DR\\$.*|MLOG\\$_.*|RUPD\\$_.*|AQ\\$.*|QUEUE_TABLE.*|ISEQ\\$\\$_.*|SYS_LOB.*|LOB\\$.*|WRI\\$_.*|SHSPACE.*|SQL\\$.*")) {
-        //  continue; // Skip internal/system tables
-        //}
-
-        // Check if table is global temporary
-        if (isGlobalTemporaryTable(oracleConn, user, table)) {
-          continue;
-        }
-
-        TableMetadata tableMetadata =
-                fetchTableMetadata(oracleConn, user, table);
-        tableMetadataList.add(tableMetadata);
-      }
-      log.info("Extracted tables from schema {}", user);
+      List<TableMetadata> tables = extractSchemaTables(oracleConn, user);
+      tableMetadataList.addAll(tables);
+      log.info("Extracted {} tables from schema {}", tables.size(), user);
     }
     return tableMetadataList;
   }
 
-  private static List<String> fetchTableNames(Connection oracleConn, String owner) throws SQLException {
-    List<String> result = new ArrayList<>();
-    String sql = "SELECT table_name FROM all_tables WHERE owner = ? ORDER BY table_name";
-
-    try (PreparedStatement ps = oracleConn.prepareStatement(sql)) {
-      ps.setString(1, owner.toUpperCase());
-      try (ResultSet rs = ps.executeQuery()) {
-        while (rs.next()) {
-          result.add(rs.getString("table_name"));
-        }
-      }
+  /**
+   * Extracts all tables of one schema with five dictionary queries, however many tables it has.
+   * Tables, columns, constraints, constraint columns and the columns referenced by foreign keys
+   * are each read for the whole schema in one streaming query and assembled in memory, instead
+   * of several round trips per table.
+   */
+  static List<TableMetadata> extractSchemaTables(Connection oracleConn, String owner) throws SQLException {
+    Map<String, TableMetadata> tables = fetchTables(oracleConn, owner);
+    if (tables.isEmpty()) {
+      return new ArrayList<>();
     }
-    return result;
+    fetchColumns(oracleConn, owner, tables);
+    fetchConstraints(oracleConn, owner, tables);
+    return new ArrayList<>(tables.values());
   }
 
-  private static boolean isGlobalTemporaryTable(Connection oracleConn, String owner, String table) throws SQLException {
-    String sql = "SELECT temporary FROM all_tables WHERE owner = ? AND table_name = ?";
-    try (PreparedStatement ps = oracleConn.prepareStatement(sql)) {
-      ps.setString(1, owner.toUpperCase());
-      ps.setString(2, table);
-      try (ResultSet rs = ps.executeQuery()) {
-        if (rs.next()) {
-          return "Y".equals(rs.getString("temporary"));
+  /**
+   * Fetches the tables of a schema by name, skipping global temporary tables.
+   */
+  private static Map<String, TableMetadata> fetchTables(Connection oracleConn, String owner) throws SQLException {
+    Map<String, TableMetadata> result = new LinkedHashMap<>();
+    String sql = "SELECT table_name, temporary FROM all_tables WHERE owner = ? ORDER BY table_name";
+
+    try (PreparedStatement ps = prepareDictionaryQuery(oracleConn, sql, owner);
+         ResultSet rs = ps.executeQuery()) {
+      while (rs.next()) {
+        String table = rs.getString("table_name");
+        //if (table.matches("SYS_IOT_OVER_.*|BIN\\$.*|BW_STUDIUM_SEM_CFG_BAK\\$.*|DR\\$.*|MLOG\\$_.*|RUPD\\$_.*|AQ\\$.*|QUEUE_TABLE.*|ISEQ\\$\\$_.*|SYS_LOB.*|LOB\\$.*|WRI\\$_.*|SHSPACE.*|SQL\\$.*")) {
+        //  continue; // Skip internal/system tables
+        //}
+        if ("Y".equals(rs.getString("temporary"))) {
+          continue;
         }
+        result.put(table, new TableMetadata(owner, table));
       }
     }
-    return false;
+    return result;
   }
 
-  private static TableMetadata fetchTableMetadata(Connection oracleConn, String owner, String table) throws SQLException {
-    TableMetadata tableMetadata = new TableMetadata(owner, table);
-
-    // Fetch column metadata (exclude hidden, virtual, and system-generated columns)
-    String columnSql = "SELECT column_name, data_type, char_length, data_precision, data_scale, nullable, data_default " +
-            "FROM all_tab_cols WHERE owner = ? AND table_name = ? " +
+  private static void fetchColumns(Connection oracleConn, String owner, Map<String, TableMetadata> tables) throws SQLException {
+    // Exclude hidden, virtual, and system-generated columns; all_tab_cols also lists view columns
+    String columnSql = "SELECT table_name, column_name, data_type, char_length, data_precision, data_scale, nullable, data_default " +
+            "FROM all_tab_cols WHERE owner = ? " +
             "AND hidden_column = 'NO' AND virtual_column = 'NO' AND user_generated = 'YES' " +
-            "ORDER BY column_id";
-    try (PreparedStatement ps = oracleConn.prepareStatement(columnSql)) {
-      ps.setString(1, owner.toUpperCase());
-      ps.setString(2, table);
-      try (ResultSet rs = ps.executeQuery()) {
-        while (rs.next()) {
-          String columnName = rs.getString("column_name");
-          String dataType = rs.getString("data_type");
-          Integer charLength = rs.getInt("char_length");
-          if (rs.wasNull()) charLength = null;
-          Integer precision = rs.getInt("data_precision");
-          if (rs.wasNull()) precision = null;
-          Integer scale = rs.getInt("data_scale");
-          if (rs.wasNull()) scale = null;
-          boolean nullable = "Y".equals(rs.getString("nullable"));
-          String defaultValue = rs.getString("data_default");
-          if (defaultValue != null) {
-            defaultValue = defaultValue.trim();
-          }
-
-          ColumnMetadata column = new ColumnMetadata(columnName, dataType, charLength, precision, scale, nullable, defaultValue);
-          tableMetadata.addColumn(column);
+            "ORDER BY table_name, column_id";
+    try (PreparedStatement ps = prepareDictionaryQuery(oracleConn, columnSql, owner);
+         ResultSet rs = ps.executeQuery()) {
+      while (rs.next()) {
+        TableMetadata tableMetadata = tables.get(rs.getString("table_name"));
+        if (tableMetadata == null) {
+          continue;
         }
+        String columnName = rs.getString("column_name");
+        String dataType = rs.getString("data_type");
+        Integer charLength = rs.getInt("char_length");
+        if (rs.wasNull()) charLength = null;
+        Integer precision = rs.getInt("data_precision");
+        if (rs.wasNull()) precision = null;
+        Integer scale = rs.getInt("data_scale");
+        if (rs.wasNull()) scale = null;
+        boolean nullable = "Y".equals(rs.getString("nullable"));
+        String defaultValue = rs.getString("data_default");
+        if (defaultValue != null) {
+          defaultValue = defaultValue.trim();
+        }
+
+        ColumnMetadata column = new ColumnMetadata(columnName, dataType, charLength, precision, scale, nullable, defaultValue);
+        tableMetadata.addColumn(column);
       }
     }
-
-    // Fetch all constraints (PRIMARY KEY, FOREIGN KEY, UNIQUE, CHECK)
-    fetchConstraints(oracleConn, owner, table, tableMetadata);
-
-    return tableMetadata;
   }
 
   /**
-   * Fetches all constraints for a table including PRIMARY KEY, FOREIGN KEY, UNIQUE, and CHECK constraints.
-   * 
+   * Fetches all constraints of the schema's tables including PRIMARY KEY, FOREIGN KEY, UNIQUE, and CHECK constraints.
+   *
    * @param oracleConn Oracle database connection
    * @param owner Schema owner (Oracle user)
-   * @param table Table name
-   * @param tableMetadata TableMetadata object to add constraints to
+   * @param tables Tables of the schema by name, to add constraints to
    * @throws SQLException if database operations fail
    */
-  private static void fetchConstraints(Connection oracleConn, String owner, String table, 
-                                     TableMetadata tableMetadata) throws SQLException {
-    // Enhanced SQL to fetch comprehensive constraint metadata
-    String constraintSql = "SELECT ac.constraint_name, ac.constraint_type, ac.status, " +
+  private static void fetchConstraints(Connection oracleConn, String owner,
+                                       Map<String, TableMetadata> tables) throws SQLException {
+    Map<String, List<String>> constraintColumns = fetchColumnLists(oracleConn, owner,
+            "SELECT constraint_name, column_name FROM all_cons_columns " +
+            "WHERE owner = ? ORDER BY constraint_name, position");
+    // Foreign keys may reference tables of other schemas
+    Map<String, List<String>> referencedColumns = fetchColumnLists(oracleConn, owner,
+            "SELECT ac.constraint_name, rcc.column_name FROM all_constraints ac " +
+            "JOIN all_cons_columns rcc ON rcc.owner = ac.r_owner AND rcc.constraint_name = ac.r_constraint_name " +
+            "WHERE ac.owner = ? AND ac.constraint_type = 'R' " +
+            "ORDER BY ac.constraint_name, rcc.position");
+
+    // Comprehensive constraint metadata, with the referenced table of foreign keys joined in
+    String constraintSql = "SELECT ac.table_name, ac.constraint_name, ac.constraint_type, ac.status, " +
             "ac.deferrable, ac.deferred, ac.validated, ac.index_name, " +
-            "ac.search_condition, ac.r_owner, ac.r_constraint_name, ac.delete_rule " +
+            "ac.search_condition, ac.r_owner, ac.r_constraint_name, ac.delete_rule, " +
+            "rc.table_name AS r_table_name " +
             "FROM all_constraints ac " +
-            "WHERE ac.owner = ? AND ac.table_name = ? " +
+            "LEFT JOIN all_constraints rc ON rc.owner = ac.r_owner AND rc.constraint_name = ac.r_constraint_name " +
+            "WHERE ac.owner = ? " +
             "AND ac.constraint_type IN ('P', 'R', 'U', 'C') " +
-            "ORDER BY ac.constraint_type, ac.constraint_name";
+            "ORDER BY ac.table_name, ac.constraint_type, ac.constraint_name";
 
-    try (PreparedStatement ps = oracleConn.prepareStatement(constraintSql)) {
-      ps.setString(1, owner.toUpperCase());
-      ps.setString(2, table);
-      
-      try (ResultSet rs = ps.executeQuery()) {
-        while (rs.next()) {
-          String constraintName = rs.getString("constraint_name");
-          String constraintType = rs.getString("constraint_type");
-          String status = rs.getString("status");
-          String deferrable = rs.getString("deferrable");
-          String deferred = rs.getString("deferred");
-          String validated = rs.getString("validated");
-          String indexName = rs.getString("index_name");
-          String searchCondition = rs.getString("search_condition");
-          String referencedOwner = rs.getString("r_owner");
-          String referencedConstraintName = rs.getString("r_constraint_name");
-          String deleteRule = rs.getString("delete_rule");
-
-          // Create constraint metadata based on type
-          ConstraintMetadata constraint;
-          if ("R".equals(constraintType) && referencedOwner != null && referencedConstraintName != null) {
-            // Foreign key constraint - need to resolve referenced table
-            String[] referencedTableInfo = resolveReferencedTable(oracleConn, referencedOwner, referencedConstraintName);
-            if (referencedTableInfo != null) {
-              constraint = new ConstraintMetadata(constraintName, constraintType, 
-                                                referencedOwner, referencedTableInfo[0]);
-            } else {
-              log.warn("Could not resolve referenced table for foreign key constraint {}.{}", 
-                      owner, constraintName);
-              continue;
-            }
+    try (PreparedStatement ps = prepareDictionaryQuery(oracleConn, constraintSql, owner);
+         ResultSet rs = ps.executeQuery()) {
+      while (rs.next()) {
+        TableMetadata tableMetadata = tables.get(rs.getString("table_name"));
+        if (tableMetadata == null) {
+          continue;
+        }
+        String constraintName = rs.getString("constraint_name");
+        String constraintType = rs.getString("constraint_type");
+        String status = rs.getString("status");
+        String deferrable = rs.getString("deferrable");
+        String deferred = rs.getString("deferred");
+        String validated = rs.getString("validated");
+        String indexName = rs.getString("index_name");
+        String searchCondition = rs.getString("search_condition");
+        String referencedOwner = rs.getString("r_owner");
+        String referencedConstraintName = rs.getString("r_constraint_name");
+        String deleteRule = rs.getString("delete_rule");
+        String referencedTable = rs.getString("r_table_name");
+
+        // Create constraint metadata based on type
+        ConstraintMetadata constraint;
+        boolean foreignKey = "R".equals(constraintType) && referencedOwner != null && referencedConstraintName != null;
+        if (foreignKey) {
+          if (referencedTable != null) {
+            constraint = new ConstraintMetadata(constraintName, constraintType,
+                                              referencedOwner, referencedTable);
           } else {
-            constraint = new ConstraintMetadata(constraintName, constraintType);
+            log.warn("Could not resolve referenced table for foreign key constraint {}.{}",
+                    owner, constraintName);
+            continue;
           }
+        } else {
+          constraint = new ConstraintMetadata(constraintName, constraintType);
+        }
 
-          // Set constraint properties
-          constraint.setStatus(status);
-          constraint.setDeferrable("DEFERRABLE".equals(deferrable));
-          constraint.setInitiallyDeferred("DEFERRED".equals(deferred));
-          constraint.setValidated("VALIDATED".equals(validated));
-          constraint.setIndexName(indexName);
-          
-          if ("R".equals(constraintType)) {
-            constraint.setDeleteRule(deleteRule);
-            // Note: Oracle doesn't have separate update rules in all_constraints
-            // Update rules are typically the same as delete rules or NO ACTION
-          }
-          
-          if ("C".equals(constraintType)) {
-            constraint.setCheckCondition(searchCondition);
-          }
+        // Set constraint properties
+        constraint.setStatus(status);
+        constraint.setDeferrable("DEFERRABLE".equals(deferrable));
+        constraint.setInitiallyDeferred("DEFERRED".equals(deferred));
+        constraint.setValidated("VALIDATED".equals(validated));
+        constraint.setIndexName(indexName);
+
+        if ("R".equals(constraintType)) {
+          constraint.setDeleteRule(deleteRule);
+          // Note: Oracle doesn't have separate update rules in all_constraints
+          // Update rules are typically the same as delete rules or NO ACTION
+        }
 
-          // Fetch columns for this constraint
-          fetchConstraintColumns(oracleConn, owner, table, constraintName, constraint);
-          
-          // For foreign keys, fetch referenced columns
-          if ("R".equals(constraintType) && referencedOwner != null && referencedConstraintName != null) {
-            fetchReferencedColumns(oracleConn, referencedOwner, referencedConstraintName, constraint);
-          }
+        if ("C".equals(constraintType)) {
+          constraint.setCheckCondition(searchCondition);
+        }
 
-          // Add constraint to table metadata if it's valid
-          if (constraint.isValid()) {
-            tableMetadata.addConstraint(constraint);
-          } else {
-            log.warn("Skipping invalid constraint: {}", constraint);
+        for (String column : constraintColumns.getOrDefault(constraintName, List.of())) {
+          constraint.addColumnName(column);
+        }
+        if (foreignKey) {
+          for (String column : referencedColumns.getOrDefault(constraintName, List.of())) {
+            constraint.addReferencedColumnName(column);
           }
         }
-      }
-    }
-  }
 
-  /**
-   * Fetches columns for a specific constraint.
-   */
-  private static void fetchConstraintColumns(Connection oracleConn, String owner, String table, 
-                                           String constraintName, ConstraintMetadata constraint) throws SQLException {
-    String consColsSql = "SELECT column_name FROM all_cons_columns " +
-            "WHERE owner = ? AND table_name = ? AND constraint_name = ? ORDER BY position";
-    
-    try (PreparedStatement psCols = oracleConn.prepareStatement(consColsSql)) {
-      psCols.setString(1, owner.toUpperCase());
-      psCols.setString(2, table);
-      psCols.setString(3, constraintName);
-      
-      try (ResultSet rsCols = psCols.executeQuery()) {
-        while (rsCols.next()) {
-          constraint.addColumnName(rsCols.getString("column_name"));
+        // Add constraint to table metadata if it's valid
+        if (constraint.isValid()) {
+          tableMetadata.addConstraint(constraint);
+        } else {
+          log.warn("Skipping invalid constraint: {}", constraint);
         }
       }
     }
   }
 
   /**
-   * Resolves the referenced table name and schema for a foreign key constraint.
-   * 
-   * @param oracleConn Oracle database connection
-   * @param referencedOwner Schema of the referenced constraint
-   * @param referencedConstraintName Name of the referenced constraint (typically primary key)
-   * @return Array containing [tableName, schemaName] or null if not found
+   * Reads (constraint_name, column_name) rows ordered by position into column lists per constraint.
+   * Constraint names are unique within a schema.
    */
-  private static String[] resolveReferencedTable(Connection oracleConn, String referencedOwner, 
-                                               String referencedConstraintName) throws SQLException {
-    String sql = "SELECT table_name FROM all_constraints " +
-            "WHERE owner = ? AND constraint_name = ?";
-    
-    try (PreparedStatement ps = oracleConn.prepareStatement(sql)) {
-      ps.setString(1, referencedOwner.toUpperCase());
-      ps.setString(2, referencedConstraintName);
-      
-      try (ResultSet rs = ps.executeQuery()) {
-        if (rs.next()) {
-          String tableName = rs.getString("table_name");
-          return new String[]{tableName, referencedOwner};
-        }
+  private static Map<String, List<String>> fetchColumnLists(Connection oracleConn, String owner, String sql) throws SQLException {
+    Map<String, List<String>> result = new HashMap<>();
+    try (PreparedStatement ps = prepareDictionaryQuery(oracleConn, sql, owner);
+         ResultSet rs = ps.executeQuery()) {
+      while (rs.next()) {
+        result.computeIfAbsent(rs.getString("constraint_name"), name -> new ArrayList<>())
+                .add(rs.getString("column_name"));
       }
     }
-    return null;
+    return result;
   }
 
-  /**
-   * Fetches the referenced columns for a foreign key constraint.
-   */
-  private static void fetchReferencedColumns(Connection oracleConn, String referencedOwner, 
-                                           String referencedConstraintName, ConstraintMetadata constraint) throws SQLException {
-    String sql = "SELECT column_name FROM all_cons_columns " +
-            "WHERE owner = ? AND constraint_name = ? ORDER BY position";
-    
-    try (PreparedStatement ps = oracleConn.prepareStatement(sql)) {
-      ps.setString(1, referencedOwner.toUpperCase());
-      ps.setString(2, referencedConstraintName);
-      
-      try (ResultSet rs = ps.executeQuery()) {
-        while (rs.next()) {
-          constraint.addReferencedColumnName(rs.getString("column_name"));
-        }
-      }
+  private static PreparedStatement prepareDictionaryQuery(Connection oracleConn, String sql, String owner) throws SQLException {
+    PreparedStatement ps = oracleConn.prepareStatement(sql);
+    try {
+      ps.setFetchSize(DICTIONARY_FETCH_SIZE);
+      ps.setString(1, owner.toUpperCase());
+    } catch (SQLException e) {
+      ps.close();
+      throw e;
     }
+    return ps;
   }
-}
\ No newline at end of file
+}
@@ -17,6 +17,9 @@ public class TriggerExtractor {
 
   private static final Logger log = LoggerFactory.getLogger(TriggerExtractor.class);
 
+  // Rows per round trip when the driver can prefetch; it may fetch LONG trigger bodies row by row
+  private static final int TRIGGER_FETCH_SIZE = 500;
+
   /**
    * Extracts PL/SQL code for all triggers in the specified schemas from an Oracle database.
    * Converts trigger metadata to PlsqlCode objects for further AST processing.
@@ -39,7 +42,7 @@ public class TriggerExtractor {
       for (TriggerMetadata trigger : triggers) {
         // Convert trigger metadata to PlsqlCode for AST processing
         String fullTriggerCode = buildFullTriggerCode(trigger);
-        PlsqlCode triggerCode = new PlsqlCode(trigger.getSchema(), fullTriggerCode);
+        PlsqlCode triggerCode = new PlsqlCode(trigger.getSchema(), trigger.getTriggerName(), fullTriggerCode);
         triggerPlsqlList.add(triggerCode);
       }
       
@@ -61,47 +64,10 @@ public class TriggerExtractor {
   public static List<TriggerMetadata> extractTriggersForSchema(Connection oracleConn, String owner) throws SQLException {
     List<TriggerMetadata> triggerMetadataList = new ArrayList<>();
 
-    List<String> triggerNames = fetchTriggerNames(oracleConn, owner);
-
-    for (String triggerName : triggerNames) {
-      // Skip system triggers
-      if (triggerName.matches("SYS_.*|BIN\\$.*")) {
-        continue;
-      }
-
-      TriggerMetadata triggerMetadata = fetchTriggerMetadata(oracleConn, owner, triggerName);
-      triggerMetadataList.add(triggerMetadata);
-    }
-
-    return triggerMetadataList;
-  }
-
-  /**
-   * Fetches trigger names for a given schema from all_triggers.
-   */
-  private static List<String> fetchTriggerNames(Connection oracleConn, String owner) throws SQLException {
-    List<String> result = new ArrayList<>();
-    String sql = "SELECT trigger_name FROM all_triggers WHERE owner = ? ORDER BY trigger_name";
-
-    try (PreparedStatement ps = oracleConn.prepareStatement(sql)) {
-      ps.setString(1, owner.toUpperCase());
-      try (ResultSet rs = ps.executeQuery()) {
-        while (rs.next()) {
-          result.add(rs.getString("trigger_name"));
-        }
-      }
-    }
-    return result;
-  }
-
-  /**
-   * Fetches metadata for a single trigger, including all trigger properties and source code.
-   */
-  private static TriggerMetadata fetchTriggerMetadata(Connection oracleConn, String owner, String triggerName) throws SQLException {
-    TriggerMetadata triggerMetadata = new TriggerMetadata(owner, triggerName);
-
+    // All triggers of the schema in one query; trigger_body is a LONG and read last
     String sql = """
-        SELECT 
+        SELECT
+          trigger_name,
           trigger_type,
           triggering_event,
           table_name,
@@ -109,29 +75,38 @@ public class TriggerExtractor {
           status,
           description,
           trigger_body
-        FROM all_triggers 
-        WHERE owner = ? AND trigger_name = ?
+        FROM all_triggers
+        WHERE owner = ?
+        ORDER BY trigger_name
         """;
 
     try (PreparedStatement ps = oracleConn.prepareStatement(sql)) {
+      ps.setFetchSize(TRIGGER_FETCH_SIZE);
       ps.setString(1, owner.toUpperCase());
-      ps.setString(2, triggerName);
       try (ResultSet rs = ps.executeQuery()) {
-        if (rs.next()) {
+        while (rs.next()) {
+          String triggerName = rs.getString("trigger_name");
+          // Skip system triggers
+          if (triggerName.matches("SYS_.*|BIN\\$.*")) {
+            continue;
+          }
+
+          TriggerMetadata triggerMetadata = new TriggerMetadata(owner, triggerName);
           triggerMetadata.setTriggerType(rs.getString("trigger_type"));
           triggerMetadata.setTriggeringEvent(rs.getString("triggering_event"));
           triggerMetadata.setTableName(rs.getString("table_name"));
           triggerMetadata.setTableOwner(rs.getString("table_owner"));
           triggerMetadata.setStatus(rs.getString("status"));
           triggerMetadata.setDescription(rs.getString("description"));
-          
+
           String triggerBody = rs.getString("trigger_body");
           triggerMetadata.setTriggerBody(triggerBody != null ? triggerBody.trim() : "");
+          triggerMetadataList.add(triggerMetadata);
         }
       }
     }
 
-    return triggerMetadata;
+    return triggerMetadataList;
   }
 
   /**
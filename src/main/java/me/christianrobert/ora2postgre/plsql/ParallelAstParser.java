@@ -0,0 +1,217 @@
+package me.christianrobert.ora2postgre.plsql;
+
+import me.christianrobert.ora2postgre.global.PlsqlCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Parses PL/SQL units concurrently on a fixed pool of threads.
+ *
+ * ANTLR parsing is CPU-bound, and every unit gets its own lexer, parser and AST builder in
+ * {@link PlSqlAstMain}, so units can be parsed on all cores independently. Results are returned
+ * in the order of the units, whichever finished first, so the AST lists look the same as after
+ * a sequential run. A unit that fails to parse is left out and recorded as a {@link Failure};
+ * the other units are not affected. After an incremental extraction, {@link #parseChanged} parses
+ * only the changed units and keeps the ASTs of the others.
+ */
+public class ParallelAstParser implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(ParallelAstParser.class);
+
+  // Longest unit description or error message kept in a failure
+  private static final int MAX_TEXT_LENGTH = 200;
+
+  /**
+   * Parses one unit; runs on a pool thread.
+   */
+  @FunctionalInterface
+  public interface UnitParser<S, T> {
+    T parse(S unit) throws Exception;
+  }
+
+  /**
+   * A unit that could not be parsed.
+   */
+  public static class Failure {
+    private final String kind;
+    private final String unit;
+    private final String message;
+
+    Failure(String kind, String unit, String message) {
+      this.kind = kind;
+      this.unit = unit;
+      this.message = message;
+    }
+
+    public String getKind() { return kind; }
+    public String getUnit() { return unit; }
+    public String getMessage() { return message; }
+
+    @Override
+    public String toString() {
+      return kind + " " + unit + ": " + message;
+    }
+  }
+
+  private final int parallelism;
+  private final ExecutorService executor;
+  private final List<Failure> failures = new ArrayList<>();
+
+  /**
+   * @param parallelism number of parsing threads; 0 or less uses one per available processor
+   */
+  public ParallelAstParser(int parallelism) {
+    this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    AtomicInteger threadCounter = new AtomicInteger(0);
+    this.executor = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+      Thread thread = new Thread(runnable, "parse-" + threadCounter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Units that failed in any {@link #parseAll} call so far, in unit order per call.
+   */
+  public List<Failure> getFailures() {
+    return failures;
+  }
+
+  /**
+   * Parses all units and returns the results of the successful ones in unit order.
+   *
+   * @param kind what the units are, e.g. "package body", for logging and failures
+   * @param describe identifies a unit in failures
+   */
+  public <S, T> List<T> parseAll(String kind, List<S> units, Function<S, String> describe,
+                                 UnitParser<S, T> parser) throws InterruptedException {
+    List<T> results = new ArrayList<>(units.size());
+    parseEach(kind, units, describe, parser, (index, result) -> results.add(result));
+    return results;
+  }
+
+  /**
+   * Parses the units whose key is in {@code changed} and keeps the previous results of the
+   * others. Afterwards {@code results} holds the results of all units in unit order, as after
+   * {@link #parseAll}. Units without a key or without a previous result, e.g. because they
+   * failed to parse before, are parsed as well; previous results without a unit are dropped.
+   *
+   * @param unitKey key of a unit in {@code changed}, or null if not known
+   * @param results results of the previous parse, replaced by the new ones
+   * @param resultKey key of a previous result, comparable to {@code unitKey}
+   * @param changed keys of the changed units; null parses all units
+   */
+  public <S, T> void parseChanged(String kind, List<S> units, Function<S, String> unitKey,
+                                  List<T> results, Function<T, String> resultKey, Set<String> changed,
+                                  Function<S, String> describe, UnitParser<S, T> parser) throws InterruptedException {
+    if (changed == null) {
+      List<T> parsed = parseAll(kind, units, describe, parser);
+      results.clear();
+      results.addAll(parsed);
+      return;
+    }
+
+    Map<String, T> previous = new HashMap<>();
+    for (T result : results) {
+      String key = resultKey.apply(result);
+      if (key != null) {
+        previous.put(key, result);
+      }
+    }
+
+    // Results by unit position; positions without an entry failed to parse
+    Map<Integer, T> merged = new HashMap<>();
+    List<Integer> positions = new ArrayList<>();
+    List<S> toParse = new ArrayList<>();
+    for (int i = 0; i < units.size(); i++) {
+      String key = unitKey.apply(units.get(i));
+      if (key == null || changed.contains(key) || !previous.containsKey(key)) {
+        positions.add(i);
+        toParse.add(units.get(i));
+      } else {
+        merged.put(i, previous.get(key));
+      }
+    }
+    int kept = merged.size();
+    parseEach(kind, toParse, describe, parser, (index, result) -> merged.put(positions.get(index), result));
+
+    results.clear();
+    for (int i = 0; i < units.size(); i++) {
+      if (merged.containsKey(i)) {
+        results.add(merged.get(i));
+      }
+    }
+    log.info("Kept {} unchanged {} units", kept, kind);
+  }
+
+  /**
+   * Parses the units and passes each successful result with the position of its unit to the
+   * consumer, in unit order.
+   */
+  private <S, T> void parseEach(String kind, List<S> units, Function<S, String> describe,
+                                UnitParser<S, T> parser, BiConsumer<Integer, T> consumer) throws InterruptedException {
+    long start = System.currentTimeMillis();
+    List<Future<T>> futures = new ArrayList<>(units.size());
+    for (S unit : units) {
+      futures.add(executor.submit(() -> parser.parse(unit)));
+    }
+
+    int parsed = 0;
+    try {
+      for (int i = 0; i < futures.size(); i++) {
+        try {
+          consumer.accept(i, futures.get(i).get());
+          parsed++;
+        } catch (ExecutionException e) {
+          Throwable cause = e.getCause();
+          Failure failure = new Failure(kind, abbreviate(describe.apply(units.get(i))),
+                  abbreviate(cause.getClass().getSimpleName() + ": " + cause.getMessage()));
+          failures.add(failure);
+          log.error("Failed to parse {}", failure, cause);
+        }
+      }
+    } catch (InterruptedException e) {
+      futures.forEach(future -> future.cancel(true));
+      throw e;
+    }
+
+    log.info("Parsed {} of {} {} units in {} ms with {} threads", parsed, units.size(), kind,
+            System.currentTimeMillis() - start, parallelism);
+  }
+
+  /**
+   * Identifies a PL/SQL unit by its schema and the start of its code, e.g.
+   * "HR: CREATE PACKAGE BODY pkg_a AS".
+   */
+  public static String describe(PlsqlCode code) {
+    String source = code.code == null ? "" : code.code.strip();
+    int lineEnd = source.indexOf('\n');
+    return code.schema + ": " + (lineEnd < 0 ? source : source.substring(0, lineEnd).strip());
+  }
+
+  private static String abbreviate(String text) {
+    return text.length() <= MAX_TEXT_LENGTH ? text : text.substring(0, MAX_TEXT_LENGTH) + "...";
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,19 @@
+package me.christianrobert.ora2postgre.plsql;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration properties for parsing the extracted PL/SQL into ASTs.
+ */
+@ConfigMapping(prefix = "parse")
+public interface ParseConfig {
+
+  /**
+   * Number of threads parsing PL/SQL units concurrently.
+   * 0 uses one thread per available processor, 1 parses one unit at a time.
+   * @return the parse parallelism
+   */
+  @WithDefault("0")
+  int parallelism();
+}
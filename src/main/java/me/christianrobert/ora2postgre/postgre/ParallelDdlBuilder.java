@@ -0,0 +1,395 @@
+package me.christianrobert.ora2postgre.postgre;
+
+import me.christianrobert.ora2postgre.global.ConnectionPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Builds the indexes and constraints of the generated project (step8constraints and
+ * step6indexes) after the data load, several tables at a time.
+ *
+ * Statements are grouped by the table they alter. The statements of one table run one after
+ * the other on one pooled connection, in the order PRIMARY KEY → UNIQUE → CHECK → indexes,
+ * while other tables are built on the other connections. Foreign keys follow once all keys
+ * exist: each is added NOT VALID, which only takes a short lock and does not scan the table,
+ * then the constraints are validated in parallel per table, which scans without blocking
+ * writes. Statements whose table cannot be determined could conflict with any chain, so they
+ * run one after the other once all chains are done. As in the sequential execution, a failing
+ * statement is logged and the build goes on.
+ */
+public class ParallelDdlBuilder {
+
+  private static final Logger logger = LoggerFactory.getLogger(ParallelDdlBuilder.class);
+
+  public static final String PHASE_KEYS_AND_INDEXES = "Build keys and indexes";
+  public static final String PHASE_ADD_FOREIGN_KEYS = "Add foreign keys NOT VALID";
+  public static final String PHASE_VALIDATE_FOREIGN_KEYS = "Validate foreign keys";
+
+  private static final Pattern ALTER_TABLE = Pattern.compile(
+          "(?is)^ALTER\\s+TABLE\\s+(?:ONLY\\s+)?(\\S+)\\s.*");
+  private static final Pattern CREATE_INDEX = Pattern.compile(
+          "(?is)^CREATE\\s+(?:UNIQUE\\s+)?INDEX\\s+(?:CONCURRENTLY\\s+)?(?:IF\\s+NOT\\s+EXISTS\\s+)?\\S+\\s+ON\\s+(?:ONLY\\s+)?([^\\s(]+).*");
+  private static final Pattern LEADING_COMMENT_LINES = Pattern.compile("^(?:\\s*--[^\\n]*(?:\\n|$))+");
+  private static final Pattern ADD_FOREIGN_KEY = Pattern.compile(
+          "(?is)^ALTER\\s+TABLE\\s+(?:ONLY\\s+)?(\\S+)\\s+ADD\\s+CONSTRAINT\\s+(\\S+)\\s+FOREIGN\\s+KEY\\b.*");
+
+  /**
+   * Chain key of statements whose table could not be determined.
+   */
+  static final String UNKNOWN_TABLE = "";
+
+  /**
+   * Statement kinds in the order they are built for one table.
+   */
+  enum Kind {
+    PRIMARY_KEY,
+    UNIQUE,
+    CHECK,
+    INDEX,
+    FOREIGN_KEY
+  }
+
+  /**
+   * One statement from a generated file.
+   */
+  static final class DdlStatement {
+    final Kind kind;
+    final String table;
+    final String sql;
+    final Path source;
+
+    DdlStatement(Kind kind, String table, String sql, Path source) {
+      this.kind = kind;
+      this.table = table;
+      this.sql = sql;
+      this.source = source;
+    }
+
+    @Override
+    public String toString() {
+      return kind + " on " + table + " from " + source.getFileName();
+    }
+  }
+
+  private final int parallelism;
+
+  /**
+   * @param parallelism number of connections statements run on at the same time
+   */
+  public ParallelDdlBuilder(int parallelism) {
+    this.parallelism = Math.max(1, parallelism);
+  }
+
+  /**
+   * Builds all indexes and constraints found below the base directory.
+   */
+  public BuildSummary build(Path baseDir, ConnectionPool.ConnectionFactory connectionFactory)
+          throws IOException, InterruptedException {
+    List<DdlStatement> statements = collectStatements(baseDir);
+    Map<String, List<DdlStatement>> tableChains = planTableChains(statements, false);
+    Map<String, List<DdlStatement>> foreignKeysByTable = planTableChains(statements, true);
+    BuildSummary summary = new BuildSummary();
+    logger.info("Building {} indexes and constraints on {} tables with {} connections",
+            statements.size(), tableChains.size(), parallelism);
+
+    AtomicInteger threadCounter = new AtomicInteger(0);
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+      Thread thread = new Thread(runnable, "ddl-build-" + threadCounter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    try (ConnectionPool pool = new ConnectionPool("PostgreSQL DDL", parallelism, connectionFactory)) {
+      long start = System.currentTimeMillis();
+      List<DdlStatement> unknownTable = tableChains.remove(UNKNOWN_TABLE);
+      runChains(executor, pool, tableChains.values(), summary, false);
+      if (unknownTable != null) {
+        runChains(executor, pool, List.of(unknownTable), summary, false);
+      }
+      summary.phaseTimings.put(PHASE_KEYS_AND_INDEXES, System.currentTimeMillis() - start);
+
+      if (!foreignKeysByTable.isEmpty()) {
+        // Adding NOT VALID foreign keys only touches the catalog; one connection avoids lock waits
+        start = System.currentTimeMillis();
+        List<DdlStatement> foreignKeys = new ArrayList<>();
+        foreignKeysByTable.values().forEach(foreignKeys::addAll);
+        runChains(executor, pool, List.of(foreignKeys), summary, false);
+        summary.phaseTimings.put(PHASE_ADD_FOREIGN_KEYS, System.currentTimeMillis() - start);
+
+        start = System.currentTimeMillis();
+        runChains(executor, pool, foreignKeysByTable.values(), summary, true);
+        summary.phaseTimings.put(PHASE_VALIDATE_FOREIGN_KEYS, System.currentTimeMillis() - start);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    logger.info("{}", summary);
+    return summary;
+  }
+
+  /**
+   * Reads the statements of all constraint and index files below the base directory,
+   * in file name order.
+   */
+  static List<DdlStatement> collectStatements(Path baseDir) throws IOException {
+    List<Path> files;
+    try (Stream<Path> walk = Files.walk(baseDir)) {
+      files = walk.filter(Files::isRegularFile)
+              .filter(path -> path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".sql"))
+              .sorted(Comparator.comparing(Path::toString))
+              .toList();
+    }
+
+    List<DdlStatement> statements = new ArrayList<>();
+    for (Path file : files) {
+      Kind kind = kindOf(file);
+      if (kind == null) {
+        continue;
+      }
+      for (String sql : splitStatements(Files.readString(file))) {
+        String table = tableOf(sql);
+        if (table == null) {
+          logger.warn("Could not determine the table of a statement in {}, running it after all other "
+                  + "keys and indexes", file);
+          table = UNKNOWN_TABLE;
+        }
+        statements.add(new DdlStatement(kind, table, sql, file));
+      }
+    }
+    return statements;
+  }
+
+  /**
+   * Groups statements into per-table chains in build order, largest chain first.
+   *
+   * @param foreignKeys true for the foreign keys, false for all other statements
+   */
+  static Map<String, List<DdlStatement>> planTableChains(List<DdlStatement> statements, boolean foreignKeys) {
+    Map<String, List<DdlStatement>> chains = new LinkedHashMap<>();
+    for (DdlStatement statement : statements) {
+      if ((statement.kind == Kind.FOREIGN_KEY) == foreignKeys) {
+        chains.computeIfAbsent(statement.table, table -> new ArrayList<>()).add(statement);
+      }
+    }
+    chains.values().forEach(chain -> chain.sort(Comparator.comparing(statement -> statement.kind)));
+
+    List<Map.Entry<String, List<DdlStatement>>> ordered = new ArrayList<>(chains.entrySet());
+    ordered.sort(Comparator.comparingInt((Map.Entry<String, List<DdlStatement>> e) -> e.getValue().size()).reversed());
+    Map<String, List<DdlStatement>> result = new LinkedHashMap<>();
+    ordered.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+    return result;
+  }
+
+  private void runChains(ExecutorService executor, ConnectionPool pool,
+                         Collection<List<DdlStatement>> chains, BuildSummary summary, boolean validate)
+          throws InterruptedException {
+    List<Future<?>> futures = new ArrayList<>();
+    for (List<DdlStatement> chain : chains) {
+      futures.add(executor.submit(() -> runChain(pool, chain, summary, validate)));
+    }
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (ExecutionException e) {
+        logger.error("DDL build worker terminated unexpectedly: {}", e.getCause().getMessage(), e.getCause());
+      }
+    }
+  }
+
+  private void runChain(ConnectionPool pool, List<DdlStatement> chain, BuildSummary summary,
+                        boolean validate) {
+    Connection conn = null;
+    try {
+      conn = pool.acquire();
+      for (DdlStatement statement : chain) {
+        if (Thread.currentThread().isInterrupted()) {
+          return;
+        }
+        if (validate) {
+          String validateSql = validateStatement(statement.sql);
+          if (validateSql != null && summary.isAdded(statement)) {
+            execute(conn, statement, validateSql, summary, true);
+          }
+        } else {
+          String sql = statement.kind == Kind.FOREIGN_KEY ? notValid(statement.sql) : statement.sql;
+          if (execute(conn, statement, sql, summary, false) && statement.kind == Kind.FOREIGN_KEY) {
+            summary.markAdded(statement);
+          }
+        }
+      }
+    } catch (SQLException e) {
+      logger.error("Could not obtain a connection to build {}: {}", chain.get(0).table, e.getMessage());
+      chain.forEach(statement -> summary.recordFailure(statement, e.getMessage()));
+    } finally {
+      pool.release(conn);
+    }
+  }
+
+  private boolean execute(Connection conn, DdlStatement statement, String sql, BuildSummary summary,
+                          boolean validation) {
+    long start = System.currentTimeMillis();
+    try (Statement stmt = conn.createStatement()) {
+      stmt.execute(sql);
+      if (!conn.getAutoCommit()) {
+        conn.commit();
+      }
+      summary.executed.incrementAndGet();
+      logger.debug("Executed {} in {} ms", statement, System.currentTimeMillis() - start);
+      return true;
+    } catch (SQLException e) {
+      try {
+        if (!conn.getAutoCommit()) {
+          conn.rollback();
+        }
+      } catch (SQLException rollbackException) {
+        logger.debug("Rollback failed: {}", rollbackException.getMessage());
+      }
+      if (validation) {
+        logger.error("Existing data violates {} - it stays NOT VALID until the data is fixed and "
+                + "VALIDATE CONSTRAINT succeeds: {}", statement, e.getMessage());
+        summary.notValidated.add(statement.source.getFileName().toString());
+      } else {
+        logger.error("Failed to execute {}: {}", statement, e.getMessage());
+      }
+      summary.recordFailure(statement, e.getMessage());
+      return false;
+    }
+  }
+
+  /**
+   * Splits a file into statements the same way {@link PostgresExecuter#executeSQLFile} does, so
+   * that both executions run the same statements. Leading comment lines and the closing
+   * semicolon are removed, so that the table can be found and NOT VALID appended; comment-only
+   * parts are dropped.
+   */
+  static List<String> splitStatements(String sql) {
+    List<String> statements = new ArrayList<>();
+    for (String statement : PostgresExecuter.splitStatements(sql)) {
+      statement = LEADING_COMMENT_LINES.matcher(statement).replaceFirst("").trim();
+      while (statement.endsWith(";")) {
+        statement = statement.substring(0, statement.length() - 1).trim();
+      }
+      if (!statement.isEmpty()) {
+        statements.add(statement);
+      }
+    }
+    return statements;
+  }
+
+  /**
+   * The table an ALTER TABLE or CREATE INDEX statement works on, lower-cased and without
+   * quotes so that both spellings of a table group together, or null.
+   */
+  static String tableOf(String sql) {
+    Matcher matcher = ALTER_TABLE.matcher(sql);
+    if (!matcher.matches()) {
+      matcher = CREATE_INDEX.matcher(sql);
+      if (!matcher.matches()) {
+        return null;
+      }
+    }
+    return matcher.group(1).replace("\"", "").toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * The foreign key statement with NOT VALID, so that adding it does not scan the table.
+   */
+  static String notValid(String sql) {
+    if (!ADD_FOREIGN_KEY.matcher(sql).matches() || sql.toUpperCase(Locale.ROOT).contains("NOT VALID")) {
+      return sql;
+    }
+    return sql + " NOT VALID";
+  }
+
+  /**
+   * VALIDATE CONSTRAINT statement for a foreign key statement, or null if it cannot be parsed.
+   */
+  static String validateStatement(String sql) {
+    Matcher matcher = ADD_FOREIGN_KEY.matcher(sql);
+    if (!matcher.matches()) {
+      return null;
+    }
+    return "ALTER TABLE " + matcher.group(1) + " VALIDATE CONSTRAINT " + matcher.group(2);
+  }
+
+  private static Kind kindOf(Path file) {
+    String path = file.toString().toLowerCase(Locale.ROOT);
+    if (path.contains("step8constraints")) {
+      String directory = file.getParent().getFileName().toString().toLowerCase(Locale.ROOT);
+      return switch (directory) {
+        case "primary_keys" -> Kind.PRIMARY_KEY;
+        case "unique_constraints" -> Kind.UNIQUE;
+        case "check_constraints" -> Kind.CHECK;
+        case "foreign_keys" -> Kind.FOREIGN_KEY;
+        default -> null;
+      };
+    }
+    return path.contains("step6indexes") ? Kind.INDEX : null;
+  }
+
+  /**
+   * Outcome of a parallel build.
+   */
+  public static class BuildSummary {
+    private final AtomicInteger executed = new AtomicInteger();
+    private final List<String> failures = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> notValidated = Collections.synchronizedList(new ArrayList<>());
+    private final Map<DdlStatement, Boolean> addedForeignKeys = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Map<String, Long> phaseTimings = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    public int getExecutedCount() { return executed.get(); }
+    public List<String> getFailures() { return new ArrayList<>(failures); }
+    public List<String> getNotValidatedForeignKeys() { return new ArrayList<>(notValidated); }
+
+    /**
+     * Milliseconds per build phase, in execution order.
+     */
+    public Map<String, Long> getPhaseTimings() {
+      synchronized (phaseTimings) {
+        return new LinkedHashMap<>(phaseTimings);
+      }
+    }
+
+    private void recordFailure(DdlStatement statement, String message) {
+      failures.add(statement + ": " + message);
+    }
+
+    private void markAdded(DdlStatement statement) {
+      addedForeignKeys.put(statement, Boolean.TRUE);
+    }
+
+    private boolean isAdded(DdlStatement statement) {
+      return addedForeignKeys.containsKey(statement);
+    }
+
+    @Override
+    public String toString() {
+      return String.format("Index and constraint build: %d statements executed, %d failed, %d foreign keys not validated, %s",
+              executed.get(), failures.size(), notValidated.size(), getPhaseTimings());
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package me.christianrobert.ora2postgre.postgre;
 
+import me.christianrobert.ora2postgre.global.ConnectionPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,6 +14,7 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class PostgresExecuter {
   
@@ -27,6 +29,11 @@ public class PostgresExecuter {
     POST_TRANSFER_TRIGGERS  // Execute triggers after indexes are created
   }
 
+  // Constraint subdirectories of step8constraints in dependency order. Foreign keys are added
+  // separately after the indexes, see executeForeignKeys.
+  private static final String[] KEY_CONSTRAINTS = {"primary_keys", "unique_constraints", "check_constraints"};
+  private static final String[] FOREIGN_KEY_CONSTRAINTS = {"foreign_keys"};
+
   public static void executeAllSqlFiles(
           String mainBaseDir,
           Connection postgresConn,
@@ -97,13 +104,58 @@ public class PostgresExecuter {
       // Special handling for constraint directories in POST_TRANSFER_CONSTRAINTS phase
       if (phase == ExecutionPhase.POST_TRANSFER_CONSTRAINTS && "step8constraints".equals(dirName)) {
         logger.info("Executing constraints with dependency ordering for: {}", subDir);
-        executeConstraintsInOrder(subDir, postgresConn);
+        executeConstraintsInOrder(subDir, postgresConn, KEY_CONSTRAINTS);
       } else {
         executeDirectoryRecursively(subDir, postgresConn, priorityNames, excludeList, phase);
       }
     }
   }
 
+  /**
+   * Builds the indexes and constraints of all schemas below the base directory on several
+   * connections at once, replacing the POST_TRANSFER_CONSTRAINTS and POST_TRANSFER_INDEXES
+   * phases. See {@link ParallelDdlBuilder} for the ordering.
+   *
+   * @param connectionFactory opens the PostgreSQL connections the statements run on
+   * @param parallelism number of connections used at the same time
+   */
+  public static ParallelDdlBuilder.BuildSummary executeIndexesAndConstraintsInParallel(
+          String mainBaseDir,
+          ConnectionPool.ConnectionFactory connectionFactory,
+          int parallelism
+  ) throws Exception {
+    Path mainBasePath = Paths.get(mainBaseDir);
+    if (!Files.exists(mainBasePath) || !Files.isDirectory(mainBasePath)) {
+      throw new IllegalArgumentException("Invalid base directory: " + mainBaseDir);
+    }
+
+    return new ParallelDdlBuilder(parallelism).build(mainBasePath, connectionFactory);
+  }
+
+  /**
+   * Adds the foreign keys of all schemas below the base directory. Runs after the
+   * POST_TRANSFER_CONSTRAINTS and POST_TRANSFER_INDEXES phases, so that the sequential
+   * execution builds in the same order as {@link ParallelDdlBuilder}:
+   * PRIMARY KEY → UNIQUE → CHECK → indexes → FOREIGN KEY.
+   */
+  public static void executeForeignKeys(String mainBaseDir, Connection postgresConn) throws Exception {
+    Path mainBasePath = Paths.get(mainBaseDir);
+    if (!Files.exists(mainBasePath) || !Files.isDirectory(mainBasePath)) {
+      throw new IllegalArgumentException("Invalid base directory: " + mainBaseDir);
+    }
+
+    List<Path> constraintDirectories;
+    try (Stream<Path> walk = Files.walk(mainBasePath)) {
+      constraintDirectories = walk.filter(Files::isDirectory)
+              .filter(dir -> "step8constraints".equals(dir.getFileName().toString()))
+              .sorted(Comparator.comparing(dir -> dir.toString().toLowerCase()))
+              .toList();
+    }
+    for (Path constraintDirectory : constraintDirectories) {
+      executeConstraintsInOrder(constraintDirectory, postgresConn, FOREIGN_KEY_CONSTRAINTS);
+    }
+  }
+
   /**
    * Unified file execution detection method that handles both filename and path-based detection.
    * This prevents duplicate file execution by using a single detection method.
@@ -119,14 +171,18 @@ public class PostgresExecuter {
     boolean isConstraintFile = isConstraintFileByPath(filePath);
     boolean isIndexFile = isIndexFileByPath(filePath);
     
+    // Indexes, keys and triggers are only built once the data is in, even if a file name
+    // (e.g. pk_mytable.sql) happens to match a pre-transfer pattern
+    boolean isPostTransferOnly = isTriggerFile || isConstraintFile || isIndexFile;
+
     switch (phase) {
       case PRE_TRANSFER_TYPES:
         // Execute types only
-        return upperFileName.endsWith("SCHEMA.SQL")
-                || upperFileName.endsWith("OBJECTTYPESPEC.SQL");
+        return !isPostTransferOnly
+                && (upperFileName.endsWith("SCHEMA.SQL") || upperFileName.endsWith("OBJECTTYPESPEC.SQL"));
       case PRE_TRANSFER_TABLES:
         // Execute table files only
-        return upperFileName.endsWith("TABLE.SQL");
+        return !isPostTransferOnly && upperFileName.endsWith("TABLE.SQL");
       case POST_TRANSFER:
         // Execute all other files after data transfer (excluding schema, table, constraint, index, and trigger files)
         return !upperFileName.endsWith("SCHEMA.SQL")
@@ -213,6 +269,12 @@ public class PostgresExecuter {
    * @throws Exception if execution fails
    */
   public static void executeConstraintsInOrder(Path directory, Connection postgresConn) throws Exception {
+    executeConstraintsInOrder(directory, postgresConn,
+            new String[]{"primary_keys", "unique_constraints", "check_constraints", "foreign_keys"});
+  }
+
+  private static void executeConstraintsInOrder(Path directory, Connection postgresConn, String[] constraintOrder)
+          throws Exception {
     if (!Files.exists(directory) || !Files.isDirectory(directory)) {
       logger.debug("Constraint directory not found: {}", directory);
       return;
@@ -221,8 +283,6 @@ public class PostgresExecuter {
     logger.info("Executing constraints in dependency order from: {}", directory);
 
     // Execute constraints in dependency order
-    String[] constraintOrder = {"primary_keys", "unique_constraints", "check_constraints", "foreign_keys"};
-    
     for (String constraintType : constraintOrder) {
       Path constraintDir = directory.resolve(constraintType);
       if (Files.exists(constraintDir) && Files.isDirectory(constraintDir)) {
@@ -234,7 +294,7 @@ public class PostgresExecuter {
       }
     }
 
-    logger.info("All constraints executed successfully");
+    logger.info("Constraints {} executed successfully", String.join(", ", constraintOrder));
   }
 
   /**
@@ -299,39 +359,55 @@ public class PostgresExecuter {
 
     // Read entire file as one string
     String sql = Files.readString(sqlFilePath);
-    String[] statements = sql.split("(?m)^;\\n");
+    List<String> statements = splitStatements(sql);
 
     try (Statement stmt = connection.createStatement()) {
-      for (int i = 0; i < statements.length; i++) {
-        String statement = statements[i].trim();
-        if (!statement.isEmpty()) {
-          String statementPreview = statement.substring(0, Math.min(200, statement.length())).replace("\n", " ");
-          logger.debug("Executing statement {}/{}: {}", i + 1, statements.length, statementPreview);
-          
-          try {
-            stmt.execute(statement);
-          } catch (SQLException e) {
-            // Log comprehensive error context for system logs monitoring
-            logger.error("SQL execution failed in file: {}", sqlFilePath, e);
-            logger.error("Failed statement {}/{}: {}", i + 1, statements.length, statementPreview);
-            logger.error("SQL Error Code: {}, SQL State: {}", e.getErrorCode(), e.getSQLState());
-            
-            // Re-throw to fail fast instead of continuing with broken state
-            throw new SQLException(
-              String.format("SQL execution failed in file '%s' at statement %d/%d: %s", 
-                sqlFilePath, i + 1, statements.length, e.getMessage()), 
-              e.getSQLState(), 
-              e.getErrorCode(), 
-              e
-            );
-          }
+      for (int i = 0; i < statements.size(); i++) {
+        String statement = statements.get(i);
+        String statementPreview = statement.substring(0, Math.min(200, statement.length())).replace("\n", " ");
+        logger.debug("Executing statement {}/{}: {}", i + 1, statements.size(), statementPreview);
+
+        try {
+          stmt.execute(statement);
+        } catch (SQLException e) {
+          // Log comprehensive error context for system logs monitoring
+          logger.error("SQL execution failed in file: {}", sqlFilePath, e);
+          logger.error("Failed statement {}/{}: {}", i + 1, statements.size(), statementPreview);
+          logger.error("SQL Error Code: {}, SQL State: {}", e.getErrorCode(), e.getSQLState());
+
+          // Re-throw to fail fast instead of continuing with broken state
+          throw new SQLException(
+            String.format("SQL execution failed in file '%s' at statement %d/%d: %s",
+              sqlFilePath, i + 1, statements.size(), e.getMessage()),
+            e.getSQLState(),
+            e.getErrorCode(),
+            e
+          );
         }
       }
-      logger.info("Successfully executed {} statements from file: {}", statements.length, sqlFilePath);
+      logger.info("Successfully executed {} statements from file: {}", statements.size(), sqlFilePath);
     } catch (Exception e) {
       // Log any other unexpected errors with full context
       logger.error("Unexpected error executing SQL file: {}", sqlFilePath, e);
       throw e;
     }
   }
+
+  /**
+   * Splits the content of a generated SQL file into its statements. The generators end each
+   * statement that may contain semicolons itself (view queries, function bodies) with a line
+   * holding only a semicolon, so the file is split at these lines only.
+   *
+   * @return the trimmed, non-empty statements in file order
+   */
+  public static List<String> splitStatements(String sql) {
+    List<String> statements = new ArrayList<>();
+    for (String statement : sql.split("(?m)^;\\n")) {
+      statement = statement.trim();
+      if (!statement.isEmpty()) {
+        statements.add(statement);
+      }
+    }
+    return statements;
+  }
 }
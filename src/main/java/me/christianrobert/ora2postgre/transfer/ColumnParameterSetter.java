@@ -0,0 +1,18 @@
+package me.christianrobert.ora2postgre.transfer;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Reads one column from the current Oracle result set row and sets it as a
+ * PostgreSQL statement parameter.
+ *
+ * Instances are resolved once per column by {@link ParameterSetter#forColumn},
+ * so the Oracle type is not inspected again for every row.
+ */
+@FunctionalInterface
+public interface ColumnParameterSetter {
+
+  void set(PreparedStatement stmt, int paramIndex, ResultSet rs, int columnIndex) throws SQLException;
+}
@@ -2,10 +2,20 @@ package me.christianrobert.ora2postgre.transfer;
 
 import me.christianrobert.ora2postgre.global.Everything;
 import me.christianrobert.ora2postgre.global.Config;
+import me.christianrobert.ora2postgre.global.ConnectionPool;
 import me.christianrobert.ora2postgre.oracledb.TableMetadata;
-import me.christianrobert.ora2postgre.oracledb.RowCountConfig;
 import me.christianrobert.ora2postgre.oracledb.SamplingRowCounter;
+import me.christianrobert.ora2postgre.transfer.bulkload.BulkLoadTuning;
+import me.christianrobert.ora2postgre.transfer.checkpoint.TableCheckpoint;
+import me.christianrobert.ora2postgre.transfer.checkpoint.TransferCheckpointStore;
+import me.christianrobert.ora2postgre.transfer.chunk.ChunkedTableTransfer;
+import me.christianrobert.ora2postgre.transfer.delta.DeltaMode;
+import me.christianrobert.ora2postgre.transfer.delta.DeltaSyncReport;
+import me.christianrobert.ora2postgre.transfer.delta.DeltaSyncService;
+import me.christianrobert.ora2postgre.transfer.delta.DeltaWatermarkStore;
+import me.christianrobert.ora2postgre.transfer.strategy.ChunkedTransferStrategy;
 import me.christianrobert.ora2postgre.transfer.strategy.ObjectTypeMappingStrategy;
+import me.christianrobert.ora2postgre.transfer.strategy.StrategyOptions;
 import me.christianrobert.ora2postgre.transfer.strategy.StreamingCsvStrategy;
 import me.christianrobert.ora2postgre.transfer.strategy.TransferStrategy;
 import me.christianrobert.ora2postgre.transfer.progress.TransferProgress;
@@ -15,9 +25,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Main orchestrator for data transfer operations between Oracle and PostgreSQL.
@@ -25,6 +48,12 @@ import java.util.UUID;
  * Responsibilities:
  * - Analyze tables and select appropriate transfer strategies
  * - Coordinate transfer operations with progress tracking  
+ * - Run several tables in parallel over connection pools when configured
+ * - Split very large tables into chunks copied on separate connections
+ * - Checkpoint completed tables and chunks in PostgreSQL so that a failed run can be resumed
+ * - Read all tables at one Oracle SCN for a consistent snapshot of an online source
+ * - Apply bulk-load session settings and optionally load into UNLOGGED tables
+ * - Record delta watermarks and apply rows changed after the bulk load (delta sync)
  * - Handle fallback to legacy SQL generation for complex tables
  * - Provide detailed transfer results and error reporting
  */
@@ -32,8 +61,28 @@ public class DataTransferService {
 
   private static final Logger log = LoggerFactory.getLogger(DataTransferService.class);
 
+  public static final String PHASE_SET_UNLOGGED = "Switch tables to UNLOGGED";
+  public static final String PHASE_LOAD = "Load data";
+  public static final String PHASE_SET_LOGGED = "Switch tables to LOGGED";
+
   private final List<TransferStrategy> availableStrategies;
   private final boolean enableFallback;
+  private final int parallelWorkers;
+  private final boolean chunkingEnabled;
+  private final long chunkMinRows;
+  private final int chunksPerTable;
+  private final int chunkParallelism;
+  private final TransferCheckpointStore checkpointStore;
+  private final boolean resume;
+  private final DeltaSyncService deltaSync;
+  private final boolean recordDeltaWatermarks;
+  private final TransferSnapshot snapshot = new TransferSnapshot();
+  private final boolean consistentSnapshot;
+  private final Long configuredScn;
+  private final BulkLoadTuning bulkLoad;
+  private final Map<String, Long> phaseTimings = Collections.synchronizedMap(new LinkedHashMap<>());
+  private final Object callbackLock = new Object();
+  private volatile TransferProgress currentProgress;
 
   /**
    * Callback interface for reporting data transfer progress.
@@ -63,8 +112,45 @@ public class DataTransferService {
   }
 
   public DataTransferService(boolean enableFallback) {
+    this(enableFallback, null);
+  }
+
+  public DataTransferService(boolean enableFallback, TransferConfig transferConfig) {
+    this(enableFallback, transferConfig, false);
+  }
+
+  /**
+   * @param resume skip tables and chunks that a previous run completed; implies checkpointing
+   */
+  public DataTransferService(boolean enableFallback, TransferConfig transferConfig, boolean resume) {
     this.enableFallback = enableFallback;
-    this.availableStrategies = initializeStrategies();
+    this.resume = resume;
+    boolean checkpointing = resume || (transferConfig != null && transferConfig.checkpoint().enabled());
+    this.checkpointStore = checkpointing ? new TransferCheckpointStore(transferConfig != null ?
+            transferConfig.checkpoint().table() : TransferCheckpointStore.DEFAULT_CONTROL_TABLE) : null;
+    this.deltaSync = createDeltaSync(transferConfig);
+    this.recordDeltaWatermarks = transferConfig != null && transferConfig.delta().enabled();
+    this.configuredScn = transferConfig != null ? transferConfig.snapshot().scn().orElse(null) : null;
+    this.consistentSnapshot = configuredScn != null || (transferConfig != null && transferConfig.snapshot().enabled());
+    BulkLoadTuning tuning = BulkLoadTuning.of(transferConfig);
+    if (tuning.usesUnloggedTables() && checkpointStore != null) {
+      log.warn("Loading into UNLOGGED tables is disabled while checkpointing: a crash would empty tables "
+              + "that the checkpoints report as complete");
+      tuning = tuning.withoutUnloggedTables();
+    }
+    this.bulkLoad = tuning;
+    this.parallelWorkers = transferConfig != null ? Math.max(1, transferConfig.parallelWorkers()) : 1;
+    this.chunkMinRows = transferConfig != null ? transferConfig.chunking().minRows() : Long.MAX_VALUE;
+    boolean chunking = transferConfig != null && transferConfig.chunking().enabled();
+    if (!chunking && checkpointStore != null && transferConfig != null) {
+      // An unchunked table is loaded in one transaction, which a retry starts over from the first row
+      log.info("Checkpoints are enabled: tables from {} rows are transferred in checkpointed chunks", chunkMinRows);
+      chunking = true;
+    }
+    this.chunkingEnabled = chunking;
+    this.chunksPerTable = transferConfig != null ? transferConfig.chunking().chunksPerTable() : 1;
+    this.chunkParallelism = transferConfig != null ? Math.max(1, transferConfig.chunking().parallelism()) : 1;
+    this.availableStrategies = initializeStrategies(StrategyOptions.of(transferConfig), snapshot);
   }
 
   /**
@@ -88,6 +174,10 @@ public class DataTransferService {
   /**
    * Transfers data for all provided tables from Oracle to PostgreSQL with progress callback.
    *
+   * With checkpoints each table is loaded in one transaction, so a failed table is copied again
+   * from its first row. Use {@link #transferTablesParallel} when {@link #usesConnectionPools()}
+   * to resume large tables chunk by chunk.
+   *
    * @param tables List of table metadata to transfer
    * @param oracleConn Active Oracle database connection
    * @param postgresConn Active PostgreSQL database connection
@@ -107,103 +197,679 @@ public class DataTransferService {
     log.info("Starting data transfer session {} for {} tables", sessionId, tables.size());
 
     TransferProgress progress = new TransferProgress(sessionId);
-    long totalEstimatedRows = estimateTotalRows(tables);
+    currentProgress = progress;
+    long totalEstimatedRows = estimateTotalRows(tables, everything);
     progress.initializeTransfer(tables.size(), totalEstimatedRows);
 
+    if (checkpointStore != null) {
+      try {
+        checkpointStore.ensureControlTable(postgresConn);
+      } catch (SQLException e) {
+        return failAllTables(sessionId, tables, progress, "Checkpoint control table not available", e);
+      }
+    }
+
+    try {
+      pinSnapshot(oracleConn, postgresConn);
+    } catch (SQLException e) {
+      return failAllTables(sessionId, tables, progress, "Snapshot SCN could not be pinned", e);
+    }
+
+    if (recordDeltaWatermarks) {
+      recordDeltaBaseline(tables, oracleConn, postgresConn);
+    }
+
+    phaseTimings.clear();
+    List<TableMetadata> unloggedTables = switchToUnlogged(tables, postgresConn);
     List<TransferResult> results = new ArrayList<>();
+    long loadStart = System.currentTimeMillis();
+    try {
+      // Process each table
+      for (int tableIndex = 0; tableIndex < tables.size(); tableIndex++) {
+        TableMetadata table = tables.get(tableIndex);
+        String fullTableName = table.getSchema() + "." + table.getTableName();
+
+        // Notify progress callback that we're starting this table
+        notifyTableStart(progressCallback, tableIndex, tables.size(), fullTableName);
+
+        TransferResult result;
+        if (checkpointStore == null) {
+          result = transferSingleTable(table, oracleConn, postgresConn, progress, everything);
+        } else {
+          result = transferCheckpointed(table, oracleConn, postgresConn, progress, everything);
+        }
+        results.add(result);
+
+        // Notify progress callback of completion
+        notifyTableComplete(progressCallback, tableIndex, tables.size(), fullTableName, result);
+      }
+    } finally {
+      phaseTimings.put(PHASE_LOAD, System.currentTimeMillis() - loadStart);
+      switchToLogged(unloggedTables, postgresConn);
+    }
+
+    // All tables should now be handled by proper strategies
+    // If any failures occurred, they are captured in the results list
+
+    log.info("Data transfer session {} completed. Processed {} tables", sessionId, results.size());
+
+    return new DataTransferResults(sessionId, results, progress, snapshot.getScn());
+  }
+
+  /**
+   * Transfers data for all provided tables using several workers in parallel.
+   *
+   * Each worker takes the next table from a shared queue, borrows one connection from each pool,
+   * and copies the table with the same strategy selection as the sequential mode. Tables are
+   * scheduled largest first (by optimizer statistics) so the biggest tables do not end up
+   * running alone at the end. When chunking is enabled, tables above the configured size are
+   * split into ranges copied concurrently on further pooled connections.
+   * Results are returned in the order of the input list.
+   *
+   * @param tables List of table metadata to transfer
+   * @param oraclePool Pool providing Oracle connections, sized at least to the worker count
+   * @param postgresPool Pool providing PostgreSQL connections, sized at least to the worker count
+   * @param everything The Everything context for object type and metadata lookups (may be null)
+   * @param config The Config object for configuration settings (may be null)
+   * @param progressCallback Optional callback for progress updates (may be null); calls are serialized
+   * @return DataTransferResults containing success status and detailed results for each table
+   */
+  public DataTransferResults transferTablesParallel(List<TableMetadata> tables,
+                                                    ConnectionPool oraclePool,
+                                                    ConnectionPool postgresPool,
+                                                    Everything everything,
+                                                    Config config,
+                                                    ProgressCallback progressCallback) {
+
+    String sessionId = UUID.randomUUID().toString().substring(0, 8);
+    int workerCount = Math.max(1, Math.min(parallelWorkers, tables.size()));
+    log.info("Starting parallel data transfer session {} for {} tables with {} workers",
+            sessionId, tables.size(), workerCount);
+
+    long[] estimates = estimateRowsForScheduling(tables, oraclePool, everything);
+    TransferProgress progress = new TransferProgress(sessionId);
+    currentProgress = progress;
+    progress.initializeTransfer(tables.size(), Arrays.stream(estimates).sum());
+
+    if (checkpointStore != null) {
+      Connection conn = null;
+      try {
+        conn = postgresPool.acquire();
+        checkpointStore.ensureControlTable(conn);
+      } catch (SQLException e) {
+        return failAllTables(sessionId, tables, progress, "Checkpoint control table not available", e);
+      } finally {
+        postgresPool.release(conn);
+      }
+    }
+
+    if (consistentSnapshot || recordDeltaWatermarks) {
+      Connection oracleConn = null;
+      Connection postgresConn = null;
+      try {
+        oracleConn = oraclePool.acquire();
+        postgresConn = postgresPool.acquire();
+        pinSnapshot(oracleConn, postgresConn);
+        if (recordDeltaWatermarks) {
+          recordDeltaBaseline(tables, oracleConn, postgresConn);
+        }
+      } catch (SQLException e) {
+        return failAllTables(sessionId, tables, progress, "Snapshot SCN could not be pinned", e);
+      } finally {
+        oraclePool.release(oracleConn);
+        postgresPool.release(postgresConn);
+      }
+    }
+
+    phaseTimings.clear();
+    List<TableMetadata> unloggedTables = List.of();
+    if (bulkLoad.usesUnloggedTables()) {
+      Connection conn = null;
+      try {
+        conn = postgresPool.acquire();
+        unloggedTables = switchToUnlogged(tables, conn);
+      } catch (SQLException e) {
+        log.warn("Could not obtain a connection to switch tables to UNLOGGED: {}", e.getMessage());
+      } finally {
+        postgresPool.release(conn);
+      }
+    }
+    long loadStart = System.currentTimeMillis();
+
+    Queue<Integer> pendingTables = new ConcurrentLinkedQueue<>(orderLargestFirst(estimates));
+    TransferResult[] results = new TransferResult[tables.size()];
+    AtomicInteger startedTables = new AtomicInteger(0);
+    AtomicInteger completedTables = new AtomicInteger(0);
+    ChunkedTableTransfer chunkedTransfer = chunkingEnabled ?
+            new ChunkedTableTransfer(oraclePool, postgresPool, chunksPerTable, chunkParallelism, checkpointStore,
+                    snapshot) : null;
+
+    AtomicInteger threadCounter = new AtomicInteger(0);
+    ExecutorService executor = Executors.newFixedThreadPool(workerCount, runnable -> {
+      Thread thread = new Thread(runnable, "transfer-" + sessionId + "-" + threadCounter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    List<Future<?>> workers = new ArrayList<>();
+    try {
+      for (int workerId = 1; workerId <= workerCount; workerId++) {
+        TransferProgress workerProgress = progress.createWorkerProgress(workerId);
+        workers.add(executor.submit(() -> runTransferWorker(tables, estimates, pendingTables, results,
+                oraclePool, postgresPool, chunkedTransfer, workerProgress, everything, progressCallback,
+                startedTables, completedTables)));
+      }
 
-    // Process each table
+      for (Future<?> worker : workers) {
+        try {
+          worker.get();
+        } catch (ExecutionException e) {
+          log.error("Transfer worker terminated unexpectedly: {}", e.getCause().getMessage(), e.getCause());
+        }
+      }
+    } catch (InterruptedException e) {
+      log.warn("Parallel data transfer session {} interrupted", sessionId);
+      workers.forEach(worker -> worker.cancel(true));
+      Thread.currentThread().interrupt();
+    } finally {
+      executor.shutdownNow();
+      phaseTimings.put(PHASE_LOAD, System.currentTimeMillis() - loadStart);
+      switchToLoggedPooled(unloggedTables, postgresPool);
+    }
+
+    List<TransferResult> orderedResults = new ArrayList<>();
     for (int tableIndex = 0; tableIndex < tables.size(); tableIndex++) {
+      TransferResult result = results[tableIndex];
+      if (result == null) {
+        TableMetadata table = tables.get(tableIndex);
+        result = TransferResult.failure(table.getSchema(), table.getTableName(), "Not Started",
+                "Table was not transferred because the parallel transfer was interrupted", null);
+      }
+      orderedResults.add(result);
+    }
+
+    log.info("Parallel data transfer session {} completed. Processed {} tables", sessionId, orderedResults.size());
+
+    return new DataTransferResults(sessionId, orderedResults, progress, snapshot.getScn());
+  }
+
+  /**
+   * Copies the rows changed in Oracle since the watermarks recorded by the last transfer or
+   * sync into PostgreSQL, and deletes rows removed in Oracle.
+   *
+   * @param tables List of table metadata to sync
+   * @param oracleConn Active Oracle database connection
+   * @param postgresConn Active PostgreSQL database connection
+   * @return DeltaSyncReport with the applied changes per table
+   */
+  public DeltaSyncReport syncChanges(List<TableMetadata> tables, Connection oracleConn,
+                                     Connection postgresConn) throws SQLException {
+    return deltaSync.syncTables(tables, oracleConn, postgresConn);
+  }
+
+  public int getParallelWorkers() {
+    return parallelWorkers;
+  }
+
+  /**
+   * Whether transfers should run over connection pools via
+   * {@link #transferTablesParallel}, i.e. parallel workers or chunking are configured.
+   * Checkpoints enable chunking, so that large tables resume per chunk.
+   */
+  public boolean usesConnectionPools() {
+    return parallelWorkers > 1 || chunkingEnabled;
+  }
+
+  /**
+   * Bulk-load tuning to apply to every PostgreSQL connection the transfer uses.
+   */
+  public BulkLoadTuning getBulkLoadTuning() {
+    return bulkLoad;
+  }
+
+  /**
+   * Progress of the running or last transfer session, or null before the first one. Includes
+   * the fetch/encode/send breakdown per table and per worker while the session runs.
+   */
+  public TransferProgress getCurrentProgress() {
+    return currentProgress;
+  }
+
+  /**
+   * Milliseconds spent in the phases of the last transfer session, in execution order.
+   */
+  public Map<String, Long> getPhaseTimings() {
+    synchronized (phaseTimings) {
+      return new LinkedHashMap<>(phaseTimings);
+    }
+  }
+
+  /**
+   * Connections per database needed so that all workers and the chunks of one table
+   * can run at the same time. The worker coordinating a chunked table holds no connection itself.
+   */
+  public int getRequiredConnectionCount() {
+    return chunkingEnabled ? parallelWorkers - 1 + chunkParallelism : parallelWorkers;
+  }
+
+  /**
+   * Worker loop for the parallel mode: takes tables from the shared queue until it is empty.
+   */
+  private void runTransferWorker(List<TableMetadata> tables,
+                                 long[] estimates,
+                                 Queue<Integer> pendingTables,
+                                 TransferResult[] results,
+                                 ConnectionPool oraclePool,
+                                 ConnectionPool postgresPool,
+                                 ChunkedTableTransfer chunkedTransfer,
+                                 TransferProgress workerProgress,
+                                 Everything everything,
+                                 ProgressCallback progressCallback,
+                                 AtomicInteger startedTables,
+                                 AtomicInteger completedTables) {
+    Integer tableIndex;
+    while ((tableIndex = pendingTables.poll()) != null && !Thread.currentThread().isInterrupted()) {
       TableMetadata table = tables.get(tableIndex);
       String fullTableName = table.getSchema() + "." + table.getTableName();
 
-      // Notify progress callback that we're starting this table
-      if (progressCallback != null) {
-        progressCallback.onTableStart(tableIndex, tables.size(), fullTableName);
+      notifyTableStart(progressCallback, startedTables.getAndIncrement(), tables.size(), fullTableName);
+
+      TransferResult result = transferWithPools(table, estimates[tableIndex], oraclePool, postgresPool,
+              chunkedTransfer, workerProgress, everything);
+
+      if (!result.isSuccessful()) {
+        workerProgress.abandonCurrentTable();
       }
+      results[tableIndex] = result;
+
+      notifyTableComplete(progressCallback, completedTables.getAndIncrement(), tables.size(), fullTableName, result);
+    }
+  }
 
+  /**
+   * Transfers one table for a parallel worker, either in chunks or over a single borrowed connection pair.
+   */
+  private TransferResult transferWithPools(TableMetadata table,
+                                           long estimatedRows,
+                                           ConnectionPool oraclePool,
+                                           ConnectionPool postgresPool,
+                                           ChunkedTableTransfer chunkedTransfer,
+                                           TransferProgress workerProgress,
+                                           Everything everything) {
+    TableCheckpoint checkpoint = TableCheckpoint.empty();
+    if (checkpointStore != null && resume) {
+      Connection conn = null;
       try {
-        // Use enhanced analysis if Everything context is available
-        String analysis = everything != null ?
-                TableAnalyzer.analyzeTableWithObjectTypes(table, everything) :
-                TableAnalyzer.analyzeTable(table);
-        log.info("Analyzing table: {}", analysis);
-
-        TransferStrategy strategy = selectStrategy(table, everything);
-        if (strategy != null) {
-          log.info("Using {} strategy for {}.{}",
-                  strategy.getStrategyName(), table.getSchema(), table.getTableName());
-
-          TransferResult result = strategy.transferTable(table, oracleConn, postgresConn, progress, everything);
-          results.add(result);
-
-          // Notify progress callback of completion
-          if (progressCallback != null) {
-            progressCallback.onTableComplete(tableIndex, tables.size(), fullTableName,
-                    result.isSuccessful(), result.getRowsTransferred());
-          }
+        conn = postgresPool.acquire();
+        checkpoint = checkpointStore.load(conn, table.getSchema(), table.getTableName());
+      } catch (SQLException e) {
+        return TransferResult.failure(table.getSchema(), table.getTableName(), "Unknown",
+                "Could not read transfer checkpoint: " + e.getMessage(), e);
+      } finally {
+        postgresPool.release(conn);
+      }
+      if (checkpoint.isTableCompleted()) {
+        return skipCompletedTable(table, checkpoint, workerProgress);
+      }
+    }
 
-          if (result.isSuccessful()) {
-            log.info("Transfer completed: {}", result.toString());
-          } else {
-            log.error("Transfer failed: {}", result.toString());
-            if (result.getException() != null) {
-              log.error("Exception details:", result.getException());
-            }
-          }
+    if (chunkedTransfer != null && estimatedRows >= chunkMinRows) {
+      TransferStrategy strategy = selectStrategy(table, everything);
+      if (strategy instanceof ChunkedTransferStrategy) {
+        log.info("Using chunked {} strategy for {}.{} (~{} rows)",
+                strategy.getStrategyName(), table.getSchema(), table.getTableName(), estimatedRows);
+        TransferResult result = chunkedTransfer.transfer(table, (ChunkedTransferStrategy) strategy, estimatedRows,
+                workerProgress, checkpoint);
+        log.info("Chunked transfer finished: {}", result);
+        return result;
+      }
+    }
+
+    Connection oracleConn = null;
+    Connection postgresConn = null;
+    try {
+      oracleConn = oraclePool.acquire();
+      postgresConn = postgresPool.acquire();
+      if (checkpointStore != null) {
+        return transferCheckpointed(table, oracleConn, postgresConn, workerProgress, everything, checkpoint);
+      }
+      return transferSingleTable(table, oracleConn, postgresConn, workerProgress, everything);
+    } catch (SQLException e) {
+      log.error("Worker {} could not obtain connections for {}.{}: {}",
+              workerProgress.getWorkerId(), table.getSchema(), table.getTableName(), e.getMessage(), e);
+      return TransferResult.failure(table.getSchema(), table.getTableName(), "Unknown",
+              "Could not obtain database connection: " + e.getMessage(), e);
+    } finally {
+      oraclePool.release(oracleConn);
+      postgresPool.release(postgresConn);
+    }
+  }
+
+  private TransferResult transferCheckpointed(TableMetadata table,
+                                              Connection oracleConn,
+                                              Connection postgresConn,
+                                              TransferProgress progress,
+                                              Everything everything) {
+    TableCheckpoint checkpoint = TableCheckpoint.empty();
+    if (resume) {
+      try {
+        checkpoint = checkpointStore.load(postgresConn, table.getSchema(), table.getTableName());
+      } catch (SQLException e) {
+        return TransferResult.failure(table.getSchema(), table.getTableName(), "Unknown",
+                "Could not read transfer checkpoint: " + e.getMessage(), e);
+      }
+    }
+    return transferCheckpointed(table, oracleConn, postgresConn, progress, everything, checkpoint);
+  }
+
+  /**
+   * Transfers a table in one PostgreSQL transaction together with its checkpoint.
+   * A table that a previous run completed is skipped; otherwise the target table is emptied
+   * first, so a retried table never produces duplicate rows. Only used for tables below the
+   * chunking threshold or without a chunked strategy; larger ones are checkpointed per chunk.
+   */
+  private TransferResult transferCheckpointed(TableMetadata table,
+                                              Connection oracleConn,
+                                              Connection postgresConn,
+                                              TransferProgress progress,
+                                              Everything everything,
+                                              TableCheckpoint checkpoint) {
+    if (checkpoint.isTableCompleted()) {
+      return skipCompletedTable(table, checkpoint, progress);
+    }
+
+    try {
+      boolean autoCommit = postgresConn.getAutoCommit();
+      postgresConn.setAutoCommit(false);
+      try {
+        checkpointStore.resetTable(postgresConn, table);
+        TransferResult result = transferSingleTable(table, oracleConn, postgresConn, progress, everything);
+        if (result.isSuccessful()) {
+          checkpointStore.recordTableCompleted(postgresConn, table, result.getRowsTransferred());
+          postgresConn.commit();
         } else {
-          // No strategy available - this is an error, migration should fail
-          String errorMessage = String.format("No transfer strategy can handle table %s.%s. "
-                          + "This table contains data types that are not supported by any available strategy.",
-                  table.getSchema(), table.getTableName());
-          log.error(errorMessage);
-
-          TransferResult failureResult = TransferResult.failure(
-                  table.getSchema(), table.getTableName(), "No Strategy Available",
-                  errorMessage, null);
-          results.add(failureResult);
-
-          // Notify progress callback of failure
-          if (progressCallback != null) {
-            progressCallback.onTableComplete(tableIndex, tables.size(), fullTableName, false, 0);
-          }
+          postgresConn.rollback();
         }
+        return result;
+      } catch (SQLException | RuntimeException e) {
+        rollbackQuietly(postgresConn);
+        throw e;
+      } finally {
+        postgresConn.setAutoCommit(autoCommit);
+      }
+    } catch (SQLException e) {
+      log.error("Checkpointed transfer of {}.{} failed: {}", table.getSchema(), table.getTableName(), e.getMessage(), e);
+      return TransferResult.failure(table.getSchema(), table.getTableName(), "Unknown",
+              "Checkpointed transfer failed: " + e.getMessage(), e);
+    }
+  }
 
-      } catch (Exception e) {
-        log.error("Unexpected error transferring table {}.{}: {}",
-                table.getSchema(), table.getTableName(), e.getMessage(), e);
+  private TransferResult skipCompletedTable(TableMetadata table, TableCheckpoint checkpoint, TransferProgress progress) {
+    log.info("Skipping {}.{}: already transferred ({} rows) according to checkpoint",
+            table.getSchema(), table.getTableName(), checkpoint.getTableRows());
+    progress.startTable(table.getSchema(), table.getTableName(), checkpoint.getTableRows());
+    progress.completeTable(checkpoint.getTableRows());
+    return TransferResult.alreadyTransferred(table.getSchema(), table.getTableName(), checkpoint.getTableRows());
+  }
+
+  private DataTransferResults failAllTables(String sessionId, List<TableMetadata> tables,
+                                            TransferProgress progress, String reason, SQLException cause) {
+    log.error("{}: {}", reason, cause.getMessage(), cause);
+    List<TransferResult> results = new ArrayList<>();
+    for (TableMetadata table : tables) {
+      results.add(TransferResult.failure(table.getSchema(), table.getTableName(), "Not Started",
+              reason + ": " + cause.getMessage(), cause));
+    }
+    return new DataTransferResults(sessionId, results, progress);
+  }
+
+  /**
+   * Switches the tables to UNLOGGED when configured and records how long it took.
+   */
+  private List<TableMetadata> switchToUnlogged(List<TableMetadata> tables, Connection postgresConn) {
+    if (!bulkLoad.usesUnloggedTables()) {
+      return List.of();
+    }
+    long start = System.currentTimeMillis();
+    List<TableMetadata> switched = bulkLoad.setUnlogged(postgresConn, tables);
+    phaseTimings.put(PHASE_SET_UNLOGGED, System.currentTimeMillis() - start);
+    return switched;
+  }
+
+  /**
+   * Switches tables loaded UNLOGGED back to LOGGED and records how long it took.
+   */
+  private void switchToLogged(List<TableMetadata> unloggedTables, Connection postgresConn) {
+    if (unloggedTables.isEmpty()) {
+      return;
+    }
+    long start = System.currentTimeMillis();
+    List<TableMetadata> failed = bulkLoad.setLogged(postgresConn, unloggedTables);
+    phaseTimings.put(PHASE_SET_LOGGED, System.currentTimeMillis() - start);
+    if (!failed.isEmpty()) {
+      log.error("{} tables are still UNLOGGED", failed.size());
+    }
+  }
+
+  private void switchToLoggedPooled(List<TableMetadata> unloggedTables, ConnectionPool postgresPool) {
+    if (unloggedTables.isEmpty()) {
+      return;
+    }
+    Connection conn = null;
+    try {
+      conn = postgresPool.acquire();
+      switchToLogged(unloggedTables, conn);
+    } catch (SQLException e) {
+      log.error("Could not obtain a connection to switch {} tables back to LOGGED: {}",
+              unloggedTables.size(), e.getMessage(), e);
+    } finally {
+      postgresPool.release(conn);
+    }
+  }
+
+  /**
+   * Pins all reads of this session to one SCN when a consistent snapshot is configured: the
+   * configured SCN, the SCN a resumed checkpointed load started with, or the current one.
+   * The SCN is recorded with the checkpoints so that later resumed runs continue on it.
+   */
+  private void pinSnapshot(Connection oracleConn, Connection postgresConn) throws SQLException {
+    snapshot.release();
+    if (!consistentSnapshot) {
+      return;
+    }
+
+    Long scn = configuredScn;
+    if (scn == null && checkpointStore != null && resume) {
+      scn = checkpointStore.loadSnapshotScn(postgresConn);
+    }
+    if (scn == null) {
+      scn = TransferSnapshot.currentScn(oracleConn);
+    }
+    snapshot.pin(scn);
+    if (checkpointStore != null) {
+      checkpointStore.recordSnapshotScn(postgresConn, scn);
+    }
+    log.info("Reading all tables as of SCN {}", scn);
+  }
+
+  /**
+   * Records the delta watermarks before the first table is read. A failure does not stop the
+   * transfer; delta syncs then report the tables without watermark.
+   */
+  private void recordDeltaBaseline(List<TableMetadata> tables, Connection oracleConn, Connection postgresConn) {
+    try {
+      deltaSync.recordBaseline(tables, oracleConn, postgresConn, resume, snapshot.getScn());
+    } catch (SQLException e) {
+      log.error("Could not record delta watermarks, delta sync will not be possible for this transfer: {}",
+              e.getMessage(), e);
+    }
+  }
+
+  private static DeltaSyncService createDeltaSync(TransferConfig transferConfig) {
+    if (transferConfig == null) {
+      return new DeltaSyncService(DeltaMode.ROWSCN, null, true, 16,
+              new DeltaWatermarkStore(DeltaWatermarkStore.DEFAULT_CONTROL_TABLE));
+    }
+    TransferConfig.Delta delta = transferConfig.delta();
+    return new DeltaSyncService(DeltaMode.parse(delta.mode()), delta.lastModifiedColumn().orElse(null),
+            delta.detectDeletes(), delta.rangesPerTable(), new DeltaWatermarkStore(delta.table()));
+  }
+
+  private void rollbackQuietly(Connection conn) {
+    try {
+      conn.rollback();
+    } catch (SQLException e) {
+      log.debug("Rollback failed: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Analyzes, selects a strategy for, and transfers a single table.
+   * Never throws; every failure is captured in the returned TransferResult.
+   */
+  private TransferResult transferSingleTable(TableMetadata table,
+                                             Connection oracleConn,
+                                             Connection postgresConn,
+                                             TransferProgress progress,
+                                             Everything everything) {
+    try {
+      // Use enhanced analysis if Everything context is available
+      String analysis = everything != null ?
+              TableAnalyzer.analyzeTableWithObjectTypes(table, everything) :
+              TableAnalyzer.analyzeTable(table);
+      log.info("Analyzing table: {}", analysis);
+
+      TransferStrategy strategy = selectStrategy(table, everything);
+      if (strategy != null) {
+        log.info("Using {} strategy for {}.{}",
+                strategy.getStrategyName(), table.getSchema(), table.getTableName());
 
-        TransferResult failureResult = TransferResult.failure(
-                table.getSchema(), table.getTableName(), "Unknown",
-                "Unexpected error: " + e.getMessage(), e);
-        results.add(failureResult);
+        TransferResult result = strategy.transferTable(table, oracleConn, postgresConn, progress, everything);
 
-        // Notify progress callback of failure
-        if (progressCallback != null) {
-          progressCallback.onTableComplete(tableIndex, tables.size(), fullTableName, false, 0);
+        if (result.isSuccessful()) {
+          log.info("Transfer completed: {}", result.toString());
+        } else {
+          log.error("Transfer failed: {}", result.toString());
+          if (result.getException() != null) {
+            log.error("Exception details:", result.getException());
+          }
         }
+        return result;
       }
+
+      // No strategy available - this is an error, migration should fail
+      String errorMessage = String.format("No transfer strategy can handle table %s.%s. "
+                      + "This table contains data types that are not supported by any available strategy.",
+              table.getSchema(), table.getTableName());
+      log.error(errorMessage);
+
+      return TransferResult.failure(
+              table.getSchema(), table.getTableName(), "No Strategy Available",
+              errorMessage, null);
+
+    } catch (Exception e) {
+      log.error("Unexpected error transferring table {}.{}: {}",
+              table.getSchema(), table.getTableName(), e.getMessage(), e);
+
+      return TransferResult.failure(
+              table.getSchema(), table.getTableName(), "Unknown",
+              "Unexpected error: " + e.getMessage(), e);
     }
+  }
 
-    // All tables should now be handled by proper strategies
-    // If any failures occurred, they are captured in the results list
+  private void notifyTableStart(ProgressCallback progressCallback, int tableIndex, int totalTables, String tableName) {
+    if (progressCallback == null) {
+      return;
+    }
+    synchronized (callbackLock) {
+      try {
+        progressCallback.onTableStart(tableIndex, totalTables, tableName);
+      } catch (Exception e) {
+        log.warn("Progress callback failed for {}: {}", tableName, e.getMessage());
+      }
+    }
+  }
 
-    log.info("Data transfer session {} completed. Processed {} tables", sessionId, results.size());
+  private void notifyTableComplete(ProgressCallback progressCallback, int tableIndex, int totalTables,
+                                   String tableName, TransferResult result) {
+    if (progressCallback == null) {
+      return;
+    }
+    synchronized (callbackLock) {
+      try {
+        progressCallback.onTableComplete(tableIndex, totalTables, tableName,
+                result.isSuccessful(), result.isSuccessful() ? result.getRowsTransferred() : 0);
+      } catch (Exception e) {
+        log.warn("Progress callback failed for {}: {}", tableName, e.getMessage());
+      }
+    }
+  }
 
-    return new DataTransferResults(sessionId, results, progress);
+  /**
+   * Estimates per-table row counts for scheduling. Uses the counts cached by the extract phase;
+   * only when some table was not counted there, one statistics query for all schemas is run,
+   * and the name-based heuristic covers tables without statistics.
+   */
+  private long[] estimateRowsForScheduling(List<TableMetadata> tables, ConnectionPool oraclePool,
+                                           Everything everything) {
+    boolean allCached = everything != null && tables.stream()
+            .allMatch(table -> everything.getTableRowCount(table.getSchema(), table.getTableName()) != null);
+    if (allCached) {
+      return tables.stream()
+              .mapToLong(table -> everything.getTableRowCount(table.getSchema(), table.getTableName()))
+              .toArray();
+    }
+
+    Map<String, Long> statistics = Map.of();
+    List<String> schemas = tables.stream().map(TableMetadata::getSchema).distinct().toList();
+
+    Connection conn = null;
+    try {
+      conn = oraclePool.acquire();
+      statistics = SamplingRowCounter.getStatisticsRowCounts(conn, schemas);
+    } catch (SQLException e) {
+      log.warn("Could not read table statistics for scheduling, using heuristics: {}", e.getMessage());
+    } finally {
+      oraclePool.release(conn);
+    }
+
+    long[] estimates = new long[tables.size()];
+    for (int i = 0; i < tables.size(); i++) {
+      TableMetadata table = tables.get(i);
+      Long cachedRows = everything != null ? everything.getTableRowCount(table.getSchema(), table.getTableName()) : null;
+      Long statisticsRows = cachedRows != null ? cachedRows
+              : statistics.get(SamplingRowCounter.tableKey(table.getSchema(), table.getTableName()));
+      estimates[i] = statisticsRows != null ? statisticsRows : estimateTableRowsHeuristic(table);
+    }
+    return estimates;
   }
 
-  private List<TransferStrategy> initializeStrategies() {
+  /**
+   * Returns table indexes ordered by estimated size, largest first.
+   */
+  static List<Integer> orderLargestFirst(long[] estimates) {
+    List<Integer> order = new ArrayList<>();
+    for (int i = 0; i < estimates.length; i++) {
+      order.add(i);
+    }
+    order.sort(Comparator.comparingLong((Integer i) -> estimates[i]).reversed());
+    return order;
+  }
+
+  private List<TransferStrategy> initializeStrategies(StrategyOptions options, TransferSnapshot snapshot) {
     List<TransferStrategy> strategies = new ArrayList<>();
 
     // Add unified object type and complex data strategy first (highest priority)
     // Handles tables with object types OR complex data types (or both)
-    strategies.add(new ObjectTypeMappingStrategy());
-    log.debug("Added ObjectTypeMappingStrategy (unified object types and complex data)");
+    strategies.add(new ObjectTypeMappingStrategy(options, snapshot));
+    log.debug("Added ObjectTypeMappingStrategy (unified object types and complex data, {})",
+            options.isComplexCopy() ? "COPY" : "batched INSERT");
 
     // Add CSV streaming strategy for simple tables (lowest priority)
-    strategies.add(new StreamingCsvStrategy());
-    log.debug("Added StreamingCsvStrategy");
+    strategies.add(new StreamingCsvStrategy(options, snapshot));
+    log.debug("Added StreamingCsvStrategy (binary COPY {}, pipelined COPY {})",
+            options.isBinaryCopy() ? "enabled" : "disabled",
+            options.getPipelineBuffers() > 0 ? options.getPipelineBuffers() + " buffers" : "disabled");
 
     log.debug("Initialized {} transfer strategies", strategies.size());
     return strategies;
@@ -227,19 +893,15 @@ public class DataTransferService {
     return null; // No suitable strategy found
   }
 
-  private long estimateTotalRows(List<TableMetadata> tables) {
-    return estimateTotalRows(tables, null, null);
-  }
-
   /**
-   * Estimates total rows using improved logic based on table metadata and optional configuration.
+   * Estimates total rows for progress tracking from the row counts cached by the extract phase,
+   * falling back to a heuristic for tables that were not counted. Never scans a table.
    *
    * @param tables list of tables to estimate
-   * @param conn Oracle database connection (optional, for more accurate estimates)
-   * @param config row count configuration (optional)
+   * @param everything extract phase results with per-table row counts (may be null)
    * @return estimated total row count
    */
-  private long estimateTotalRows(List<TableMetadata> tables, Connection conn, RowCountConfig config) {
+  private long estimateTotalRows(List<TableMetadata> tables, Everything everything) {
     if (tables.isEmpty()) {
       return 0;
     }
@@ -247,7 +909,8 @@ public class DataTransferService {
     long totalEstimate = 0;
 
     for (TableMetadata table : tables) {
-      long tableEstimate = estimateTableRows(table, conn, config);
+      Long cachedRows = everything != null ? everything.getTableRowCount(table.getSchema(), table.getTableName()) : null;
+      long tableEstimate = cachedRows != null ? cachedRows : estimateTableRowsHeuristic(table);
       totalEstimate += tableEstimate;
 
       log.debug("Estimated rows for {}.{}: {}", table.getSchema(), table.getTableName(), tableEstimate);
@@ -257,41 +920,6 @@ public class DataTransferService {
     return totalEstimate;
   }
 
-  /**
-   * Estimates row count for a single table using available metadata and optional database connection.
-   */
-  private long estimateTableRows(TableMetadata table, Connection conn, RowCountConfig config) {
-    try {
-      // Try to use actual row counting if connection is available
-      if (conn != null && config != null) {
-        switch (config.method()) {
-          case EXACT_COUNT:
-            return SamplingRowCounter.getExactRowCount(conn, table.getSchema(), table.getTableName());
-          case SAMPLING:
-            return SamplingRowCounter.estimateRowCountBySampling(conn, table.getSchema(), table.getTableName(), config.samplingPercentage());
-          case HYBRID:
-            // For individual tables in transfer, use sampling for large tables
-            long segmentEstimate = SamplingRowCounter.estimateRowCountBySegmentSize(conn, table.getSchema(), table.getTableName());
-            if (segmentEstimate > config.samplingThreshold()) {
-              return SamplingRowCounter.estimateRowCountBySampling(conn, table.getSchema(), table.getTableName(), config.samplingPercentage());
-            } else {
-              return SamplingRowCounter.getExactRowCount(conn, table.getSchema(), table.getTableName());
-            }
-          default:
-            // Fall through to heuristic estimation
-            break;
-        }
-      }
-
-      // Fallback to heuristic estimation based on table characteristics
-      return estimateTableRowsHeuristic(table);
-
-    } catch (Exception e) {
-      log.warn("Failed to estimate row count for {}.{}: {}", table.getSchema(), table.getTableName(), e.getMessage());
-      return estimateTableRowsHeuristic(table);
-    }
-  }
-
   /**
    * Estimates table rows using heuristic approach based on table metadata.
    */
@@ -345,16 +973,27 @@ public class DataTransferService {
     private final String sessionId;
     private final List<TransferResult> tableResults;
     private final TransferProgress finalProgress;
+    private final Long snapshotScn;
 
     public DataTransferResults(String sessionId, List<TransferResult> tableResults, TransferProgress finalProgress) {
+      this(sessionId, tableResults, finalProgress, null);
+    }
+
+    /**
+     * @param snapshotScn the Oracle SCN all tables were read at, null if each table was read at its own time
+     */
+    public DataTransferResults(String sessionId, List<TransferResult> tableResults, TransferProgress finalProgress,
+                               Long snapshotScn) {
       this.sessionId = sessionId;
       this.tableResults = tableResults;
       this.finalProgress = finalProgress;
+      this.snapshotScn = snapshotScn;
     }
 
     public String getSessionId() { return sessionId; }
     public List<TransferResult> getTableResults() { return tableResults; }
     public TransferProgress getFinalProgress() { return finalProgress; }
+    public Long getSnapshotScn() { return snapshotScn; }
 
     public boolean isOverallSuccess() {
       return tableResults.stream().allMatch(TransferResult::isSuccessful);
@@ -387,8 +1026,9 @@ public class DataTransferService {
       long totalTime = getTotalTransferTimeMs();
 
       return String.format(
-              "Session %s: %d/%d tables successful, %d rows transferred in %d ms",
-              sessionId, successful, successful + failed, totalRows, totalTime);
+              "Session %s: %d/%d tables successful, %d rows transferred in %d ms%s",
+              sessionId, successful, successful + failed, totalRows, totalTime,
+              snapshotScn != null ? " as of SCN " + snapshotScn : "");
     }
 
     @Override
@@ -68,10 +68,7 @@ public class ObjectTypeMapper {
           result.append(",");
         }
 
-        Object attributeValue = attributes[i];
-        Variable variable = variables.get(i);
-        String postgresValue = convertAttributeToTupleValue(attributeValue, variable);
-        result.append(postgresValue);
+        appendTupleValue(result, attributes[i], variables.get(i));
       }
 
       result.append(")");
@@ -210,14 +207,14 @@ public class ObjectTypeMapper {
   }
 
   /**
-   * Converts a single attribute value to PostgreSQL tuple literal format.
+   * Appends a single attribute value in PostgreSQL tuple literal format.
    *
    * For PostgreSQL tuple literals (value1,value2), the format is slightly different
    * from ROW constructor syntax. String values need proper escaping.
    */
-  private String convertAttributeToTupleValue(Object attributeValue, Variable variable) {
+  private void appendTupleValue(StringBuilder result, Object attributeValue, Variable variable) {
     if (attributeValue == null) {
-      return ""; // Empty value in tuple represents NULL
+      return; // Empty value in tuple represents NULL
     }
 
     String dataType = variable.getDataType().getNativeDataType();
@@ -234,27 +231,41 @@ public class ObjectTypeMapper {
       case "CHAR":
       case "CLOB":
         // String values in tuple literals need to be quoted and escaped
-        String stringValue = attributeValue.toString();
-        // Escape quotes and backslashes for tuple literal format
-        return "\"" + stringValue.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+        appendQuoted(result, attributeValue.toString());
+        break;
 
       case "NUMBER":
       case "INTEGER":
         // Numbers can be written as-is
-        return attributeValue.toString();
+        result.append(attributeValue);
+        break;
 
       case "DATE":
       case "TIMESTAMP":
         // Dates need to be quoted for PostgreSQL tuple literals
-        String dateValue = attributeValue.toString();
-        return "\"" + dateValue.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+        appendQuoted(result, attributeValue.toString());
+        break;
 
       default:
         // For unknown types, treat as string with escaping
         log.debug("Unknown data type '{}', converting to string", dataType);
-        String defaultValue = attributeValue.toString();
-        return "\"" + defaultValue.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+        appendQuoted(result, attributeValue.toString());
+    }
+  }
+
+  /**
+   * Appends a double-quoted tuple element, escaping quotes and backslashes in the same pass.
+   */
+  private static void appendQuoted(StringBuilder result, String value) {
+    result.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        result.append('\\');
+      }
+      result.append(c);
     }
+    result.append('"');
   }
 
   /**
@@ -30,6 +30,8 @@ public class ParameterSetter {
    * (BLOB, CLOB, RAW, XMLTYPE, TIMESTAMP WITH TIME ZONE, etc.) using the
    * appropriate JDBC methods and PostgreSQL type conversion.
    *
+   * Resolves the column type on every call; row loops should use {@link #forColumn(ColumnMetadata)}.
+   *
    * @param stmt The PreparedStatement to set the parameter in
    * @param paramIndex The parameter index (1-based)
    * @param rs The Oracle ResultSet to read the value from
@@ -38,110 +40,110 @@ public class ParameterSetter {
    */
   public static void setParameter(PreparedStatement stmt, int paramIndex,
                                   ResultSet rs, ColumnMetadata column) throws SQLException {
+    forColumn(column).set(stmt, paramIndex, rs, rs.findColumn(column.getColumnName()));
+  }
+
+  /**
+   * Resolves the parameter setter for a column once, so that transfer loops do not repeat
+   * the type dispatch and the by-name column lookup for every cell.
+   *
+   * Each setter reads its value with a single typed getter by column index and maps
+   * SQL NULL to a typed NULL parameter.
+   *
+   * @param column The column metadata containing Oracle type information
+   * @return a setter bound to the column's Oracle type
+   */
+  public static ColumnParameterSetter forColumn(ColumnMetadata column) {
     String columnName = column.getColumnName();
     String oracleDataType = column.getDataType().toUpperCase();
-    String postgresDataType = TypeConverter.toPostgre(oracleDataType.toLowerCase());
-
-    Object value = rs.getObject(columnName);
-    if (value == null) {
-      stmt.setNull(paramIndex, java.sql.Types.NULL);
-      return;
-    }
+    ColumnParameterSetter setter = resolveSetter(columnName, oracleDataType);
 
-    try {
-      // Handle specific Oracle data types
-      switch (oracleDataType) {
-        // Complex Large Object types
-        case "BLOB":
-          setBlobParameter(stmt, paramIndex, rs, columnName);
-          break;
-
-        case "CLOB":
-        case "NCLOB":
-          setClobParameter(stmt, paramIndex, rs, columnName);
-          break;
-
-        // Binary data types
-        case "RAW":
-        case "LONG RAW":
-          setRawParameter(stmt, paramIndex, rs, columnName);
-          break;
-
-        // XML type
-        case "XMLTYPE":
-          setXmlTypeParameter(stmt, paramIndex, rs, columnName);
-          break;
-
-        // File reference type
-        case "BFILE":
-          setBFileParameter(stmt, paramIndex, rs, columnName);
-          break;
-
-        // Oracle ANYDATA type - convert to JSONB
-        case "ANYDATA":
-          setAnydataParameter(stmt, paramIndex, rs, columnName);
-          break;
-
-        // Oracle AQ JMS message types - convert to JSONB
-        case "AQ$_JMS_TEXT_MESSAGE":
-        case "SYS.AQ$_JMS_TEXT_MESSAGE":
-          setAqJmsMessageParameter(stmt, paramIndex, rs, columnName);
-          break;
-
-        // Oracle AQ signature property types - convert to JSONB
-        case "AQ$_SIG_PROP":
-        case "SYS.AQ$_SIG_PROP":
-          setAqSigPropParameter(stmt, paramIndex, rs, columnName);
-          break;
-
-        // Oracle AQ recipients types - convert to JSONB
-        case "AQ$_RECIPIENTS":
-        case "SYS.AQ$_RECIPIENTS":
-          setAqRecipientsParameter(stmt, paramIndex, rs, columnName);
-          break;
-
-        // Oracle ROWID type - convert to TEXT
-        case "ROWID":
-        case "UROWID":
-          setRowidParameter(stmt, paramIndex, rs, columnName);
-          break;
-
-        // Extended timestamp types
-        case "TIMESTAMP WITH TIME ZONE":
-        case "TIMESTAMP WITH LOCAL TIME ZONE":
-          setTimestampWithTimeZoneParameter(stmt, paramIndex, rs, columnName);
-          break;
-
-        // Interval types
-        case "INTERVAL YEAR TO MONTH":
-        case "INTERVAL DAY TO SECOND":
-          setIntervalParameter(stmt, paramIndex, rs, columnName);
-          break;
-
-        // Primitive types and other complex types handled with unified logic
-        default:
-          if (oracleDataType.startsWith("TIMESTAMP WITH")) {
-            setTimestampWithTimeZoneParameter(stmt, paramIndex, rs, columnName);
-          } else if (oracleDataType.startsWith("INTERVAL")) {
-            setIntervalParameter(stmt, paramIndex, rs, columnName);
-          } else if (oracleDataType.contains("AQ$_JMS_TEXT_MESSAGE")) {
-            setAqJmsMessageParameter(stmt, paramIndex, rs, columnName);
-          } else if (oracleDataType.contains("AQ$_SIG_PROP")) {
-            setAqSigPropParameter(stmt, paramIndex, rs, columnName);
-          } else if (oracleDataType.contains("AQ$_RECIPIENTS")) {
-            setAqRecipientsParameter(stmt, paramIndex, rs, columnName);
-          } else {
-            // Handle primitive types and unknown types
-            setPrimitiveParameter(stmt, paramIndex, rs, column, oracleDataType);
-          }
-          break;
+    return (stmt, paramIndex, rs, columnIndex) -> {
+      try {
+        setter.set(stmt, paramIndex, rs, columnIndex);
+      } catch (SQLException e) {
+        log.error("Failed to set parameter for column {} (Oracle type: {}, PostgreSQL type: {}) at index {}: {}",
+                columnName, oracleDataType, TypeConverter.toPostgre(oracleDataType.toLowerCase()),
+                paramIndex, e.getMessage(), e);
+        throw new SQLException("Failed to set parameter for column " + columnName +
+                " (type: " + oracleDataType + ")", e);
       }
+    };
+  }
 
-    } catch (SQLException e) {
-      log.error("Failed to set parameter for column {} (Oracle type: {}, PostgreSQL type: {}) at index {}: {}",
-              columnName, oracleDataType, postgresDataType, paramIndex, e.getMessage(), e);
-      throw new SQLException("Failed to set parameter for column " + columnName +
-              " (type: " + oracleDataType + ")", e);
+  private static ColumnParameterSetter resolveSetter(String columnName, String oracleDataType) {
+    // Handle specific Oracle data types
+    switch (oracleDataType) {
+      // Complex Large Object types
+      case "BLOB":
+        return (stmt, paramIndex, rs, columnIndex) -> setBlobParameter(stmt, paramIndex, rs, columnIndex, columnName);
+
+      case "CLOB":
+      case "NCLOB":
+        return (stmt, paramIndex, rs, columnIndex) -> setClobParameter(stmt, paramIndex, rs, columnIndex, columnName);
+
+      // Binary data types
+      case "RAW":
+      case "LONG RAW":
+        return ParameterSetter::setRawParameter;
+
+      // XML type
+      case "XMLTYPE":
+        return ParameterSetter::setXmlTypeParameter;
+
+      // File reference type
+      case "BFILE":
+        return ParameterSetter::setBFileParameter;
+
+      // Oracle ANYDATA type - convert to JSONB
+      case "ANYDATA":
+        return (stmt, paramIndex, rs, columnIndex) -> setAnydataParameter(stmt, paramIndex, rs, columnName);
+
+      // Oracle AQ JMS message types - convert to JSONB
+      case "AQ$_JMS_TEXT_MESSAGE":
+      case "SYS.AQ$_JMS_TEXT_MESSAGE":
+        return (stmt, paramIndex, rs, columnIndex) -> setAqJmsMessageParameter(stmt, paramIndex, rs, columnName);
+
+      // Oracle AQ signature property types - convert to JSONB
+      case "AQ$_SIG_PROP":
+      case "SYS.AQ$_SIG_PROP":
+        return (stmt, paramIndex, rs, columnIndex) -> setAqSigPropParameter(stmt, paramIndex, rs, columnName);
+
+      // Oracle AQ recipients types - convert to JSONB
+      case "AQ$_RECIPIENTS":
+      case "SYS.AQ$_RECIPIENTS":
+        return (stmt, paramIndex, rs, columnIndex) -> setAqRecipientsParameter(stmt, paramIndex, rs, columnName);
+
+      // Oracle ROWID type - convert to TEXT
+      case "ROWID":
+      case "UROWID":
+        return ParameterSetter::setRowidParameter;
+
+      // Extended timestamp types
+      case "TIMESTAMP WITH TIME ZONE":
+      case "TIMESTAMP WITH LOCAL TIME ZONE":
+        return ParameterSetter::setTimestampWithTimeZoneParameter;
+
+      // Interval types
+      case "INTERVAL YEAR TO MONTH":
+      case "INTERVAL DAY TO SECOND":
+        return ParameterSetter::setIntervalParameter;
+
+      // Primitive types and other complex types handled with unified logic
+      default:
+        if (oracleDataType.startsWith("TIMESTAMP WITH")) {
+          return ParameterSetter::setTimestampWithTimeZoneParameter;
+        } else if (oracleDataType.startsWith("INTERVAL")) {
+          return ParameterSetter::setIntervalParameter;
+        } else if (oracleDataType.contains("AQ$_JMS_TEXT_MESSAGE")) {
+          return (stmt, paramIndex, rs, columnIndex) -> setAqJmsMessageParameter(stmt, paramIndex, rs, columnName);
+        } else if (oracleDataType.contains("AQ$_SIG_PROP")) {
+          return (stmt, paramIndex, rs, columnIndex) -> setAqSigPropParameter(stmt, paramIndex, rs, columnName);
+        } else if (oracleDataType.contains("AQ$_RECIPIENTS")) {
+          return (stmt, paramIndex, rs, columnIndex) -> setAqRecipientsParameter(stmt, paramIndex, rs, columnName);
+        }
+        // Handle primitive types and unknown types
+        return resolvePrimitiveSetter(columnName, oracleDataType);
     }
   }
 
@@ -149,8 +151,8 @@ public class ParameterSetter {
    * Sets a BLOB parameter, handling binary stream data.
    */
   private static void setBlobParameter(PreparedStatement stmt, int paramIndex,
-                                       ResultSet rs, String columnName) throws SQLException {
-    Blob blob = rs.getBlob(columnName);
+                                       ResultSet rs, int columnIndex, String columnName) throws SQLException {
+    Blob blob = rs.getBlob(columnIndex);
     if (blob != null) {
       try {
         InputStream inputStream = blob.getBinaryStream();
@@ -166,15 +168,21 @@ public class ParameterSetter {
   }
 
   /**
-   * Sets a CLOB parameter, handling large text data.
+   * Sets a CLOB parameter from its character stream. CLOBs of Integer.MAX_VALUE characters or
+   * more cannot be bound and are rejected.
    */
   private static void setClobParameter(PreparedStatement stmt, int paramIndex,
-                                       ResultSet rs, String columnName) throws SQLException {
-    Clob clob = rs.getClob(columnName);
+                                       ResultSet rs, int columnIndex, String columnName) throws SQLException {
+    Clob clob = rs.getClob(columnIndex);
     if (clob != null) {
+      long length = clob.length();
+      if (length > Integer.MAX_VALUE) {
+        throw new SQLException("CLOB for column " + columnName + " has " + length
+                + " characters, more than the " + Integer.MAX_VALUE + " that can be bound");
+      }
       try {
-        String clobText = clob.getSubString(1, (int) clob.length());
-        stmt.setString(paramIndex, clobText);
+        // The int-length variant, as the PostgreSQL driver does not implement the long one
+        stmt.setCharacterStream(paramIndex, clob.getCharacterStream(), (int) length);
       } catch (Exception e) {
         throw new SQLException("Failed to handle CLOB for column " + columnName, e);
       }
@@ -187,8 +195,8 @@ public class ParameterSetter {
    * Sets a RAW parameter, handling binary data.
    */
   private static void setRawParameter(PreparedStatement stmt, int paramIndex,
-                                      ResultSet rs, String columnName) throws SQLException {
-    byte[] rawData = rs.getBytes(columnName);
+                                      ResultSet rs, int columnIndex) throws SQLException {
+    byte[] rawData = rs.getBytes(columnIndex);
     if (rawData != null) {
       stmt.setBytes(paramIndex, rawData);
     } else {
@@ -200,9 +208,9 @@ public class ParameterSetter {
    * Sets an XMLTYPE parameter.
    */
   private static void setXmlTypeParameter(PreparedStatement stmt, int paramIndex,
-                                          ResultSet rs, String columnName) throws SQLException {
+                                          ResultSet rs, int columnIndex) throws SQLException {
     // XMLTYPE is typically retrieved as a string representation
-    String xmlString = rs.getString(columnName);
+    String xmlString = rs.getString(columnIndex);
     if (xmlString != null) {
       // PostgreSQL expects XML type as string
       stmt.setObject(paramIndex, xmlString, Types.SQLXML);
@@ -215,9 +223,9 @@ public class ParameterSetter {
    * Sets a BFILE parameter (file reference).
    */
   private static void setBFileParameter(PreparedStatement stmt, int paramIndex,
-                                        ResultSet rs, String columnName) throws SQLException {
+                                        ResultSet rs, int columnIndex) throws SQLException {
     // BFILE typically maps to text in PostgreSQL (file path reference)
-    String bfileString = rs.getString(columnName);
+    String bfileString = rs.getString(columnIndex);
     stmt.setString(paramIndex, bfileString);
   }
 
@@ -310,9 +318,9 @@ public class ParameterSetter {
    * Sets a ROWID parameter, converting it to TEXT format.
    */
   private static void setRowidParameter(PreparedStatement stmt, int paramIndex,
-                                        ResultSet rs, String columnName) throws SQLException {
+                                        ResultSet rs, int columnIndex) throws SQLException {
     // Oracle ROWID is retrieved as a string representation
-    String rowidString = rs.getString(columnName);
+    String rowidString = rs.getString(columnIndex);
     if (rowidString != null) {
       // PostgreSQL stores ROWID as TEXT
       stmt.setString(paramIndex, rowidString);
@@ -325,8 +333,8 @@ public class ParameterSetter {
    * Sets a TIMESTAMP WITH TIME ZONE parameter.
    */
   private static void setTimestampWithTimeZoneParameter(PreparedStatement stmt, int paramIndex,
-                                                        ResultSet rs, String columnName) throws SQLException {
-    Timestamp timestamp = rs.getTimestamp(columnName);
+                                                        ResultSet rs, int columnIndex) throws SQLException {
+    Timestamp timestamp = rs.getTimestamp(columnIndex);
     if (timestamp != null) {
       stmt.setTimestamp(paramIndex, timestamp);
     } else {
@@ -338,9 +346,9 @@ public class ParameterSetter {
    * Sets an INTERVAL parameter.
    */
   private static void setIntervalParameter(PreparedStatement stmt, int paramIndex,
-                                           ResultSet rs, String columnName) throws SQLException {
+                                           ResultSet rs, int columnIndex) throws SQLException {
     // Oracle INTERVAL types are typically retrieved as strings
-    String intervalString = rs.getString(columnName);
+    String intervalString = rs.getString(columnIndex);
     if (intervalString != null) {
       // PostgreSQL can parse interval strings directly
       stmt.setObject(paramIndex, intervalString, Types.OTHER);
@@ -350,31 +358,36 @@ public class ParameterSetter {
   }
 
   /**
-   * Sets a primitive parameter (VARCHAR2, NUMBER, DATE, etc.).
+   * Resolves the setter for a primitive type (VARCHAR2, NUMBER, DATE, etc.).
    */
-  private static void setPrimitiveParameter(PreparedStatement stmt, int paramIndex,
-                                            ResultSet rs, ColumnMetadata column, String oracleDataType) throws SQLException {
-    String columnName = column.getColumnName();
-
+  private static ColumnParameterSetter resolvePrimitiveSetter(String columnName, String oracleDataType) {
     // Handle primitive Oracle data types
     if (oracleDataType.contains("CHAR") || oracleDataType.contains("CLOB")) {
       // String types - but CLOB should have been handled above
-      String stringValue = rs.getString(columnName);
-      stmt.setString(paramIndex, stringValue);
+      return ParameterSetter::setStringParameter;
 
     } else if (oracleDataType.equals("NUMBER") || oracleDataType.equals("INTEGER") || oracleDataType.equals("FLOAT")) {
       // Numeric types
-      stmt.setBigDecimal(paramIndex, rs.getBigDecimal(columnName));
+      return (stmt, paramIndex, rs, columnIndex) -> stmt.setBigDecimal(paramIndex, rs.getBigDecimal(columnIndex));
 
     } else if (oracleDataType.equals("DATE") || oracleDataType.contains("TIMESTAMP")) {
       // Date/time types (but complex timestamps should have been handled above)
-      stmt.setTimestamp(paramIndex, rs.getTimestamp(columnName));
+      return (stmt, paramIndex, rs, columnIndex) -> stmt.setTimestamp(paramIndex, rs.getTimestamp(columnIndex));
 
     } else {
       // Unknown/other types - treat as string
       log.debug("Unknown Oracle data type '{}' for column '{}', treating as string", oracleDataType, columnName);
-      String stringValue = rs.getString(columnName);
+      return ParameterSetter::setStringParameter;
+    }
+  }
+
+  private static void setStringParameter(PreparedStatement stmt, int paramIndex,
+                                         ResultSet rs, int columnIndex) throws SQLException {
+    String stringValue = rs.getString(columnIndex);
+    if (stringValue != null) {
       stmt.setString(paramIndex, stringValue);
+    } else {
+      stmt.setNull(paramIndex, Types.VARCHAR);
     }
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,103 @@
+package me.christianrobert.ora2postgre.transfer;
+
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.transfer.copy.BinaryColumnEncoder;
+import me.christianrobert.ora2postgre.transfer.copy.BinaryCopyEncoders;
+import me.christianrobert.ora2postgre.transfer.copy.CopyBinaryWriter;
+import me.christianrobert.ora2postgre.transfer.copy.CopyTextWriter;
+import me.christianrobert.ora2postgre.transfer.copy.TextColumnEncoder;
+import me.christianrobert.ora2postgre.transfer.copy.TextCopyEncoders;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Per-table row encoder, compiled once from the column metadata before the first row is read.
+ *
+ * Holds one text encoder, binary encoder and parameter setter per column, each bound to the
+ * column's position in the SELECT list. The row loops then only call typed getters by index,
+ * instead of looking up columns by name and re-inspecting the Oracle type for every cell.
+ *
+ * Column i of the codec reads result set column i + 1 and writes parameter i + 1, so the
+ * SELECT list must contain exactly the compiled columns in the same order.
+ */
+public final class RowCodec {
+
+  private final int columnCount;
+  private final TextColumnEncoder[] textEncoders;
+  private final BinaryColumnEncoder[] binaryEncoders;
+  private final ColumnParameterSetter[] parameterSetters;
+
+  private RowCodec(TextColumnEncoder[] textEncoders, BinaryColumnEncoder[] binaryEncoders,
+                   ColumnParameterSetter[] parameterSetters) {
+    this.columnCount = textEncoders.length;
+    this.textEncoders = textEncoders;
+    this.binaryEncoders = binaryEncoders;
+    this.parameterSetters = parameterSetters;
+  }
+
+  /**
+   * Compiles the codec for the given columns, in SELECT list order.
+   */
+  public static RowCodec compile(List<ColumnMetadata> columns) {
+    TextColumnEncoder[] textEncoders = TextCopyEncoders.forColumns(columns).toArray(new TextColumnEncoder[0]);
+
+    List<BinaryColumnEncoder> binary = BinaryCopyEncoders.forColumns(columns);
+    BinaryColumnEncoder[] binaryEncoders = binary != null ? binary.toArray(new BinaryColumnEncoder[0]) : null;
+
+    ColumnParameterSetter[] parameterSetters = new ColumnParameterSetter[columns.size()];
+    for (int i = 0; i < parameterSetters.length; i++) {
+      parameterSetters[i] = ParameterSetter.forColumn(columns.get(i));
+    }
+
+    return new RowCodec(textEncoders, binaryEncoders, parameterSetters);
+  }
+
+  public int getColumnCount() {
+    return columnCount;
+  }
+
+  /**
+   * Whether every column has a COPY binary encoder.
+   */
+  public boolean supportsBinaryCopy() {
+    return binaryEncoders != null;
+  }
+
+  /**
+   * Writes the current row in COPY text format and terminates it.
+   */
+  public void writeTextRow(ResultSet rs, CopyTextWriter writer) throws SQLException {
+    for (int i = 0; i < columnCount; i++) {
+      textEncoders[i].encode(rs, i + 1, writer);
+    }
+    writer.endRow();
+  }
+
+  /**
+   * Writes the current row in COPY binary format.
+   *
+   * @throws IllegalStateException if a column has no binary encoder
+   */
+  public void writeBinaryRow(ResultSet rs, CopyBinaryWriter writer) throws SQLException {
+    if (binaryEncoders == null) {
+      throw new IllegalStateException("Row codec has columns without a binary COPY encoder");
+    }
+    writer.startRow(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      binaryEncoders[i].encode(rs, i + 1, writer);
+    }
+    writer.endRow();
+  }
+
+  /**
+   * Sets the current row as the parameters 1..n of an INSERT statement.
+   */
+  public void bindParameters(ResultSet rs, PreparedStatement stmt) throws SQLException {
+    for (int i = 0; i < columnCount; i++) {
+      parameterSetters[i].set(stmt, i + 1, rs, i + 1);
+    }
+  }
+}
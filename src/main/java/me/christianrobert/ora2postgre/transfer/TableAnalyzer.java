@@ -1,12 +1,17 @@
 package me.christianrobert.ora2postgre.transfer;
 
 import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.PostgreSqlIdentifierUtils;
 import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
 import me.christianrobert.ora2postgre.oracledb.TableMetadata;
 import me.christianrobert.ora2postgre.plsql.ast.ObjectType;
 import me.christianrobert.ora2postgre.transfer.strategy.TransferStrategy;
 import me.christianrobert.ora2postgre.oracledb.tools.NameNormalizer;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.Set;
 
 /**
@@ -156,6 +161,28 @@ public class TableAnalyzer {
     return count;
   }
 
+  /**
+   * Checks if a table contains CLOB, NCLOB or BLOB columns. Rows of such tables can be
+   * arbitrarily large, so they are fetched and batched in smaller units.
+   *
+   * @param table The table metadata to analyze
+   * @return true if the table contains any LOB columns
+   */
+  public static boolean hasLobColumns(TableMetadata table) {
+    if (table.getColumns() == null || table.getColumns().isEmpty()) {
+      return false;
+    }
+
+    for (ColumnMetadata column : table.getColumns()) {
+      String dataType = NameNormalizer.normalizeDataType(column.getDataType()).toUpperCase();
+      if (dataType.equals("CLOB") || dataType.equals("NCLOB") || dataType.equals("BLOB")) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
   /**
    * Checks if a table contains any AQ$_JMS_TEXT_MESSAGE columns.
    * These columns require special JSON conversion handling.
@@ -404,6 +431,40 @@ public class TableAnalyzer {
     return Math.max(1000, estimatedSeconds * 1000); // Minimum 1 second
   }
 
+  /**
+   * Row count of a table as estimated in the extract phase (statistics, segment size or sampling,
+   * depending on row-count.method), so that progress tracking needs no extra scan of the table.
+   * @return the cached count, or 0 if the table was not counted
+   */
+  public static long getCachedRowCount(TableMetadata table, Everything everything) {
+    if (everything == null) {
+      return 0;
+    }
+    Long count = everything.getTableRowCount(table.getSchema(), table.getTableName());
+    return count != null ? count : 0;
+  }
+
+  /**
+   * Counts the rows of a table with SELECT COUNT(*). This is a full scan of the source table,
+   * so transfers only use it when an exact count is configured.
+   */
+  public static long countRows(Connection oracleConn, TableMetadata table) throws SQLException {
+    return countRows(oracleConn, table, new TransferSnapshot());
+  }
+
+  /**
+   * Counts the rows of a table as of the transfer's pinned SCN, if any.
+   */
+  public static long countRows(Connection oracleConn, TableMetadata table, TransferSnapshot snapshot) throws SQLException {
+    String countSql = "SELECT COUNT(*) FROM " + PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()) +
+            "." + PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName()) + snapshot.flashbackClause();
+
+    try (PreparedStatement ps = oracleConn.prepareStatement(countSql);
+         ResultSet rs = ps.executeQuery()) {
+      return rs.next() ? rs.getLong(1) : 0;
+    }
+  }
+
   /**
    * Provides a summary of table characteristics for logging and debugging.
    */
@@ -0,0 +1,359 @@
+package me.christianrobert.ora2postgre.transfer;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.util.Optional;
+
+/**
+ * Configuration properties for the data transfer phase.
+ */
+@ConfigMapping(prefix = "transfer")
+public interface TransferConfig {
+
+  /**
+   * Number of tables transferred concurrently. Each worker holds one Oracle and
+   * one PostgreSQL connection while it copies a table.
+   * 1 keeps the sequential single-connection behaviour.
+   * @return the number of parallel transfer workers
+   */
+  @WithDefault("1")
+  int parallelWorkers();
+
+  /**
+   * Whether tables with only primitive column types are loaded with COPY binary format.
+   * Tables with a column type that has no binary encoder always use text COPY.
+   * @return true if binary COPY may be used
+   */
+  @WithDefault("true")
+  boolean binaryCopy();
+
+  /**
+   * Whether tables with object type, LOB, XML, ANYDATA or other complex columns are loaded
+   * with COPY text format. false loads them with batched INSERTs.
+   * @return true if complex tables may use COPY
+   */
+  @WithDefault("true")
+  boolean complexCopy();
+
+  /**
+   * Whether every table is counted with SELECT COUNT(*) before it is copied. This gives exact
+   * progress totals and a row count check, but scans each source table twice. Otherwise progress
+   * uses the per-table row counts of the extract phase (see row-count.method).
+   * @return true if tables are counted exactly before the transfer
+   */
+  @WithDefault("false")
+  boolean exactRowCount();
+
+  /**
+   * Pipelined COPY: reading from Oracle and writing to PostgreSQL on separate threads.
+   * @return the pipeline configuration
+   */
+  Pipeline pipeline();
+
+  /**
+   * JDBC fetch size and batch size per table.
+   * @return the sizing configuration
+   */
+  Sizing sizing();
+
+  /**
+   * Transfer of tables with CLOB, NCLOB or BLOB columns.
+   * @return the LOB configuration
+   */
+  Lob lob();
+
+  /**
+   * Resumable transfers: progress per table and chunk recorded in PostgreSQL.
+   * @return the checkpoint configuration
+   */
+  Checkpoint checkpoint();
+
+  /**
+   * Post-transfer verification with row counts and checksums computed in both databases.
+   * @return the verification configuration
+   */
+  Verify verify();
+
+  /**
+   * Incremental delta sync of changes made in Oracle after the bulk load.
+   * @return the delta sync configuration
+   */
+  Delta delta();
+
+  /**
+   * Consistent snapshot: all tables read as of one Oracle SCN.
+   * @return the snapshot configuration
+   */
+  Snapshot snapshot();
+
+  /**
+   * Bulk-load tuning of the PostgreSQL target while data is loaded and indexed.
+   * @return the bulk-load configuration
+   */
+  BulkLoad bulkLoad();
+
+  /**
+   * Parallel build of indexes and constraints after the transfer.
+   * @return the index build configuration
+   */
+  IndexBuild indexBuild();
+
+  /**
+   * Intra-table parallelism for very large tables.
+   * @return the chunking configuration
+   */
+  Chunking chunking();
+
+  interface Pipeline {
+
+    /**
+     * Whether COPY data is sent to PostgreSQL by a separate writer thread while the
+     * next rows are read from Oracle. Uses no extra database connections.
+     * @return true if pipelined COPY is enabled
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Number of 64 KB buffers between reader and writer. When all are queued the reader
+     * waits for PostgreSQL.
+     * @return the number of pipeline buffers per table
+     */
+    @WithDefault("8")
+    int buffers();
+  }
+
+  interface Sizing {
+
+    /**
+     * Whether fetch and batch sizes are derived from the average row width of each table and
+     * tuned during its transfer. false uses the fixed sizes of each strategy.
+     * @return true if sizing is adaptive
+     */
+    @WithDefault("true")
+    boolean adaptive();
+
+    /**
+     * Memory per table transfer for the rows of one fetch plus one batch, in MB.
+     * @return the memory budget in MB
+     */
+    @WithDefault("64")
+    int memoryBudgetMb();
+
+    /**
+     * Smallest adaptive fetch and batch size.
+     * @return the minimum rows per fetch and batch
+     */
+    @WithDefault("100")
+    int minRows();
+
+    /**
+     * Largest adaptive batch size. The fetch size is additionally capped at 10000 rows.
+     * @return the maximum rows per batch
+     */
+    @WithDefault("50000")
+    int maxRows();
+  }
+
+  interface Lob {
+
+    /**
+     * Bytes (BLOB) or characters (CLOB) of each LOB the Oracle driver returns together with its row.
+     * LOBs up to this size need no extra round trip; larger ones are read through their locator.
+     * 0 disables LOB prefetch.
+     * @return the LOB prefetch size
+     */
+    @WithDefault("32768")
+    int prefetchSize();
+
+    /**
+     * Rows per fetch and per INSERT batch for tables with LOB columns, which bounds the LOB data
+     * a worker holds at once.
+     * @return the batch size for LOB tables
+     */
+    @WithDefault("100")
+    int batchSize();
+  }
+
+  interface Checkpoint {
+
+    /**
+     * Whether every table (or chunk) is loaded in one transaction together with a checkpoint row,
+     * after emptying the target table. Always on when a transfer is started with resume.
+     * @return true if checkpointing is enabled
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Optionally schema-qualified name of the PostgreSQL control table holding the checkpoints.
+     * @return the checkpoint control table
+     */
+    @WithDefault("public.ora2pg_transfer_checkpoint")
+    String table();
+  }
+
+  interface Verify {
+
+    /**
+     * Whether every data transfer is followed by a verification of all tables.
+     * @return true if transfers are verified automatically
+     */
+    @WithDefault("false")
+    boolean afterTransfer();
+
+    /**
+     * Number of tables verified concurrently, each with one Oracle and one PostgreSQL connection.
+     * @return the verification parallelism
+     */
+    @WithDefault("4")
+    int parallelism();
+
+    /**
+     * Number of key ranges a table with a numeric primary key is checked in. More ranges narrow
+     * a difference down to fewer rows to copy again.
+     * @return the key ranges per table
+     */
+    @WithDefault("16")
+    int rangesPerTable();
+  }
+
+  interface Delta {
+
+    /**
+     * Whether every transfer records a watermark per table before reading it, from which
+     * later delta syncs copy the changed rows.
+     * @return true if watermarks are recorded
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * How changed rows are found: ROWSCN (Oracle ORA_ROWSCN above the recorded SCN),
+     * LAST_MODIFIED (the last-modified column at or after the recorded time) or HASH
+     * (key ranges whose checksums differ, no watermark needed).
+     * @return the delta mode
+     */
+    @WithDefault("ROWSCN")
+    String mode();
+
+    /**
+     * Column holding the last modification time, required for LAST_MODIFIED mode.
+     * Tables without this column are compared by hash.
+     * @return the last-modified column name
+     */
+    Optional<String> lastModifiedColumn();
+
+    /**
+     * Whether rows deleted in Oracle are deleted in PostgreSQL. Needs a single-column numeric
+     * or character primary key.
+     * @return true if deletes are applied
+     */
+    @WithDefault("true")
+    boolean detectDeletes();
+
+    /**
+     * Number of key ranges a table with a numeric primary key is compared in, for deletes and HASH mode.
+     * @return the key ranges per table
+     */
+    @WithDefault("16")
+    int rangesPerTable();
+
+    /**
+     * Optionally schema-qualified name of the PostgreSQL control table holding the watermarks.
+     * @return the watermark control table
+     */
+    @WithDefault("public.ora2pg_delta_watermark")
+    String table();
+  }
+
+  interface Snapshot {
+
+    /**
+     * Whether all tables, chunks and connections of a transfer read the source as of the SCN
+     * current when the transfer starts. A resumed checkpointed transfer reads at the SCN of the
+     * transfer it resumes. Needs the FLASHBACK privilege on the tables (or FLASHBACK ANY TABLE)
+     * and undo retention covering the whole transfer, otherwise reads fail with ORA-01555.
+     * @return true if reads are pinned to one SCN
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Explicit SCN to read at, e.g. to load a consistent snapshot in several runs. Setting it
+     * implies {@link #enabled()}.
+     * @return the SCN to read at
+     */
+    Optional<Long> scn();
+  }
+
+  interface BulkLoad {
+
+    /**
+     * Whether transfer connections and the post-transfer DDL connection run with
+     * synchronous_commit off and the configured maintenance_work_mem.
+     * @return true if bulk-load session settings are applied
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * maintenance_work_mem for the sessions, used by index and constraint builds.
+     * @return the PostgreSQL memory setting, e.g. 1GB
+     */
+    @WithDefault("1GB")
+    String maintenanceWorkMem();
+
+    /**
+     * Whether tables are switched to UNLOGGED for the load and back to LOGGED afterwards.
+     * A server crash during the load empties them; ignored when checkpoints are enabled.
+     * @return true if tables are loaded unlogged
+     */
+    @WithDefault("false")
+    boolean unloggedTables();
+  }
+
+  interface IndexBuild {
+
+    /**
+     * Number of connections on which the post-transfer phase builds keys and indexes of
+     * different tables at the same time, then validates foreign keys added NOT VALID.
+     * 1 keeps the sequential execution of the constraint and index files.
+     * @return the index build parallelism
+     */
+    @WithDefault("1")
+    int parallelism();
+  }
+
+  interface Chunking {
+
+    /**
+     * Whether large tables are split into disjoint ranges copied on separate connections.
+     * @return true if chunked transfer is enabled
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Estimated row count from which a table is transferred in chunks.
+     * @return the minimum estimated rows for chunking
+     */
+    @WithDefault("10000000")
+    long minRows();
+
+    /**
+     * Number of chunks a table is split into (partitioned tables use one chunk per partition).
+     * @return the target chunk count per table
+     */
+    @WithDefault("16")
+    int chunksPerTable();
+
+    /**
+     * Number of chunks of one table copied concurrently, each on its own connection pair.
+     * @return the chunk parallelism
+     */
+    @WithDefault("4")
+    int parallelism();
+  }
+}
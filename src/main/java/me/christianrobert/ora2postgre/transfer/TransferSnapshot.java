@@ -0,0 +1,79 @@
+package me.christianrobert.ora2postgre.transfer;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * The Oracle SCN that every read of a transfer session is pinned to, if any.
+ *
+ * Shared by the strategies of one {@link DataTransferService}. The service pins it before
+ * the first table is read; the strategies then append {@link #flashbackClause()} to each
+ * table in their SELECTs, so that all tables, chunks and connections see the same
+ * committed state even while the source stays online. Reading an old SCN needs enough undo
+ * retention (ORA-01555 otherwise) and the FLASHBACK privilege on the tables.
+ */
+public class TransferSnapshot {
+
+  private volatile Long scn;
+
+  /**
+   * Pins all following reads to the given SCN.
+   */
+  public void pin(long scn) {
+    if (scn <= 0) {
+      throw new IllegalArgumentException("SCN must be positive, got " + scn);
+    }
+    this.scn = scn;
+  }
+
+  /**
+   * Lets all following reads see the current data again.
+   */
+  public void release() {
+    this.scn = null;
+  }
+
+  public boolean isPinned() {
+    return scn != null;
+  }
+
+  /**
+   * @return the pinned SCN, or null if reads are not pinned
+   */
+  public Long getScn() {
+    return scn;
+  }
+
+  /**
+   * Flashback clause to place directly after the table name (and partition clause) in a FROM
+   * clause, or an empty string if reads are not pinned.
+   */
+  public String flashbackClause() {
+    Long pinned = scn;
+    return pinned != null ? " AS OF SCN " + pinned : "";
+  }
+
+  /**
+   * Reads the current SCN of the Oracle database.
+   */
+  public static long currentScn(Connection oracleConn) throws SQLException {
+    try (PreparedStatement ps = oracleConn.prepareStatement(
+            "SELECT DBMS_FLASHBACK.GET_SYSTEM_CHANGE_NUMBER FROM DUAL");
+         ResultSet rs = ps.executeQuery()) {
+      BigDecimal scn = rs.next() ? rs.getBigDecimal(1) : null;
+      if (scn == null) {
+        throw new SQLException("Could not read the current SCN");
+      }
+      return scn.longValueExact();
+    }
+  }
+
+  @Override
+  public String toString() {
+    Long pinned = scn;
+    return pinned != null ? "SCN " + pinned : "current data";
+  }
+}
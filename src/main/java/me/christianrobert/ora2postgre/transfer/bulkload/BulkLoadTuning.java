@@ -0,0 +1,186 @@
+package me.christianrobert.ora2postgre.transfer.bulkload;
+
+import me.christianrobert.ora2postgre.global.PostgreSqlIdentifierUtils;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.transfer.TransferConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Bulk-load tuning of the PostgreSQL target.
+ *
+ * Connections that load data or build indexes and constraints run with synchronous_commit off,
+ * so a COMMIT does not wait for the WAL flush, and with a raised maintenance_work_mem for the
+ * index and constraint builds after the load. A server crash can lose the last commits, which
+ * a resumed transfer copies again.
+ *
+ * Optionally the tables are switched to UNLOGGED before the load and back to LOGGED after it.
+ * The copied rows then skip the WAL, but each table is written to the WAL once when it is
+ * switched back, and a server crash in between empties the unlogged tables. This is therefore
+ * not combined with checkpoints, which would report the emptied tables as complete.
+ */
+public class BulkLoadTuning {
+
+  private static final Logger log = LoggerFactory.getLogger(BulkLoadTuning.class);
+  private static final Pattern MEMORY_SETTING = Pattern.compile("\\d+\\s*(kB|MB|GB|TB)?");
+
+  private final boolean enabled;
+  private final String maintenanceWorkMem;
+  private final boolean unloggedTables;
+
+  /**
+   * @param maintenanceWorkMem PostgreSQL memory setting, e.g. "1GB"
+   * @param unloggedTables switch the tables to UNLOGGED for the load
+   */
+  public BulkLoadTuning(boolean enabled, String maintenanceWorkMem, boolean unloggedTables) {
+    if (enabled && !MEMORY_SETTING.matcher(maintenanceWorkMem.trim()).matches()) {
+      throw new IllegalArgumentException("Invalid maintenance_work_mem setting: " + maintenanceWorkMem);
+    }
+    this.enabled = enabled;
+    this.maintenanceWorkMem = maintenanceWorkMem.trim();
+    this.unloggedTables = enabled && unloggedTables;
+  }
+
+  public static BulkLoadTuning disabled() {
+    return new BulkLoadTuning(false, "", false);
+  }
+
+  public static BulkLoadTuning of(TransferConfig transferConfig) {
+    if (transferConfig == null) {
+      return disabled();
+    }
+    TransferConfig.BulkLoad config = transferConfig.bulkLoad();
+    return new BulkLoadTuning(config.enabled(), config.maintenanceWorkMem(), config.unloggedTables());
+  }
+
+  /**
+   * The same tuning without switching tables to UNLOGGED.
+   */
+  public BulkLoadTuning withoutUnloggedTables() {
+    return new BulkLoadTuning(enabled, maintenanceWorkMem, false);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public boolean usesUnloggedTables() {
+    return unloggedTables;
+  }
+
+  /**
+   * Applies the session settings to a newly opened PostgreSQL connection.
+   *
+   * @return the same connection
+   */
+  public Connection configureSession(Connection conn) throws SQLException {
+    if (enabled) {
+      try (Statement stmt = conn.createStatement()) {
+        stmt.execute("SET synchronous_commit = off");
+        stmt.execute("SET maintenance_work_mem = '" + maintenanceWorkMem + "'");
+      }
+      if (!conn.getAutoCommit()) {
+        conn.commit();
+      }
+    }
+    return conn;
+  }
+
+  /**
+   * Switches the tables that are currently LOGGED to UNLOGGED. Tables that cannot be switched
+   * are loaded as they are.
+   *
+   * @return the tables that were switched, to be passed to {@link #setLogged}
+   */
+  public List<TableMetadata> setUnlogged(Connection conn, List<TableMetadata> tables) {
+    List<TableMetadata> switched = new ArrayList<>();
+    if (!unloggedTables) {
+      return switched;
+    }
+    for (TableMetadata table : tables) {
+      try {
+        if (isPermanent(conn, table)) {
+          alterPersistence(conn, table, "UNLOGGED");
+          switched.add(table);
+        }
+      } catch (SQLException e) {
+        log.warn("Could not switch {}.{} to UNLOGGED, loading it logged: {}",
+                table.getSchema(), table.getTableName(), e.getMessage());
+        rollbackQuietly(conn);
+      }
+    }
+    log.info("Switched {} of {} tables to UNLOGGED for the load", switched.size(), tables.size());
+    return switched;
+  }
+
+  /**
+   * Switches the tables back to LOGGED, which writes each of them to the WAL once.
+   *
+   * @return the tables that are still UNLOGGED because the switch failed
+   */
+  public List<TableMetadata> setLogged(Connection conn, List<TableMetadata> tables) {
+    List<TableMetadata> failed = new ArrayList<>();
+    for (TableMetadata table : tables) {
+      try {
+        alterPersistence(conn, table, "LOGGED");
+      } catch (SQLException e) {
+        log.error("Could not switch {}.{} back to LOGGED, its data is lost on a server crash until "
+                + "ALTER TABLE ... SET LOGGED succeeds: {}", table.getSchema(), table.getTableName(), e.getMessage());
+        rollbackQuietly(conn);
+        failed.add(table);
+      }
+    }
+    return failed;
+  }
+
+  private boolean isPermanent(Connection conn, TableMetadata table) throws SQLException {
+    try (PreparedStatement ps = conn.prepareStatement(
+            "SELECT relpersistence FROM pg_class WHERE oid = to_regclass(?)")) {
+      ps.setString(1, qualifiedName(table));
+      try (ResultSet rs = ps.executeQuery()) {
+        return rs.next() && "p".equals(rs.getString(1));
+      }
+    }
+  }
+
+  private void alterPersistence(Connection conn, TableMetadata table, String persistence) throws SQLException {
+    try (Statement stmt = conn.createStatement()) {
+      stmt.execute("ALTER TABLE " + qualifiedName(table) + " SET " + persistence);
+    }
+    if (!conn.getAutoCommit()) {
+      conn.commit();
+    }
+  }
+
+  private static String qualifiedName(TableMetadata table) {
+    return PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()) + "." +
+            PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName());
+  }
+
+  private static void rollbackQuietly(Connection conn) {
+    try {
+      if (!conn.getAutoCommit()) {
+        conn.rollback();
+      }
+    } catch (SQLException e) {
+      log.debug("Rollback failed: {}", e.getMessage());
+    }
+  }
+
+  @Override
+  public String toString() {
+    return enabled
+            ? "synchronous_commit=off, maintenance_work_mem=" + maintenanceWorkMem
+            + (unloggedTables ? ", unlogged tables" : "")
+            : "default session settings";
+  }
+}
@@ -0,0 +1,95 @@
+package me.christianrobert.ora2postgre.transfer.checkpoint;
+
+import me.christianrobert.ora2postgre.transfer.chunk.TransferChunk;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Checkpoint state of one table as recorded in the control table by previous runs.
+ *
+ * A table is either completed as a whole, or has a recorded chunk plan in which each
+ * chunk is pending or completed. Completed chunks were committed in the same transaction
+ * as their data, so they can be skipped on resume without creating duplicates.
+ */
+public class TableCheckpoint {
+
+  /**
+   * A chunk as recorded in the control table.
+   */
+  public static class ChunkState {
+    private final int chunkIndex;
+    private final String description;
+    private final boolean completed;
+    private final long rowsTransferred;
+
+    public ChunkState(int chunkIndex, String description, boolean completed, long rowsTransferred) {
+      this.chunkIndex = chunkIndex;
+      this.description = description;
+      this.completed = completed;
+      this.rowsTransferred = rowsTransferred;
+    }
+
+    public int getChunkIndex() { return chunkIndex; }
+    public String getDescription() { return description; }
+    public boolean isCompleted() { return completed; }
+    public long getRowsTransferred() { return rowsTransferred; }
+  }
+
+  private static final TableCheckpoint EMPTY = new TableCheckpoint(false, 0, Map.of());
+
+  private final boolean tableCompleted;
+  private final long tableRows;
+  private final Map<Integer, ChunkState> chunks;
+
+  public TableCheckpoint(boolean tableCompleted, long tableRows, Map<Integer, ChunkState> chunks) {
+    this.tableCompleted = tableCompleted;
+    this.tableRows = tableRows;
+    this.chunks = Map.copyOf(chunks);
+  }
+
+  public static TableCheckpoint empty() {
+    return EMPTY;
+  }
+
+  public boolean isTableCompleted() { return tableCompleted; }
+  public long getTableRows() { return tableRows; }
+
+  public boolean hasChunkPlan() {
+    return !chunks.isEmpty();
+  }
+
+  public long getCompletedChunkCount() {
+    return chunks.values().stream().filter(ChunkState::isCompleted).count();
+  }
+
+  /**
+   * Whether the recorded plan has exactly the given chunks. A plan computed again from the
+   * source can differ if the table was reorganized or its key range changed; then the
+   * recorded progress cannot be trusted and the table has to be reloaded.
+   */
+  public boolean matchesPlan(List<TransferChunk> plannedChunks) {
+    if (plannedChunks.size() != chunks.size()) {
+      return false;
+    }
+    for (TransferChunk chunk : plannedChunks) {
+      ChunkState state = chunks.get(chunk.getIndex());
+      if (state == null || !Objects.equals(state.getDescription(), chunk.getDescription())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the recorded state of a completed chunk, or null if it still has to be copied.
+   */
+  public ChunkState getCompletedChunk(TransferChunk chunk) {
+    ChunkState state = chunks.get(chunk.getIndex());
+    if (state != null && state.isCompleted() && Objects.equals(state.getDescription(), chunk.getDescription())) {
+      return state;
+    }
+    return null;
+  }
+}
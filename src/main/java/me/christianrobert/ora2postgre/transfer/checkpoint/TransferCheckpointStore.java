@@ -0,0 +1,220 @@
+package me.christianrobert.ora2postgre.transfer.checkpoint;
+
+import me.christianrobert.ora2postgre.global.PostgreSqlIdentifierUtils;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.transfer.chunk.TransferChunk;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Records transfer progress per table and chunk in a small control table in PostgreSQL.
+ *
+ * Every checkpoint is written on the same connection and in the same transaction as the
+ * data it describes, so a chunk is either loaded and marked completed, or neither. A rerun
+ * with resume can therefore skip completed tables and chunks without duplicate rows.
+ *
+ * Rows use chunk index {@value #WHOLE_TABLE} for a completed table; chunked tables also
+ * have one row per planned chunk with status PENDING or COMPLETED. A load pinned to one SCN
+ * keeps it in a row with chunk index {@value #SNAPSHOT}, so resumed runs read the same snapshot.
+ */
+public class TransferCheckpointStore {
+
+  private static final Logger log = LoggerFactory.getLogger(TransferCheckpointStore.class);
+
+  public static final int WHOLE_TABLE = -1;
+  public static final int SNAPSHOT = -2;
+  public static final String DEFAULT_CONTROL_TABLE = "public.ora2pg_transfer_checkpoint";
+
+  private static final String STATUS_PENDING = "PENDING";
+  private static final String STATUS_COMPLETED = "COMPLETED";
+  // Schema and table name of rows that belong to the whole load rather than to one table
+  private static final String LOAD_SCOPE = "*";
+  private static final Pattern CONTROL_TABLE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+  private final String controlTable;
+
+  /**
+   * @param controlTable optionally schema-qualified name of the control table, e.g. public.ora2pg_transfer_checkpoint
+   */
+  public TransferCheckpointStore(String controlTable) {
+    if (controlTable == null || !CONTROL_TABLE_NAME.matcher(controlTable).matches()) {
+      throw new IllegalArgumentException("Invalid checkpoint control table name: " + controlTable);
+    }
+    this.controlTable = controlTable;
+  }
+
+  public String getControlTable() {
+    return controlTable;
+  }
+
+  /**
+   * Creates the control table if it does not exist yet.
+   */
+  public void ensureControlTable(Connection conn) throws SQLException {
+    String ddl = "CREATE TABLE IF NOT EXISTS " + controlTable + " (" +
+            "table_schema TEXT NOT NULL, " +
+            "table_name TEXT NOT NULL, " +
+            "chunk_index INTEGER NOT NULL, " +
+            "chunk_description TEXT, " +
+            "status TEXT NOT NULL, " +
+            "rows_transferred BIGINT NOT NULL DEFAULT 0, " +
+            "updated_at TIMESTAMP NOT NULL DEFAULT now(), " +
+            "PRIMARY KEY (table_schema, table_name, chunk_index))";
+    try (Statement stmt = conn.createStatement()) {
+      stmt.execute(ddl);
+    }
+    if (!conn.getAutoCommit()) {
+      conn.commit();
+    }
+    log.debug("Checkpoint control table {} is ready", controlTable);
+  }
+
+  /**
+   * Loads the recorded state of one table.
+   */
+  public TableCheckpoint load(Connection conn, String schema, String table) throws SQLException {
+    String sql = "SELECT chunk_index, chunk_description, status, rows_transferred FROM " + controlTable +
+            " WHERE table_schema = ? AND table_name = ?";
+
+    boolean tableCompleted = false;
+    long tableRows = 0;
+    Map<Integer, TableCheckpoint.ChunkState> chunks = new HashMap<>();
+
+    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+      ps.setString(1, schema);
+      ps.setString(2, table);
+      try (ResultSet rs = ps.executeQuery()) {
+        while (rs.next()) {
+          int chunkIndex = rs.getInt(1);
+          boolean completed = STATUS_COMPLETED.equals(rs.getString(3));
+          long rows = rs.getLong(4);
+          if (chunkIndex == WHOLE_TABLE) {
+            tableCompleted = completed;
+            tableRows = rows;
+          } else {
+            chunks.put(chunkIndex, new TableCheckpoint.ChunkState(chunkIndex, rs.getString(2), completed, rows));
+          }
+        }
+      }
+    }
+
+    if (!tableCompleted && chunks.isEmpty()) {
+      return TableCheckpoint.empty();
+    }
+    return new TableCheckpoint(tableCompleted, tableRows, chunks);
+  }
+
+  /**
+   * Removes all checkpoints of a table and empties the target table, so that it can be loaded from scratch.
+   * Runs in the caller's transaction.
+   */
+  public void resetTable(Connection conn, TableMetadata table) throws SQLException {
+    try (PreparedStatement ps = conn.prepareStatement(
+            "DELETE FROM " + controlTable + " WHERE table_schema = ? AND table_name = ?")) {
+      ps.setString(1, table.getSchema());
+      ps.setString(2, table.getTableName());
+      ps.executeUpdate();
+    }
+    try (Statement stmt = conn.createStatement()) {
+      stmt.execute("TRUNCATE TABLE " + PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()) +
+              "." + PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName()));
+    }
+  }
+
+  /**
+   * Records the chunk plan of a table with every chunk pending.
+   */
+  public void recordChunkPlan(Connection conn, TableMetadata table, List<TransferChunk> chunks) throws SQLException {
+    try (PreparedStatement ps = conn.prepareStatement(upsertSql())) {
+      for (TransferChunk chunk : chunks) {
+        bindUpsert(ps, table, chunk.getIndex(), chunk.getDescription(), STATUS_PENDING, 0);
+        ps.addBatch();
+      }
+      ps.executeBatch();
+    }
+  }
+
+  /**
+   * Marks a chunk completed. Must run in the transaction that loaded the chunk's rows.
+   */
+  public void recordChunkCompleted(Connection conn, TableMetadata table, TransferChunk chunk,
+                                   long rowsTransferred) throws SQLException {
+    try (PreparedStatement ps = conn.prepareStatement(upsertSql())) {
+      bindUpsert(ps, table, chunk.getIndex(), chunk.getDescription(), STATUS_COMPLETED, rowsTransferred);
+      ps.executeUpdate();
+    }
+  }
+
+  /**
+   * Marks the whole table completed.
+   */
+  public void recordTableCompleted(Connection conn, TableMetadata table, long rowsTransferred) throws SQLException {
+    try (PreparedStatement ps = conn.prepareStatement(upsertSql())) {
+      bindUpsert(ps, table, WHOLE_TABLE, "whole table", STATUS_COMPLETED, rowsTransferred);
+      ps.executeUpdate();
+    }
+  }
+
+  /**
+   * Records the SCN all tables of the load are read at, replacing the SCN of an earlier load.
+   */
+  public void recordSnapshotScn(Connection conn, long scn) throws SQLException {
+    try (PreparedStatement ps = conn.prepareStatement(upsertSql())) {
+      ps.setString(1, LOAD_SCOPE);
+      ps.setString(2, LOAD_SCOPE);
+      ps.setInt(3, SNAPSHOT);
+      ps.setString(4, Long.toString(scn));
+      ps.setString(5, STATUS_COMPLETED);
+      ps.setLong(6, 0);
+      ps.executeUpdate();
+    }
+    if (!conn.getAutoCommit()) {
+      conn.commit();
+    }
+  }
+
+  /**
+   * Loads the SCN recorded by the load being resumed, or null if it read current data.
+   */
+  public Long loadSnapshotScn(Connection conn) throws SQLException {
+    String sql = "SELECT chunk_description FROM " + controlTable +
+            " WHERE table_schema = ? AND table_name = ? AND chunk_index = ?";
+    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+      ps.setString(1, LOAD_SCOPE);
+      ps.setString(2, LOAD_SCOPE);
+      ps.setInt(3, SNAPSHOT);
+      try (ResultSet rs = ps.executeQuery()) {
+        return rs.next() ? Long.valueOf(rs.getString(1)) : null;
+      }
+    }
+  }
+
+  private String upsertSql() {
+    return "INSERT INTO " + controlTable +
+            " (table_schema, table_name, chunk_index, chunk_description, status, rows_transferred, updated_at)" +
+            " VALUES (?, ?, ?, ?, ?, ?, now())" +
+            " ON CONFLICT (table_schema, table_name, chunk_index) DO UPDATE SET" +
+            " chunk_description = EXCLUDED.chunk_description, status = EXCLUDED.status," +
+            " rows_transferred = EXCLUDED.rows_transferred, updated_at = EXCLUDED.updated_at";
+  }
+
+  private void bindUpsert(PreparedStatement ps, TableMetadata table, int chunkIndex, String description,
+                          String status, long rowsTransferred) throws SQLException {
+    ps.setString(1, table.getSchema());
+    ps.setString(2, table.getTableName());
+    ps.setInt(3, chunkIndex);
+    ps.setString(4, description);
+    ps.setString(5, status);
+    ps.setLong(6, rowsTransferred);
+  }
+}
@@ -0,0 +1,247 @@
+package me.christianrobert.ora2postgre.transfer.chunk;
+
+import me.christianrobert.ora2postgre.global.PostgreSqlIdentifierUtils;
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.ConstraintMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.transfer.TransferSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a source table into disjoint chunks for intra-table parallel transfer.
+ *
+ * Approaches are tried in order until one yields at least two chunks:
+ * 1. ROWID ranges built from the table extents (like DBMS_PARALLEL_EXECUTE, requires dba_extents access)
+ * 2. Ranges over a single-column numeric primary key (MIN/MAX split)
+ * 3. One chunk per table partition
+ * If none applies, the whole table is returned as a single chunk.
+ */
+public final class ChunkPlanner {
+
+  private static final Logger log = LoggerFactory.getLogger(ChunkPlanner.class);
+
+  private ChunkPlanner() {
+    // Utility class
+  }
+
+  /**
+   * @param snapshot the SCN the chunks are read at; the key range bounds are read at it too
+   */
+  public static List<TransferChunk> planChunks(Connection oracleConn, TableMetadata table, int targetChunks,
+                                               TransferSnapshot snapshot) {
+    String fullTableName = table.getSchema() + "." + table.getTableName();
+    if (targetChunks < 2) {
+      return List.of(TransferChunk.wholeTable());
+    }
+
+    try {
+      List<TransferChunk> chunks = planRowidChunks(oracleConn, table, targetChunks);
+      if (chunks.size() > 1) {
+        log.info("Planned {} ROWID range chunks for {}", chunks.size(), fullTableName);
+        return chunks;
+      }
+    } catch (SQLException e) {
+      log.debug("ROWID chunking not available for {}: {}", fullTableName, e.getMessage());
+    }
+
+    try {
+      List<TransferChunk> chunks = planKeyRangeChunks(oracleConn, table, targetChunks, snapshot);
+      if (chunks.size() > 1) {
+        log.info("Planned {} primary key range chunks for {}", chunks.size(), fullTableName);
+        return chunks;
+      }
+    } catch (SQLException e) {
+      log.debug("Primary key chunking not available for {}: {}", fullTableName, e.getMessage());
+    }
+
+    try {
+      List<TransferChunk> chunks = planPartitionChunks(oracleConn, table);
+      if (chunks.size() > 1) {
+        log.info("Planned {} partition chunks for {}", chunks.size(), fullTableName);
+        return chunks;
+      }
+    } catch (SQLException e) {
+      log.debug("Partition chunking not available for {}: {}", fullTableName, e.getMessage());
+    }
+
+    log.info("No chunking approach applies to {}, transferring as a single chunk", fullTableName);
+    return List.of(TransferChunk.wholeTable());
+  }
+
+  /**
+   * Groups the table extents (in ROWID order) into contiguous runs of roughly equal block count.
+   * The first and last chunk are left open so rows in blocks added after planning are not lost.
+   */
+  static List<TransferChunk> planRowidChunks(Connection oracleConn, TableMetadata table, int targetChunks) throws SQLException {
+    String sql = """
+            SELECT
+                DBMS_ROWID.ROWID_CREATE(1, o.data_object_id, e.relative_fno, e.block_id, 0) AS start_rowid,
+                e.blocks
+            FROM dba_extents e
+            JOIN all_objects o ON o.owner = e.owner
+                AND o.object_name = e.segment_name
+                AND NVL(o.subobject_name, '-') = NVL(e.partition_name, '-')
+            WHERE e.owner = ? AND e.segment_name = ?
+              AND o.object_type IN ('TABLE', 'TABLE PARTITION', 'TABLE SUBPARTITION')
+            ORDER BY o.data_object_id, e.relative_fno, e.block_id
+            """;
+
+    List<String> extentStarts = new ArrayList<>();
+    List<Long> extentBlocks = new ArrayList<>();
+    long totalBlocks = 0;
+
+    try (PreparedStatement ps = oracleConn.prepareStatement(sql)) {
+      ps.setString(1, table.getSchema().toUpperCase());
+      ps.setString(2, table.getTableName().toUpperCase());
+      try (ResultSet rs = ps.executeQuery()) {
+        while (rs.next()) {
+          extentStarts.add(rs.getString(1));
+          long blocks = rs.getLong(2);
+          extentBlocks.add(blocks);
+          totalBlocks += blocks;
+        }
+      }
+    }
+
+    if (extentStarts.size() < 2) {
+      return List.of();
+    }
+
+    // Pick chunk boundaries at extent starts once each chunk has its share of blocks
+    long blocksPerChunk = Math.max(1, totalBlocks / targetChunks);
+    List<String> boundaries = new ArrayList<>();
+    long blocksInChunk = 0;
+    for (int i = 0; i < extentStarts.size(); i++) {
+      if (blocksInChunk >= blocksPerChunk && boundaries.size() < targetChunks - 1) {
+        boundaries.add(extentStarts.get(i));
+        blocksInChunk = 0;
+      }
+      blocksInChunk += extentBlocks.get(i);
+    }
+
+    return buildRangeChunks(boundaries);
+  }
+
+  /**
+   * Splits [MIN, MAX] of a single-column numeric primary key into equal-width ranges.
+   *
+   * @param snapshot the SCN MIN and MAX are read at, the same the ranges are then read at
+   */
+  public static List<TransferChunk> planKeyRangeChunks(Connection oracleConn, TableMetadata table, int targetChunks,
+                                                       TransferSnapshot snapshot) throws SQLException {
+    String keyColumn = findNumericPrimaryKeyColumn(table);
+    if (keyColumn == null) {
+      return List.of();
+    }
+
+    String quotedColumn = PostgreSqlIdentifierUtils.quoteIdentifier(keyColumn);
+    String sql = "SELECT MIN(" + quotedColumn + "), MAX(" + quotedColumn + ") FROM " +
+            PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()) + "." +
+            PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName()) + snapshot.flashbackClause();
+
+    BigDecimal min;
+    BigDecimal max;
+    try (PreparedStatement ps = oracleConn.prepareStatement(sql);
+         ResultSet rs = ps.executeQuery()) {
+      if (!rs.next()) {
+        return List.of();
+      }
+      min = rs.getBigDecimal(1);
+      max = rs.getBigDecimal(2);
+    }
+
+    if (min == null || max == null || !fitsInLong(min) || !fitsInLong(max)) {
+      return List.of();
+    }
+
+    long low = min.longValue();
+    long span;
+    try {
+      span = Math.subtractExact(max.longValue(), low);
+    } catch (ArithmeticException e) {
+      return List.of();
+    }
+    if (span < targetChunks) {
+      return List.of();
+    }
+
+    long step = span / targetChunks + 1;
+    List<TransferChunk> chunks = new ArrayList<>();
+    for (int i = 0; i < targetChunks; i++) {
+      Long lower = i == 0 ? null : low + i * step;
+      Long upper = i == targetChunks - 1 ? null : low + (i + 1) * step;
+      chunks.add(TransferChunk.keyRange(i, quotedColumn, lower, upper));
+    }
+    return chunks;
+  }
+
+  static List<TransferChunk> planPartitionChunks(Connection oracleConn, TableMetadata table) throws SQLException {
+    String sql = """
+            SELECT partition_name
+            FROM all_tab_partitions
+            WHERE table_owner = ? AND table_name = ?
+            ORDER BY partition_position
+            """;
+
+    List<TransferChunk> chunks = new ArrayList<>();
+    try (PreparedStatement ps = oracleConn.prepareStatement(sql)) {
+      ps.setString(1, table.getSchema().toUpperCase());
+      ps.setString(2, table.getTableName().toUpperCase());
+      try (ResultSet rs = ps.executeQuery()) {
+        while (rs.next()) {
+          chunks.add(TransferChunk.partition(chunks.size(), PostgreSqlIdentifierUtils.quoteIdentifier(rs.getString(1))));
+        }
+      }
+    }
+    return chunks;
+  }
+
+  private static List<TransferChunk> buildRangeChunks(List<String> boundaries) {
+    List<TransferChunk> chunks = new ArrayList<>();
+    if (boundaries.isEmpty()) {
+      return chunks;
+    }
+
+    // First chunk is open below, last chunk is open above; each boundary starts the next range
+    chunks.add(TransferChunk.rowidRange(0, null, boundaries.get(0)));
+    for (int i = 1; i < boundaries.size(); i++) {
+      chunks.add(TransferChunk.rowidRange(i, boundaries.get(i - 1), boundaries.get(i)));
+    }
+    chunks.add(TransferChunk.rowidRange(boundaries.size(), boundaries.get(boundaries.size() - 1), null));
+    return chunks;
+  }
+
+  /**
+   * The column of a single-column numeric primary key, or null if the table has none.
+   */
+  public static String findNumericPrimaryKeyColumn(TableMetadata table) {
+    for (ConstraintMetadata constraint : table.getConstraints()) {
+      if (ConstraintMetadata.PRIMARY_KEY.equals(constraint.getConstraintType())
+              && constraint.getColumnNames().size() == 1) {
+        String keyColumn = constraint.getColumnNames().get(0);
+        for (ColumnMetadata column : table.getColumns()) {
+          if (column.getColumnName().equalsIgnoreCase(keyColumn)) {
+            String dataType = column.getDataType().toUpperCase();
+            boolean numeric = dataType.equals("NUMBER") || dataType.equals("INTEGER") || dataType.equals("INT");
+            return numeric ? column.getColumnName() : null;
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  private static boolean fitsInLong(BigDecimal value) {
+    return value.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) <= 0
+            && value.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) >= 0;
+  }
+}
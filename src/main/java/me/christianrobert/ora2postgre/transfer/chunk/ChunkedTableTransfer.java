@@ -0,0 +1,301 @@
+package me.christianrobert.ora2postgre.transfer.chunk;
+
+import me.christianrobert.ora2postgre.global.ConnectionPool;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.transfer.TransferSnapshot;
+import me.christianrobert.ora2postgre.transfer.checkpoint.TableCheckpoint;
+import me.christianrobert.ora2postgre.transfer.checkpoint.TransferCheckpointStore;
+import me.christianrobert.ora2postgre.transfer.progress.ChunkResult;
+import me.christianrobert.ora2postgre.transfer.progress.TransferProgress;
+import me.christianrobert.ora2postgre.transfer.progress.TransferResult;
+import me.christianrobert.ora2postgre.transfer.strategy.ChunkedTransferStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Copies one large table as several disjoint chunks, each on its own Oracle/PostgreSQL
+ * connection pair taken from the transfer pools, and combines the chunk outcomes into a
+ * single TransferResult for the table.
+ *
+ * The calling worker does not hold any pooled connection while the chunks run, so chunks
+ * and other table workers share the pools without deadlocking.
+ *
+ * With a checkpoint store, the chunk plan is recorded before the first chunk and each chunk
+ * commits its rows together with its checkpoint. When resuming with an unchanged plan, chunks
+ * committed by a previous run are skipped; otherwise the target table is emptied and reloaded.
+ */
+public class ChunkedTableTransfer {
+
+  private static final Logger log = LoggerFactory.getLogger(ChunkedTableTransfer.class);
+
+  private final ConnectionPool oraclePool;
+  private final ConnectionPool postgresPool;
+  private final int chunksPerTable;
+  private final int parallelism;
+  private final TransferCheckpointStore checkpointStore;
+  private final TransferSnapshot snapshot;
+
+  public ChunkedTableTransfer(ConnectionPool oraclePool, ConnectionPool postgresPool,
+                              int chunksPerTable, int parallelism) {
+    this(oraclePool, postgresPool, chunksPerTable, parallelism, null, new TransferSnapshot());
+  }
+
+  /**
+   * @param checkpointStore records chunk progress for resumable transfers, may be null
+   * @param snapshot the SCN the chunk plan is made at, the same the strategies read the chunks at
+   */
+  public ChunkedTableTransfer(ConnectionPool oraclePool, ConnectionPool postgresPool,
+                              int chunksPerTable, int parallelism, TransferCheckpointStore checkpointStore,
+                              TransferSnapshot snapshot) {
+    this.oraclePool = oraclePool;
+    this.postgresPool = postgresPool;
+    this.chunksPerTable = chunksPerTable;
+    this.parallelism = Math.max(1, parallelism);
+    this.checkpointStore = checkpointStore;
+    this.snapshot = snapshot;
+  }
+
+  public TransferResult transfer(TableMetadata table, ChunkedTransferStrategy strategy,
+                                 long estimatedRows, TransferProgress progress) {
+    return transfer(table, strategy, estimatedRows, progress, TableCheckpoint.empty());
+  }
+
+  /**
+   * @param checkpoint state recorded by a previous run; empty to load the table from scratch
+   */
+  public TransferResult transfer(TableMetadata table, ChunkedTransferStrategy strategy,
+                                 long estimatedRows, TransferProgress progress, TableCheckpoint checkpoint) {
+    long startTime = System.currentTimeMillis();
+    String schemaName = table.getSchema();
+    String tableName = table.getTableName();
+
+    List<TransferChunk> chunks;
+    Connection planningConn = null;
+    try {
+      planningConn = oraclePool.acquire();
+      chunks = ChunkPlanner.planChunks(planningConn, table, chunksPerTable, snapshot);
+    } catch (SQLException e) {
+      return TransferResult.failure(schemaName, tableName, strategy.getStrategyName(),
+              "Could not plan chunks: " + e.getMessage(), e);
+    } finally {
+      oraclePool.release(planningConn);
+    }
+
+    List<ChunkResult> chunkResults = new ArrayList<>();
+    List<TransferChunk> pendingChunks = chunks;
+    if (checkpointStore != null) {
+      try {
+        pendingChunks = prepareCheckpoints(table, chunks, checkpoint, chunkResults);
+      } catch (SQLException e) {
+        return TransferResult.failure(schemaName, tableName, strategy.getStrategyName(),
+                "Could not record chunk checkpoints: " + e.getMessage(), e);
+      }
+    }
+
+    int threads = Math.min(parallelism, Math.max(1, pendingChunks.size()));
+    progress.startTable(schemaName, tableName, estimatedRows);
+    progress.addCurrentTableProgress(chunkResults.stream().mapToLong(ChunkResult::getRowsTransferred).sum());
+    log.info("Transferring {}.{} in {} chunks with up to {} concurrent connections{}",
+            schemaName, tableName, chunks.size(), threads,
+            chunkResults.isEmpty() ? "" : " (" + chunkResults.size() + " chunks already completed)");
+
+    AtomicInteger threadCounter = new AtomicInteger(0);
+    ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "chunk-" + tableName + "-" + threadCounter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    List<Future<ChunkResult>> futures = new ArrayList<>();
+    try {
+      for (TransferChunk chunk : pendingChunks) {
+        futures.add(executor.submit(() -> transferChunk(table, strategy, chunk, progress)));
+      }
+      for (int i = 0; i < futures.size(); i++) {
+        TransferChunk chunk = pendingChunks.get(i);
+        try {
+          chunkResults.add(futures.get(i).get());
+        } catch (ExecutionException e) {
+          Exception cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+          chunkResults.add(ChunkResult.failure(chunk.getIndex(), chunk.getDescription(), 0,
+                  "Chunk transfer failed: " + cause.getMessage(), cause));
+        }
+      }
+    } catch (InterruptedException e) {
+      futures.forEach(future -> future.cancel(true));
+      Thread.currentThread().interrupt();
+      return TransferResult.failure(schemaName, tableName, strategy.getStrategyName(),
+              "Chunked transfer interrupted", e);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    chunkResults.sort(Comparator.comparingInt(ChunkResult::getChunkIndex));
+    long totalTransferred = chunkResults.stream().mapToLong(ChunkResult::getRowsTransferred).sum();
+    long transferTime = System.currentTimeMillis() - startTime;
+    List<ChunkResult> failedChunks = chunkResults.stream().filter(result -> !result.isSuccessful()).toList();
+
+    for (ChunkResult chunkResult : chunkResults) {
+      log.debug("{}.{} {}", schemaName, tableName, chunkResult);
+    }
+
+    if (!failedChunks.isEmpty()) {
+      ChunkResult firstFailure = failedChunks.get(0);
+      return new TransferResult.Builder(schemaName, tableName)
+              .successful(false)
+              .rowsTransferred(totalTransferred)
+              .sourceRowCount(estimatedRows)
+              .transferTimeMs(transferTime)
+              .strategyUsed(strategy.getStrategyName())
+              .exception(firstFailure.getException())
+              .errorMessage(String.format("%d of %d chunks failed, first: %s",
+                      failedChunks.size(), chunkResults.size(), firstFailure))
+              .chunkResults(chunkResults)
+              .build();
+    }
+
+    if (checkpointStore != null) {
+      try {
+        recordTableCompleted(table, totalTransferred);
+      } catch (SQLException e) {
+        return TransferResult.failure(schemaName, tableName, strategy.getStrategyName(),
+                "All chunks were copied but the table checkpoint could not be recorded: " + e.getMessage(), e);
+      }
+    }
+
+    progress.completeTable(totalTransferred);
+    return new TransferResult.Builder(schemaName, tableName)
+            .successful(true)
+            .rowsTransferred(totalTransferred)
+            .sourceRowCount(totalTransferred) // estimatedRows is only an estimate
+            .transferTimeMs(transferTime)
+            .strategyUsed(strategy.getStrategyName())
+            .chunkResults(chunkResults)
+            .metrics(progress.getTableMetrics(schemaName + "." + tableName))
+            .build();
+  }
+
+  private ChunkResult transferChunk(TableMetadata table, ChunkedTransferStrategy strategy,
+                                    TransferChunk chunk, TransferProgress progress) {
+    long startTime = System.currentTimeMillis();
+    Connection oracleConn = null;
+    Connection postgresConn = null;
+    try {
+      oracleConn = oraclePool.acquire();
+      postgresConn = postgresPool.acquire();
+      if (checkpointStore == null) {
+        return strategy.transferChunk(table, chunk, oracleConn, postgresConn, progress);
+      }
+      return transferChunkWithCheckpoint(table, strategy, chunk, oracleConn, postgresConn, progress);
+    } catch (SQLException e) {
+      return ChunkResult.failure(chunk.getIndex(), chunk.getDescription(), System.currentTimeMillis() - startTime,
+              "Could not obtain database connection: " + e.getMessage(), e);
+    } finally {
+      oraclePool.release(oracleConn);
+      postgresPool.release(postgresConn);
+    }
+  }
+
+  /**
+   * Copies a chunk and marks it completed in one PostgreSQL transaction.
+   */
+  private ChunkResult transferChunkWithCheckpoint(TableMetadata table, ChunkedTransferStrategy strategy, TransferChunk chunk,
+                                                  Connection oracleConn, Connection postgresConn,
+                                                  TransferProgress progress) throws SQLException {
+    boolean autoCommit = postgresConn.getAutoCommit();
+    postgresConn.setAutoCommit(false);
+    try {
+      ChunkResult result = strategy.transferChunk(table, chunk, oracleConn, postgresConn, progress);
+      if (result.isSuccessful()) {
+        checkpointStore.recordChunkCompleted(postgresConn, table, chunk, result.getRowsTransferred());
+        postgresConn.commit();
+      } else {
+        postgresConn.rollback();
+      }
+      return result;
+    } catch (SQLException | RuntimeException e) {
+      rollbackQuietly(postgresConn);
+      throw e;
+    } finally {
+      postgresConn.setAutoCommit(autoCommit);
+    }
+  }
+
+  /**
+   * Decides which chunks still have to be copied. Resumes an unchanged plan from the previous run,
+   * otherwise empties the target table and records the new plan.
+   *
+   * @param resumedResults receives one result per chunk that is already completed
+   * @return the chunks to copy
+   */
+  private List<TransferChunk> prepareCheckpoints(TableMetadata table, List<TransferChunk> chunks,
+                                                 TableCheckpoint checkpoint,
+                                                 List<ChunkResult> resumedResults) throws SQLException {
+    if (checkpoint.hasChunkPlan() && checkpoint.matchesPlan(chunks)) {
+      List<TransferChunk> pending = new ArrayList<>();
+      for (TransferChunk chunk : chunks) {
+        TableCheckpoint.ChunkState completed = checkpoint.getCompletedChunk(chunk);
+        if (completed != null) {
+          resumedResults.add(ChunkResult.resumed(chunk.getIndex(), chunk.getDescription(), completed.getRowsTransferred()));
+        } else {
+          pending.add(chunk);
+        }
+      }
+      log.info("Resuming {}.{}: {} of {} chunks already completed",
+              table.getSchema(), table.getTableName(), resumedResults.size(), chunks.size());
+      return pending;
+    }
+
+    if (checkpoint.hasChunkPlan()) {
+      log.warn("Chunk plan of {}.{} changed since the last run, reloading the whole table",
+              table.getSchema(), table.getTableName());
+    }
+
+    Connection postgresConn = postgresPool.acquire();
+    try {
+      boolean autoCommit = postgresConn.getAutoCommit();
+      postgresConn.setAutoCommit(false);
+      try {
+        checkpointStore.resetTable(postgresConn, table);
+        checkpointStore.recordChunkPlan(postgresConn, table, chunks);
+        postgresConn.commit();
+      } catch (SQLException | RuntimeException e) {
+        rollbackQuietly(postgresConn);
+        throw e;
+      } finally {
+        postgresConn.setAutoCommit(autoCommit);
+      }
+    } finally {
+      postgresPool.release(postgresConn);
+    }
+    return chunks;
+  }
+
+  private void recordTableCompleted(TableMetadata table, long rowsTransferred) throws SQLException {
+    Connection postgresConn = postgresPool.acquire();
+    try {
+      checkpointStore.recordTableCompleted(postgresConn, table, rowsTransferred);
+    } finally {
+      postgresPool.release(postgresConn);
+    }
+  }
+
+  private void rollbackQuietly(Connection conn) {
+    try {
+      conn.rollback();
+    } catch (SQLException e) {
+      log.debug("Rollback failed: {}", e.getMessage());
+    }
+  }
+}
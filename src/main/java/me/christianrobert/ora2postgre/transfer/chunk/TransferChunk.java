@@ -0,0 +1,118 @@
+package me.christianrobert.ora2postgre.transfer.chunk;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * One disjoint slice of a source table that can be copied independently of the others.
+ *
+ * A chunk restricts the table SELECT either by a partition clause or by a WHERE predicate
+ * with bind values. All chunks planned for a table together cover every row exactly once.
+ */
+public class TransferChunk {
+
+  public enum Kind {
+    WHOLE_TABLE,
+    ROWID_RANGE,
+    KEY_RANGE,
+    PARTITION
+  }
+
+  private final int index;
+  private final Kind kind;
+  private final String description;
+  private final String partitionName;
+  private final String predicate;
+  private final List<Object> bindValues;
+
+  private TransferChunk(int index, Kind kind, String description, String partitionName,
+                        String predicate, List<Object> bindValues) {
+    this.index = index;
+    this.kind = kind;
+    this.description = description;
+    this.partitionName = partitionName;
+    this.predicate = predicate;
+    this.bindValues = bindValues;
+  }
+
+  public static TransferChunk wholeTable() {
+    return new TransferChunk(0, Kind.WHOLE_TABLE, "whole table", null, null, List.of());
+  }
+
+  /**
+   * Half-open ROWID range [startRowid, endRowid) built from table extents. A null bound leaves that side open.
+   */
+  public static TransferChunk rowidRange(int index, String startRowid, String endRowid) {
+    if (startRowid == null) {
+      return new TransferChunk(index, Kind.ROWID_RANGE, "ROWID < " + endRowid, null,
+              "ROWID < CHARTOROWID(?)", List.of(endRowid));
+    }
+    if (endRowid == null) {
+      return new TransferChunk(index, Kind.ROWID_RANGE, "ROWID >= " + startRowid, null,
+              "ROWID >= CHARTOROWID(?)", List.of(startRowid));
+    }
+    return new TransferChunk(index, Kind.ROWID_RANGE, "ROWID in [" + startRowid + ", " + endRowid + ")", null,
+            "ROWID >= CHARTOROWID(?) AND ROWID < CHARTOROWID(?)", List.of(startRowid, endRowid));
+  }
+
+  /**
+   * Half-open numeric key range [lower, upper). A null bound leaves that side open.
+   */
+  public static TransferChunk keyRange(int index, String quotedColumn, Long lower, Long upper) {
+    if (lower == null) {
+      return new TransferChunk(index, Kind.KEY_RANGE, quotedColumn + " < " + upper, null,
+              quotedColumn + " < ?", List.of(upper));
+    }
+    if (upper == null) {
+      return new TransferChunk(index, Kind.KEY_RANGE, quotedColumn + " >= " + lower, null,
+              quotedColumn + " >= ?", List.of(lower));
+    }
+    return new TransferChunk(index, Kind.KEY_RANGE, quotedColumn + " in [" + lower + ", " + upper + ")", null,
+            quotedColumn + " >= ? AND " + quotedColumn + " < ?", List.of(lower, upper));
+  }
+
+  public static TransferChunk partition(int index, String partitionName) {
+    return new TransferChunk(index, Kind.PARTITION, "partition " + partitionName, partitionName, null, List.of());
+  }
+
+  // Getters
+  public int getIndex() { return index; }
+  public Kind getKind() { return kind; }
+  public String getDescription() { return description; }
+  public String getPartitionName() { return partitionName; }
+  public String getPredicate() { return predicate; }
+  public List<Object> getBindValues() { return bindValues; }
+
+  /**
+   * Text to append directly after the table name in the FROM clause.
+   */
+  public String getFromClauseSuffix() {
+    return partitionName != null ? " PARTITION (" + partitionName + ")" : "";
+  }
+
+  /**
+   * WHERE clause including the keyword, or an empty string for unrestricted chunks.
+   */
+  public String getWhereClause() {
+    return predicate != null ? " WHERE " + predicate : "";
+  }
+
+  /**
+   * Binds the predicate values starting at the given parameter index.
+   *
+   * @return the next free parameter index
+   */
+  public int bind(PreparedStatement ps, int startIndex) throws SQLException {
+    int parameterIndex = startIndex;
+    for (Object value : bindValues) {
+      ps.setObject(parameterIndex++, value);
+    }
+    return parameterIndex;
+  }
+
+  @Override
+  public String toString() {
+    return "Chunk " + index + " (" + description + ")";
+  }
+}
@@ -0,0 +1,161 @@
+package me.christianrobert.ora2postgre.transfer.copy;
+
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.plsql.ast.tools.transformers.TypeConverter;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Selects COPY binary encoders for table columns.
+ *
+ * The encoder is chosen from the PostgreSQL column type the table was created with
+ * ({@link TypeConverter#toPostgre(String)}), because binary COPY requires the exact
+ * wire type of the target column. Tables with any column outside the supported set
+ * are transferred with text COPY instead.
+ */
+public final class BinaryCopyEncoders {
+
+  private BinaryCopyEncoders() {
+    // Utility class
+  }
+
+  /**
+   * Returns one encoder per column in column order, or null if any column type
+   * cannot be written in binary format.
+   */
+  public static List<BinaryColumnEncoder> forColumns(List<ColumnMetadata> columns) {
+    List<BinaryColumnEncoder> encoders = new ArrayList<>();
+    for (ColumnMetadata column : columns) {
+      BinaryColumnEncoder encoder = forColumn(column);
+      if (encoder == null) {
+        return null;
+      }
+      encoders.add(encoder);
+    }
+    return encoders;
+  }
+
+  /**
+   * Returns the binary encoder for a column, or null if its target type is not supported.
+   */
+  public static BinaryColumnEncoder forColumn(ColumnMetadata column) {
+    String postgresType = TypeConverter.toPostgre(column.getDataType());
+    if (postgresType == null) {
+      return null;
+    }
+
+    return switch (postgresType.toLowerCase()) {
+      case "smallint" -> BinaryCopyEncoders::encodeInt2;
+      case "integer" -> BinaryCopyEncoders::encodeInt4;
+      case "bigint" -> BinaryCopyEncoders::encodeInt8;
+      case "numeric", "decimal" -> BinaryCopyEncoders::encodeNumeric;
+      case "real" -> BinaryCopyEncoders::encodeFloat4;
+      case "double precision" -> BinaryCopyEncoders::encodeFloat8;
+      case "text", "varchar", "char" -> BinaryCopyEncoders::encodeText;
+      case "bytea" -> BinaryCopyEncoders::encodeBytea;
+      case "timestamp" -> BinaryCopyEncoders::encodeTimestamp;
+      case "date" -> BinaryCopyEncoders::encodeDate;
+      default -> null;
+    };
+  }
+
+  private static void encodeInt2(ResultSet rs, int columnIndex, CopyBinaryWriter writer) throws SQLException {
+    long value = rs.getLong(columnIndex);
+    if (rs.wasNull()) {
+      writer.writeNull();
+    } else if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+      throw new SQLException("Value " + value + " out of range for smallint in column " + columnIndex);
+    } else {
+      writer.writeInt2((short) value);
+    }
+  }
+
+  private static void encodeInt4(ResultSet rs, int columnIndex, CopyBinaryWriter writer) throws SQLException {
+    long value = rs.getLong(columnIndex);
+    if (rs.wasNull()) {
+      writer.writeNull();
+    } else if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+      throw new SQLException("Value " + value + " out of range for integer in column " + columnIndex);
+    } else {
+      writer.writeInt4((int) value);
+    }
+  }
+
+  private static void encodeInt8(ResultSet rs, int columnIndex, CopyBinaryWriter writer) throws SQLException {
+    long value = rs.getLong(columnIndex);
+    if (rs.wasNull()) {
+      writer.writeNull();
+    } else {
+      writer.writeInt8(value);
+    }
+  }
+
+  private static void encodeNumeric(ResultSet rs, int columnIndex, CopyBinaryWriter writer) throws SQLException {
+    BigDecimal value = rs.getBigDecimal(columnIndex);
+    if (value == null) {
+      writer.writeNull();
+    } else {
+      writer.writeNumeric(value);
+    }
+  }
+
+  private static void encodeFloat4(ResultSet rs, int columnIndex, CopyBinaryWriter writer) throws SQLException {
+    float value = rs.getFloat(columnIndex);
+    if (rs.wasNull()) {
+      writer.writeNull();
+    } else {
+      writer.writeFloat4(value);
+    }
+  }
+
+  private static void encodeFloat8(ResultSet rs, int columnIndex, CopyBinaryWriter writer) throws SQLException {
+    double value = rs.getDouble(columnIndex);
+    if (rs.wasNull()) {
+      writer.writeNull();
+    } else {
+      writer.writeFloat8(value);
+    }
+  }
+
+  private static void encodeText(ResultSet rs, int columnIndex, CopyBinaryWriter writer) throws SQLException {
+    String value = rs.getString(columnIndex);
+    if (value == null) {
+      writer.writeNull();
+    } else {
+      writer.writeText(value);
+    }
+  }
+
+  private static void encodeBytea(ResultSet rs, int columnIndex, CopyBinaryWriter writer) throws SQLException {
+    byte[] value = rs.getBytes(columnIndex);
+    if (value == null) {
+      writer.writeNull();
+    } else {
+      writer.writeBytes(value);
+    }
+  }
+
+  private static void encodeTimestamp(ResultSet rs, int columnIndex, CopyBinaryWriter writer) throws SQLException {
+    // Same local wall-clock value the text path sends via Timestamp.toString()
+    Timestamp value = rs.getTimestamp(columnIndex);
+    if (value == null) {
+      writer.writeNull();
+    } else {
+      writer.writeTimestamp(value.toLocalDateTime());
+    }
+  }
+
+  private static void encodeDate(ResultSet rs, int columnIndex, CopyBinaryWriter writer) throws SQLException {
+    Timestamp value = rs.getTimestamp(columnIndex);
+    if (value == null) {
+      writer.writeNull();
+    } else {
+      writer.writeDate(value.toLocalDateTime().toLocalDate());
+    }
+  }
+}
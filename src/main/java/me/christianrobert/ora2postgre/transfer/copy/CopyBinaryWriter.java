@@ -0,0 +1,331 @@
+package me.christianrobert.ora2postgre.transfer.copy;
+
+import org.postgresql.copy.CopyIn;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Streams rows in PostgreSQL COPY binary format into a single open {@link CopyIn}.
+ *
+ * Values are written in the wire representation of the target column type, so neither
+ * side has to format or parse numbers and timestamps as text. The field type must match
+ * the target column exactly (e.g. int4 for integer, numeric for numeric); PostgreSQL
+ * rejects the COPY otherwise.
+ *
+ * Usage: {@link #startRow(int)}, one write call per column, {@link #endRow()};
+ * finish with {@link #finish()} or {@link #cancel()} on error.
+ */
+public class CopyBinaryWriter {
+
+  public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+  private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+
+  // PostgreSQL epoch (2000-01-01) relative to the Unix epoch
+  private static final long POSTGRES_EPOCH_SECONDS = 946_684_800L;
+  private static final long POSTGRES_EPOCH_DAYS = 10_957L;
+
+  private static final short NUMERIC_POSITIVE = 0x0000;
+  private static final short NUMERIC_NEGATIVE = 0x4000;
+  private static final int NUMERIC_BASE_DIGITS = 4;
+  private static final int MIN_BUFFER_SIZE = 64;
+
+  private final CopySink sink;
+  private byte[] buffer;
+  private int position = 0;
+  private long rowsWritten = 0;
+  private long bytesSent = 0;
+  private long sendNanos = 0;
+
+  public CopyBinaryWriter(CopyIn copyIn) throws SQLException {
+    this(copyIn, DEFAULT_BUFFER_SIZE);
+  }
+
+  public CopyBinaryWriter(CopyIn copyIn, int bufferSize) throws SQLException {
+    this(new DirectCopySink(copyIn, bufferSize));
+  }
+
+  /**
+   * Writes through a pipeline, so that a separate thread sends the filled buffers.
+   */
+  public CopyBinaryWriter(CopyPipeline pipeline) throws SQLException {
+    this((CopySink) pipeline);
+  }
+
+  private CopyBinaryWriter(CopySink sink) throws SQLException {
+    this.sink = sink;
+    this.buffer = sink.firstBuffer(MIN_BUFFER_SIZE);
+    writeHeader();
+  }
+
+  public long getRowsWritten() {
+    return rowsWritten;
+  }
+
+  /**
+   * Bytes encoded so far, including those still in the buffer.
+   */
+  public long getBytesWritten() {
+    return bytesSent + position;
+  }
+
+  /**
+   * Time spent handing buffers to the sink so far. With a pipeline this is the time the
+   * reader waited for a free buffer, i.e. for PostgreSQL.
+   */
+  public long getSendNanos() {
+    return sendNanos;
+  }
+
+  public void startRow(int fieldCount) throws SQLException {
+    ensureCapacity(2);
+    putShort((short) fieldCount);
+  }
+
+  public void endRow() {
+    rowsWritten++;
+  }
+
+  public void writeNull() throws SQLException {
+    ensureCapacity(4);
+    putInt(-1);
+  }
+
+  public void writeInt2(short value) throws SQLException {
+    ensureCapacity(6);
+    putInt(2);
+    putShort(value);
+  }
+
+  public void writeInt4(int value) throws SQLException {
+    ensureCapacity(8);
+    putInt(4);
+    putInt(value);
+  }
+
+  public void writeInt8(long value) throws SQLException {
+    ensureCapacity(12);
+    putInt(8);
+    putLong(value);
+  }
+
+  public void writeFloat4(float value) throws SQLException {
+    ensureCapacity(8);
+    putInt(4);
+    putInt(Float.floatToIntBits(value));
+  }
+
+  public void writeFloat8(double value) throws SQLException {
+    ensureCapacity(12);
+    putInt(8);
+    putLong(Double.doubleToLongBits(value));
+  }
+
+  /**
+   * Writes a timestamp without time zone as microseconds since 2000-01-01 00:00:00.
+   */
+  public void writeTimestamp(LocalDateTime value) throws SQLException {
+    long seconds = value.toEpochSecond(ZoneOffset.UTC) - POSTGRES_EPOCH_SECONDS;
+    // PostgreSQL rounds fractional seconds to microseconds when parsing text as well
+    long micros = seconds * 1_000_000L + (value.getNano() + 500) / 1_000;
+    writeInt8(micros);
+  }
+
+  /**
+   * Writes a date as days since 2000-01-01.
+   */
+  public void writeDate(LocalDate value) throws SQLException {
+    writeInt4((int) (value.toEpochDay() - POSTGRES_EPOCH_DAYS));
+  }
+
+  public void writeBytes(byte[] value) throws SQLException {
+    ensureCapacity(4);
+    putInt(value.length);
+    putBytes(value, 0, value.length);
+  }
+
+  /**
+   * Writes text/varchar as UTF-8. Short values are encoded straight into the buffer.
+   */
+  public void writeText(String value) throws SQLException {
+    int maxBytes = value.length() * 3;
+    if (maxBytes + 4 > buffer.length) {
+      writeBytes(value.getBytes(StandardCharsets.UTF_8));
+      return;
+    }
+
+    ensureCapacity(maxBytes + 4);
+    int lengthPosition = position;
+    position += 4;
+
+    int length = value.length();
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        buffer[position++] = (byte) c;
+      } else if (c < 0x800) {
+        buffer[position++] = (byte) (0xC0 | (c >> 6));
+        buffer[position++] = (byte) (0x80 | (c & 0x3F));
+      } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+        buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+        buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+      } else if (Character.isSurrogate(c)) {
+        buffer[position++] = '?';
+      } else {
+        buffer[position++] = (byte) (0xE0 | (c >> 12));
+        buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+        buffer[position++] = (byte) (0x80 | (c & 0x3F));
+      }
+    }
+
+    int byteLength = position - lengthPosition - 4;
+    buffer[lengthPosition] = (byte) (byteLength >>> 24);
+    buffer[lengthPosition + 1] = (byte) (byteLength >>> 16);
+    buffer[lengthPosition + 2] = (byte) (byteLength >>> 8);
+    buffer[lengthPosition + 3] = (byte) byteLength;
+  }
+
+  /**
+   * Writes a numeric in PostgreSQL's base-10000 representation:
+   * ndigits, weight, sign, dscale followed by the base-10000 digits.
+   */
+  public void writeNumeric(BigDecimal value) throws SQLException {
+    BigDecimal normalized = value.scale() < 0 ? value.setScale(0) : value;
+    short sign = normalized.signum() < 0 ? NUMERIC_NEGATIVE : NUMERIC_POSITIVE;
+    int displayScale = normalized.scale();
+
+    String digits = normalized.unscaledValue().abs().toString();
+    int integerDigits = digits.length() - displayScale;
+
+    // Pad so that integer digits form whole groups to the left of the decimal point
+    // and fraction digits whole groups to the right of it
+    int leadingPad = integerDigits > 0
+            ? (NUMERIC_BASE_DIGITS - integerDigits % NUMERIC_BASE_DIGITS) % NUMERIC_BASE_DIGITS
+            : 0;
+    int fractionZeros = integerDigits < 0 ? -integerDigits : 0;
+    int totalDigits = leadingPad + fractionZeros + digits.length();
+    int trailingPad = (NUMERIC_BASE_DIGITS - totalDigits % NUMERIC_BASE_DIGITS) % NUMERIC_BASE_DIGITS;
+    int groupCount = (totalDigits + trailingPad) / NUMERIC_BASE_DIGITS;
+    int weight = integerDigits > 0 ? (leadingPad + integerDigits) / NUMERIC_BASE_DIGITS - 1 : -1;
+
+    short[] groups = new short[groupCount];
+    int digitPosition = -leadingPad - fractionZeros;
+    for (int g = 0; g < groupCount; g++) {
+      int group = 0;
+      for (int d = 0; d < NUMERIC_BASE_DIGITS; d++, digitPosition++) {
+        int digit = digitPosition >= 0 && digitPosition < digits.length() ? digits.charAt(digitPosition) - '0' : 0;
+        group = group * 10 + digit;
+      }
+      groups[g] = (short) group;
+    }
+
+    // Strip leading zero groups (adjusting the weight) and trailing zero groups
+    int first = 0;
+    while (first < groupCount && groups[first] == 0) {
+      first++;
+      weight--;
+    }
+    int last = groupCount;
+    while (last > first && groups[last - 1] == 0) {
+      last--;
+    }
+    int ndigits = last - first;
+    if (ndigits == 0) {
+      weight = 0;
+      sign = NUMERIC_POSITIVE;
+    }
+
+    ensureCapacity(4 + 8 + ndigits * 2);
+    putInt(8 + ndigits * 2);
+    putShort((short) ndigits);
+    putShort((short) weight);
+    putShort(sign);
+    putShort((short) displayScale);
+    for (int g = first; g < last; g++) {
+      putShort(groups[g]);
+    }
+  }
+
+  /**
+   * Writes the file trailer, sends the remaining buffered data and completes the COPY.
+   *
+   * @return number of rows PostgreSQL reports as copied
+   */
+  public long finish() throws SQLException {
+    ensureCapacity(2);
+    putShort((short) -1);
+    flush();
+    long start = System.nanoTime();
+    try {
+      return sink.end();
+    } finally {
+      sendNanos += System.nanoTime() - start;
+    }
+  }
+
+  /**
+   * Aborts the COPY so that nothing written through this writer is committed.
+   */
+  public void cancel() {
+    sink.cancel();
+  }
+
+  private void writeHeader() throws SQLException {
+    putBytes(SIGNATURE, 0, SIGNATURE.length);
+    ensureCapacity(8);
+    putInt(0); // flags: no OIDs
+    putInt(0); // header extension length
+  }
+
+  private void putShort(short value) {
+    buffer[position++] = (byte) (value >>> 8);
+    buffer[position++] = (byte) value;
+  }
+
+  private void putInt(int value) {
+    buffer[position++] = (byte) (value >>> 24);
+    buffer[position++] = (byte) (value >>> 16);
+    buffer[position++] = (byte) (value >>> 8);
+    buffer[position++] = (byte) value;
+  }
+
+  private void putLong(long value) {
+    putInt((int) (value >>> 32));
+    putInt((int) value);
+  }
+
+  private void putBytes(byte[] value, int offset, int length) throws SQLException {
+    int written = 0;
+    while (written < length) {
+      ensureCapacity(1);
+      int count = Math.min(length - written, buffer.length - position);
+      System.arraycopy(value, offset + written, buffer, position, count);
+      position += count;
+      written += count;
+    }
+  }
+
+  private void ensureCapacity(int bytes) throws SQLException {
+    if (position + bytes > buffer.length) {
+      flush();
+    }
+  }
+
+  private void flush() throws SQLException {
+    if (position > 0) {
+      bytesSent += position;
+      long start = System.nanoTime();
+      buffer = sink.send(buffer, position);
+      sendNanos += System.nanoTime() - start;
+      position = 0;
+    }
+  }
+}
@@ -0,0 +1,253 @@
+package me.christianrobert.ora2postgre.transfer.copy;
+
+import me.christianrobert.ora2postgre.transfer.progress.TransferProgress;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decouples the Oracle reader from the PostgreSQL COPY stream with a bounded ring of
+ * preallocated buffers.
+ *
+ * The thread that reads the Oracle result set encodes rows into a free buffer and queues it
+ * when full; a dedicated writer thread sends queued buffers to {@link CopyIn} and returns them
+ * to the free ring. Fetching the next rows from Oracle therefore overlaps with PostgreSQL
+ * ingesting the previous ones. When all buffers are queued the reader blocks until the writer
+ * has sent one (backpressure), so memory stays bounded at segmentCount * segmentSize.
+ *
+ * Queue depth and the time each side spent waiting for the other are reported to
+ * {@link TransferProgress}. The writer thread only ever touches the PostgreSQL connection;
+ * {@link #end()} and {@link #cancel()} wait for it before using the connection themselves.
+ * A writer blocked in a socket write ignores the interrupt and holds the driver's connection
+ * lock, so {@link #cancel()} waits only a bounded time and then aborts the connection.
+ */
+public class CopyPipeline implements CopySink {
+
+  private static final Logger log = LoggerFactory.getLogger(CopyPipeline.class);
+
+  public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024;
+  private static final int MIN_SEGMENT_SIZE = 64;
+  private static final long FAILURE_CHECK_INTERVAL_MS = 100;
+  private static final long CANCEL_TIMEOUT_MS = 5_000;
+
+  private static final Segment END = new Segment(null, -1);
+
+  private static final class Segment {
+    final byte[] data;
+    final int length;
+
+    Segment(byte[] data, int length) {
+      this.data = data;
+      this.length = length;
+    }
+  }
+
+  private final CopyIn copyIn;
+  private final Connection connection;
+  private final String name;
+  private final TransferProgress progress;
+  private final BlockingQueue<byte[]> free;
+  private final BlockingQueue<Segment> filled;
+  private final Thread writerThread;
+  private volatile Throwable writerFailure;
+  private volatile boolean cancelled = false;
+  private boolean ended = false;
+  // Package-private so tests need not wait the full timeout
+  long cancelTimeoutMs = CANCEL_TIMEOUT_MS;
+
+  /**
+   * Starts the writer thread for an open COPY.
+   *
+   * @param copyIn the open COPY FROM STDIN
+   * @param connection the connection the COPY runs on, aborted if the writer does not stop on cancel
+   * @param name used for the writer thread name and log messages, typically the table name
+   * @param segmentCount number of preallocated buffers in the ring, at least 2
+   * @param segmentSize size of each buffer in bytes
+   * @param progress receives queue-depth and wait-time metrics, may be null
+   */
+  public CopyPipeline(CopyIn copyIn, Connection connection, String name, int segmentCount, int segmentSize,
+                      TransferProgress progress) {
+    if (segmentCount < 2) {
+      throw new IllegalArgumentException("Copy pipeline needs at least 2 buffers, got " + segmentCount);
+    }
+    this.copyIn = copyIn;
+    this.connection = connection;
+    this.name = name;
+    this.progress = progress;
+    this.free = new ArrayBlockingQueue<>(segmentCount);
+    // One extra slot so that the end marker never blocks
+    this.filled = new ArrayBlockingQueue<>(segmentCount + 1);
+
+    int size = Math.max(segmentSize, MIN_SEGMENT_SIZE);
+    for (int i = 0; i < segmentCount; i++) {
+      free.add(new byte[size]);
+    }
+
+    this.writerThread = new Thread(this::drain, "copy-writer-" + name);
+    writerThread.setDaemon(true);
+    writerThread.start();
+  }
+
+  @Override
+  public byte[] firstBuffer(int minimumSize) throws SQLException {
+    return takeFreeBuffer();
+  }
+
+  @Override
+  public byte[] send(byte[] buffer, int length) throws SQLException {
+    checkWriter();
+    filled.add(new Segment(buffer, length));
+    if (progress != null) {
+      progress.pipelineBufferQueued();
+    }
+    return takeFreeBuffer();
+  }
+
+  @Override
+  public long end() throws SQLException {
+    if (!ended) {
+      ended = true;
+      filled.add(END);
+      joinWriter();
+    }
+    checkWriter();
+    return copyIn.endCopy();
+  }
+
+  @Override
+  public void cancel() {
+    cancelled = true;
+    writerThread.interrupt();
+    if (!awaitWriter()) {
+      // Stuck in writeToCopy, e.g. behind a lock wait on the server; cancelCopy() would block
+      // on the same connection lock, so close the socket instead. The table fails either way.
+      log.warn("COPY writer for {} did not stop within {} ms, aborting the PostgreSQL connection",
+              name, cancelTimeoutMs);
+      abortConnection();
+      awaitWriter();
+      discardQueued();
+      return;
+    }
+    discardQueued();
+    try {
+      if (copyIn.isActive()) {
+        copyIn.cancelCopy();
+      }
+    } catch (SQLException e) {
+      // Connection is most likely broken already; the original error is more relevant
+    }
+  }
+
+  /**
+   * Writer thread: sends queued buffers in order until the end marker arrives.
+   */
+  private void drain() {
+    try {
+      while (!cancelled) {
+        Segment segment = filled.poll();
+        if (segment == null) {
+          long waitStart = System.nanoTime();
+          segment = filled.take();
+          if (progress != null) {
+            progress.addPipelineWriterWaitNanos(System.nanoTime() - waitStart);
+          }
+        }
+        if (segment == END) {
+          return;
+        }
+
+        if (progress != null) {
+          progress.pipelineBufferDequeued();
+        }
+        copyIn.writeToCopy(segment.data, 0, segment.length);
+        free.add(segment.data);
+      }
+    } catch (InterruptedException e) {
+      // Cancelled by the reader
+    } catch (SQLException | RuntimeException e) {
+      writerFailure = e;
+      log.debug("COPY writer for {} failed: {}", name, e.getMessage());
+    }
+  }
+
+  private byte[] takeFreeBuffer() throws SQLException {
+    byte[] buffer = free.poll();
+    if (buffer != null) {
+      return buffer;
+    }
+
+    // All buffers are queued: PostgreSQL is the bottleneck, wait for the writer
+    long waitStart = System.nanoTime();
+    try {
+      while (buffer == null) {
+        checkWriter();
+        buffer = free.poll(FAILURE_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException("Interrupted while waiting for a COPY buffer for " + name, e);
+    } finally {
+      if (progress != null) {
+        progress.addPipelineReaderWaitNanos(System.nanoTime() - waitStart);
+      }
+    }
+    return buffer;
+  }
+
+  private void checkWriter() throws SQLException {
+    Throwable failure = writerFailure;
+    if (failure != null) {
+      throw new SQLException("COPY writer for " + name + " failed: " + failure.getMessage(), failure);
+    }
+    if (!writerThread.isAlive() && !ended) {
+      throw new SQLException("COPY writer for " + name + " stopped unexpectedly");
+    }
+  }
+
+  /**
+   * Waits up to the cancel timeout for the writer thread.
+   *
+   * @return true if the writer has stopped
+   */
+  private boolean awaitWriter() {
+    try {
+      writerThread.join(cancelTimeoutMs);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.debug("Interrupted while stopping COPY writer for {}", name);
+    }
+    return !writerThread.isAlive();
+  }
+
+  private void abortConnection() {
+    try {
+      connection.abort(Runnable::run);
+    } catch (SQLException | RuntimeException e) {
+      log.debug("Could not abort the connection of COPY writer for {}: {}", name, e.getMessage());
+    }
+  }
+
+  private void joinWriter() throws SQLException {
+    try {
+      writerThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException("Interrupted while waiting for the COPY writer for " + name, e);
+    }
+  }
+
+  private void discardQueued() {
+    Segment segment;
+    while ((segment = filled.poll()) != null) {
+      if (segment != END && progress != null) {
+        progress.pipelineBufferDequeued();
+      }
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package me.christianrobert.ora2postgre.transfer.copy;
+
+import java.sql.SQLException;
+
+/**
+ * Destination of the filled buffers of a COPY writer.
+ *
+ * A sink either hands each buffer to the driver right away and returns it for reuse,
+ * or queues it for another thread and returns a different free buffer.
+ */
+interface CopySink {
+
+  /**
+   * Returns the buffer the writer starts filling.
+   */
+  byte[] firstBuffer(int minimumSize) throws SQLException;
+
+  /**
+   * Sends the first length bytes of a filled buffer.
+   *
+   * @return the buffer to continue writing into
+   */
+  byte[] send(byte[] buffer, int length) throws SQLException;
+
+  /**
+   * Completes the COPY after all buffers were sent.
+   *
+   * @return number of rows PostgreSQL reports as copied
+   */
+  long end() throws SQLException;
+
+  /**
+   * Aborts the COPY; must not throw.
+   */
+  void cancel();
+}
@@ -0,0 +1,320 @@
+package me.christianrobert.ora2postgre.transfer.copy;
+
+import org.postgresql.copy.CopyIn;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+/**
+ * Streams rows in PostgreSQL COPY text format into a single open {@link CopyIn}.
+ *
+ * Values are escaped and UTF-8 encoded straight into one reusable byte buffer, which is
+ * handed to the driver whenever it fills up. No per-row or per-batch strings are built,
+ * so heap use stays flat regardless of table size. Because the COPY stays open for the
+ * whole table, PostgreSQL ingests the data already sent while the next rows are fetched
+ * from Oracle.
+ *
+ * Usage: call {@link #writeText(String)} / {@link #writeNull()} for every column, then
+ * {@link #endRow()}; finish with {@link #finish()} or {@link #cancel()} on error.
+ */
+public class CopyTextWriter {
+
+  public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+  // Worst case per char: escaped (2 bytes) or a 4-byte UTF-8 sequence for a surrogate pair
+  private static final int MAX_BYTES_PER_CHAR = 4;
+  private static final int MIN_BUFFER_SIZE = 16;
+  // Chunk size for reading LOB streams
+  private static final int LOB_CHUNK_SIZE = 32 * 1024;
+  private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+  private final CopySink sink;
+  private byte[] buffer;
+  private int position = 0;
+  private boolean firstField = true;
+  private long rowsWritten = 0;
+  private long bytesSent = 0;
+  private long sendNanos = 0;
+  private char[] lobChars;
+  private byte[] lobBytes;
+
+  public CopyTextWriter(CopyIn copyIn) {
+    this(copyIn, DEFAULT_BUFFER_SIZE);
+  }
+
+  public CopyTextWriter(CopyIn copyIn, int bufferSize) {
+    DirectCopySink direct = new DirectCopySink(copyIn, bufferSize);
+    this.sink = direct;
+    this.buffer = direct.firstBuffer(MIN_BUFFER_SIZE);
+  }
+
+  /**
+   * Writes through a pipeline, so that a separate thread sends the filled buffers.
+   */
+  public CopyTextWriter(CopyPipeline pipeline) throws SQLException {
+    this.sink = pipeline;
+    this.buffer = sink.firstBuffer(MIN_BUFFER_SIZE);
+  }
+
+  public long getRowsWritten() {
+    return rowsWritten;
+  }
+
+  /**
+   * Bytes encoded so far, including those still in the buffer.
+   */
+  public long getBytesWritten() {
+    return bytesSent + position;
+  }
+
+  /**
+   * Time spent handing buffers to the sink so far. With a pipeline this is the time the
+   * reader waited for a free buffer, i.e. for PostgreSQL.
+   */
+  public long getSendNanos() {
+    return sendNanos;
+  }
+
+  /**
+   * Writes a SQL NULL for the next column.
+   */
+  public void writeNull() throws SQLException {
+    startField();
+    ensureCapacity(2);
+    buffer[position++] = '\\';
+    buffer[position++] = 'N';
+  }
+
+  /**
+   * Writes the next column value, escaping backslash, tab, newline and carriage return.
+   * A null value is written as SQL NULL.
+   */
+  public void writeText(String value) throws SQLException {
+    if (value == null) {
+      writeNull();
+      return;
+    }
+    startField();
+    appendEscaped(value, 0, value.length());
+  }
+
+  /**
+   * Writes the next column value from a character stream, e.g. a CLOB, reading it in chunks
+   * into a reusable buffer. Memory use does not depend on the length of the value.
+   * A null reader is written as SQL NULL; the caller closes the reader.
+   */
+  public void writeCharacterStream(Reader reader) throws SQLException {
+    if (reader == null) {
+      writeNull();
+      return;
+    }
+    startField();
+
+    if (lobChars == null) {
+      lobChars = new char[LOB_CHUNK_SIZE];
+    }
+    CharBuffer chars = CharBuffer.wrap(lobChars);
+    int carried = 0;
+    try {
+      int read;
+      while ((read = reader.read(lobChars, carried, lobChars.length - carried)) != -1) {
+        int available = carried + read;
+        // A high surrogate at the end of the chunk is encoded together with the next chunk
+        int complete = available > 0 && Character.isHighSurrogate(lobChars[available - 1]) ? available - 1 : available;
+        appendEscaped(chars, 0, complete);
+        carried = available - complete;
+        if (carried > 0) {
+          lobChars[0] = lobChars[available - 1];
+        }
+      }
+    } catch (IOException e) {
+      throw new SQLException("Failed to read character stream: " + e.getMessage(), e);
+    }
+    appendEscaped(chars, 0, carried);
+  }
+
+  private void appendEscaped(CharSequence value, int start, int end) throws SQLException {
+    int i = start;
+    while (i < end) {
+      // Fast path: plain ASCII takes one byte per char and no escaping, so a run of it is
+      // copied with one capacity check for the whole run
+      int runEnd = Math.min(end, i + buffer.length - position);
+      while (i < runEnd) {
+        char c = value.charAt(i);
+        if (c >= 0x80 || c == '\\' || c == '\t' || c == '\n' || c == '\r') {
+          break;
+        }
+        buffer[position++] = (byte) c;
+        i++;
+      }
+      if (i == end) {
+        return;
+      }
+      if (i < runEnd) {
+        // Escaped or multi-byte char, a surrogate pair as a whole
+        int next = i + 1 < end && Character.isSurrogatePair(value.charAt(i), value.charAt(i + 1)) ? i + 2 : i + 1;
+        appendEncoded(value, i, next);
+        i = next;
+      } else {
+        flush();
+      }
+    }
+  }
+
+  private void appendEncoded(CharSequence value, int start, int end) throws SQLException {
+    for (int i = start; i < end; i++) {
+      ensureCapacity(MAX_BYTES_PER_CHAR);
+      char c = value.charAt(i);
+
+      if (c < 0x80) {
+        switch (c) {
+          case '\\' -> { buffer[position++] = '\\'; buffer[position++] = '\\'; }
+          case '\t' -> { buffer[position++] = '\\'; buffer[position++] = 't'; }
+          case '\n' -> { buffer[position++] = '\\'; buffer[position++] = 'n'; }
+          case '\r' -> { buffer[position++] = '\\'; buffer[position++] = 'r'; }
+          default -> buffer[position++] = (byte) c;
+        }
+      } else if (c < 0x800) {
+        buffer[position++] = (byte) (0xC0 | (c >> 6));
+        buffer[position++] = (byte) (0x80 | (c & 0x3F));
+      } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(value.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+        buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+        buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+      } else if (Character.isSurrogate(c)) {
+        // Unpaired surrogate: same replacement String.getBytes(UTF_8) would use
+        buffer[position++] = '?';
+      } else {
+        buffer[position++] = (byte) (0xE0 | (c >> 12));
+        buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+        buffer[position++] = (byte) (0x80 | (c & 0x3F));
+      }
+    }
+  }
+
+  /**
+   * Writes the next column value as a bytea in hex format. The backslash of the {@code \x}
+   * prefix is escaped for COPY text format. A null value is written as SQL NULL.
+   */
+  public void writeBytea(byte[] value) throws SQLException {
+    if (value == null) {
+      writeNull();
+      return;
+    }
+    startByteaField();
+    writeHex(value, 0, value.length);
+  }
+
+  /**
+   * Writes the next column value as a bytea from a binary stream, e.g. a BLOB, reading it in
+   * chunks into a reusable buffer. A null stream is written as SQL NULL; the caller closes it.
+   */
+  public void writeBinaryStream(InputStream stream) throws SQLException {
+    if (stream == null) {
+      writeNull();
+      return;
+    }
+    startByteaField();
+
+    if (lobBytes == null) {
+      lobBytes = new byte[LOB_CHUNK_SIZE];
+    }
+    try {
+      int read;
+      while ((read = stream.read(lobBytes)) != -1) {
+        writeHex(lobBytes, 0, read);
+      }
+    } catch (IOException e) {
+      throw new SQLException("Failed to read binary stream: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Appends more bytes to a bytea value started with {@link #writeBytea(byte[])}, so that
+   * large values can be written in pieces.
+   */
+  public void appendBytea(byte[] value, int offset, int length) throws SQLException {
+    writeHex(value, offset, length);
+  }
+
+  /**
+   * Terminates the current row.
+   */
+  public void endRow() throws SQLException {
+    ensureCapacity(1);
+    buffer[position++] = '\n';
+    firstField = true;
+    rowsWritten++;
+  }
+
+  /**
+   * Sends the remaining buffered data and completes the COPY.
+   *
+   * @return number of rows PostgreSQL reports as copied
+   */
+  public long finish() throws SQLException {
+    flush();
+    long start = System.nanoTime();
+    try {
+      return sink.end();
+    } finally {
+      sendNanos += System.nanoTime() - start;
+    }
+  }
+
+  /**
+   * Aborts the COPY so that nothing written through this writer is committed.
+   */
+  public void cancel() {
+    sink.cancel();
+  }
+
+  private void startByteaField() throws SQLException {
+    startField();
+    ensureCapacity(3);
+    buffer[position++] = '\\';
+    buffer[position++] = '\\';
+    buffer[position++] = 'x';
+  }
+
+  private void writeHex(byte[] value, int offset, int length) throws SQLException {
+    int end = offset + length;
+    for (int i = offset; i < end; i++) {
+      ensureCapacity(2);
+      int b = value[i] & 0xFF;
+      buffer[position++] = HEX_DIGITS[b >> 4];
+      buffer[position++] = HEX_DIGITS[b & 0x0F];
+    }
+  }
+
+  private void startField() throws SQLException {
+    if (firstField) {
+      firstField = false;
+    } else {
+      ensureCapacity(1);
+      buffer[position++] = '\t';
+    }
+  }
+
+  private void ensureCapacity(int bytes) throws SQLException {
+    if (position + bytes > buffer.length) {
+      flush();
+    }
+  }
+
+  private void flush() throws SQLException {
+    if (position > 0) {
+      bytesSent += position;
+      long start = System.nanoTime();
+      buffer = sink.send(buffer, position);
+      sendNanos += System.nanoTime() - start;
+      position = 0;
+    }
+  }
+}
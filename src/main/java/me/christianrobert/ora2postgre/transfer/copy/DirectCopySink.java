@@ -0,0 +1,46 @@
+package me.christianrobert.ora2postgre.transfer.copy;
+
+import org.postgresql.copy.CopyIn;
+
+import java.sql.SQLException;
+
+/**
+ * Sends filled buffers to the driver on the calling thread and reuses one buffer.
+ */
+class DirectCopySink implements CopySink {
+
+  private final CopyIn copyIn;
+  private final int bufferSize;
+
+  DirectCopySink(CopyIn copyIn, int bufferSize) {
+    this.copyIn = copyIn;
+    this.bufferSize = bufferSize;
+  }
+
+  @Override
+  public byte[] firstBuffer(int minimumSize) {
+    return new byte[Math.max(bufferSize, minimumSize)];
+  }
+
+  @Override
+  public byte[] send(byte[] buffer, int length) throws SQLException {
+    copyIn.writeToCopy(buffer, 0, length);
+    return buffer;
+  }
+
+  @Override
+  public long end() throws SQLException {
+    return copyIn.endCopy();
+  }
+
+  @Override
+  public void cancel() {
+    try {
+      if (copyIn.isActive()) {
+        copyIn.cancelCopy();
+      }
+    } catch (SQLException e) {
+      // Connection is most likely broken already; the original error is more relevant
+    }
+  }
+}
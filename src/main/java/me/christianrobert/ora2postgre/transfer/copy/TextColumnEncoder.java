@@ -0,0 +1,13 @@
+package me.christianrobert.ora2postgre.transfer.copy;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Reads one column from the current result set row and writes it in COPY text format.
+ */
+@FunctionalInterface
+public interface TextColumnEncoder {
+
+  void encode(ResultSet rs, int columnIndex, CopyTextWriter writer) throws SQLException;
+}
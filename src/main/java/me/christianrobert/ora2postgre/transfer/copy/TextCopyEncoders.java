@@ -0,0 +1,155 @@
+package me.christianrobert.ora2postgre.transfer.copy;
+
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.transfer.AnydataConverter;
+import me.christianrobert.ora2postgre.transfer.AqJmsMessageConverter;
+import me.christianrobert.ora2postgre.transfer.AqRecipientsConverter;
+import me.christianrobert.ora2postgre.transfer.AqSigPropConverter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Selects COPY text encoders for table columns.
+ *
+ * Date and timestamp columns are sent as {@link Timestamp#toString()}, which PostgreSQL
+ * parses as a local timestamp. Character, numeric and any other types are sent in the
+ * string form the Oracle driver returns. Every column type has a text encoder.
+ *
+ * Complex types produce the same values the INSERT path binds in ParameterSetter:
+ * BLOB and RAW become bytea in hex format, CLOB and XMLTYPE their text, and ANYDATA
+ * and the AQ types the JSON of their converters. BLOB and CLOB values are streamed in
+ * chunks instead of being materialized.
+ */
+public final class TextCopyEncoders {
+
+  private TextCopyEncoders() {
+    // Utility class
+  }
+
+  /**
+   * Returns one encoder per column in column order.
+   */
+  public static List<TextColumnEncoder> forColumns(List<ColumnMetadata> columns) {
+    List<TextColumnEncoder> encoders = new ArrayList<>();
+    for (ColumnMetadata column : columns) {
+      encoders.add(forColumn(column));
+    }
+    return encoders;
+  }
+
+  /**
+   * Returns the text encoder for a column.
+   */
+  public static TextColumnEncoder forColumn(ColumnMetadata column) {
+    String columnName = column.getColumnName();
+    String dataType = column.getDataType().toUpperCase();
+    switch (dataType) {
+      case "BLOB":
+        return (rs, columnIndex, writer) -> encodeBlob(rs, columnIndex, writer, columnName);
+      case "CLOB":
+      case "NCLOB":
+        return (rs, columnIndex, writer) -> encodeClob(rs, columnIndex, writer, columnName);
+      case "RAW":
+      case "LONG RAW":
+        return TextCopyEncoders::encodeRaw;
+      case "ANYDATA":
+        return (rs, columnIndex, writer) -> encodeAnydata(rs, writer, columnName);
+      default:
+        break;
+    }
+
+    if (dataType.contains("AQ$_JMS_TEXT_MESSAGE")) {
+      return (rs, columnIndex, writer) -> writer.writeText(AqJmsMessageConverter.convertToJson(rs, columnName));
+    } else if (dataType.contains("AQ$_SIG_PROP")) {
+      return (rs, columnIndex, writer) -> writer.writeText(AqSigPropConverter.convertToJson(rs, columnName));
+    } else if (dataType.contains("AQ$_RECIPIENTS")) {
+      return (rs, columnIndex, writer) -> writer.writeText(AqRecipientsConverter.convertToJson(rs, columnName));
+    } else if (dataType.equals("DATE") || dataType.contains("TIMESTAMP")) {
+      return TextCopyEncoders::encodeTimestamp;
+    }
+    // XMLTYPE, BFILE, ROWID, INTERVAL and primitives: PostgreSQL parses the driver's string form
+    return TextCopyEncoders::encodeString;
+  }
+
+  private static void encodeString(ResultSet rs, int columnIndex, CopyTextWriter writer) throws SQLException {
+    // writeText maps null to \N
+    writer.writeText(rs.getString(columnIndex));
+  }
+
+  private static void encodeTimestamp(ResultSet rs, int columnIndex, CopyTextWriter writer) throws SQLException {
+    Timestamp value = rs.getTimestamp(columnIndex);
+    writer.writeText(value != null ? value.toString() : null);
+  }
+
+  private static void encodeRaw(ResultSet rs, int columnIndex, CopyTextWriter writer) throws SQLException {
+    writer.writeBytea(rs.getBytes(columnIndex));
+  }
+
+  private static void encodeBlob(ResultSet rs, int columnIndex, CopyTextWriter writer,
+                                 String columnName) throws SQLException {
+    Blob blob = rs.getBlob(columnIndex);
+    if (blob == null) {
+      writer.writeNull();
+      return;
+    }
+    // Streamed in chunks, so the LOB is never held in memory as a whole
+    try (InputStream stream = blob.getBinaryStream()) {
+      writer.writeBinaryStream(stream);
+    } catch (SQLException | IOException e) {
+      throw new SQLException("Failed to read BLOB for column " + columnName, e);
+    } finally {
+      freeQuietly(blob);
+    }
+  }
+
+  private static void encodeClob(ResultSet rs, int columnIndex, CopyTextWriter writer,
+                                 String columnName) throws SQLException {
+    Clob clob = rs.getClob(columnIndex);
+    if (clob == null) {
+      writer.writeNull();
+      return;
+    }
+    try (Reader reader = clob.getCharacterStream()) {
+      writer.writeCharacterStream(reader);
+    } catch (SQLException | IOException e) {
+      throw new SQLException("Failed to read CLOB for column " + columnName, e);
+    } finally {
+      freeQuietly(clob);
+    }
+  }
+
+  private static void encodeAnydata(ResultSet rs, CopyTextWriter writer, String columnName) throws SQLException {
+    String json;
+    try {
+      json = AnydataConverter.convertAnydataToJson(rs, columnName);
+    } catch (Exception e) {
+      throw new SQLException("Failed to convert ANYDATA for column " + columnName, e);
+    }
+    writer.writeText(json);
+  }
+
+  private static void freeQuietly(Blob blob) {
+    try {
+      blob.free();
+    } catch (SQLException e) {
+      // Released with the result set anyway
+    }
+  }
+
+  private static void freeQuietly(Clob clob) {
+    try {
+      clob.free();
+    } catch (SQLException e) {
+      // Released with the result set anyway
+    }
+  }
+}
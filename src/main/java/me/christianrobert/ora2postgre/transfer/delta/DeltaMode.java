@@ -0,0 +1,37 @@
+package me.christianrobert.ora2postgre.transfer.delta;
+
+/**
+ * How a delta sync finds the rows that changed in Oracle since the previous sync.
+ */
+public enum DeltaMode {
+
+  /**
+   * Rows whose ORA_ROWSCN is above the SCN recorded by the previous sync. Without
+   * ROWDEPENDENCIES the SCN is tracked per block, so unchanged neighbours are copied too.
+   */
+  ROWSCN,
+
+  /**
+   * Rows whose configured last-modified column is at or after the time recorded by the previous sync.
+   */
+  LAST_MODIFIED,
+
+  /**
+   * No watermark: key ranges whose checksums differ between Oracle and PostgreSQL are copied again.
+   */
+  HASH;
+
+  /**
+   * Parses a configured mode name, ignoring case and accepting dashes for underscores.
+   */
+  public static DeltaMode parse(String value) {
+    if (value == null || value.isBlank()) {
+      throw new IllegalArgumentException("Delta mode must not be empty");
+    }
+    try {
+      return valueOf(value.trim().replace('-', '_').toUpperCase());
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unknown delta mode '" + value + "', expected ROWSCN, LAST_MODIFIED or HASH");
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package me.christianrobert.ora2postgre.transfer.delta;
+
+import me.christianrobert.ora2postgre.global.PostgreSqlIdentifierUtils;
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.ConstraintMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.oracledb.tools.NameNormalizer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the statements of a delta sync: the Oracle SELECTs of changed rows and keys, and
+ * the PostgreSQL upsert and delete that apply them. Identifiers are the same in both databases.
+ */
+public final class DeltaQueryBuilder {
+
+  /**
+   * Temporary table the Oracle keys of a range are copied into to find deleted rows. It is
+   * dropped when the transaction of the table's sync ends.
+   */
+  public static final String KEY_TABLE = "delta_source_keys";
+
+  private DeltaQueryBuilder() {
+    // Utility class
+  }
+
+  /**
+   * The primary key columns of the table as named in its column metadata, empty if it has no primary key.
+   */
+  public static List<ColumnMetadata> primaryKeyColumns(TableMetadata table) {
+    List<ColumnMetadata> keyColumns = new ArrayList<>();
+    for (ConstraintMetadata constraint : table.getConstraints()) {
+      if (!constraint.isPrimaryKey()) {
+        continue;
+      }
+      for (String keyColumn : constraint.getColumnNames()) {
+        ColumnMetadata column = findColumn(table, keyColumn);
+        if (column == null) {
+          return List.of();
+        }
+        keyColumns.add(column);
+      }
+      return keyColumns;
+    }
+    return keyColumns;
+  }
+
+  /**
+   * The column with the given name, ignoring case, or null if the table has none.
+   */
+  public static ColumnMetadata findColumn(TableMetadata table, String columnName) {
+    for (ColumnMetadata column : table.getColumns()) {
+      if (column.getColumnName().equalsIgnoreCase(columnName)) {
+        return column;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * SELECT of all columns, in metadata order, restricted by an optional predicate.
+   */
+  public static String buildSelectQuery(TableMetadata table, String predicate) {
+    return "SELECT " + columnList(table.getColumns()) + " FROM " + qualifiedName(table) + whereClause(predicate);
+  }
+
+  public static String rowscnPredicate() {
+    return "ORA_ROWSCN > ?";
+  }
+
+  public static String lastModifiedPredicate(ColumnMetadata column) {
+    return quote(column) + " >= ?";
+  }
+
+  /**
+   * INSERT of all columns that updates the existing row on a primary key conflict. Rows that
+   * are already identical are left alone, so re-sent rows cause no writes.
+   */
+  public static String buildUpsert(TableMetadata table, List<ColumnMetadata> keyColumns) {
+    List<ColumnMetadata> columns = table.getColumns();
+    List<String> placeholders = new ArrayList<>();
+    List<String> assignments = new ArrayList<>();
+    List<String> targetValues = new ArrayList<>();
+    List<String> newValues = new ArrayList<>();
+
+    for (ColumnMetadata column : columns) {
+      placeholders.add("?");
+      if (!keyColumns.contains(column)) {
+        String name = quote(column);
+        assignments.add(name + " = EXCLUDED." + name);
+        targetValues.add("target." + name);
+        newValues.add("EXCLUDED." + name);
+      }
+    }
+
+    StringBuilder sql = new StringBuilder("INSERT INTO ").append(qualifiedName(table)).append(" AS target (")
+            .append(columnList(columns)).append(") VALUES (").append(String.join(", ", placeholders))
+            .append(") ON CONFLICT (").append(columnList(keyColumns)).append(")");
+    if (assignments.isEmpty()) {
+      return sql.append(" DO NOTHING").toString();
+    }
+    return sql.append(" DO UPDATE SET ").append(String.join(", ", assignments))
+            .append(" WHERE (").append(String.join(", ", targetValues)).append(") IS DISTINCT FROM (")
+            .append(String.join(", ", newValues)).append(")")
+            .toString();
+  }
+
+  /**
+   * SELECT of the key column, restricted by an optional predicate.
+   */
+  public static String buildKeyQuery(TableMetadata table, ColumnMetadata keyColumn, String predicate) {
+    return "SELECT " + quote(keyColumn) + " FROM " + qualifiedName(table) + whereClause(predicate);
+  }
+
+  public static String buildCreateKeyTable(String keyType) {
+    return "CREATE TEMP TABLE IF NOT EXISTS " + KEY_TABLE + " (key_value " + keyType + ") ON COMMIT DROP";
+  }
+
+  public static String buildCopyKeys() {
+    return "COPY " + KEY_TABLE + " (key_value) FROM STDIN";
+  }
+
+  public static String buildInsertKey(String keyType) {
+    return "INSERT INTO " + KEY_TABLE + " (key_value) VALUES (CAST(? AS " + keyType + "))";
+  }
+
+  /**
+   * DELETE of the rows matching the predicate whose key is not in {@link #KEY_TABLE}.
+   */
+  public static String buildDeleteMissing(TableMetadata table, ColumnMetadata keyColumn, String predicate) {
+    String keyCondition = "NOT EXISTS (SELECT 1 FROM " + KEY_TABLE + " WHERE key_value = target." + quote(keyColumn) + ")";
+    return "DELETE FROM " + qualifiedName(table) + " AS target" + whereClause(predicate != null
+            ? predicate + " AND " + keyCondition : keyCondition);
+  }
+
+  /**
+   * PostgreSQL type of {@link #KEY_TABLE} for keys of this column, or null if deleted rows
+   * cannot be detected by this key.
+   */
+  public static String keyColumnType(ColumnMetadata keyColumn) {
+    String dataType = NameNormalizer.normalizeDataType(keyColumn.getDataType()).toUpperCase();
+    return switch (dataType) {
+      case "NUMBER", "INTEGER", "INT" -> "numeric";
+      case "VARCHAR2", "VARCHAR", "CHAR", "NVARCHAR2", "NCHAR" -> "text";
+      default -> null;
+    };
+  }
+
+  private static String whereClause(String predicate) {
+    return predicate != null ? " WHERE " + predicate : "";
+  }
+
+  private static String qualifiedName(TableMetadata table) {
+    return PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()) + "." +
+            PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName());
+  }
+
+  private static String columnList(List<ColumnMetadata> columns) {
+    List<String> names = new ArrayList<>();
+    for (ColumnMetadata column : columns) {
+      names.add(quote(column));
+    }
+    return String.join(", ", names);
+  }
+
+  private static String quote(ColumnMetadata column) {
+    return PostgreSqlIdentifierUtils.quoteIdentifier(column.getColumnName());
+  }
+}
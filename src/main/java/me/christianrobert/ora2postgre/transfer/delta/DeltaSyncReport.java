@@ -0,0 +1,52 @@
+package me.christianrobert.ora2postgre.transfer.delta;
+
+import java.util.List;
+
+/**
+ * Result of one delta sync round over all tables.
+ */
+public class DeltaSyncReport {
+
+  private final String sessionId;
+  private final long startTime;
+  private final long syncTimeMs;
+  private final List<TableDeltaResult> tableResults;
+
+  public DeltaSyncReport(String sessionId, long startTime, long syncTimeMs, List<TableDeltaResult> tableResults) {
+    this.sessionId = sessionId;
+    this.startTime = startTime;
+    this.syncTimeMs = syncTimeMs;
+    this.tableResults = List.copyOf(tableResults);
+  }
+
+  public String getSessionId() { return sessionId; }
+  public long getStartTime() { return startTime; }
+  public long getSyncTimeMs() { return syncTimeMs; }
+  public List<TableDeltaResult> getTableResults() { return tableResults; }
+
+  public List<TableDeltaResult> getSkippedTables() {
+    return withStatus(TableDeltaResult.Status.SKIPPED);
+  }
+
+  public List<TableDeltaResult> getFailedTables() {
+    return withStatus(TableDeltaResult.Status.FAILED);
+  }
+
+  public long getTotalRowsUpserted() {
+    return tableResults.stream().mapToLong(TableDeltaResult::getRowsUpserted).sum();
+  }
+
+  public long getTotalRowsDeleted() {
+    return tableResults.stream().mapToLong(TableDeltaResult::getRowsDeleted).sum();
+  }
+
+  public String getSummary() {
+    return String.format("Delta sync %s: %d tables, %d rows upserted, %d deleted, %d skipped, %d failed in %dms",
+            sessionId, tableResults.size(), getTotalRowsUpserted(), getTotalRowsDeleted(),
+            getSkippedTables().size(), getFailedTables().size(), syncTimeMs);
+  }
+
+  private List<TableDeltaResult> withStatus(TableDeltaResult.Status status) {
+    return tableResults.stream().filter(r -> r.getStatus() == status).toList();
+  }
+}
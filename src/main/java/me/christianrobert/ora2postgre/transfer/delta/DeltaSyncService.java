@@ -0,0 +1,484 @@
+package me.christianrobert.ora2postgre.transfer.delta;
+
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.transfer.RowCodec;
+import me.christianrobert.ora2postgre.transfer.TableAnalyzer;
+import me.christianrobert.ora2postgre.transfer.TransferSnapshot;
+import me.christianrobert.ora2postgre.transfer.chunk.ChunkPlanner;
+import me.christianrobert.ora2postgre.transfer.chunk.TransferChunk;
+import me.christianrobert.ora2postgre.transfer.copy.CopyTextWriter;
+import me.christianrobert.ora2postgre.transfer.verify.ChecksumQueryBuilder;
+import me.christianrobert.ora2postgre.transfer.verify.ChunkChecksum;
+import me.christianrobert.ora2postgre.transfer.verify.DataVerificationService;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Copies the rows that changed in Oracle since the previous sync into the already loaded
+ * PostgreSQL tables, so that the final cutover only has to move the last changes.
+ *
+ * A transfer with delta sync enabled records a watermark per table before it reads the
+ * table (see {@link #recordBaseline}). Each sync round then, per table and in one PostgreSQL
+ * transaction:
+ * 1. reads the rows changed since the watermark ({@link DeltaMode#ROWSCN} or
+ *    {@link DeltaMode#LAST_MODIFIED}) or the key ranges whose checksums differ ({@link DeltaMode#HASH}),
+ * 2. applies them with INSERT ... ON CONFLICT DO UPDATE on the primary key,
+ * 3. deletes rows that no longer exist in Oracle, in the key ranges whose key checksums differ,
+ * 4. records the new watermark.
+ *
+ * Only tables with a primary key and primitive column types are synced; others are reported
+ * as skipped and have to be reloaded at cutover. HASH mode also skips tables with a column
+ * the checksums cannot cover, since changes to it would go unnoticed. Deleted rows are detected for single-column
+ * numeric or character keys. A last-modified column misses rows whose transaction commits
+ * after a later sync started while carrying an older time; a final HASH round catches those.
+ */
+public class DeltaSyncService {
+
+  private static final Logger log = LoggerFactory.getLogger(DeltaSyncService.class);
+
+  private static final int FETCH_SIZE = 5000;
+  private static final int BATCH_SIZE = 1000;
+
+  private final DeltaMode mode;
+  private final String lastModifiedColumn;
+  private final boolean detectDeletes;
+  private final int rangesPerTable;
+  private final DeltaWatermarkStore watermarkStore;
+
+  /**
+   * @param mode how changed rows are found
+   * @param lastModifiedColumn column compared in {@link DeltaMode#LAST_MODIFIED} mode; tables
+   *                           without it are compared by hash
+   * @param detectDeletes whether rows deleted in Oracle are deleted in PostgreSQL
+   * @param rangesPerTable key ranges for hash comparison of tables with a numeric primary key
+   */
+  public DeltaSyncService(DeltaMode mode, String lastModifiedColumn, boolean detectDeletes, int rangesPerTable,
+                          DeltaWatermarkStore watermarkStore) {
+    if (mode == DeltaMode.LAST_MODIFIED && (lastModifiedColumn == null || lastModifiedColumn.isBlank())) {
+      throw new IllegalArgumentException("Delta mode LAST_MODIFIED requires a last-modified column");
+    }
+    this.mode = mode;
+    this.lastModifiedColumn = lastModifiedColumn;
+    this.detectDeletes = detectDeletes;
+    this.rangesPerTable = Math.max(1, rangesPerTable);
+    this.watermarkStore = watermarkStore;
+  }
+
+  public DeltaMode getMode() {
+    return mode;
+  }
+
+  /**
+   * Records the current watermark for every table. Must run before the bulk load reads the
+   * tables, so that rows changed while they are copied are picked up by the first sync.
+   *
+   * @param keepExisting leave watermarks of tables recorded by an earlier run, e.g. when resuming
+   * @param snapshotScn the SCN the transfer reads all tables at, which is then the exact
+   *                    ROWSCN watermark; null if the transfer reads current data
+   */
+  public void recordBaseline(List<TableMetadata> tables, Connection oracleConn, Connection postgresConn,
+                             boolean keepExisting, Long snapshotScn) throws SQLException {
+    if (mode == DeltaMode.HASH) {
+      return;
+    }
+    watermarkStore.ensureControlTable(postgresConn);
+
+    // One watermark for all tables, taken before any of them is read
+    String watermark = mode == DeltaMode.ROWSCN && snapshotScn != null
+            ? snapshotScn.toString() : captureWatermark(oracleConn, mode);
+    int recorded = 0;
+    for (TableMetadata table : tables) {
+      if (modeFor(table) == mode) {
+        watermarkStore.save(postgresConn, table, mode, watermark, keepExisting);
+        recorded++;
+      }
+    }
+    if (!postgresConn.getAutoCommit()) {
+      postgresConn.commit();
+    }
+    log.info("Recorded delta {} watermark {} for {} tables", mode, watermark, recorded);
+  }
+
+  /**
+   * Runs one sync round over all tables. Failures of single tables are reported in their result.
+   */
+  public DeltaSyncReport syncTables(List<TableMetadata> tables, Connection oracleConn,
+                                    Connection postgresConn) throws SQLException {
+    String sessionId = UUID.randomUUID().toString().substring(0, 8);
+    long startTime = System.currentTimeMillis();
+    log.info("Starting delta sync session {} for {} tables in {} mode", sessionId, tables.size(), mode);
+
+    watermarkStore.ensureControlTable(postgresConn);
+
+    List<TableDeltaResult> results = new ArrayList<>();
+    for (TableMetadata table : tables) {
+      TableDeltaResult result = syncTable(table, oracleConn, postgresConn);
+      if (result.getStatus() == TableDeltaResult.Status.FAILED) {
+        log.warn("{}", result);
+      } else {
+        log.info("{}", result);
+      }
+      results.add(result);
+    }
+
+    DeltaSyncReport report = new DeltaSyncReport(sessionId, startTime,
+            System.currentTimeMillis() - startTime, results);
+    log.info(report.getSummary());
+    return report;
+  }
+
+  /**
+   * Applies the changes of one table in a single PostgreSQL transaction together with its new watermark.
+   */
+  public TableDeltaResult syncTable(TableMetadata table, Connection oracleConn, Connection postgresConn) {
+    long startTime = System.currentTimeMillis();
+    String schema = table.getSchema();
+    String tableName = table.getTableName();
+
+    if (!TableAnalyzer.hasOnlyPrimitiveTypes(table)) {
+      return TableDeltaResult.skipped(schema, tableName, "complex column types, reload at cutover");
+    }
+    List<ColumnMetadata> keyColumns = DeltaQueryBuilder.primaryKeyColumns(table);
+    if (keyColumns.isEmpty()) {
+      return TableDeltaResult.skipped(schema, tableName, "no primary key, reload at cutover");
+    }
+
+    DeltaMode tableMode = modeFor(table);
+    if (tableMode == DeltaMode.HASH) {
+      List<String> unhashable = unhashableColumns(table);
+      if (!unhashable.isEmpty()) {
+        return TableDeltaResult.skipped(schema, tableName,
+                "unhashable columns " + String.join(", ", unhashable) + ", reload at cutover");
+      }
+    }
+    // Deleted rows are found by a single numeric or character key column
+    ColumnMetadata deleteKey = detectDeletes && keyColumns.size() == 1
+            && DeltaQueryBuilder.keyColumnType(keyColumns.get(0)) != null ? keyColumns.get(0) : null;
+
+    try {
+      boolean autoCommit = postgresConn.getAutoCommit();
+      postgresConn.setAutoCommit(false);
+      try {
+        TableDeltaResult result;
+        if (tableMode == DeltaMode.HASH) {
+          result = syncByHash(table, keyColumns, deleteKey, oracleConn, postgresConn, startTime);
+        } else {
+          result = syncSinceWatermark(table, tableMode, keyColumns, deleteKey, oracleConn, postgresConn, startTime);
+        }
+        if (result.getStatus() == TableDeltaResult.Status.APPLIED) {
+          postgresConn.commit();
+        } else {
+          postgresConn.rollback();
+        }
+        return result;
+      } catch (SQLException | RuntimeException e) {
+        rollbackQuietly(postgresConn);
+        throw e;
+      } finally {
+        postgresConn.setAutoCommit(autoCommit);
+      }
+    } catch (SQLException | RuntimeException e) {
+      log.error("Delta sync of {}.{} failed: {}", schema, tableName, e.getMessage(), e);
+      return TableDeltaResult.failure(schema, tableName, tableMode, System.currentTimeMillis() - startTime,
+              "Delta sync failed: " + e.getMessage());
+    }
+  }
+
+  private TableDeltaResult syncSinceWatermark(TableMetadata table, DeltaMode tableMode,
+                                              List<ColumnMetadata> keyColumns, ColumnMetadata deleteKey,
+                                              Connection oracleConn, Connection postgresConn,
+                                              long startTime) throws SQLException {
+    String watermark = watermarkStore.load(postgresConn, table, tableMode);
+    if (watermark == null) {
+      return TableDeltaResult.failure(table.getSchema(), table.getTableName(), tableMode,
+              System.currentTimeMillis() - startTime,
+              "No " + tableMode + " watermark recorded; run a transfer with transfer.delta.enabled=true first");
+    }
+
+    // Taken before reading, so changes committed while reading are covered by the next round again
+    String newWatermark = captureWatermark(oracleConn, tableMode);
+
+    String predicate;
+    Object watermarkValue;
+    if (tableMode == DeltaMode.ROWSCN) {
+      predicate = DeltaQueryBuilder.rowscnPredicate();
+      watermarkValue = new BigDecimal(watermark);
+    } else {
+      predicate = DeltaQueryBuilder.lastModifiedPredicate(DeltaQueryBuilder.findColumn(table, lastModifiedColumn));
+      watermarkValue = Timestamp.valueOf(watermark);
+    }
+
+    long[] applied = upsertRows(table, keyColumns, predicate, List.of(watermarkValue), oracleConn, postgresConn);
+
+    long deleted = 0;
+    if (deleteKey != null) {
+      // Ranges whose key count or key checksum differs after the upserts contain deleted rows
+      for (TransferChunk range : planRanges(oracleConn, table)) {
+        if (!checksumsMatch(table, List.of(deleteKey), null, range, oracleConn, postgresConn)) {
+          deleted += deleteMissingRows(table, deleteKey, range, oracleConn, postgresConn);
+        }
+      }
+    }
+
+    watermarkStore.save(postgresConn, table, tableMode, newWatermark, false);
+    return TableDeltaResult.applied(table.getSchema(), table.getTableName(), tableMode, applied[0], applied[1],
+            deleted, 0, deleteKey != null, System.currentTimeMillis() - startTime);
+  }
+
+  /**
+   * Compares every key range by row count and column checksums, and copies the differing ranges again.
+   */
+  private TableDeltaResult syncByHash(TableMetadata table, List<ColumnMetadata> keyColumns, ColumnMetadata deleteKey,
+                                      Connection oracleConn, Connection postgresConn,
+                                      long startTime) throws SQLException {
+    List<ColumnMetadata> columns = ChecksumQueryBuilder.hashableColumns(table);
+    String keyColumn = ChunkPlanner.findNumericPrimaryKeyColumn(table);
+
+    long rowsRead = 0;
+    long upserted = 0;
+    long deleted = 0;
+    int resynced = 0;
+    for (TransferChunk range : planRanges(oracleConn, table)) {
+      if (checksumsMatch(table, columns, keyColumn, range, oracleConn, postgresConn)) {
+        continue;
+      }
+      log.debug("Range {} of {}.{} differs, copying it again", range, table.getSchema(), table.getTableName());
+      resynced++;
+      long[] applied = upsertRows(table, keyColumns, range.getPredicate(), range.getBindValues(),
+              oracleConn, postgresConn);
+      rowsRead += applied[0];
+      upserted += applied[1];
+      if (deleteKey != null) {
+        deleted += deleteMissingRows(table, deleteKey, range, oracleConn, postgresConn);
+      }
+    }
+
+    return TableDeltaResult.applied(table.getSchema(), table.getTableName(), DeltaMode.HASH, rowsRead, upserted,
+            deleted, resynced, deleteKey != null, System.currentTimeMillis() - startTime);
+  }
+
+  /**
+   * Upserts the Oracle rows matching the predicate in batches.
+   *
+   * @return rows read from Oracle and rows inserted or changed in PostgreSQL
+   */
+  private long[] upsertRows(TableMetadata table, List<ColumnMetadata> keyColumns, String predicate,
+                            List<Object> bindValues, Connection oracleConn,
+                            Connection postgresConn) throws SQLException {
+    RowCodec codec = RowCodec.compile(table.getColumns());
+    long rowsRead = 0;
+    long rowsUpserted = 0;
+    int pendingRows = 0;
+
+    try (PreparedStatement select = oracleConn.prepareStatement(DeltaQueryBuilder.buildSelectQuery(table, predicate));
+         PreparedStatement upsert = postgresConn.prepareStatement(DeltaQueryBuilder.buildUpsert(table, keyColumns))) {
+      select.setFetchSize(FETCH_SIZE);
+      for (int i = 0; i < bindValues.size(); i++) {
+        select.setObject(i + 1, bindValues.get(i));
+      }
+
+      try (ResultSet rs = select.executeQuery()) {
+        while (rs.next()) {
+          codec.bindParameters(rs, upsert);
+          upsert.addBatch();
+          rowsRead++;
+          if (++pendingRows >= BATCH_SIZE) {
+            rowsUpserted += countUpdates(upsert.executeBatch());
+            pendingRows = 0;
+          }
+        }
+      }
+      if (pendingRows > 0) {
+        rowsUpserted += countUpdates(upsert.executeBatch());
+      }
+    }
+    return new long[]{rowsRead, rowsUpserted};
+  }
+
+  /**
+   * Deletes the PostgreSQL rows of a range whose key no longer exists in Oracle. The Oracle keys
+   * are streamed into a temporary table, so memory does not grow with the size of the range.
+   */
+  private long deleteMissingRows(TableMetadata table, ColumnMetadata keyColumn, TransferChunk range,
+                                 Connection oracleConn, Connection postgresConn) throws SQLException {
+    String keyType = DeltaQueryBuilder.keyColumnType(keyColumn);
+    try (Statement stmt = postgresConn.createStatement()) {
+      stmt.execute(DeltaQueryBuilder.buildCreateKeyTable(keyType));
+      stmt.execute("TRUNCATE " + DeltaQueryBuilder.KEY_TABLE);
+    }
+    long keys = loadSourceKeys(table, keyColumn, keyType, range, oracleConn, postgresConn);
+    try (Statement stmt = postgresConn.createStatement()) {
+      // Statistics let the planner choose a hash anti-join for large ranges
+      stmt.execute("ANALYZE " + DeltaQueryBuilder.KEY_TABLE);
+    }
+
+    try (PreparedStatement ps = postgresConn.prepareStatement(
+            DeltaQueryBuilder.buildDeleteMissing(table, keyColumn, range.getPredicate()))) {
+      range.bind(ps, 1);
+      int deleted = ps.executeUpdate();
+      if (deleted > 0) {
+        log.debug("Deleted {} rows of {}.{} in {} that no longer exist in Oracle ({} keys compared)",
+                deleted, table.getSchema(), table.getTableName(), range, keys);
+      }
+      return deleted;
+    }
+  }
+
+  /**
+   * Copies the Oracle keys of a range into the key table, with COPY where the connection
+   * supports it and with batched INSERTs otherwise.
+   *
+   * @return number of keys loaded
+   */
+  private long loadSourceKeys(TableMetadata table, ColumnMetadata keyColumn, String keyType, TransferChunk range,
+                              Connection oracleConn, Connection postgresConn) throws SQLException {
+    boolean numeric = "numeric".equals(keyType);
+    CopyManager copyManager = postgresConn.isWrapperFor(PGConnection.class)
+            ? postgresConn.unwrap(PGConnection.class).getCopyAPI() : null;
+
+    try (PreparedStatement select = oracleConn.prepareStatement(
+            DeltaQueryBuilder.buildKeyQuery(table, keyColumn, range.getPredicate()))) {
+      select.setFetchSize(FETCH_SIZE);
+      range.bind(select, 1);
+      try (ResultSet rs = select.executeQuery()) {
+        if (copyManager != null) {
+          CopyTextWriter writer = new CopyTextWriter(copyManager.copyIn(DeltaQueryBuilder.buildCopyKeys()));
+          try {
+            while (rs.next()) {
+              writer.writeText(keyValue(rs, numeric));
+              writer.endRow();
+            }
+            return writer.finish();
+          } catch (SQLException | RuntimeException e) {
+            writer.cancel();
+            throw e;
+          }
+        }
+
+        long loaded = 0;
+        try (PreparedStatement insert = postgresConn.prepareStatement(DeltaQueryBuilder.buildInsertKey(keyType))) {
+          while (rs.next()) {
+            insert.setString(1, keyValue(rs, numeric));
+            insert.addBatch();
+            if (++loaded % BATCH_SIZE == 0) {
+              insert.executeBatch();
+            }
+          }
+          if (loaded % BATCH_SIZE != 0) {
+            insert.executeBatch();
+          }
+        }
+        return loaded;
+      }
+    }
+  }
+
+  private static String keyValue(ResultSet rs, boolean numeric) throws SQLException {
+    if (numeric) {
+      BigDecimal key = rs.getBigDecimal(1);
+      return key != null ? key.toPlainString() : null;
+    }
+    return rs.getString(1);
+  }
+
+  private boolean checksumsMatch(TableMetadata table, List<ColumnMetadata> columns, String keyColumn,
+                                 TransferChunk range, Connection oracleConn,
+                                 Connection postgresConn) throws SQLException {
+    ChunkChecksum source = DataVerificationService.computeChecksum(oracleConn,
+            ChecksumQueryBuilder.buildQuery(ChecksumQueryBuilder.Dialect.ORACLE, table, columns, keyColumn, range),
+            range, columns.size());
+    ChunkChecksum target = DataVerificationService.computeChecksum(postgresConn,
+            ChecksumQueryBuilder.buildQuery(ChecksumQueryBuilder.Dialect.POSTGRES, table, columns, keyColumn, range),
+            range, columns.size());
+    return source.matches(target);
+  }
+
+  /**
+   * Key ranges for tables with a numeric primary key, otherwise the whole table.
+   */
+  private List<TransferChunk> planRanges(Connection oracleConn, TableMetadata table) throws SQLException {
+    if (rangesPerTable > 1) {
+      // The delta reads current data, so the bounds are read unpinned as well
+      List<TransferChunk> ranges = ChunkPlanner.planKeyRangeChunks(oracleConn, table, rangesPerTable,
+              new TransferSnapshot());
+      if (!ranges.isEmpty()) {
+        return ranges;
+      }
+    }
+    return List.of(TransferChunk.wholeTable());
+  }
+
+  /**
+   * The mode used for a table: LAST_MODIFIED tables without the configured column are compared by hash.
+   */
+  DeltaMode modeFor(TableMetadata table) {
+    if (mode == DeltaMode.LAST_MODIFIED && DeltaQueryBuilder.findColumn(table, lastModifiedColumn) == null) {
+      log.warn("{}.{} has no column {}, comparing it by HASH instead of LAST_MODIFIED",
+              table.getSchema(), table.getTableName(), lastModifiedColumn);
+      return DeltaMode.HASH;
+    }
+    return mode;
+  }
+
+  /**
+   * Columns of a table that the HASH checksums leave out.
+   */
+  static List<String> unhashableColumns(TableMetadata table) {
+    List<ColumnMetadata> hashable = ChecksumQueryBuilder.hashableColumns(table);
+    List<String> unhashable = new ArrayList<>();
+    for (ColumnMetadata column : table.getColumns()) {
+      if (!hashable.contains(column)) {
+        unhashable.add(column.getColumnName());
+      }
+    }
+    return unhashable;
+  }
+
+  /**
+   * The current SCN, or the database server's current time, as watermark text.
+   */
+  static String captureWatermark(Connection oracleConn, DeltaMode mode) throws SQLException {
+    if (mode == DeltaMode.ROWSCN) {
+      return Long.toString(TransferSnapshot.currentScn(oracleConn));
+    }
+    try (PreparedStatement ps = oracleConn.prepareStatement("SELECT CAST(SYSTIMESTAMP AS TIMESTAMP) FROM DUAL");
+         ResultSet rs = ps.executeQuery()) {
+      if (!rs.next()) {
+        throw new SQLException("Could not read the current time");
+      }
+      return rs.getTimestamp(1).toString();
+    }
+  }
+
+  private static long countUpdates(int[] updateCounts) {
+    long count = 0;
+    for (int updateCount : updateCounts) {
+      if (updateCount > 0) {
+        count += updateCount;
+      }
+    }
+    return count;
+  }
+
+  private void rollbackQuietly(Connection conn) {
+    try {
+      conn.rollback();
+    } catch (SQLException e) {
+      log.debug("Rollback failed: {}", e.getMessage());
+    }
+  }
+}
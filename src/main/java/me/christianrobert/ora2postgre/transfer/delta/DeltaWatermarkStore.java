@@ -0,0 +1,107 @@
+package me.christianrobert.ora2postgre.transfer.delta;
+
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+/**
+ * Records per table the watermark up to which Oracle changes have been applied, in a small
+ * control table in PostgreSQL.
+ *
+ * A watermark is written in the same transaction as the changes it covers, so a failed sync
+ * leaves the previous watermark and is simply repeated. Watermarks are kept as text: an SCN
+ * for {@link DeltaMode#ROWSCN}, a timestamp for {@link DeltaMode#LAST_MODIFIED}.
+ */
+public class DeltaWatermarkStore {
+
+  private static final Logger log = LoggerFactory.getLogger(DeltaWatermarkStore.class);
+
+  public static final String DEFAULT_CONTROL_TABLE = "public.ora2pg_delta_watermark";
+
+  private static final Pattern CONTROL_TABLE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+  private final String controlTable;
+
+  /**
+   * @param controlTable optionally schema-qualified name of the control table, e.g. public.ora2pg_delta_watermark
+   */
+  public DeltaWatermarkStore(String controlTable) {
+    if (controlTable == null || !CONTROL_TABLE_NAME.matcher(controlTable).matches()) {
+      throw new IllegalArgumentException("Invalid delta watermark control table name: " + controlTable);
+    }
+    this.controlTable = controlTable;
+  }
+
+  public String getControlTable() {
+    return controlTable;
+  }
+
+  /**
+   * Creates the control table if it does not exist yet.
+   */
+  public void ensureControlTable(Connection conn) throws SQLException {
+    String ddl = "CREATE TABLE IF NOT EXISTS " + controlTable + " (" +
+            "table_schema TEXT NOT NULL, " +
+            "table_name TEXT NOT NULL, " +
+            "delta_mode TEXT NOT NULL, " +
+            "watermark TEXT NOT NULL, " +
+            "updated_at TIMESTAMP NOT NULL DEFAULT now(), " +
+            "PRIMARY KEY (table_schema, table_name))";
+    try (Statement stmt = conn.createStatement()) {
+      stmt.execute(ddl);
+    }
+    if (!conn.getAutoCommit()) {
+      conn.commit();
+    }
+    log.debug("Delta watermark control table {} is ready", controlTable);
+  }
+
+  /**
+   * Loads the watermark of a table, or null if none was recorded for the given mode.
+   */
+  public String load(Connection conn, TableMetadata table, DeltaMode mode) throws SQLException {
+    String sql = "SELECT delta_mode, watermark FROM " + controlTable + " WHERE table_schema = ? AND table_name = ?";
+    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+      ps.setString(1, table.getSchema());
+      ps.setString(2, table.getTableName());
+      try (ResultSet rs = ps.executeQuery()) {
+        if (!rs.next()) {
+          return null;
+        }
+        if (!mode.name().equals(rs.getString(1))) {
+          log.warn("Watermark of {}.{} was recorded for mode {}, not {}; ignoring it",
+                  table.getSchema(), table.getTableName(), rs.getString(1), mode);
+          return null;
+        }
+        return rs.getString(2);
+      }
+    }
+  }
+
+  /**
+   * Records the watermark of a table. Runs in the caller's transaction.
+   *
+   * @param keepExisting leave a watermark already recorded for the table unchanged
+   */
+  public void save(Connection conn, TableMetadata table, DeltaMode mode, String watermark,
+                   boolean keepExisting) throws SQLException {
+    String sql = "INSERT INTO " + controlTable + " (table_schema, table_name, delta_mode, watermark, updated_at)" +
+            " VALUES (?, ?, ?, ?, now()) ON CONFLICT (table_schema, table_name) DO " +
+            (keepExisting ? "NOTHING" : "UPDATE SET delta_mode = EXCLUDED.delta_mode," +
+                    " watermark = EXCLUDED.watermark, updated_at = EXCLUDED.updated_at");
+    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+      ps.setString(1, table.getSchema());
+      ps.setString(2, table.getTableName());
+      ps.setString(3, mode.name());
+      ps.setString(4, watermark);
+      ps.executeUpdate();
+    }
+  }
+}
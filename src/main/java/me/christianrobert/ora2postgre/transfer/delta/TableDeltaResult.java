@@ -0,0 +1,94 @@
+package me.christianrobert.ora2postgre.transfer.delta;
+
+/**
+ * Outcome of one delta sync of one table.
+ */
+public class TableDeltaResult {
+
+  public enum Status {
+    APPLIED,
+    SKIPPED,
+    FAILED
+  }
+
+  private final String schemaName;
+  private final String tableName;
+  private final Status status;
+  private final DeltaMode mode;
+  private final long rowsRead;
+  private final long rowsUpserted;
+  private final long rowsDeleted;
+  private final int rangesResynced;
+  private final boolean deletesDetected;
+  private final long syncTimeMs;
+  private final String message;
+
+  private TableDeltaResult(String schemaName, String tableName, Status status, DeltaMode mode, long rowsRead,
+                           long rowsUpserted, long rowsDeleted, int rangesResynced, boolean deletesDetected,
+                           long syncTimeMs, String message) {
+    this.schemaName = schemaName;
+    this.tableName = tableName;
+    this.status = status;
+    this.mode = mode;
+    this.rowsRead = rowsRead;
+    this.rowsUpserted = rowsUpserted;
+    this.rowsDeleted = rowsDeleted;
+    this.rangesResynced = rangesResynced;
+    this.deletesDetected = deletesDetected;
+    this.syncTimeMs = syncTimeMs;
+    this.message = message;
+  }
+
+  /**
+   * @param rowsRead changed (or re-checked) rows read from Oracle
+   * @param rowsUpserted rows inserted or actually updated in PostgreSQL
+   * @param rangesResynced key ranges copied again in {@link DeltaMode#HASH} mode
+   * @param deletesDetected whether rows deleted in Oracle were looked for
+   */
+  public static TableDeltaResult applied(String schema, String table, DeltaMode mode, long rowsRead,
+                                         long rowsUpserted, long rowsDeleted, int rangesResynced,
+                                         boolean deletesDetected, long syncTimeMs) {
+    return new TableDeltaResult(schema, table, Status.APPLIED, mode, rowsRead, rowsUpserted, rowsDeleted,
+            rangesResynced, deletesDetected, syncTimeMs, null);
+  }
+
+  /**
+   * A table that delta sync cannot handle and that has to be reloaded completely at cutover.
+   */
+  public static TableDeltaResult skipped(String schema, String table, String reason) {
+    return new TableDeltaResult(schema, table, Status.SKIPPED, null, 0, 0, 0, 0, false, 0, reason);
+  }
+
+  public static TableDeltaResult failure(String schema, String table, DeltaMode mode, long syncTimeMs,
+                                         String errorMessage) {
+    return new TableDeltaResult(schema, table, Status.FAILED, mode, 0, 0, 0, 0, false, syncTimeMs, errorMessage);
+  }
+
+  // Getters
+  public String getSchemaName() { return schemaName; }
+  public String getTableName() { return tableName; }
+  public Status getStatus() { return status; }
+  public DeltaMode getMode() { return mode; }
+  public long getRowsRead() { return rowsRead; }
+  public long getRowsUpserted() { return rowsUpserted; }
+  public long getRowsDeleted() { return rowsDeleted; }
+  public int getRangesResynced() { return rangesResynced; }
+  public boolean isDeletesDetected() { return deletesDetected; }
+  public long getSyncTimeMs() { return syncTimeMs; }
+  public String getMessage() { return message; }
+
+  public String getFullTableName() {
+    return schemaName + "." + tableName;
+  }
+
+  @Override
+  public String toString() {
+    return switch (status) {
+      case APPLIED -> String.format("APPLIED: %s (%s) - %d rows read, %d upserted, %s (%dms)",
+              getFullTableName(), mode, rowsRead, rowsUpserted,
+              deletesDetected ? rowsDeleted + " deleted" : "deletes not detected", syncTimeMs);
+      case SKIPPED -> String.format("SKIPPED: %s - %s", getFullTableName(), message);
+      case FAILED -> String.format("FAILED: %s - %s", getFullTableName(), message);
+    };
+  }
+}
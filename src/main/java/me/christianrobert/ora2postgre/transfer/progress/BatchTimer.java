@@ -0,0 +1,62 @@
+package me.christianrobert.ora2postgre.transfer.progress;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Splits the time of one copy loop into fetch, encode and send per batch and reports each
+ * batch to {@link TransferProgress}.
+ *
+ * The loop reads through {@link #next(ResultSet)}, which times the Oracle fetch, and reports
+ * the running totals of its writer at every batch boundary. Not thread-safe: one timer per
+ * table or chunk.
+ */
+public class BatchTimer {
+
+  private final TransferProgress progress;
+  private final String tableName;
+  private long batchStart = System.nanoTime();
+  private long batchFetchNanos = 0;
+  private long reportedRows = 0;
+  private long reportedBytes = 0;
+  private long reportedSendNanos = 0;
+
+  /**
+   * @param tableName full table name (schema.table) the batches are recorded for
+   */
+  public BatchTimer(TransferProgress progress, String tableName) {
+    this.progress = progress;
+    this.tableName = tableName;
+  }
+
+  /**
+   * Advances the result set, counting the call as fetch time.
+   */
+  public boolean next(ResultSet rs) throws SQLException {
+    long start = System.nanoTime();
+    boolean hasRow = rs.next();
+    batchFetchNanos += System.nanoTime() - start;
+    return hasRow;
+  }
+
+  /**
+   * Records the batch that ends now. The arguments are running totals of the loop; everything
+   * since the previous batch that was neither fetch nor send counts as encode time.
+   *
+   * @param totalRows rows written so far
+   * @param totalBytes bytes encoded so far, 0 when unknown
+   * @param totalSendNanos time spent sending to PostgreSQL so far
+   */
+  public void completeBatch(long totalRows, long totalBytes, long totalSendNanos) {
+    long now = System.nanoTime();
+    long sendNanos = totalSendNanos - reportedSendNanos;
+    long encodeNanos = Math.max(0, now - batchStart - batchFetchNanos - sendNanos);
+    progress.recordBatch(tableName, totalRows - reportedRows, totalBytes - reportedBytes,
+            batchFetchNanos, encodeNanos, sendNanos, batchStart, now);
+    reportedRows = totalRows;
+    reportedBytes = totalBytes;
+    reportedSendNanos = totalSendNanos;
+    batchFetchNanos = 0;
+    batchStart = now;
+  }
+}
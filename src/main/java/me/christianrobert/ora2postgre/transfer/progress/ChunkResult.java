@@ -0,0 +1,65 @@
+package me.christianrobert.ora2postgre.transfer.progress;
+
+/**
+ * Result of copying one chunk of a table that was transferred in parallel ranges.
+ */
+public class ChunkResult {
+
+  private final int chunkIndex;
+  private final String description;
+  private final boolean successful;
+  private final long rowsTransferred;
+  private final long transferTimeMs;
+  private final String errorMessage;
+  private final Exception exception;
+  private final boolean resumed;
+
+  private ChunkResult(int chunkIndex, String description, boolean successful, long rowsTransferred,
+                      long transferTimeMs, String errorMessage, Exception exception, boolean resumed) {
+    this.chunkIndex = chunkIndex;
+    this.description = description;
+    this.successful = successful;
+    this.rowsTransferred = rowsTransferred;
+    this.transferTimeMs = transferTimeMs;
+    this.errorMessage = errorMessage;
+    this.exception = exception;
+    this.resumed = resumed;
+  }
+
+  public static ChunkResult success(int chunkIndex, String description, long rowsTransferred, long transferTimeMs) {
+    return new ChunkResult(chunkIndex, description, true, rowsTransferred, transferTimeMs, null, null, false);
+  }
+
+  /**
+   * A chunk that a previous run already committed, skipped when resuming.
+   */
+  public static ChunkResult resumed(int chunkIndex, String description, long rowsTransferred) {
+    return new ChunkResult(chunkIndex, description, true, rowsTransferred, 0, null, null, true);
+  }
+
+  public static ChunkResult failure(int chunkIndex, String description, long transferTimeMs,
+                                    String errorMessage, Exception exception) {
+    return new ChunkResult(chunkIndex, description, false, 0, transferTimeMs, errorMessage, exception, false);
+  }
+
+  // Getters
+  public int getChunkIndex() { return chunkIndex; }
+  public String getDescription() { return description; }
+  public boolean isSuccessful() { return successful; }
+  public long getRowsTransferred() { return rowsTransferred; }
+  public long getTransferTimeMs() { return transferTimeMs; }
+  public String getErrorMessage() { return errorMessage; }
+  public Exception getException() { return exception; }
+  public boolean isResumed() { return resumed; }
+
+  @Override
+  public String toString() {
+    if (resumed) {
+      return String.format("Chunk %d (%s): %d rows from checkpoint", chunkIndex, description, rowsTransferred);
+    }
+    if (successful) {
+      return String.format("Chunk %d (%s): %d rows in %dms", chunkIndex, description, rowsTransferred, transferTimeMs);
+    }
+    return String.format("Chunk %d (%s): FAILED after %dms - %s", chunkIndex, description, transferTimeMs, errorMessage);
+  }
+}
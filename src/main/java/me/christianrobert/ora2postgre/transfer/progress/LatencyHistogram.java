@@ -0,0 +1,71 @@
+package me.christianrobert.ora2postgre.transfer.progress;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe histogram of batch latencies with fixed bucket bounds.
+ *
+ * Counts are kept per bucket and summed up on read, so the cumulative counts match the
+ * Prometheus histogram layout (le = upper bound, the last bucket is +Inf).
+ */
+public class LatencyHistogram {
+
+  /**
+   * Upper bounds of the buckets in milliseconds; a last bucket catches everything above.
+   */
+  public static final long[] BUCKET_BOUNDS_MS = {1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000};
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS_MS.length + 1);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sumNanos = new LongAdder();
+
+  public void record(long nanos) {
+    int bucket = 0;
+    while (bucket < BUCKET_BOUNDS_MS.length && nanos > BUCKET_BOUNDS_MS[bucket] * 1_000_000) {
+      bucket++;
+    }
+    buckets.incrementAndGet(bucket);
+    count.increment();
+    sumNanos.add(nanos);
+  }
+
+  public long getCount() { return count.sum(); }
+  public long getSumNanos() { return sumNanos.sum(); }
+
+  public double getAverageMs() {
+    long batches = count.sum();
+    return batches == 0 ? 0.0 : sumNanos.sum() / 1_000_000.0 / batches;
+  }
+
+  /**
+   * Number of batches at or below each bound of {@link #BUCKET_BOUNDS_MS}, followed by the total.
+   */
+  public long[] getCumulativeCounts() {
+    long[] cumulative = new long[buckets.length()];
+    long running = 0;
+    for (int i = 0; i < cumulative.length; i++) {
+      running += buckets.get(i);
+      cumulative[i] = running;
+    }
+    return cumulative;
+  }
+
+  /**
+   * Smallest bucket bound that at least the given share of batches stays below, in milliseconds;
+   * -1 when the share falls into the last, unbounded bucket, 0 without batches.
+   */
+  public long getPercentileBoundMs(double share) {
+    long[] cumulative = getCumulativeCounts();
+    long total = cumulative[cumulative.length - 1];
+    if (total == 0) {
+      return 0;
+    }
+    for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+      if (cumulative[i] >= share * total) {
+        return BUCKET_BOUNDS_MS[i];
+      }
+    }
+    return -1;
+  }
+}
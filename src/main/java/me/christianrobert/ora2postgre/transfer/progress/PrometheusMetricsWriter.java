@@ -0,0 +1,114 @@
+package me.christianrobert.ora2postgre.transfer.progress;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Renders the metrics of a transfer session in the Prometheus text exposition format
+ * (version 0.0.4), so that a scraper can chart throughput and the fetch/encode/send split
+ * per table and per worker while the transfer runs.
+ */
+public final class PrometheusMetricsWriter {
+
+  public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private static final String PREFIX = "ora2pg_transfer_";
+
+  private PrometheusMetricsWriter() {
+  }
+
+  /**
+   * The metrics of the session, empty without one.
+   */
+  public static String write(TransferProgress progress) {
+    StringBuilder out = new StringBuilder();
+    if (progress == null) {
+      return out.toString();
+    }
+
+    String session = "{session=\"" + escape(progress.getSessionId()) + "\"}";
+    header(out, "tables_total", "gauge", "Tables in the transfer session");
+    sample(out, "tables_total", session, progress.getTotalTables());
+    header(out, "tables_completed", "gauge", "Tables transferred so far");
+    sample(out, "tables_completed", session, progress.getCompletedTables());
+    header(out, "rows_estimated", "gauge", "Estimated rows of all tables");
+    sample(out, "rows_estimated", session, progress.getTotalEstimatedRows());
+    header(out, "elapsed_seconds", "gauge", "Seconds since the session started");
+    sample(out, "elapsed_seconds", session, progress.getElapsedTimeMs() / 1000.0);
+
+    List<TableTransferMetrics> tables = progress.getTableMetrics();
+
+    header(out, "rows_total", "counter", "Rows copied per table");
+    for (TableTransferMetrics table : tables) {
+      sample(out, "rows_total", tableLabel(table, ""), table.getRows());
+    }
+    header(out, "bytes_total", "counter", "Encoded bytes sent to PostgreSQL per table");
+    for (TableTransferMetrics table : tables) {
+      sample(out, "bytes_total", tableLabel(table, ""), table.getBytes());
+    }
+    header(out, "phase_seconds_total", "counter",
+            "Time per table spent fetching from Oracle, encoding and sending to PostgreSQL");
+    for (TableTransferMetrics table : tables) {
+      sample(out, "phase_seconds_total", tableLabel(table, ",phase=\"fetch\""), table.getFetchTimeMs() / 1000.0);
+      sample(out, "phase_seconds_total", tableLabel(table, ",phase=\"encode\""), table.getEncodeTimeMs() / 1000.0);
+      sample(out, "phase_seconds_total", tableLabel(table, ",phase=\"send\""), table.getSendTimeMs() / 1000.0);
+    }
+    header(out, "batch_latency_seconds", "histogram", "Wall-clock time per batch");
+    for (TableTransferMetrics table : tables) {
+      LatencyHistogram histogram = table.getBatchLatency();
+      long[] cumulative = histogram.getCumulativeCounts();
+      for (int i = 0; i < LatencyHistogram.BUCKET_BOUNDS_MS.length; i++) {
+        String le = formatValue(LatencyHistogram.BUCKET_BOUNDS_MS[i] / 1000.0);
+        sample(out, "batch_latency_seconds_bucket", tableLabel(table, ",le=\"" + le + "\""), cumulative[i]);
+      }
+      sample(out, "batch_latency_seconds_bucket", tableLabel(table, ",le=\"+Inf\""), cumulative[cumulative.length - 1]);
+      sample(out, "batch_latency_seconds_sum", tableLabel(table, ""), histogram.getSumNanos() / 1_000_000_000.0);
+      sample(out, "batch_latency_seconds_count", tableLabel(table, ""), histogram.getCount());
+    }
+
+    List<TransferProgress> workers = progress.getWorkers();
+    if (workers.isEmpty()) {
+      return out.toString();
+    }
+    header(out, "worker_bytes_total", "counter", "Encoded bytes sent to PostgreSQL per worker");
+    for (TransferProgress worker : workers) {
+      sample(out, "worker_bytes_total", "{worker=\"" + worker.getWorkerId() + "\"}", worker.getBytesTransferred());
+    }
+    header(out, "worker_phase_seconds_total", "counter", "Time per worker spent fetching, encoding and sending");
+    for (TransferProgress worker : workers) {
+      String labels = "{worker=\"" + worker.getWorkerId() + "\",phase=\"";
+      sample(out, "worker_phase_seconds_total", labels + "fetch\"}", worker.getFetchTimeMs() / 1000.0);
+      sample(out, "worker_phase_seconds_total", labels + "encode\"}", worker.getEncodeTimeMs() / 1000.0);
+      sample(out, "worker_phase_seconds_total", labels + "send\"}", worker.getSendTimeMs() / 1000.0);
+    }
+    return out.toString();
+  }
+
+  private static String tableLabel(TableTransferMetrics table, String moreLabels) {
+    return "{table=\"" + escape(table.getTableName()) + "\"" + moreLabels + "}";
+  }
+
+  private static void header(StringBuilder out, String name, String type, String help) {
+    out.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+    out.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+  }
+
+  private static void sample(StringBuilder out, String name, String labels, long value) {
+    out.append(PREFIX).append(name).append(labels).append(' ').append(value).append('\n');
+  }
+
+  private static void sample(StringBuilder out, String name, String labels, double value) {
+    out.append(PREFIX).append(name).append(labels).append(' ').append(formatValue(value)).append('\n');
+  }
+
+  private static String formatValue(double value) {
+    return String.format(Locale.ROOT, "%.3f", value);
+  }
+
+  /**
+   * Escapes a label value: backslash, double quote and line feed.
+   */
+  static String escape(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+}
@@ -0,0 +1,91 @@
+package me.christianrobert.ora2postgre.transfer.progress;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Where the time of one table's transfer went, accumulated per batch.
+ *
+ * Fetch is the time spent in ResultSet.next(), i.e. waiting for Oracle round trips; send is
+ * the time spent handing encoded data to PostgreSQL (COPY buffers or INSERT batches); encode is
+ * the remainder, reading the column values and converting them. Chunks of one table record
+ * concurrently, so their times add up to more than the table's wall-clock time.
+ */
+public class TableTransferMetrics {
+
+  private final String tableName;
+  private final LongAdder rows = new LongAdder();
+  private final LongAdder bytes = new LongAdder();
+  private final LongAdder fetchNanos = new LongAdder();
+  private final LongAdder encodeNanos = new LongAdder();
+  private final LongAdder sendNanos = new LongAdder();
+  private final LatencyHistogram batchLatency = new LatencyHistogram();
+  private final AtomicLong firstBatchStartNanos = new AtomicLong(Long.MAX_VALUE);
+  private final AtomicLong lastBatchEndNanos = new AtomicLong(Long.MIN_VALUE);
+
+  public TableTransferMetrics(String tableName) {
+    this.tableName = tableName;
+  }
+
+  void recordBatch(long rows, long bytes, long fetchNanos, long encodeNanos, long sendNanos,
+                   long batchStartNanos, long batchEndNanos) {
+    this.rows.add(rows);
+    this.bytes.add(bytes);
+    this.fetchNanos.add(fetchNanos);
+    this.encodeNanos.add(encodeNanos);
+    this.sendNanos.add(sendNanos);
+    this.batchLatency.record(batchEndNanos - batchStartNanos);
+    firstBatchStartNanos.accumulateAndGet(batchStartNanos, Math::min);
+    lastBatchEndNanos.accumulateAndGet(batchEndNanos, Math::max);
+  }
+
+  public String getTableName() { return tableName; }
+  public long getRows() { return rows.sum(); }
+  public long getBytes() { return bytes.sum(); }
+  public long getFetchTimeMs() { return fetchNanos.sum() / 1_000_000; }
+  public long getEncodeTimeMs() { return encodeNanos.sum() / 1_000_000; }
+  public long getSendTimeMs() { return sendNanos.sum() / 1_000_000; }
+  public LatencyHistogram getBatchLatency() { return batchLatency; }
+
+  /**
+   * Time from the start of the first batch to the end of the last one.
+   */
+  public long getActiveTimeMs() {
+    long start = firstBatchStartNanos.get();
+    long end = lastBatchEndNanos.get();
+    return end > start ? (end - start) / 1_000_000 : 0;
+  }
+
+  public double getRowsPerSecond() {
+    long activeMs = getActiveTimeMs();
+    return activeMs > 0 ? rows.sum() * 1000.0 / activeMs : 0.0;
+  }
+
+  public double getBytesPerSecond() {
+    long activeMs = getActiveTimeMs();
+    return activeMs > 0 ? bytes.sum() * 1000.0 / activeMs : 0.0;
+  }
+
+  /**
+   * The phase that took the most time: "fetch", "encode" or "send".
+   */
+  public String getBottleneck() {
+    long fetch = fetchNanos.sum();
+    long encode = encodeNanos.sum();
+    long send = sendNanos.sum();
+    if (fetch == 0 && encode == 0 && send == 0) {
+      return "";
+    }
+    if (fetch >= encode && fetch >= send) {
+      return "fetch";
+    }
+    return encode >= send ? "encode" : "send";
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s: %d rows, %d bytes, fetch %d ms, encode %d ms, send %d ms, %d batches (avg %.1f ms)",
+            tableName, getRows(), getBytes(), getFetchTimeMs(), getEncodeTimeMs(), getSendTimeMs(),
+            batchLatency.getCount(), batchLatency.getAverageMs());
+  }
+}
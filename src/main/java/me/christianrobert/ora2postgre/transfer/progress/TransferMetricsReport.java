@@ -0,0 +1,84 @@
+package me.christianrobert.ora2postgre.transfer.progress;
+
+import java.util.List;
+
+/**
+ * Snapshot of the throughput and time breakdown of a transfer session, per table and per
+ * worker, for the job progress API.
+ */
+public class TransferMetricsReport {
+
+  private final String sessionId;
+  private final long elapsedTimeMs;
+  private final long rowsTransferred;
+  private final long bytesTransferred;
+  private final double rowsPerSecond;
+  private final double bytesPerSecond;
+  private final long fetchTimeMs;
+  private final long encodeTimeMs;
+  private final long sendTimeMs;
+  private final List<TableTransferMetrics> tables;
+  private final List<WorkerMetrics> workers;
+
+  private TransferMetricsReport(TransferProgress progress) {
+    this.sessionId = progress.getSessionId();
+    this.elapsedTimeMs = progress.getElapsedTimeMs();
+    this.rowsTransferred = progress.getTransferredRowsIncludingInFlight();
+    this.bytesTransferred = progress.getBytesTransferred();
+    this.rowsPerSecond = elapsedTimeMs > 0 ? rowsTransferred * 1000.0 / elapsedTimeMs : 0.0;
+    this.bytesPerSecond = progress.getOverallTransferRateBytesPerSecond();
+    this.fetchTimeMs = progress.getFetchTimeMs();
+    this.encodeTimeMs = progress.getEncodeTimeMs();
+    this.sendTimeMs = progress.getSendTimeMs();
+    this.tables = progress.getTableMetrics();
+    this.workers = progress.getWorkers().stream().map(WorkerMetrics::new).toList();
+  }
+
+  /**
+   * Snapshot of the session, or null without a session.
+   */
+  public static TransferMetricsReport of(TransferProgress progress) {
+    return progress != null ? new TransferMetricsReport(progress) : null;
+  }
+
+  // Getters
+  public String getSessionId() { return sessionId; }
+  public long getElapsedTimeMs() { return elapsedTimeMs; }
+  public long getRowsTransferred() { return rowsTransferred; }
+  public long getBytesTransferred() { return bytesTransferred; }
+  public double getRowsPerSecond() { return rowsPerSecond; }
+  public double getBytesPerSecond() { return bytesPerSecond; }
+  public long getFetchTimeMs() { return fetchTimeMs; }
+  public long getEncodeTimeMs() { return encodeTimeMs; }
+  public long getSendTimeMs() { return sendTimeMs; }
+  public List<TableTransferMetrics> getTables() { return tables; }
+  public List<WorkerMetrics> getWorkers() { return workers; }
+
+  /**
+   * Time breakdown of one parallel transfer worker.
+   */
+  public static class WorkerMetrics {
+    private final int workerId;
+    private final String currentTable;
+    private final long bytesTransferred;
+    private final long fetchTimeMs;
+    private final long encodeTimeMs;
+    private final long sendTimeMs;
+
+    private WorkerMetrics(TransferProgress worker) {
+      this.workerId = worker.getWorkerId();
+      this.currentTable = worker.getCurrentTable();
+      this.bytesTransferred = worker.getBytesTransferred();
+      this.fetchTimeMs = worker.getFetchTimeMs();
+      this.encodeTimeMs = worker.getEncodeTimeMs();
+      this.sendTimeMs = worker.getSendTimeMs();
+    }
+
+    public int getWorkerId() { return workerId; }
+    public String getCurrentTable() { return currentTable; }
+    public long getBytesTransferred() { return bytesTransferred; }
+    public long getFetchTimeMs() { return fetchTimeMs; }
+    public long getEncodeTimeMs() { return encodeTimeMs; }
+    public long getSendTimeMs() { return sendTimeMs; }
+  }
+}
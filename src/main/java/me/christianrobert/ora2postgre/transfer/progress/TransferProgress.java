@@ -1,16 +1,33 @@
 package me.christianrobert.ora2postgre.transfer.progress;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Thread-safe progress tracker for data transfer operations.
  * Tracks overall progress across multiple tables and detailed progress for the current table.
+ *
+ * When tables are transferred in parallel, each worker gets its own child tracker via
+ * {@link #createWorkerProgress(int)}. Workers report their current table independently,
+ * and completed tables and rows are aggregated into the parent session tracker.
+ *
+ * Copy loops report every batch through {@link #recordBatch}: the time spent fetching from
+ * Oracle, encoding and sending to PostgreSQL and the bytes moved are summed per worker and
+ * for the session, and kept per table in {@link TableTransferMetrics} on the session tracker.
  */
 public class TransferProgress {
 
   private final String sessionId;
   private final long startTime;
+  private final TransferProgress parent;
+  private final int workerId;
+  private final List<TransferProgress> workers = new CopyOnWriteArrayList<>();
 
   // Overall progress
   private final AtomicLong totalTables = new AtomicLong(0);
@@ -24,9 +41,39 @@ public class TransferProgress {
   private final AtomicLong currentTableTransferredRows = new AtomicLong(0);
   private final AtomicReference<String> currentStatus = new AtomicReference<>("Initializing");
 
+  // Pipelined COPY: buffers waiting for the PostgreSQL writer and time each side waited for the other
+  private final AtomicLong pipelineQueueDepth = new AtomicLong(0);
+  private final AtomicLong pipelinePeakQueueDepth = new AtomicLong(0);
+  private final AtomicLong pipelineReaderWaitNanos = new AtomicLong(0);
+  private final AtomicLong pipelineWriterWaitNanos = new AtomicLong(0);
+
+  // Time breakdown of the copy loops; per table metrics are only kept on the session tracker
+  private final LongAdder bytesTransferred = new LongAdder();
+  private final LongAdder fetchNanos = new LongAdder();
+  private final LongAdder encodeNanos = new LongAdder();
+  private final LongAdder sendNanos = new LongAdder();
+  private final Map<String, TableTransferMetrics> tableMetrics = new ConcurrentHashMap<>();
+
   public TransferProgress(String sessionId) {
+    this(sessionId, null, -1);
+  }
+
+  private TransferProgress(String sessionId, TransferProgress parent, int workerId) {
     this.sessionId = sessionId;
     this.startTime = System.currentTimeMillis();
+    this.parent = parent;
+    this.workerId = workerId;
+  }
+
+  /**
+   * Creates a child tracker for one parallel transfer worker.
+   * Table completions on the child are also counted on this tracker.
+   */
+  public TransferProgress createWorkerProgress(int workerId) {
+    TransferProgress worker = new TransferProgress(sessionId, this, workerId);
+    worker.currentStatus.set("Worker " + workerId + " idle");
+    workers.add(worker);
+    return worker;
   }
 
   // Getters
@@ -40,6 +87,58 @@ public class TransferProgress {
   public long getCurrentTableTotalRows() { return currentTableTotalRows.get(); }
   public long getCurrentTableTransferredRows() { return currentTableTransferredRows.get(); }
   public String getCurrentStatus() { return currentStatus.get(); }
+  public int getWorkerId() { return workerId; }
+  public List<TransferProgress> getWorkers() { return List.copyOf(workers); }
+  public boolean isWorker() { return parent != null; }
+  public long getPipelineQueueDepth() { return pipelineQueueDepth.get(); }
+  public long getPipelinePeakQueueDepth() { return pipelinePeakQueueDepth.get(); }
+  public long getPipelineReaderWaitMs() { return pipelineReaderWaitNanos.get() / 1_000_000; }
+  public long getPipelineWriterWaitMs() { return pipelineWriterWaitNanos.get() / 1_000_000; }
+  public long getBytesTransferred() { return bytesTransferred.sum(); }
+  public long getFetchTimeMs() { return fetchNanos.sum() / 1_000_000; }
+  public long getEncodeTimeMs() { return encodeNanos.sum() / 1_000_000; }
+  public long getSendTimeMs() { return sendNanos.sum() / 1_000_000; }
+
+  /**
+   * Metrics of every table that reported a batch, by table name.
+   */
+  public List<TableTransferMetrics> getTableMetrics() {
+    return session().tableMetrics.values().stream()
+            .sorted(Comparator.comparing(TableTransferMetrics::getTableName))
+            .toList();
+  }
+
+  /**
+   * Metrics of one table (schema.table), or null if it has not reported a batch.
+   */
+  public TableTransferMetrics getTableMetrics(String fullTableName) {
+    return session().tableMetrics.get(fullTableName);
+  }
+
+  /**
+   * Tables currently being transferred, one per busy worker.
+   * Without workers this is just the current table.
+   */
+  public List<String> getActiveTables() {
+    if (workers.isEmpty()) {
+      String table = currentTable.get();
+      return table.isEmpty() ? List.of() : List.of(table);
+    }
+    return workers.stream()
+            .map(TransferProgress::getCurrentTable)
+            .filter(table -> !table.isEmpty())
+            .toList();
+  }
+
+  /**
+   * Rows transferred so far including tables that are still in flight on workers.
+   */
+  public long getTransferredRowsIncludingInFlight() {
+    long inFlight = workers.stream()
+            .mapToLong(TransferProgress::getCurrentTableTransferredRows)
+            .sum();
+    return totalTransferredRows.get() + inFlight;
+  }
 
   // Calculated progress values
   public double getOverallProgressPercent() {
@@ -64,6 +163,12 @@ public class TransferProgress {
     return (double) totalTransferredRows.get() / (elapsedMs / 1000.0);
   }
 
+  public double getOverallTransferRateBytesPerSecond() {
+    long elapsedMs = getElapsedTimeMs();
+    if (elapsedMs <= 0) return 0.0;
+    return (double) bytesTransferred.sum() / (elapsedMs / 1000.0);
+  }
+
   public long getEstimatedRemainingTimeMs() {
     long transferred = totalTransferredRows.get();
     long total = totalEstimatedRows.get();
@@ -95,10 +200,42 @@ public class TransferProgress {
     this.currentTableTransferredRows.set(transferredRows);
   }
 
+  /**
+   * Adds rows to the current table, for chunks of one table copied concurrently.
+   */
+  public void addCurrentTableProgress(long additionalRows) {
+    this.currentTableTransferredRows.addAndGet(additionalRows);
+  }
+
   public void completeTable(long actualRowsTransferred) {
+    if (parent != null) {
+      // Worker: clear the in-flight table so its rows are not counted twice, then aggregate upwards
+      String finishedTable = currentTable.getAndSet("");
+      this.currentTableTransferredRows.set(0);
+      this.completedTables.incrementAndGet();
+      this.totalTransferredRows.addAndGet(actualRowsTransferred);
+      this.currentStatus.set("Worker " + workerId + " finished " + finishedTable);
+      parent.recordTableCompletion(actualRowsTransferred);
+      return;
+    }
+
+    this.currentTableTransferredRows.set(actualRowsTransferred);
+    recordTableCompletion(actualRowsTransferred);
+  }
+
+  /**
+   * Clears the current table after a failed transfer so its partial rows are no longer
+   * reported as in flight.
+   */
+  public void abandonCurrentTable() {
+    String failedTable = currentTable.getAndSet("");
+    this.currentTableTransferredRows.set(0);
+    this.currentStatus.set("Failed " + failedTable);
+  }
+
+  private void recordTableCompletion(long actualRowsTransferred) {
     this.completedTables.incrementAndGet();
     this.totalTransferredRows.addAndGet(actualRowsTransferred);
-    this.currentTableTransferredRows.set(actualRowsTransferred);
 
     // Update status
     long completed = completedTables.get();
@@ -110,6 +247,74 @@ public class TransferProgress {
     }
   }
 
+  /**
+   * A filled COPY buffer was queued for the PostgreSQL writer thread.
+   * Depths are also added to the parent, so the session shows the total across workers.
+   */
+  public void pipelineBufferQueued() {
+    long depth = pipelineQueueDepth.incrementAndGet();
+    pipelinePeakQueueDepth.accumulateAndGet(depth, Math::max);
+    if (parent != null) {
+      parent.pipelineBufferQueued();
+    }
+  }
+
+  /**
+   * The PostgreSQL writer thread took a queued COPY buffer.
+   */
+  public void pipelineBufferDequeued() {
+    pipelineQueueDepth.decrementAndGet();
+    if (parent != null) {
+      parent.pipelineBufferDequeued();
+    }
+  }
+
+  /**
+   * Time the Oracle reader was blocked on a full pipeline, i.e. waiting for PostgreSQL.
+   */
+  public void addPipelineReaderWaitNanos(long nanos) {
+    pipelineReaderWaitNanos.addAndGet(nanos);
+    if (parent != null) {
+      parent.addPipelineReaderWaitNanos(nanos);
+    }
+  }
+
+  /**
+   * Time the PostgreSQL writer was idle on an empty pipeline, i.e. waiting for Oracle.
+   */
+  public void addPipelineWriterWaitNanos(long nanos) {
+    pipelineWriterWaitNanos.addAndGet(nanos);
+    if (parent != null) {
+      parent.addPipelineWriterWaitNanos(nanos);
+    }
+  }
+
+  /**
+   * A copy loop finished a batch. Times are added to this tracker and its parent; the session
+   * tracker also adds them to the table's metrics.
+   *
+   * @param fullTableName schema.table
+   * @param batchStartNanos System.nanoTime() at the start of the batch
+   * @param batchEndNanos System.nanoTime() at the end of the batch
+   */
+  public void recordBatch(String fullTableName, long rows, long bytes, long fetchNanos, long encodeNanos,
+                          long sendNanos, long batchStartNanos, long batchEndNanos) {
+    this.bytesTransferred.add(bytes);
+    this.fetchNanos.add(fetchNanos);
+    this.encodeNanos.add(encodeNanos);
+    this.sendNanos.add(sendNanos);
+    if (parent != null) {
+      parent.recordBatch(fullTableName, rows, bytes, fetchNanos, encodeNanos, sendNanos, batchStartNanos, batchEndNanos);
+      return;
+    }
+    tableMetrics.computeIfAbsent(fullTableName, TableTransferMetrics::new)
+            .recordBatch(rows, bytes, fetchNanos, encodeNanos, sendNanos, batchStartNanos, batchEndNanos);
+  }
+
+  private TransferProgress session() {
+    return parent != null ? parent.session() : this;
+  }
+
   public void updateStatus(String status) {
     this.currentStatus.set(status);
   }
@@ -1,11 +1,15 @@
 package me.christianrobert.ora2postgre.transfer.progress;
 
+import java.util.List;
+
 /**
  * Represents the result of a single table transfer operation.
  * Contains success status, row counts, timing information, and error details.
  */
 public class TransferResult {
 
+  public static final String ALREADY_TRANSFERRED = "Checkpoint (already transferred)";
+
   private final String schemaName;
   private final String tableName;
   private final boolean successful;
@@ -15,6 +19,14 @@ public class TransferResult {
   private final String strategyUsed;
   private final String errorMessage;
   private final Exception exception;
+  private final List<ChunkResult> chunkResults;
+  private final int fetchSize;
+  private final int batchSize;
+  private final int averageRowBytes;
+  private final long bytesTransferred;
+  private final long fetchTimeMs;
+  private final long encodeTimeMs;
+  private final long sendTimeMs;
 
   private TransferResult(Builder builder) {
     this.schemaName = builder.schemaName;
@@ -26,6 +38,14 @@ public class TransferResult {
     this.strategyUsed = builder.strategyUsed;
     this.errorMessage = builder.errorMessage;
     this.exception = builder.exception;
+    this.chunkResults = List.copyOf(builder.chunkResults);
+    this.fetchSize = builder.fetchSize;
+    this.batchSize = builder.batchSize;
+    this.averageRowBytes = builder.averageRowBytes;
+    this.bytesTransferred = builder.bytesTransferred;
+    this.fetchTimeMs = builder.fetchTimeMs;
+    this.encodeTimeMs = builder.encodeTimeMs;
+    this.sendTimeMs = builder.sendTimeMs;
   }
 
   // Getters
@@ -38,6 +58,18 @@ public class TransferResult {
   public String getStrategyUsed() { return strategyUsed; }
   public String getErrorMessage() { return errorMessage; }
   public Exception getException() { return exception; }
+  public List<ChunkResult> getChunkResults() { return chunkResults; }
+  public int getFetchSize() { return fetchSize; }
+  public int getBatchSize() { return batchSize; }
+  public int getAverageRowBytes() { return averageRowBytes; }
+  public long getBytesTransferred() { return bytesTransferred; }
+  public long getFetchTimeMs() { return fetchTimeMs; }
+  public long getEncodeTimeMs() { return encodeTimeMs; }
+  public long getSendTimeMs() { return sendTimeMs; }
+
+  public boolean isChunked() {
+    return !chunkResults.isEmpty();
+  }
 
   public String getFullTableName() {
     return schemaName + "." + tableName;
@@ -52,12 +84,21 @@ public class TransferResult {
     return (double) rowsTransferred / (transferTimeMs / 1000.0);
   }
 
+  public double getTransferRateBytesPerSecond() {
+    if (transferTimeMs <= 0) return 0.0;
+    return (double) bytesTransferred / (transferTimeMs / 1000.0);
+  }
+
   @Override
   public String toString() {
     if (successful) {
-      return String.format("SUCCESS: %s - %d/%d rows in %dms using %s (%.1f rows/sec)",
+      String chunkInfo = isChunked() ? String.format(" in %d chunks", chunkResults.size()) : "";
+      String sizingInfo = batchSize > 0 ? String.format(", fetch %d, batch %d", fetchSize, batchSize) : "";
+      String timingInfo = fetchTimeMs + encodeTimeMs + sendTimeMs > 0
+              ? String.format(" [fetch %dms, encode %dms, send %dms]", fetchTimeMs, encodeTimeMs, sendTimeMs) : "";
+      return String.format("SUCCESS: %s - %d/%d rows in %dms using %s%s (%.1f rows/sec%s)%s",
               getFullTableName(), rowsTransferred, sourceRowCount, transferTimeMs,
-              strategyUsed, getTransferRateRowsPerSecond());
+              strategyUsed, chunkInfo, getTransferRateRowsPerSecond(), sizingInfo, timingInfo);
     } else {
       return String.format("FAILED: %s - %s", getFullTableName(), errorMessage);
     }
@@ -74,6 +115,14 @@ public class TransferResult {
     private String strategyUsed;
     private String errorMessage;
     private Exception exception;
+    private List<ChunkResult> chunkResults = List.of();
+    private int fetchSize = 0;
+    private int batchSize = 0;
+    private int averageRowBytes = 0;
+    private long bytesTransferred = 0;
+    private long fetchTimeMs = 0;
+    private long encodeTimeMs = 0;
+    private long sendTimeMs = 0;
 
     public Builder(String schemaName, String tableName) {
       this.schemaName = schemaName;
@@ -112,7 +161,38 @@ public class TransferResult {
 
     public Builder exception(Exception exception) {
       this.exception = exception;
-      this.errorMessage = exception.getMessage();
+      if (exception != null) {
+        this.errorMessage = exception.getMessage();
+      }
+      return this;
+    }
+
+    public Builder chunkResults(List<ChunkResult> chunkResults) {
+      this.chunkResults = chunkResults;
+      return this;
+    }
+
+    /**
+     * Fetch and batch size in effect at the end of the transfer, and the average row width they were sized for.
+     */
+    public Builder sizing(int fetchSize, int batchSize, int averageRowBytes) {
+      this.fetchSize = fetchSize;
+      this.batchSize = batchSize;
+      this.averageRowBytes = averageRowBytes;
+      return this;
+    }
+
+    /**
+     * Bytes moved and time spent fetching, encoding and sending, from the table's metrics.
+     * Ignored when the table reported no batches (null).
+     */
+    public Builder metrics(TableTransferMetrics metrics) {
+      if (metrics != null) {
+        this.bytesTransferred = metrics.getBytes();
+        this.fetchTimeMs = metrics.getFetchTimeMs();
+        this.encodeTimeMs = metrics.getEncodeTimeMs();
+        this.sendTimeMs = metrics.getSendTimeMs();
+      }
       return this;
     }
 
@@ -133,6 +213,18 @@ public class TransferResult {
             .build();
   }
 
+  /**
+   * A table that a previous run already transferred completely, skipped when resuming.
+   */
+  public static TransferResult alreadyTransferred(String schema, String table, long rowsTransferred) {
+    return new Builder(schema, table)
+            .successful(true)
+            .rowsTransferred(rowsTransferred)
+            .sourceRowCount(rowsTransferred)
+            .strategyUsed(ALREADY_TRANSFERRED)
+            .build();
+  }
+
   public static TransferResult failure(String schema, String table, String strategy,
                                        String errorMessage, Exception exception) {
     return new Builder(schema, table)
@@ -0,0 +1,209 @@
+package me.christianrobert.ora2postgre.transfer.sizing;
+
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.oracledb.tools.NameNormalizer;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Chooses the JDBC fetch size and the batch size for one table transfer, and tunes them
+ * while the table is copied.
+ *
+ * The starting point is derived from the average row width estimated from the column
+ * metadata. After every batch the transfer reports rows, encoded bytes and elapsed time:
+ * the measured row width replaces the estimate, which bounds the size so that the rows of
+ * one fetch plus one batch fit into the memory budget. Within that bound the size grows
+ * while throughput improves and steps back once it stops improving.
+ *
+ * A fixed controller always keeps its initial sizes. Not thread-safe; use one per transfer.
+ */
+public class BatchSizeController {
+
+  // The Oracle driver gains little beyond this many rows per round trip
+  public static final int MAX_FETCH_SIZE = 10_000;
+
+  private static final int START_ROWS = 5_000;
+  private static final double GROWTH_FACTOR = 1.5;
+  // Throughput must improve by 5% to be told apart from noise
+  private static final double IMPROVEMENT_THRESHOLD = 1.05;
+  // Weight of the latest batch in the smoothed row width
+  private static final double WIDTH_SMOOTHING = 0.3;
+
+  // Estimated widths of column values in bytes
+  private static final int NUMBER_BYTES = 22;
+  private static final int DATE_BYTES = 8;
+  private static final int TIMESTAMP_BYTES = 13;
+  private static final int LOB_BYTES = 32 * 1024;
+  private static final int DEFAULT_COLUMN_BYTES = 256;
+
+  private final boolean adaptive;
+  private final long memoryBudgetBytes;
+  private final int minRows;
+  private final int maxRows;
+  private final int estimatedRowBytes;
+
+  private double rowBytes;
+  private boolean widthMeasured = false;
+  private int size;
+  private int fetchSize;
+  private int previousSize;
+  private double lastThroughput = 0;
+  private boolean growing = true;
+  private int adjustments = 0;
+
+  private BatchSizeController(boolean adaptive, long memoryBudgetBytes, int minRows, int maxRows,
+                              int estimatedRowBytes, int initialFetchSize, int initialBatchSize) {
+    this.adaptive = adaptive;
+    this.memoryBudgetBytes = memoryBudgetBytes;
+    this.minRows = Math.max(1, minRows);
+    this.maxRows = Math.max(this.minRows, maxRows);
+    this.estimatedRowBytes = Math.max(1, estimatedRowBytes);
+    this.rowBytes = this.estimatedRowBytes;
+    this.size = initialBatchSize;
+    this.fetchSize = initialFetchSize;
+    this.previousSize = initialBatchSize;
+  }
+
+  /**
+   * A controller that sizes from the row width and tunes at runtime.
+   *
+   * @param estimatedRowBytes starting estimate of the average row width
+   * @param memoryBudgetBytes memory for the rows of one fetch plus one batch
+   * @param minRows smallest fetch and batch size
+   * @param maxRows largest batch size
+   */
+  public static BatchSizeController adaptive(int estimatedRowBytes, long memoryBudgetBytes, int minRows, int maxRows) {
+    BatchSizeController controller = new BatchSizeController(true, memoryBudgetBytes, minRows, maxRows,
+            estimatedRowBytes, 0, 0);
+    controller.resize(Math.min(START_ROWS, controller.memoryLimit()));
+    controller.adjustments = 0;
+    return controller;
+  }
+
+  /**
+   * A controller that keeps the given sizes.
+   */
+  public static BatchSizeController fixed(int fetchSize, int batchSize) {
+    return new BatchSizeController(false, 0, 1, Integer.MAX_VALUE, 1, fetchSize, batchSize);
+  }
+
+  public boolean isAdaptive() { return adaptive; }
+  public int getFetchSize() { return fetchSize; }
+  public int getBatchSize() { return size; }
+  public int getEstimatedRowBytes() { return estimatedRowBytes; }
+  public int getAverageRowBytes() { return (int) Math.round(rowBytes); }
+  public int getAdjustments() { return adjustments; }
+
+  /**
+   * Reports a completed batch. Returns true if the fetch or batch size changed.
+   *
+   * @param rows rows in the batch
+   * @param bytes bytes the rows were encoded into, 0 if unknown (the estimate is kept)
+   * @param elapsedNanos time spent on the batch, reading included
+   */
+  public boolean recordBatch(long rows, long bytes, long elapsedNanos) {
+    if (!adaptive || rows <= 0) {
+      return false;
+    }
+
+    if (bytes > 0) {
+      double observed = (double) bytes / rows;
+      rowBytes = widthMeasured ? WIDTH_SMOOTHING * observed + (1 - WIDTH_SMOOTHING) * rowBytes : observed;
+      widthMeasured = true;
+    }
+
+    int target = size;
+    if (elapsedNanos > 0) {
+      double throughput = rows * 1_000_000_000.0 / elapsedNanos;
+      if (growing) {
+        if (lastThroughput == 0 || throughput >= lastThroughput * IMPROVEMENT_THRESHOLD) {
+          target = (int) Math.min(Integer.MAX_VALUE, (long) (size * GROWTH_FACTOR));
+        } else {
+          // The last step did not pay off: go back and stay there
+          growing = false;
+          target = previousSize;
+        }
+      }
+      lastThroughput = throughput;
+    }
+
+    int oldSize = size;
+    int oldFetchSize = fetchSize;
+    resize(Math.min(target, memoryLimit()));
+    return size != oldSize || fetchSize != oldFetchSize;
+  }
+
+  /**
+   * Reports a batch that started at batchStartNanos and applies a changed fetch size to the
+   * open result set, which the driver uses from its next round trip on.
+   *
+   * @return the start time of the next batch
+   */
+  public long completeBatch(ResultSet rs, long rows, long bytes, long batchStartNanos) throws SQLException {
+    long now = System.nanoTime();
+    int oldFetchSize = fetchSize;
+    if (recordBatch(rows, bytes, now - batchStartNanos) && fetchSize != oldFetchSize) {
+      rs.setFetchSize(fetchSize);
+    }
+    return now;
+  }
+
+  private void resize(int rows) {
+    int newSize = Math.max(minRows, Math.min(maxRows, rows));
+    if (newSize != size) {
+      previousSize = size;
+      size = newSize;
+      adjustments++;
+    }
+    fetchSize = Math.min(size, MAX_FETCH_SIZE);
+  }
+
+  /**
+   * Rows that fit into the budget twice: once in the driver's fetch buffer, once in the batch.
+   */
+  private int memoryLimit() {
+    long rows = (long) (memoryBudgetBytes / (2 * rowBytes));
+    return (int) Math.max(1, Math.min(Integer.MAX_VALUE, rows));
+  }
+
+  /**
+   * Estimates the average row width of a table from its column metadata. Character columns
+   * count with their declared length, LOBs with a typical inline size.
+   */
+  public static int estimateRowBytes(TableMetadata table) {
+    long bytes = 0;
+    if (table.getColumns() != null) {
+      for (ColumnMetadata column : table.getColumns()) {
+        bytes += estimateColumnBytes(column);
+      }
+    }
+    return (int) Math.max(1, Math.min(Integer.MAX_VALUE, bytes));
+  }
+
+  static int estimateColumnBytes(ColumnMetadata column) {
+    String dataType = NameNormalizer.normalizeDataType(column.getDataType()).toUpperCase();
+    Integer length = column.getCharacterLength();
+    switch (dataType) {
+      case "VARCHAR2", "NVARCHAR2", "VARCHAR", "CHAR", "NCHAR":
+        return length != null && length > 0 ? length : DEFAULT_COLUMN_BYTES;
+      case "NUMBER", "FLOAT", "INTEGER", "BINARY_FLOAT", "BINARY_DOUBLE":
+        return NUMBER_BYTES;
+      case "DATE":
+        return DATE_BYTES;
+      case "CLOB", "NCLOB", "BLOB", "LONG", "LONG RAW", "XMLTYPE":
+        return LOB_BYTES;
+      default:
+        return dataType.startsWith("TIMESTAMP") ? TIMESTAMP_BYTES : DEFAULT_COLUMN_BYTES;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return adaptive
+            ? String.format("fetch %d, batch %d (adaptive, ~%d bytes/row, %d adjustments)",
+                    fetchSize, size, getAverageRowBytes(), adjustments)
+            : String.format("fetch %d, batch %d", fetchSize, size);
+  }
+}
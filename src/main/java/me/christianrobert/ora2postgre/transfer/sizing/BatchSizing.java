@@ -0,0 +1,68 @@
+package me.christianrobert.ora2postgre.transfer.sizing;
+
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+
+/**
+ * How transfer strategies size fetches and batches: either fixed per strategy, or adaptively
+ * per table within a memory budget (see {@link BatchSizeController}).
+ */
+public final class BatchSizing {
+
+  public static final long DEFAULT_MEMORY_BUDGET_BYTES = 64L * 1024 * 1024;
+  public static final int DEFAULT_MIN_ROWS = 100;
+  public static final int DEFAULT_MAX_ROWS = 50_000;
+
+  private static final BatchSizing FIXED = new BatchSizing(false, 0, 0, 0);
+
+  private final boolean adaptive;
+  private final long memoryBudgetBytes;
+  private final int minRows;
+  private final int maxRows;
+
+  private BatchSizing(boolean adaptive, long memoryBudgetBytes, int minRows, int maxRows) {
+    this.adaptive = adaptive;
+    this.memoryBudgetBytes = memoryBudgetBytes;
+    this.minRows = minRows;
+    this.maxRows = maxRows;
+  }
+
+  /**
+   * Every strategy uses its own fixed fetch and batch sizes.
+   */
+  public static BatchSizing fixed() {
+    return FIXED;
+  }
+
+  /**
+   * @param memoryBudgetBytes memory per table transfer for the rows of one fetch plus one batch
+   * @param minRows smallest fetch and batch size
+   * @param maxRows largest batch size
+   */
+  public static BatchSizing adaptive(long memoryBudgetBytes, int minRows, int maxRows) {
+    if (memoryBudgetBytes <= 0) {
+      throw new IllegalArgumentException("Memory budget must be positive, got " + memoryBudgetBytes);
+    }
+    return new BatchSizing(true, memoryBudgetBytes, minRows, maxRows);
+  }
+
+  public boolean isAdaptive() { return adaptive; }
+  public long getMemoryBudgetBytes() { return memoryBudgetBytes; }
+  public int getMinRows() { return minRows; }
+  public int getMaxRows() { return maxRows; }
+
+  /**
+   * Creates the controller for one table (or chunk) transfer.
+   *
+   * @param fetchSize the strategy's fetch size, used when sizing is fixed
+   * @param batchSize the strategy's batch size, used when sizing is fixed
+   * @param rowLimit upper bound for the adaptive batch size, e.g. for tables with LOB columns
+   */
+  public BatchSizeController controllerFor(TableMetadata table, int fetchSize, int batchSize, int rowLimit) {
+    if (!adaptive) {
+      return BatchSizeController.fixed(fetchSize, batchSize);
+    }
+    int limit = Math.min(maxRows, rowLimit);
+    return BatchSizeController.adaptive(BatchSizeController.estimateRowBytes(table), memoryBudgetBytes,
+            Math.min(minRows, limit), limit);
+  }
+}
@@ -0,0 +1,33 @@
+package me.christianrobert.ora2postgre.transfer.strategy;
+
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.transfer.chunk.TransferChunk;
+import me.christianrobert.ora2postgre.transfer.progress.ChunkResult;
+import me.christianrobert.ora2postgre.transfer.progress.TransferProgress;
+
+import java.sql.Connection;
+
+/**
+ * Transfer strategy that can also copy a table as independent chunks, see
+ * {@link me.christianrobert.ora2postgre.transfer.chunk.ChunkedTableTransfer}.
+ */
+public interface ChunkedTransferStrategy extends TransferStrategy {
+
+  /**
+   * Transfers the rows of one chunk of a table. Chunks of the same table may run concurrently
+   * on different connections, so implementations must only report progress incrementally
+   * via {@link TransferProgress#addCurrentTableProgress(long)}.
+   *
+   * @param table TableMetadata containing schema, table name, and column information
+   * @param chunk The slice of the table to copy
+   * @param oracleConn Oracle connection dedicated to this chunk
+   * @param postgresConn PostgreSQL connection dedicated to this chunk
+   * @param progress Progress tracker of the table being transferred
+   * @return ChunkResult with row count and timing for this chunk
+   */
+  ChunkResult transferChunk(TableMetadata table,
+                            TransferChunk chunk,
+                            Connection oracleConn,
+                            Connection postgresConn,
+                            TransferProgress progress);
+}
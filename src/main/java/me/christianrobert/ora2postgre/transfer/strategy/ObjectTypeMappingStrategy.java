@@ -5,13 +5,26 @@ import me.christianrobert.ora2postgre.global.PostgreSqlIdentifierUtils;
 import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
 import me.christianrobert.ora2postgre.oracledb.TableMetadata;
 import me.christianrobert.ora2postgre.plsql.ast.ObjectType;
+import me.christianrobert.ora2postgre.transfer.ColumnParameterSetter;
 import me.christianrobert.ora2postgre.transfer.ObjectTypeMapper;
 import me.christianrobert.ora2postgre.transfer.ParameterSetter;
 import me.christianrobert.ora2postgre.transfer.TableAnalyzer;
+import me.christianrobert.ora2postgre.transfer.TransferSnapshot;
+import me.christianrobert.ora2postgre.transfer.copy.CopyPipeline;
+import me.christianrobert.ora2postgre.transfer.copy.CopyTextWriter;
+import me.christianrobert.ora2postgre.transfer.copy.TextColumnEncoder;
+import me.christianrobert.ora2postgre.transfer.copy.TextCopyEncoders;
+import me.christianrobert.ora2postgre.transfer.progress.BatchTimer;
 import me.christianrobert.ora2postgre.transfer.progress.TransferProgress;
 import me.christianrobert.ora2postgre.transfer.progress.TransferResult;
+import me.christianrobert.ora2postgre.transfer.sizing.BatchSizeController;
+import me.christianrobert.ora2postgre.transfer.sizing.BatchSizing;
 import me.christianrobert.ora2postgre.oracledb.tools.NameNormalizer;
 
+import oracle.jdbc.OracleStatement;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,14 +48,43 @@ import java.util.List;
  * 2. Converts Oracle object instances to JSON using ObjectTypeMapper
  * 3. Uses PostgreSQL JSONB for storage
  * 4. Handles both simple and complex object type structures
+ *
+ * Rows are loaded with one COPY FROM STDIN per table: composite literals, converted JSON
+ * and LOB contents are encoded straight into the COPY text stream. Batched INSERTs remain
+ * as the fallback when COPY is disabled or the connection has no COPY API.
  */
 public class ObjectTypeMappingStrategy implements TransferStrategy {
 
   private static final Logger log = LoggerFactory.getLogger(ObjectTypeMappingStrategy.class);
+  private static final int FETCH_SIZE = 1000; // Reasonable fetch size for object types
+  private static final int BATCH_SIZE = 1000;
+
   private final ObjectTypeMapper mapper;
+  private final boolean exactRowCount;
+  private final boolean copyEnabled;
+  private final int pipelineBuffers;
+  private final int lobPrefetchSize;
+  private final int lobBatchSize;
+  private final BatchSizing sizing;
+  private final TransferSnapshot snapshot;
 
   public ObjectTypeMappingStrategy() {
+    this(StrategyOptions.defaults(), new TransferSnapshot());
+  }
+
+  /**
+   * @param options COPY, pipeline, row count, LOB and sizing settings
+   * @param snapshot the SCN every table is read at, once the transfer pins one
+   */
+  public ObjectTypeMappingStrategy(StrategyOptions options, TransferSnapshot snapshot) {
     this.mapper = new ObjectTypeMapper();
+    this.exactRowCount = options.isExactRowCount();
+    this.copyEnabled = options.isComplexCopy();
+    this.pipelineBuffers = options.getPipelineBuffers();
+    this.lobPrefetchSize = options.getLobPrefetchSize();
+    this.lobBatchSize = options.getLobBatchSize();
+    this.sizing = options.getSizing();
+    this.snapshot = snapshot;
   }
 
   @Override
@@ -94,33 +136,52 @@ public class ObjectTypeMappingStrategy implements TransferStrategy {
     log.info("Starting object type mapping transfer for {}.{}", schema, tableName);
 
     try {
-      // Start progress tracking
-      long estimatedRows = estimateRowCount(oracleConn, table);
+      // Start progress tracking; an exact count costs an extra full scan
+      long estimatedRows = exactRowCount ? countRows(oracleConn, table)
+              : TableAnalyzer.getCachedRowCount(table, everything);
       progress.startTable(schema, tableName, estimatedRows);
 
       // Build column information
       List<ColumnMetadata> columns = table.getColumns();
       List<ObjectTypeColumnInfo> objectTypeColumns = analyzeObjectTypeColumns(columns, schema, everything);
 
-      // Build SELECT and INSERT queries
       String selectSql = buildSelectQuery(table);
-      String insertSql = buildInsertQuery(table, objectTypeColumns);
-
       log.debug("Oracle SELECT: {}", selectSql);
-      log.debug("PostgreSQL INSERT: {}", insertSql);
 
-      // Execute transfer
-      long transferredRows = executeTransfer(table, oracleConn, postgresConn, selectSql, insertSql,
-              columns, objectTypeColumns, progress);
+      // Rows of LOB tables can be arbitrarily large, so they are fetched and batched in small units
+      boolean hasLobs = TableAnalyzer.hasLobColumns(table);
+      BatchSizeController sizer = hasLobs
+              ? sizing.controllerFor(table, lobBatchSize, lobBatchSize, lobBatchSize)
+              : sizing.controllerFor(table, FETCH_SIZE, BATCH_SIZE, Integer.MAX_VALUE);
+
+      // Execute transfer: COPY when available, batched INSERTs otherwise
+      CopyManager copyManager = copyEnabled ? getCopyManager(postgresConn) : null;
+      long transferredRows;
+      if (copyManager != null) {
+        transferredRows = executeCopyTransfer(table, oracleConn, postgresConn, copyManager, selectSql,
+                columns, objectTypeColumns, sizer, progress);
+      } else {
+        String insertSql = buildInsertQuery(table, objectTypeColumns);
+        log.debug("PostgreSQL INSERT: {}", insertSql);
+        transferredRows = executeTransfer(table, oracleConn, postgresConn, selectSql, insertSql,
+                columns, objectTypeColumns, sizer, progress);
+      }
 
       long endTime = System.currentTimeMillis();
       long transferTime = endTime - startTime;
 
-      log.info("Object type mapping transfer completed for {}.{}: {} rows in {} ms",
-              schema, tableName, transferredRows, transferTime);
+      log.info("Object type mapping transfer completed for {}.{}: {} rows in {} ms ({})",
+              schema, tableName, transferredRows, transferTime, sizer);
 
-      return TransferResult.success(schema, tableName, transferredRows, estimatedRows,
-              transferTime, getStrategyName());
+      return new TransferResult.Builder(schema, tableName)
+              .successful(true)
+              .rowsTransferred(transferredRows)
+              .sourceRowCount(exactRowCount ? estimatedRows : transferredRows)
+              .transferTimeMs(transferTime)
+              .strategyUsed(getStrategyName())
+              .sizing(sizer.getFetchSize(), sizer.getBatchSize(), sizer.getAverageRowBytes())
+              .metrics(progress.getTableMetrics(schema + "." + tableName))
+              .build();
 
     } catch (Exception e) {
       log.error("Object type mapping transfer failed for {}.{}: {}", schema, tableName, e.getMessage(), e);
@@ -166,7 +227,8 @@ public class ObjectTypeMappingStrategy implements TransferStrategy {
 
     sql.append(String.join(", ", columnNames));
     sql.append(" FROM ").append(PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()))
-            .append(".").append(PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName()));
+            .append(".").append(PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName()))
+            .append(snapshot.flashbackClause());
 
     return sql.toString();
   }
@@ -198,6 +260,101 @@ public class ObjectTypeMappingStrategy implements TransferStrategy {
     return sql.toString();
   }
 
+  /**
+   * Builds the PostgreSQL COPY FROM STDIN statement in text format.
+   */
+  private String buildCopyQuery(TableMetadata table) {
+    List<String> columnNames = new ArrayList<>();
+    for (ColumnMetadata column : table.getColumns()) {
+      columnNames.add(PostgreSqlIdentifierUtils.quoteIdentifier(column.getColumnName()));
+    }
+    return String.format("COPY %s.%s (%s) FROM STDIN",
+            PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()),
+            PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName()),
+            String.join(", ", columnNames));
+  }
+
+  /**
+   * Streams all rows into one COPY FROM STDIN, encoding each column with its precompiled encoder.
+   */
+  private long executeCopyTransfer(TableMetadata table, Connection oracleConn, Connection postgresConn,
+                                   CopyManager copyManager,
+                                   String selectSql,
+                                   List<ColumnMetadata> columns,
+                                   List<ObjectTypeColumnInfo> objectTypeColumns,
+                                   BatchSizeController sizer,
+                                   TransferProgress progress) throws SQLException {
+
+    TextColumnEncoder[] encoders = compileTextEncoders(columns, objectTypeColumns);
+    String qualifiedName = table.getSchema() + "." + table.getTableName();
+
+    try (PreparedStatement selectStmt = prepareSelect(oracleConn, selectSql, table, sizer)) {
+
+      try (ResultSet rs = selectStmt.executeQuery()) {
+        CopyIn copyIn = copyManager.copyIn(buildCopyQuery(table));
+        CopyTextWriter writer = pipelineBuffers > 0
+                ? new CopyTextWriter(new CopyPipeline(copyIn, postgresConn, qualifiedName, pipelineBuffers,
+                        CopyPipeline.DEFAULT_SEGMENT_SIZE, progress))
+                : new CopyTextWriter(copyIn);
+        BatchTimer timer = new BatchTimer(progress, qualifiedName);
+        long reportedRows = 0;
+        long reportedBytes = 0;
+        long batchStart = System.nanoTime();
+
+        try {
+          while (timer.next(rs)) {
+            for (int i = 0; i < encoders.length; i++) {
+              encoders[i].encode(rs, i + 1, writer); // ResultSet is 1-based
+            }
+            writer.endRow();
+
+            if (writer.getRowsWritten() - reportedRows >= sizer.getBatchSize()) {
+              batchStart = sizer.completeBatch(rs, writer.getRowsWritten() - reportedRows,
+                      writer.getBytesWritten() - reportedBytes, batchStart);
+              reportedRows = writer.getRowsWritten();
+              reportedBytes = writer.getBytesWritten();
+              progress.updateCurrentTableProgress(reportedRows);
+              timer.completeBatch(reportedRows, reportedBytes, writer.getSendNanos());
+            }
+          }
+
+          long copiedRows = writer.finish();
+          progress.updateCurrentTableProgress(copiedRows);
+          timer.completeBatch(writer.getRowsWritten(), writer.getBytesWritten(), writer.getSendNanos());
+          return copiedRows;
+
+        } catch (SQLException | RuntimeException e) {
+          writer.cancel();
+          log.error("COPY failed at row {} for table {}: {}",
+                  writer.getRowsWritten() + 1, qualifiedName, e.getMessage(), e);
+          throw new SQLException("COPY failed at row " + (writer.getRowsWritten() + 1) +
+                  " for table " + qualifiedName, e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Prepares the Oracle SELECT with the sizer's fetch size. Tables with LOB columns have LOB
+   * prefetch applied so that small LOBs arrive with the row instead of needing a separate
+   * locator read.
+   */
+  private PreparedStatement prepareSelect(Connection oracleConn, String selectSql, TableMetadata table,
+                                          BatchSizeController sizer) throws SQLException {
+    PreparedStatement selectStmt = oracleConn.prepareStatement(selectSql);
+    try {
+      selectStmt.setFetchSize(sizer.getFetchSize());
+      if (lobPrefetchSize > 0 && TableAnalyzer.hasLobColumns(table)
+              && selectStmt.isWrapperFor(OracleStatement.class)) {
+        selectStmt.unwrap(OracleStatement.class).setLobPrefetchSize(lobPrefetchSize);
+      }
+      return selectStmt;
+    } catch (SQLException | RuntimeException e) {
+      selectStmt.close();
+      throw e;
+    }
+  }
+
   /**
    * Executes the actual data transfer with object type conversion.
    */
@@ -205,55 +362,41 @@ public class ObjectTypeMappingStrategy implements TransferStrategy {
                                String selectSql, String insertSql,
                                List<ColumnMetadata> columns,
                                List<ObjectTypeColumnInfo> objectTypeColumns,
+                               BatchSizeController sizer,
                                TransferProgress progress) throws SQLException {
 
+    BatchTimer timer = new BatchTimer(progress, table.getSchema() + "." + table.getTableName());
     long rowCount = 0;
+    long sendNanos = 0;
+    int pendingRows = 0;
+    long batchStart = System.nanoTime();
 
-    try (PreparedStatement selectStmt = oracleConn.prepareStatement(selectSql)) {
-      selectStmt.setFetchSize(1000); // Reasonable fetch size for object types
+    try (PreparedStatement selectStmt = prepareSelect(oracleConn, selectSql, table, sizer)) {
 
       try (ResultSet rs = selectStmt.executeQuery();
            PreparedStatement insertStmt = postgresConn.prepareStatement(insertSql)) {
 
-        while (rs.next()) {
+        ColumnParameterSetter[] setters = compileParameterSetters(columns, objectTypeColumns);
+
+        while (timer.next(rs)) {
 
           try {
             // Set parameters for each column
-
-            for (int i = 0; i < columns.size(); i++) {
-              ColumnMetadata column = columns.get(i);
-              int paramIndex = i + 1; // PreparedStatement is 1-based
-
-              // Check if this column is an object type
-              ObjectTypeColumnInfo objectTypeInfo = findObjectTypeColumn(objectTypeColumns, i);
-
-              if (objectTypeInfo != null) {
-                // Handle object type column
-                try {
-                  Object oracleObject = rs.getObject(column.getColumnName());
-                  String compositeValue = mapper.convertObjectToCompositeType(oracleObject, objectTypeInfo.objectTypeAst);
-                  mapper.setCompositeTypeParameter(insertStmt, paramIndex, compositeValue);
-                } catch (Exception e) {
-                  log.error("Failed to convert object type for column {} at row {}: {}", 
-                          column.getColumnName(), rowCount + 1, e.getMessage(), e);
-                  throw new SQLException("Object type conversion failed for column " + column.getColumnName() + 
-                          " at row " + (rowCount + 1), e);
-                }
-              } else {
-                // Handle regular column
-                try {
-                  setRegularParameter(insertStmt, paramIndex, rs, column);
-                } catch (SQLException e) {
-                  log.error("Failed to set regular parameter for column {} at row {}: {}", 
-                          column.getColumnName(), rowCount + 1, e.getMessage(), e);
-                  throw new SQLException("Failed to set parameter for column " + column.getColumnName() + 
-                          " at row " + (rowCount + 1), e);
-                }
+            for (int i = 0; i < setters.length; i++) {
+              try {
+                setters[i].set(insertStmt, i + 1, rs, i + 1); // PreparedStatement and ResultSet are 1-based
+              } catch (SQLException e) {
+                String columnName = columns.get(i).getColumnName();
+                log.error("Failed to set parameter for column {} at row {}: {}",
+                        columnName, rowCount + 1, e.getMessage(), e);
+                throw new SQLException("Failed to set parameter for column " + columnName +
+                        " at row " + (rowCount + 1), e);
               }
             }
 
             insertStmt.addBatch();
             rowCount++;
+            pendingRows++;
 
           } catch (SQLException e) {
             log.error("Failed to process row {} for table {}.{}: {}", 
@@ -265,10 +408,15 @@ public class ObjectTypeMappingStrategy implements TransferStrategy {
           // Execute batch periodically
 
 
-          if (rowCount % 1000 == 0) {
+          if (pendingRows >= sizer.getBatchSize()) {
             try {
+              long sendStart = System.nanoTime();
               insertStmt.executeBatch();
+              sendNanos += System.nanoTime() - sendStart;
               progress.updateCurrentTableProgress(rowCount);
+              batchStart = sizer.completeBatch(rs, pendingRows, 0, batchStart);
+              timer.completeBatch(rowCount, 0, sendNanos);
+              pendingRows = 0;
               log.debug("Transferred {} rows for object type table", rowCount);
             } catch (SQLException e) {
               log.error("Failed to execute batch at row {} for table {}.{}: {}", 
@@ -280,10 +428,13 @@ public class ObjectTypeMappingStrategy implements TransferStrategy {
         }
 
         // Execute final batch
-        if (rowCount % 1000 != 0) {
+        if (pendingRows > 0) {
           try {
+            long sendStart = System.nanoTime();
             insertStmt.executeBatch();
+            sendNanos += System.nanoTime() - sendStart;
             progress.updateCurrentTableProgress(rowCount);
+            timer.completeBatch(rowCount, 0, sendNanos);
           } catch (SQLException e) {
             log.error("Failed to execute final batch for table {}.{}: {}", 
                     table.getSchema(), table.getTableName(), e.getMessage(), e);
@@ -298,45 +449,88 @@ public class ObjectTypeMappingStrategy implements TransferStrategy {
   }
 
   /**
-   * Sets a regular (non-object-type) parameter in the PreparedStatement.
-   * Now uses the unified ParameterSetter to handle both primitive and complex types.
+   * Resolves one parameter setter per column before the first row is read.
+   * Object type columns are converted with the ObjectTypeMapper, all other columns
+   * use the unified ParameterSetter that handles both primitive and complex types.
    */
-  private void setRegularParameter(PreparedStatement stmt, int paramIndex, ResultSet rs, ColumnMetadata column)
-          throws SQLException {
-    // Use the unified parameter setter that handles all Oracle data types
-    ParameterSetter.setParameter(stmt, paramIndex, rs, column);
+  private ColumnParameterSetter[] compileParameterSetters(List<ColumnMetadata> columns,
+                                                          List<ObjectTypeColumnInfo> objectTypeColumns) {
+    ColumnParameterSetter[] setters = new ColumnParameterSetter[columns.size()];
+    for (ObjectTypeColumnInfo info : objectTypeColumns) {
+      setters[info.columnIndex] = objectTypeSetter(info);
+    }
+    for (int i = 0; i < setters.length; i++) {
+      if (setters[i] == null) {
+        setters[i] = ParameterSetter.forColumn(columns.get(i));
+      }
+    }
+    return setters;
   }
 
   /**
-   * Finds object type column info by column index.
+   * Resolves one COPY text encoder per column. Object type columns are written as composite
+   * literals, all other columns use the shared encoders that also cover LOB, XML, ANYDATA and AQ types.
    */
-  private ObjectTypeColumnInfo findObjectTypeColumn(List<ObjectTypeColumnInfo> objectTypeColumns, int columnIndex) {
-    return objectTypeColumns.stream()
-            .filter(info -> info.columnIndex == columnIndex)
-            .findFirst()
-            .orElse(null);
+  private TextColumnEncoder[] compileTextEncoders(List<ColumnMetadata> columns,
+                                                  List<ObjectTypeColumnInfo> objectTypeColumns) {
+    TextColumnEncoder[] encoders = new TextColumnEncoder[columns.size()];
+    for (ObjectTypeColumnInfo info : objectTypeColumns) {
+      encoders[info.columnIndex] = objectTypeEncoder(info);
+    }
+    for (int i = 0; i < encoders.length; i++) {
+      if (encoders[i] == null) {
+        encoders[i] = TextCopyEncoders.forColumn(columns.get(i));
+      }
+    }
+    return encoders;
+  }
+
+  private TextColumnEncoder objectTypeEncoder(ObjectTypeColumnInfo info) {
+    return (rs, columnIndex, writer) -> {
+      String compositeValue;
+      try {
+        Object oracleObject = rs.getObject(columnIndex);
+        compositeValue = mapper.convertObjectToCompositeType(oracleObject, info.objectTypeAst);
+      } catch (Exception e) {
+        throw new SQLException("Object type conversion failed for column " +
+                info.columnMetadata.getColumnName() + ": " + e.getMessage(), e);
+      }
+      writer.writeText(compositeValue);
+    };
+  }
+
+  private CopyManager getCopyManager(Connection postgresConn) throws SQLException {
+    // Unwrap so that COPY also works through pooled or proxied connections
+    if (postgresConn.isWrapperFor(PGConnection.class)) {
+      return postgresConn.unwrap(PGConnection.class).getCopyAPI();
+    }
+    return null;
+  }
+
+  private ColumnParameterSetter objectTypeSetter(ObjectTypeColumnInfo info) {
+    return (stmt, paramIndex, rs, columnIndex) -> {
+      try {
+        Object oracleObject = rs.getObject(columnIndex);
+        String compositeValue = mapper.convertObjectToCompositeType(oracleObject, info.objectTypeAst);
+        mapper.setCompositeTypeParameter(stmt, paramIndex, compositeValue);
+      } catch (Exception e) {
+        throw new SQLException("Object type conversion failed for column " +
+                info.columnMetadata.getColumnName() + ": " + e.getMessage(), e);
+      }
+    };
   }
 
   /**
-   * Estimates row count for progress tracking.
+   * Exact row count for progress tracking and the row count check.
    */
-  private long estimateRowCount(Connection oracleConn, TableMetadata table) throws SQLException {
-    try (PreparedStatement stmt = oracleConn.prepareStatement(
-            "SELECT COUNT(*) FROM " + PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()) +
-                    "." + PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName()))) {
-
-      try (ResultSet rs = stmt.executeQuery()) {
-        if (rs.next()) {
-          return rs.getLong(1);
-        }
-      }
+  private long countRows(Connection oracleConn, TableMetadata table) throws SQLException {
+    try {
+      return TableAnalyzer.countRows(oracleConn, table, snapshot);
     } catch (SQLException e) {
-      log.error("Failed to estimate row count for {}.{}: {}",
+      log.error("Failed to count rows of {}.{}: {}",
               table.getSchema(), table.getTableName(), e.getMessage(), e);
-      throw new SQLException("Failed to estimate row count for " + table.getSchema() + "." + table.getTableName(), e);
+      throw new SQLException("Failed to count rows of " + table.getSchema() + "." + table.getTableName(), e);
     }
-
-    return 1000; // Default estimate
   }
 
 
@@ -0,0 +1,78 @@
+package me.christianrobert.ora2postgre.transfer.strategy;
+
+import me.christianrobert.ora2postgre.transfer.TransferConfig;
+import me.christianrobert.ora2postgre.transfer.sizing.BatchSizing;
+
+/**
+ * Settings of the transfer strategies, read once from the {@link TransferConfig}.
+ */
+public final class StrategyOptions {
+
+  public static final int DEFAULT_LOB_PREFETCH_SIZE = 32 * 1024;
+  public static final int DEFAULT_LOB_BATCH_SIZE = 100;
+
+  private static final StrategyOptions DEFAULTS = new StrategyOptions(true, true, 0, false,
+          DEFAULT_LOB_PREFETCH_SIZE, DEFAULT_LOB_BATCH_SIZE, BatchSizing.fixed());
+
+  private final boolean binaryCopy;
+  private final boolean complexCopy;
+  private final int pipelineBuffers;
+  private final boolean exactRowCount;
+  private final int lobPrefetchSize;
+  private final int lobBatchSize;
+  private final BatchSizing sizing;
+
+  /**
+   * @param binaryCopy use COPY binary format for tables whose column types all support it
+   * @param complexCopy load tables with object type or complex columns with COPY; false always
+   *                    uses batched INSERTs
+   * @param pipelineBuffers buffers between the Oracle reader and a separate COPY writer thread,
+   *                        0 to read and write on the calling thread
+   * @param exactRowCount count each table with SELECT COUNT(*) before copying it instead of
+   *                      using the row count cached by the extract phase
+   * @param lobPrefetchSize bytes/chars of each LOB the Oracle driver returns together with the row,
+   *                        so that small LOBs need no extra round trip; 0 disables LOB prefetch
+   * @param lobBatchSize fetch size and INSERT batch size for tables with CLOB, NCLOB or BLOB columns,
+   *                     bounding the LOB data a worker holds at once
+   * @param sizing adaptive fetch and batch sizing per table; lobBatchSize stays the upper bound
+   *               for tables with LOB columns
+   */
+  public StrategyOptions(boolean binaryCopy, boolean complexCopy, int pipelineBuffers, boolean exactRowCount,
+                         int lobPrefetchSize, int lobBatchSize, BatchSizing sizing) {
+    this.binaryCopy = binaryCopy;
+    this.complexCopy = complexCopy;
+    this.pipelineBuffers = pipelineBuffers;
+    this.exactRowCount = exactRowCount;
+    this.lobPrefetchSize = lobPrefetchSize;
+    this.lobBatchSize = Math.max(1, lobBatchSize);
+    this.sizing = sizing;
+  }
+
+  /**
+   * COPY for all tables, no pipeline, cached row counts and fixed sizing.
+   */
+  public static StrategyOptions defaults() {
+    return DEFAULTS;
+  }
+
+  public static StrategyOptions of(TransferConfig transferConfig) {
+    if (transferConfig == null) {
+      return defaults();
+    }
+    int pipelineBuffers = transferConfig.pipeline().enabled() ? Math.max(2, transferConfig.pipeline().buffers()) : 0;
+    TransferConfig.Sizing sizing = transferConfig.sizing();
+    return new StrategyOptions(transferConfig.binaryCopy(), transferConfig.complexCopy(), pipelineBuffers,
+            transferConfig.exactRowCount(), transferConfig.lob().prefetchSize(), transferConfig.lob().batchSize(),
+            sizing.adaptive()
+                    ? BatchSizing.adaptive(sizing.memoryBudgetMb() * 1024L * 1024L, sizing.minRows(), sizing.maxRows())
+                    : BatchSizing.fixed());
+  }
+
+  public boolean isBinaryCopy() { return binaryCopy; }
+  public boolean isComplexCopy() { return complexCopy; }
+  public int getPipelineBuffers() { return pipelineBuffers; }
+  public boolean isExactRowCount() { return exactRowCount; }
+  public int getLobPrefetchSize() { return lobPrefetchSize; }
+  public int getLobBatchSize() { return lobBatchSize; }
+  public BatchSizing getSizing() { return sizing; }
+}
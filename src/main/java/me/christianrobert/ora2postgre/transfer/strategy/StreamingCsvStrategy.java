@@ -4,11 +4,23 @@ import me.christianrobert.ora2postgre.global.Everything;
 import me.christianrobert.ora2postgre.global.PostgreSqlIdentifierUtils;
 import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
 import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.transfer.RowCodec;
 import me.christianrobert.ora2postgre.transfer.TableAnalyzer;
+import me.christianrobert.ora2postgre.transfer.TransferSnapshot;
+import me.christianrobert.ora2postgre.transfer.chunk.TransferChunk;
+import me.christianrobert.ora2postgre.transfer.copy.CopyBinaryWriter;
+import me.christianrobert.ora2postgre.transfer.copy.CopyPipeline;
+import me.christianrobert.ora2postgre.transfer.copy.CopyTextWriter;
+import me.christianrobert.ora2postgre.transfer.progress.BatchTimer;
+import me.christianrobert.ora2postgre.transfer.progress.ChunkResult;
 import me.christianrobert.ora2postgre.transfer.progress.TransferProgress;
 import me.christianrobert.ora2postgre.transfer.progress.TransferResult;
+import me.christianrobert.ora2postgre.transfer.sizing.BatchSizeController;
+import me.christianrobert.ora2postgre.transfer.sizing.BatchSizing;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
 
-import java.io.StringReader;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
@@ -18,23 +30,39 @@ import java.util.List;
  *
  * Process:
  * 1. Stream data from Oracle ResultSet
- * 2. Convert to CSV format in memory (batched)
- * 3. Use PostgreSQL COPY FROM to bulk insert
+ * 2. Encode each row directly into a reusable byte buffer, in COPY binary format when
+ *    every column type has a binary encoder, otherwise in COPY text format
+ * 3. Feed the buffer into one PostgreSQL COPY FROM STDIN per table (or chunk), optionally
+ *    from a separate writer thread so that Oracle reads and PostgreSQL writes overlap
  *
  * This approach is memory-efficient and fast for tables with simple data types.
+ * Large tables can also be copied as independent chunks (ROWID, key or partition ranges).
  */
-public class StreamingCsvStrategy implements TransferStrategy {
+public class StreamingCsvStrategy implements ChunkedTransferStrategy {
 
   private static final int DEFAULT_BATCH_SIZE = 10000;
   private static final int FETCH_SIZE = 5000;
-  private final int batchSize;
+  private final boolean binaryCopyEnabled;
+  private final int pipelineBuffers;
+  private final boolean exactRowCount;
+  private final BatchSizing sizing;
+  private final TransferSnapshot snapshot;
 
   public StreamingCsvStrategy() {
-    this(DEFAULT_BATCH_SIZE);
+    this(StrategyOptions.defaults(), new TransferSnapshot());
   }
 
-  public StreamingCsvStrategy(int batchSize) {
-    this.batchSize = batchSize;
+  /**
+   * @param options binary COPY, pipeline, row count and sizing settings; with fixed sizing the
+   *                fetch size is {@value #FETCH_SIZE} and the batch size {@value #DEFAULT_BATCH_SIZE}
+   * @param snapshot the SCN every table and chunk is read at, once the transfer pins one
+   */
+  public StreamingCsvStrategy(StrategyOptions options, TransferSnapshot snapshot) {
+    this.binaryCopyEnabled = options.isBinaryCopy();
+    this.pipelineBuffers = options.getPipelineBuffers();
+    this.exactRowCount = options.isExactRowCount();
+    this.sizing = options.getSizing();
+    this.snapshot = snapshot;
   }
 
   @Override
@@ -57,24 +85,35 @@ public class StreamingCsvStrategy implements TransferStrategy {
     String tableName = table.getTableName();
 
     try {
-      // Count total rows for progress tracking
-      long totalRows = countTableRows(oracleConn, table);
+      // Progress total from the extract phase; an exact count costs an extra full scan
+      long totalRows = exactRowCount ? TableAnalyzer.countRows(oracleConn, table, snapshot)
+              : TableAnalyzer.getCachedRowCount(table, everything);
       progress.startTable(schemaName, tableName, totalRows);
 
-      if (totalRows == 0) {
+      if (exactRowCount && totalRows == 0) {
         progress.completeTable(0);
         return TransferResult.success(schemaName, tableName, 0, 0,
                 System.currentTimeMillis() - startTime, getStrategyName());
       }
 
       // Transfer data in batches
-      long totalTransferred = transferDataInBatches(table, oracleConn, postgresConn, progress, totalRows);
+      BatchSizeController sizer = sizing.controllerFor(table, FETCH_SIZE, DEFAULT_BATCH_SIZE, Integer.MAX_VALUE);
+      long totalTransferred = transferDataInBatches(table, TransferChunk.wholeTable(), sizer,
+              oracleConn, postgresConn, progress);
 
       long transferTime = System.currentTimeMillis() - startTime;
       progress.completeTable(totalTransferred);
 
-      return TransferResult.success(schemaName, tableName, totalTransferred, totalRows,
-              transferTime, getStrategyName());
+      // An estimate is no source row count to check against
+      return new TransferResult.Builder(schemaName, tableName)
+              .successful(true)
+              .rowsTransferred(totalTransferred)
+              .sourceRowCount(exactRowCount ? totalRows : totalTransferred)
+              .transferTimeMs(transferTime)
+              .strategyUsed(getStrategyName())
+              .sizing(sizer.getFetchSize(), sizer.getBatchSize(), sizer.getAverageRowBytes())
+              .metrics(progress.getTableMetrics(schemaName + "." + tableName))
+              .build();
 
     } catch (Exception e) {
       return TransferResult.failure(schemaName, tableName, getStrategyName(),
@@ -82,184 +121,216 @@ public class StreamingCsvStrategy implements TransferStrategy {
     }
   }
 
-  private long countTableRows(Connection oracleConn, TableMetadata table) throws SQLException {
-    String countSql = "SELECT COUNT(*) FROM " + PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()) +
-            "." + PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName());
-
-    try (PreparedStatement ps = oracleConn.prepareStatement(countSql);
-         ResultSet rs = ps.executeQuery()) {
-
-      if (rs.next()) {
-        return rs.getLong(1);
-      }
-      return 0;
+  @Override
+  public ChunkResult transferChunk(TableMetadata table, TransferChunk chunk, Connection oracleConn,
+                                   Connection postgresConn, TransferProgress progress) {
+    long startTime = System.currentTimeMillis();
+    try {
+      BatchSizeController sizer = sizing.controllerFor(table, FETCH_SIZE, DEFAULT_BATCH_SIZE, Integer.MAX_VALUE);
+      long transferred = transferDataInBatches(table, chunk, sizer, oracleConn, postgresConn, progress);
+      return ChunkResult.success(chunk.getIndex(), chunk.getDescription(), transferred,
+              System.currentTimeMillis() - startTime);
+    } catch (Exception e) {
+      return ChunkResult.failure(chunk.getIndex(), chunk.getDescription(),
+              System.currentTimeMillis() - startTime, "Chunk transfer failed: " + e.getMessage(), e);
     }
   }
 
-  private long transferDataInBatches(TableMetadata table, Connection oracleConn,
-                                     Connection postgresConn, TransferProgress progress,
-                                     long totalRows) throws Exception {
+  private long transferDataInBatches(TableMetadata table, TransferChunk chunk, BatchSizeController sizer,
+                                     Connection oracleConn, Connection postgresConn,
+                                     TransferProgress progress) throws Exception {
 
     List<ColumnMetadata> columns = table.getColumns();
-    String selectSql = buildSelectQuery(table);
-    String copyColumns = buildCopyColumnList(columns);
-
-    long totalTransferred = 0;
+    RowCodec codec = RowCodec.compile(columns);
+    String selectSql = buildSelectQuery(table, chunk);
+    CopyManager copyManager = getCopyManager(postgresConn);
 
     try (PreparedStatement selectStmt = oracleConn.prepareStatement(selectSql)) {
-      selectStmt.setFetchSize(FETCH_SIZE);
+      selectStmt.setFetchSize(sizer.getFetchSize());
+      chunk.bind(selectStmt, 1);
 
       try (ResultSet rs = selectStmt.executeQuery()) {
-        List<String> csvBatch = new ArrayList<>();
-
-        while (rs.next()) {
-          String csvRow = convertRowToCsv(rs, columns);
-          csvBatch.add(csvRow);
-
-          // Process batch when full
-          if (csvBatch.size() >= batchSize) {
-            long batchTransferred = executeCopyFromBatch(postgresConn, table, copyColumns, csvBatch);
-            totalTransferred += batchTransferred;
-            progress.updateCurrentTableProgress(totalTransferred);
-            csvBatch.clear();
+        if (copyManager != null) {
+          if (binaryCopyEnabled && codec.supportsBinaryCopy()) {
+            return streamBinaryCopy(rs, table, columns, codec, copyManager, postgresConn, sizer, progress);
           }
+          return streamCopy(rs, table, columns, codec, copyManager, postgresConn, sizer, progress);
         }
-
-        // Process remaining rows
-        if (!csvBatch.isEmpty()) {
-          long batchTransferred = executeCopyFromBatch(postgresConn, table, copyColumns, csvBatch);
-          totalTransferred += batchTransferred;
-          progress.updateCurrentTableProgress(totalTransferred);
-        }
+        // Fallback: use regular INSERT statements if COPY is not available
+        return insertInBatches(rs, table, columns, codec, postgresConn, sizer, progress);
       }
     }
-
-    return totalTransferred;
   }
 
-  private String buildSelectQuery(TableMetadata table) {
-    List<ColumnMetadata> columns = table.getColumns();
-    List<String> columnNames = new ArrayList<>();
+  /**
+   * Streams all rows of the result set into one COPY FROM STDIN that stays open for the whole table.
+   * The batch size only controls how often progress is reported and the sizer is fed.
+   */
+  private long streamCopy(ResultSet rs, TableMetadata table, List<ColumnMetadata> columns, RowCodec codec,
+                          CopyManager copyManager, Connection postgresConn, BatchSizeController sizer,
+                          TransferProgress progress) throws SQLException {
+
+    CopyIn copyIn = copyManager.copyIn(buildCopyQuery(table, columns));
+    CopyTextWriter writer = pipelineBuffers > 0
+            ? new CopyTextWriter(openPipeline(copyIn, postgresConn, table, progress))
+            : new CopyTextWriter(copyIn);
+    BatchTimer timer = new BatchTimer(progress, table.getSchema() + "." + table.getTableName());
+    long reportedRows = 0;
+    long reportedBytes = 0;
+    long batchStart = System.nanoTime();
 
-    for (ColumnMetadata column : columns) {
-      columnNames.add(PostgreSqlIdentifierUtils.quoteIdentifier(column.getColumnName()));
-    }
+    try {
+      while (timer.next(rs)) {
+        codec.writeTextRow(rs, writer);
+
+        if (writer.getRowsWritten() - reportedRows >= sizer.getBatchSize()) {
+          progress.addCurrentTableProgress(writer.getRowsWritten() - reportedRows);
+          batchStart = sizer.completeBatch(rs, writer.getRowsWritten() - reportedRows,
+                  writer.getBytesWritten() - reportedBytes, batchStart);
+          reportedRows = writer.getRowsWritten();
+          reportedBytes = writer.getBytesWritten();
+          timer.completeBatch(reportedRows, reportedBytes, writer.getSendNanos());
+        }
+      }
 
-    return "SELECT " + String.join(", ", columnNames) +
-            " FROM " + PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()) + "." + PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName());
-  }
+      long copiedRows = writer.finish();
+      progress.addCurrentTableProgress(copiedRows - reportedRows);
+      timer.completeBatch(writer.getRowsWritten(), writer.getBytesWritten(), writer.getSendNanos());
+      return copiedRows;
 
-  private String buildCopyColumnList(List<ColumnMetadata> columns) {
-    List<String> columnNames = new ArrayList<>();
-    for (ColumnMetadata column : columns) {
-      columnNames.add(PostgreSqlIdentifierUtils.quoteIdentifier(column.getColumnName()));
+    } catch (SQLException | RuntimeException e) {
+      writer.cancel();
+      throw new SQLException("COPY operation failed: " + e.getMessage(), e);
     }
-    return String.join(", ", columnNames);
   }
 
-  private String convertRowToCsv(ResultSet rs, List<ColumnMetadata> columns) throws SQLException {
-    List<String> values = new ArrayList<>();
+  /**
+   * Streams all rows in COPY binary format, encoding each column with its precomputed encoder.
+   */
+  private long streamBinaryCopy(ResultSet rs, TableMetadata table, List<ColumnMetadata> columns, RowCodec codec,
+                                CopyManager copyManager, Connection postgresConn, BatchSizeController sizer,
+                                TransferProgress progress) throws SQLException {
+
+    CopyIn copyIn = copyManager.copyIn(buildCopyQuery(table, columns) + " WITH (FORMAT binary)");
+    CopyBinaryWriter writer = pipelineBuffers > 0
+            ? new CopyBinaryWriter(openPipeline(copyIn, postgresConn, table, progress))
+            : new CopyBinaryWriter(copyIn);
+    BatchTimer timer = new BatchTimer(progress, table.getSchema() + "." + table.getTableName());
+    long reportedRows = 0;
+    long reportedBytes = 0;
+    long batchStart = System.nanoTime();
 
-    for (ColumnMetadata column : columns) {
-      String value = formatValueForCsv(rs, column);
-      values.add(value);
-    }
+    try {
+      while (timer.next(rs)) {
+        codec.writeBinaryRow(rs, writer);
+
+        if (writer.getRowsWritten() - reportedRows >= sizer.getBatchSize()) {
+          progress.addCurrentTableProgress(writer.getRowsWritten() - reportedRows);
+          batchStart = sizer.completeBatch(rs, writer.getRowsWritten() - reportedRows,
+                  writer.getBytesWritten() - reportedBytes, batchStart);
+          reportedRows = writer.getRowsWritten();
+          reportedBytes = writer.getBytesWritten();
+          timer.completeBatch(reportedRows, reportedBytes, writer.getSendNanos());
+        }
+      }
+
+      long copiedRows = writer.finish();
+      progress.addCurrentTableProgress(copiedRows - reportedRows);
+      timer.completeBatch(writer.getRowsWritten(), writer.getBytesWritten(), writer.getSendNanos());
+      return copiedRows;
 
-    return String.join("\t", values); // Using tab-separated values for PostgreSQL COPY
+    } catch (SQLException | RuntimeException e) {
+      writer.cancel();
+      throw new SQLException("Binary COPY operation failed: " + e.getMessage(), e);
+    }
   }
 
-  private String formatValueForCsv(ResultSet rs, ColumnMetadata column) throws SQLException {
-    String columnName = column.getColumnName();
-    String dataType = column.getDataType().toUpperCase();
+  /**
+   * Fallback for connections without the COPY API: binds each row directly as INSERT
+   * parameters and executes them in batches of the sizer's batch size.
+   */
+  private long insertInBatches(ResultSet rs, TableMetadata table, List<ColumnMetadata> columns, RowCodec codec,
+                               Connection postgresConn, BatchSizeController sizer,
+                               TransferProgress progress) throws SQLException {
+    BatchTimer timer = new BatchTimer(progress, table.getSchema() + "." + table.getTableName());
+    long totalTransferred = 0;
+    long sendNanos = 0;
+    int pendingRows = 0;
+    long batchStart = System.nanoTime();
 
-    Object value = rs.getObject(columnName);
-    if (value == null) {
-      return "\\N"; // PostgreSQL NULL representation in COPY format
-    }
+    try (PreparedStatement ps = postgresConn.prepareStatement(buildInsertStatement(table, columns))) {
+      while (timer.next(rs)) {
+        codec.bindParameters(rs, ps);
+        ps.addBatch();
+
+        // Process batch when full
+        if (++pendingRows >= sizer.getBatchSize()) {
+          long sendStart = System.nanoTime();
+          long batchTransferred = ps.executeBatch().length;
+          sendNanos += System.nanoTime() - sendStart;
+          totalTransferred += batchTransferred;
+          progress.addCurrentTableProgress(batchTransferred);
+          // Encoded size is unknown here, so the row width stays estimated from the metadata
+          batchStart = sizer.completeBatch(rs, batchTransferred, 0, batchStart);
+          timer.completeBatch(totalTransferred, 0, sendNanos);
+          pendingRows = 0;
+        }
+      }
 
-    if (dataType.contains("CHAR") || dataType.contains("CLOB")) {
-      String stringValue = rs.getString(columnName);
-      // Escape special characters for CSV
-      return escapeForCsv(stringValue);
-    } else if (dataType.equals("NUMBER") || dataType.equals("INTEGER") || dataType.equals("FLOAT")) {
-      return rs.getString(columnName);
-    } else if (dataType.equals("DATE") || dataType.contains("TIMESTAMP")) {
-      Timestamp timestamp = rs.getTimestamp(columnName);
-      if (timestamp != null) {
-        return timestamp.toString();
+      // Process remaining rows
+      if (pendingRows > 0) {
+        long sendStart = System.nanoTime();
+        long batchTransferred = ps.executeBatch().length;
+        sendNanos += System.nanoTime() - sendStart;
+        totalTransferred += batchTransferred;
+        progress.addCurrentTableProgress(batchTransferred);
+        timer.completeBatch(totalTransferred, 0, sendNanos);
       }
-      return "\\N";
-    } else {
-      // Default: treat as string with escaping
-      String stringValue = rs.getString(columnName);
-      return escapeForCsv(stringValue);
     }
-  }
 
-  private String escapeForCsv(String value) {
-    if (value == null) {
-      return "\\N";
-    }
+    return totalTransferred;
+  }
 
-    // Escape backslashes, tabs, newlines, and carriage returns for PostgreSQL COPY format
-    return value.replace("\\", "\\\\")
-            .replace("\t", "\\t")
-            .replace("\n", "\\n")
-            .replace("\r", "\\r");
+  private CopyPipeline openPipeline(CopyIn copyIn, Connection postgresConn, TableMetadata table,
+                                    TransferProgress progress) {
+    return new CopyPipeline(copyIn, postgresConn, table.getSchema() + "." + table.getTableName(),
+            pipelineBuffers, CopyPipeline.DEFAULT_SEGMENT_SIZE, progress);
   }
 
-  private long executeCopyFromBatch(Connection postgresConn, TableMetadata table,
-                                    String copyColumns, List<String> csvBatch) throws SQLException {
+  private CopyManager getCopyManager(Connection postgresConn) throws SQLException {
+    // Unwrap so that COPY also works through pooled or proxied connections
+    if (postgresConn.isWrapperFor(PGConnection.class)) {
+      return postgresConn.unwrap(PGConnection.class).getCopyAPI();
+    }
+    return null;
+  }
 
-    String copyQuery = String.format("COPY %s.%s (%s) FROM STDIN",
-            PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()),
-            PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName()),
-            copyColumns);
+  private String buildSelectQuery(TableMetadata table, TransferChunk chunk) {
+    List<ColumnMetadata> columns = table.getColumns();
+    List<String> columnNames = new ArrayList<>();
 
-    // Join all CSV rows with newlines
-    String csvData = String.join("\n", csvBatch);
+    for (ColumnMetadata column : columns) {
+      columnNames.add(PostgreSqlIdentifierUtils.quoteIdentifier(column.getColumnName()));
+    }
 
-    // Use PostgreSQL CopyManager for efficient bulk insert
-    try {
-      if (postgresConn instanceof org.postgresql.PGConnection) {
-        org.postgresql.copy.CopyManager copyManager =
-                ((org.postgresql.PGConnection) postgresConn).getCopyAPI();
+    return "SELECT " + String.join(", ", columnNames) +
+            " FROM " + PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()) + "." + PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName()) +
+            chunk.getFromClauseSuffix() + snapshot.flashbackClause() + chunk.getWhereClause();
+  }
 
-        StringReader reader = new StringReader(csvData);
-        return copyManager.copyIn(copyQuery, reader);
-      } else {
-        // Fallback: use regular INSERT statements if COPY is not available
-        return executeBatchInsert(postgresConn, table, csvBatch);
-      }
-    } catch (Exception e) {
-      throw new SQLException("COPY operation failed: " + e.getMessage(), e);
+  private String buildCopyColumnList(List<ColumnMetadata> columns) {
+    List<String> columnNames = new ArrayList<>();
+    for (ColumnMetadata column : columns) {
+      columnNames.add(PostgreSqlIdentifierUtils.quoteIdentifier(column.getColumnName()));
     }
+    return String.join(", ", columnNames);
   }
 
-  private long executeBatchInsert(Connection postgresConn, TableMetadata table,
-                                  List<String> csvBatch) throws SQLException {
-    // Fallback method using regular INSERT statements
-    // This is less efficient but more compatible
-
-    List<ColumnMetadata> columns = table.getColumns();
-    String insertSql = buildInsertStatement(table, columns);
-
-    try (PreparedStatement ps = postgresConn.prepareStatement(insertSql)) {
-      for (String csvRow : csvBatch) {
-        String[] values = csvRow.split("\t");
-        for (int i = 0; i < values.length && i < columns.size(); i++) {
-          if ("\\N".equals(values[i])) {
-            ps.setNull(i + 1, Types.NULL);
-          } else {
-            ps.setString(i + 1, unescapeFromCsv(values[i]));
-          }
-        }
-        ps.addBatch();
-      }
-
-      int[] results = ps.executeBatch();
-      return results.length;
-    }
+  private String buildCopyQuery(TableMetadata table, List<ColumnMetadata> columns) {
+    return String.format("COPY %s.%s (%s) FROM STDIN",
+            PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()),
+            PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName()),
+            buildCopyColumnList(columns));
   }
 
   private String buildInsertStatement(TableMetadata table, List<ColumnMetadata> columns) {
@@ -277,15 +348,4 @@ public class StreamingCsvStrategy implements TransferStrategy {
             String.join(", ", columnNames),
             String.join(", ", placeholders));
   }
-
-  private String unescapeFromCsv(String value) {
-    if (value == null || "\\N".equals(value)) {
-      return null;
-    }
-
-    return value.replace("\\\\", "\\")
-            .replace("\\t", "\t")
-            .replace("\\n", "\n")
-            .replace("\\r", "\r");
-  }
-}
\ No newline at end of file
+}
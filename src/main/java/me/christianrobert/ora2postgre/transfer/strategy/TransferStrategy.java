@@ -51,4 +51,4 @@ public interface TransferStrategy {
    * @return Strategy name (e.g., "CSV Streaming", "Direct Batching")
    */
   String getStrategyName();
-}
\ No newline at end of file
+}
@@ -0,0 +1,128 @@
+package me.christianrobert.ora2postgre.transfer.verify;
+
+import me.christianrobert.ora2postgre.global.PostgreSqlIdentifierUtils;
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.oracledb.tools.NameNormalizer;
+import me.christianrobert.ora2postgre.transfer.chunk.TransferChunk;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the checksum queries that verification runs in Oracle and in PostgreSQL.
+ *
+ * Both queries return, for one range of a table, COUNT(*) followed by one SUM per hashed
+ * column. Each column value is first normalized to the same text on both sides (numbers
+ * without trailing zeros, timestamps in a fixed format, RAW as upper-case hex), then
+ * hashed with MD5 together with the row's key, so that a value moved to another row also
+ * changes the sum. The first 32 bits of the hash are summed, which makes the result
+ * independent of row order.
+ *
+ * Oracle needs STANDARD_HASH (12c or later). Text is hashed in the database character set,
+ * so both databases must use UTF-8 for text columns to compare equal. LOB, XML, object,
+ * BINARY_FLOAT/BINARY_DOUBLE and time zone columns are not hashed; they are covered by the
+ * row count only.
+ */
+public final class ChecksumQueryBuilder {
+
+  public enum Dialect {
+    ORACLE,
+    POSTGRES
+  }
+
+  private ChecksumQueryBuilder() {
+    // Utility class
+  }
+
+  /**
+   * Columns whose values can be normalized identically in Oracle and PostgreSQL.
+   */
+  public static List<ColumnMetadata> hashableColumns(TableMetadata table) {
+    List<ColumnMetadata> columns = new ArrayList<>();
+    for (ColumnMetadata column : table.getColumns()) {
+      if (normalizedValue(Dialect.ORACLE, column, "x") != null) {
+        columns.add(column);
+      }
+    }
+    return columns;
+  }
+
+  /**
+   * Builds the checksum query for one chunk.
+   *
+   * @param columns the hashed columns, see {@link #hashableColumns(TableMetadata)}
+   * @param keyColumn the column that identifies rows, null for tables without a usable key
+   * @param chunk the range to check; its bind values follow in parameter order
+   */
+  public static String buildQuery(Dialect dialect, TableMetadata table, List<ColumnMetadata> columns,
+                                  String keyColumn, TransferChunk chunk) {
+    String keyText = keyColumn != null
+            ? numberText(dialect, PostgreSqlIdentifierUtils.quoteIdentifier(keyColumn))
+            : null;
+
+    StringBuilder sql = new StringBuilder("SELECT COUNT(*)");
+    for (ColumnMetadata column : columns) {
+      String quoted = PostgreSqlIdentifierUtils.quoteIdentifier(column.getColumnName());
+      sql.append(", SUM(").append(columnHash(dialect, keyText, quoted, normalizedValue(dialect, column, quoted)))
+              .append(")");
+    }
+    sql.append(" FROM ").append(PostgreSqlIdentifierUtils.quoteIdentifier(table.getSchema()))
+            .append(".").append(PostgreSqlIdentifierUtils.quoteIdentifier(table.getTableName()))
+            .append(chunk.getWhereClause());
+    return sql.toString();
+  }
+
+  /**
+   * 32-bit hash of key and value digest, with 'N' standing in for NULL.
+   */
+  static String columnHash(Dialect dialect, String keyText, String quoted, String value) {
+    String prefix = keyText != null ? keyText + " || '|' || " : "";
+    if (dialect == Dialect.ORACLE) {
+      String digest = "CASE WHEN " + quoted + " IS NULL THEN 'N' ELSE RAWTOHEX(STANDARD_HASH(" + value + ", 'MD5')) END";
+      return "TO_NUMBER(SUBSTR(RAWTOHEX(STANDARD_HASH(" + prefix + digest + ", 'MD5')), 1, 8), 'XXXXXXXX')";
+    }
+    String digest = "CASE WHEN " + quoted + " IS NULL THEN 'N' ELSE upper(md5(" + value + ")) END";
+    return "('x' || lpad(substr(md5(" + prefix + digest + "), 1, 8), 16, '0'))::bit(64)::bigint";
+  }
+
+  /**
+   * Text form of a column value that both databases produce alike, or null if there is none.
+   */
+  static String normalizedValue(Dialect dialect, ColumnMetadata column, String quoted) {
+    String dataType = NameNormalizer.normalizeDataType(column.getDataType()).toUpperCase();
+    boolean oracle = dialect == Dialect.ORACLE;
+    switch (dataType) {
+      case "VARCHAR2", "VARCHAR", "CHAR":
+        return oracle ? quoted : quoted + "::text";
+      case "NVARCHAR2", "NCHAR":
+        // Converted to the database character set before hashing
+        return oracle ? "TO_CHAR(" + quoted + ")" : quoted + "::text";
+      case "NUMBER", "INTEGER", "INT", "DECIMAL", "NUMERIC", "FLOAT", "DOUBLE":
+        return numberText(dialect, quoted);
+      case "DATE":
+        return oracle ? "TO_CHAR(" + quoted + ", 'YYYY-MM-DD HH24:MI:SS')"
+                : "to_char(" + quoted + ", 'YYYY-MM-DD HH24:MI:SS')";
+      case "RAW":
+        return oracle ? "RAWTOHEX(" + quoted + ")" : "upper(encode(" + quoted + ", 'hex'))";
+      default:
+        break;
+    }
+    if (dataType.startsWith("TIMESTAMP") && !dataType.contains("ZONE")) {
+      return oracle ? "TO_CHAR(" + quoted + ", 'YYYY-MM-DD HH24:MI:SS.FF6')"
+              : "to_char(" + quoted + ", 'YYYY-MM-DD HH24:MI:SS.US')";
+    }
+    return null;
+  }
+
+  /**
+   * Numbers in Oracle's TM9 form: no trailing zeros and no leading zero before the decimal point.
+   * Oracle's decimal separator is pinned to '.', since the session default follows the JVM locale.
+   */
+  private static String numberText(Dialect dialect, String quoted) {
+    if (dialect == Dialect.ORACLE) {
+      return "TO_CHAR(" + quoted + ", 'TM9', 'NLS_NUMERIC_CHARACTERS=''.,''')";
+    }
+    return "regexp_replace(trim_scale(" + quoted + "::numeric)::text, '^(-?)0\\.', '\\1.')";
+  }
+}
@@ -0,0 +1,48 @@
+package me.christianrobert.ora2postgre.transfer.verify;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Row count and per-column hash sums of one range of a table, as computed by one database.
+ */
+public class ChunkChecksum {
+
+  private final long rowCount;
+  private final BigDecimal[] columnSums;
+
+  public ChunkChecksum(long rowCount, BigDecimal[] columnSums) {
+    this.rowCount = rowCount;
+    this.columnSums = columnSums.clone();
+  }
+
+  public long getRowCount() { return rowCount; }
+
+  public BigDecimal getColumnSum(int column) {
+    return columnSums[column];
+  }
+
+  public int getColumnCount() {
+    return columnSums.length;
+  }
+
+  /**
+   * Positions of the columns whose sums differ from the other checksum.
+   */
+  public List<Integer> differingColumns(ChunkChecksum other) {
+    List<Integer> differing = new ArrayList<>();
+    for (int i = 0; i < columnSums.length; i++) {
+      BigDecimal mine = columnSums[i];
+      BigDecimal theirs = i < other.columnSums.length ? other.columnSums[i] : null;
+      if (mine == null ? theirs != null : theirs == null || mine.compareTo(theirs) != 0) {
+        differing.add(i);
+      }
+    }
+    return differing;
+  }
+
+  public boolean matches(ChunkChecksum other) {
+    return rowCount == other.rowCount && differingColumns(other).isEmpty();
+  }
+}
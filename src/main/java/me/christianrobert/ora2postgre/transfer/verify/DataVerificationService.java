@@ -0,0 +1,265 @@
+package me.christianrobert.ora2postgre.transfer.verify;
+
+import me.christianrobert.ora2postgre.global.ConnectionPool;
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.transfer.TransferSnapshot;
+import me.christianrobert.ora2postgre.transfer.chunk.ChunkPlanner;
+import me.christianrobert.ora2postgre.transfer.chunk.TransferChunk;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Verifies transferred tables by comparing row counts and column checksums that Oracle and
+ * PostgreSQL compute themselves (see {@link ChecksumQueryBuilder}); no rows are fetched.
+ *
+ * Tables with a single-column numeric primary key are checked in key ranges, so that a
+ * difference is narrowed down to the ranges that need to be copied again. Other tables are
+ * checked as a whole. Tables are verified in parallel, each worker holding one Oracle and one
+ * PostgreSQL connection; the two checksum queries of a range run concurrently.
+ */
+public class DataVerificationService {
+
+  private static final Logger log = LoggerFactory.getLogger(DataVerificationService.class);
+
+  private final int parallelism;
+  private final int chunksPerTable;
+
+  /**
+   * @param parallelism number of tables verified at the same time
+   * @param chunksPerTable number of key ranges a table with a numeric primary key is split into
+   */
+  public DataVerificationService(int parallelism, int chunksPerTable) {
+    this.parallelism = Math.max(1, parallelism);
+    this.chunksPerTable = Math.max(1, chunksPerTable);
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Verifies all tables. Failures of single tables are reported in their result.
+   */
+  public VerificationReport verifyTables(List<TableMetadata> tables,
+                                         ConnectionPool oraclePool,
+                                         ConnectionPool postgresPool) {
+    String sessionId = UUID.randomUUID().toString().substring(0, 8);
+    long startTime = System.currentTimeMillis();
+    int workerCount = Math.max(1, Math.min(parallelism, tables.size()));
+    log.info("Starting data verification session {} for {} tables with {} workers",
+            sessionId, tables.size(), workerCount);
+
+    Queue<Integer> pendingTables = new ConcurrentLinkedQueue<>();
+    for (int i = 0; i < tables.size(); i++) {
+      pendingTables.add(i);
+    }
+    TableVerificationResult[] results = new TableVerificationResult[tables.size()];
+
+    AtomicInteger threadCounter = new AtomicInteger(0);
+    // Per worker one thread for the table loop and one for the PostgreSQL side of each range
+    ExecutorService executor = Executors.newFixedThreadPool(workerCount * 2, runnable -> {
+      Thread thread = new Thread(runnable, "verify-" + sessionId + "-" + threadCounter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    List<Future<?>> workers = new ArrayList<>();
+    try {
+      for (int i = 0; i < workerCount; i++) {
+        workers.add(executor.submit(() -> runVerificationWorker(tables, pendingTables, results,
+                oraclePool, postgresPool, executor)));
+      }
+      for (Future<?> worker : workers) {
+        try {
+          worker.get();
+        } catch (ExecutionException e) {
+          log.error("Verification worker terminated unexpectedly: {}", e.getCause().getMessage(), e.getCause());
+        }
+      }
+    } catch (InterruptedException e) {
+      log.warn("Data verification session {} interrupted", sessionId);
+      workers.forEach(worker -> worker.cancel(true));
+      Thread.currentThread().interrupt();
+    } finally {
+      executor.shutdownNow();
+    }
+
+    List<TableVerificationResult> tableResults = new ArrayList<>();
+    for (int i = 0; i < results.length; i++) {
+      TableMetadata table = tables.get(i);
+      tableResults.add(results[i] != null ? results[i]
+              : TableVerificationResult.failure(table.getSchema(), table.getTableName(), 0, "Not verified"));
+    }
+
+    VerificationReport report = new VerificationReport(sessionId, startTime,
+            System.currentTimeMillis() - startTime, tableResults);
+    log.info(report.getSummary());
+    return report;
+  }
+
+  private void runVerificationWorker(List<TableMetadata> tables, Queue<Integer> pendingTables,
+                                     TableVerificationResult[] results,
+                                     ConnectionPool oraclePool, ConnectionPool postgresPool,
+                                     ExecutorService executor) {
+    Integer tableIndex;
+    while ((tableIndex = pendingTables.poll()) != null && !Thread.currentThread().isInterrupted()) {
+      TableMetadata table = tables.get(tableIndex);
+      Connection oracleConn = null;
+      Connection postgresConn = null;
+      try {
+        oracleConn = oraclePool.acquire();
+        postgresConn = postgresPool.acquire();
+        results[tableIndex] = verifyTable(table, oracleConn, postgresConn, executor);
+      } catch (SQLException e) {
+        results[tableIndex] = TableVerificationResult.failure(table.getSchema(), table.getTableName(), 0,
+                "Could not obtain connections: " + e.getMessage());
+      } finally {
+        oraclePool.release(oracleConn);
+        postgresPool.release(postgresConn);
+      }
+
+      TableVerificationResult result = results[tableIndex];
+      if (result.getStatus() == TableVerificationResult.Status.MATCH) {
+        log.info("{}", result);
+      } else {
+        log.warn("{}", result);
+      }
+    }
+  }
+
+  /**
+   * Verifies one table range by range.
+   *
+   * @param executor runs the PostgreSQL checksum query while the Oracle one runs on the calling thread
+   */
+  public TableVerificationResult verifyTable(TableMetadata table, Connection oracleConn, Connection postgresConn,
+                                             ExecutorService executor) {
+    long startTime = System.currentTimeMillis();
+    String schema = table.getSchema();
+    String tableName = table.getTableName();
+
+    try {
+      List<ColumnMetadata> columns = ChecksumQueryBuilder.hashableColumns(table);
+      List<String> uncheckedColumns = new ArrayList<>();
+      for (ColumnMetadata column : table.getColumns()) {
+        if (!columns.contains(column)) {
+          uncheckedColumns.add(column.getColumnName());
+        }
+      }
+
+      String keyColumn = ChunkPlanner.findNumericPrimaryKeyColumn(table);
+      List<TransferChunk> ranges = planRanges(oracleConn, table, keyColumn);
+
+      long sourceRows = 0;
+      long targetRows = 0;
+      List<RangeMismatch> mismatches = new ArrayList<>();
+      for (TransferChunk range : ranges) {
+        String oracleSql = ChecksumQueryBuilder.buildQuery(ChecksumQueryBuilder.Dialect.ORACLE,
+                table, columns, keyColumn, range);
+        String postgresSql = ChecksumQueryBuilder.buildQuery(ChecksumQueryBuilder.Dialect.POSTGRES,
+                table, columns, keyColumn, range);
+        log.debug("Checksum queries for {}.{} {}: Oracle {} / PostgreSQL {}",
+                schema, tableName, range, oracleSql, postgresSql);
+
+        Future<ChunkChecksum> target = executor.submit(() ->
+                computeChecksum(postgresConn, postgresSql, range, columns.size()));
+        ChunkChecksum source;
+        try {
+          source = computeChecksum(oracleConn, oracleSql, range, columns.size());
+        } catch (SQLException e) {
+          target.cancel(true);
+          throw e;
+        }
+        ChunkChecksum targetChecksum = awaitChecksum(target);
+
+        sourceRows += source.getRowCount();
+        targetRows += targetChecksum.getRowCount();
+        if (!source.matches(targetChecksum)) {
+          List<String> differing = new ArrayList<>();
+          for (int column : source.differingColumns(targetChecksum)) {
+            differing.add(columns.get(column).getColumnName());
+          }
+          mismatches.add(new RangeMismatch(range.getIndex(), range.getDescription(), range.getWhereClause(),
+                  range.getBindValues(), source.getRowCount(), targetChecksum.getRowCount(), differing));
+        }
+      }
+
+      return TableVerificationResult.checked(schema, tableName, sourceRows, targetRows, ranges.size(),
+              mismatches, uncheckedColumns, System.currentTimeMillis() - startTime);
+
+    } catch (Exception e) {
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      log.error("Verification failed for {}.{}: {}", schema, tableName, e.getMessage(), e);
+      return TableVerificationResult.failure(schema, tableName, System.currentTimeMillis() - startTime,
+              "Verification failed: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Key ranges for tables with a numeric primary key, otherwise the whole table.
+   */
+  private List<TransferChunk> planRanges(Connection oracleConn, TableMetadata table, String keyColumn)
+          throws SQLException {
+    if (keyColumn != null && chunksPerTable > 1) {
+      // Verification compares current data, so the bounds are read unpinned as well
+      List<TransferChunk> ranges = ChunkPlanner.planKeyRangeChunks(oracleConn, table, chunksPerTable,
+              new TransferSnapshot());
+      if (!ranges.isEmpty()) {
+        return ranges;
+      }
+    }
+    return List.of(TransferChunk.wholeTable());
+  }
+
+  /**
+   * Runs a checksum query built by {@link ChecksumQueryBuilder} for one range.
+   */
+  public static ChunkChecksum computeChecksum(Connection conn, String sql, TransferChunk range,
+                                             int columnCount) throws SQLException {
+    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+      range.bind(ps, 1);
+      try (ResultSet rs = ps.executeQuery()) {
+        BigDecimal[] sums = new BigDecimal[columnCount];
+        if (!rs.next()) {
+          return new ChunkChecksum(0, sums);
+        }
+        long rowCount = rs.getLong(1);
+        for (int i = 0; i < columnCount; i++) {
+          sums[i] = rs.getBigDecimal(i + 2);
+        }
+        return new ChunkChecksum(rowCount, sums);
+      }
+    }
+  }
+
+  private ChunkChecksum awaitChecksum(Future<ChunkChecksum> target) throws SQLException, InterruptedException {
+    try {
+      return target.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof SQLException sqlException) {
+        throw sqlException;
+      }
+      throw new SQLException("PostgreSQL checksum failed: " + cause.getMessage(), cause);
+    }
+  }
+}
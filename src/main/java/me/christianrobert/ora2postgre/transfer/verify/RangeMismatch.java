@@ -0,0 +1,43 @@
+package me.christianrobert.ora2postgre.transfer.verify;
+
+import java.util.List;
+
+/**
+ * A range of a table whose row count or column checksums differ between Oracle and PostgreSQL.
+ * Re-copying the rows of this range is enough to repair the table.
+ */
+public class RangeMismatch {
+
+  private final int chunkIndex;
+  private final String range;
+  private final String whereClause;
+  private final List<Object> bindValues;
+  private final long sourceRows;
+  private final long targetRows;
+  private final List<String> mismatchedColumns;
+
+  public RangeMismatch(int chunkIndex, String range, String whereClause, List<Object> bindValues,
+                       long sourceRows, long targetRows, List<String> mismatchedColumns) {
+    this.chunkIndex = chunkIndex;
+    this.range = range;
+    this.whereClause = whereClause;
+    this.bindValues = bindValues;
+    this.sourceRows = sourceRows;
+    this.targetRows = targetRows;
+    this.mismatchedColumns = List.copyOf(mismatchedColumns);
+  }
+
+  public int getChunkIndex() { return chunkIndex; }
+  public String getRange() { return range; }
+  public String getWhereClause() { return whereClause; }
+  public List<Object> getBindValues() { return bindValues; }
+  public long getSourceRows() { return sourceRows; }
+  public long getTargetRows() { return targetRows; }
+  public List<String> getMismatchedColumns() { return mismatchedColumns; }
+
+  @Override
+  public String toString() {
+    return String.format("%s: %d/%d rows%s", range, targetRows, sourceRows,
+            mismatchedColumns.isEmpty() ? "" : ", differing columns " + mismatchedColumns);
+  }
+}
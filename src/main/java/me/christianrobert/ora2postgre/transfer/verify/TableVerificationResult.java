@@ -0,0 +1,81 @@
+package me.christianrobert.ora2postgre.transfer.verify;
+
+import java.util.List;
+
+/**
+ * Outcome of verifying one table: row counts on both sides and the ranges that differ.
+ */
+public class TableVerificationResult {
+
+  public enum Status {
+    MATCH,
+    MISMATCH,
+    FAILED
+  }
+
+  private final String schemaName;
+  private final String tableName;
+  private final Status status;
+  private final long sourceRows;
+  private final long targetRows;
+  private final int checkedRanges;
+  private final List<RangeMismatch> mismatches;
+  private final List<String> uncheckedColumns;
+  private final long verificationTimeMs;
+  private final String errorMessage;
+
+  private TableVerificationResult(String schemaName, String tableName, Status status, long sourceRows,
+                                  long targetRows, int checkedRanges, List<RangeMismatch> mismatches,
+                                  List<String> uncheckedColumns, long verificationTimeMs, String errorMessage) {
+    this.schemaName = schemaName;
+    this.tableName = tableName;
+    this.status = status;
+    this.sourceRows = sourceRows;
+    this.targetRows = targetRows;
+    this.checkedRanges = checkedRanges;
+    this.mismatches = List.copyOf(mismatches);
+    this.uncheckedColumns = List.copyOf(uncheckedColumns);
+    this.verificationTimeMs = verificationTimeMs;
+    this.errorMessage = errorMessage;
+  }
+
+  public static TableVerificationResult checked(String schema, String table, long sourceRows, long targetRows,
+                                                int checkedRanges, List<RangeMismatch> mismatches,
+                                                List<String> uncheckedColumns, long verificationTimeMs) {
+    return new TableVerificationResult(schema, table, mismatches.isEmpty() ? Status.MATCH : Status.MISMATCH,
+            sourceRows, targetRows, checkedRanges, mismatches, uncheckedColumns, verificationTimeMs, null);
+  }
+
+  public static TableVerificationResult failure(String schema, String table, long verificationTimeMs,
+                                                String errorMessage) {
+    return new TableVerificationResult(schema, table, Status.FAILED, 0, 0, 0, List.of(), List.of(),
+            verificationTimeMs, errorMessage);
+  }
+
+  // Getters
+  public String getSchemaName() { return schemaName; }
+  public String getTableName() { return tableName; }
+  public Status getStatus() { return status; }
+  public long getSourceRows() { return sourceRows; }
+  public long getTargetRows() { return targetRows; }
+  public int getCheckedRanges() { return checkedRanges; }
+  public List<RangeMismatch> getMismatches() { return mismatches; }
+  public List<String> getUncheckedColumns() { return uncheckedColumns; }
+  public long getVerificationTimeMs() { return verificationTimeMs; }
+  public String getErrorMessage() { return errorMessage; }
+
+  public String getFullTableName() {
+    return schemaName + "." + tableName;
+  }
+
+  @Override
+  public String toString() {
+    return switch (status) {
+      case MATCH -> String.format("MATCH: %s - %d rows in %d ranges (%dms)",
+              getFullTableName(), sourceRows, checkedRanges, verificationTimeMs);
+      case MISMATCH -> String.format("MISMATCH: %s - %d/%d rows, %d of %d ranges differ",
+              getFullTableName(), targetRows, sourceRows, mismatches.size(), checkedRanges);
+      case FAILED -> String.format("FAILED: %s - %s", getFullTableName(), errorMessage);
+    };
+  }
+}
@@ -0,0 +1,53 @@
+package me.christianrobert.ora2postgre.transfer.verify;
+
+import java.util.List;
+
+/**
+ * Result of a verification run over all tables.
+ */
+public class VerificationReport {
+
+  private final String sessionId;
+  private final long startTime;
+  private final long verificationTimeMs;
+  private final List<TableVerificationResult> tableResults;
+
+  public VerificationReport(String sessionId, long startTime, long verificationTimeMs,
+                            List<TableVerificationResult> tableResults) {
+    this.sessionId = sessionId;
+    this.startTime = startTime;
+    this.verificationTimeMs = verificationTimeMs;
+    this.tableResults = List.copyOf(tableResults);
+  }
+
+  public String getSessionId() { return sessionId; }
+  public long getStartTime() { return startTime; }
+  public long getVerificationTimeMs() { return verificationTimeMs; }
+  public List<TableVerificationResult> getTableResults() { return tableResults; }
+
+  public List<TableVerificationResult> getMismatchedTables() {
+    return withStatus(TableVerificationResult.Status.MISMATCH);
+  }
+
+  public List<TableVerificationResult> getFailedTables() {
+    return withStatus(TableVerificationResult.Status.FAILED);
+  }
+
+  public long getMatchedTableCount() {
+    return tableResults.stream().filter(r -> r.getStatus() == TableVerificationResult.Status.MATCH).count();
+  }
+
+  public boolean isAllMatched() {
+    return getMatchedTableCount() == tableResults.size();
+  }
+
+  public String getSummary() {
+    return String.format("Verification %s: %d tables, %d match, %d mismatch, %d failed in %dms",
+            sessionId, tableResults.size(), getMatchedTableCount(), getMismatchedTables().size(),
+            getFailedTables().size(), verificationTimeMs);
+  }
+
+  private List<TableVerificationResult> withStatus(TableVerificationResult.Status status) {
+    return tableResults.stream().filter(r -> r.getStatus() == status).toList();
+  }
+}
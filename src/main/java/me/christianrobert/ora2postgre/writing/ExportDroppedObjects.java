@@ -0,0 +1,57 @@
+package me.christianrobert.ora2postgre.writing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.nio.file.Paths;
+import java.util.Collection;
+
+/**
+ * Deletes the exported files of objects that were dropped in Oracle since the last export, so
+ * that the execution phase does not create them again. Objects are given by their
+ * OWNER|OBJECT_TYPE|OBJECT_NAME key as recorded by the incremental extraction.
+ */
+public class ExportDroppedObjects {
+
+  private static final Logger log = LoggerFactory.getLogger(ExportDroppedObjects.class);
+
+  public static void deleteFiles(String path, Collection<String> droppedKeys) {
+    for (String key : droppedKeys) {
+      String[] parts = key.split("\\|", 3);
+      if (parts.length < 3) {
+        continue;
+      }
+      String schemaPath = path + File.separator + parts[0].toLowerCase() + File.separator;
+      String name = parts[2];
+      switch (parts[1]) {
+        case "VIEW":
+          FileWriter.deleteIgnoringCase(Paths.get(schemaPath + "step1viewspec"), name + "VIEW.sql");
+          FileWriter.deleteIgnoringCase(Paths.get(schemaPath + "step4viewbody"), name + "VIEW.sql");
+          break;
+        case "TYPE":
+          FileWriter.deleteIgnoringCase(Paths.get(schemaPath + "step2objecttypespec"), name + "OBJECTTYPESPEC.sql");
+          FileWriter.deleteIgnoringCase(Paths.get(schemaPath + "step5objecttypebody"), name + ".sql");
+          break;
+        case "PACKAGE":
+          FileWriter.deleteIgnoringCase(Paths.get(schemaPath + "step3packagespec"), name + ".sql");
+          FileWriter.deleteIgnoringCase(Paths.get(schemaPath + "step6packagebody"), name + ".sql");
+          break;
+        case "FUNCTION":
+          FileWriter.deleteIgnoringCase(Paths.get(schemaPath + "step3afunctions"), name + ".sql");
+          break;
+        case "PROCEDURE":
+          FileWriter.deleteIgnoringCase(Paths.get(schemaPath + "step3bprocedures"), name + ".sql");
+          break;
+        case "TRIGGER":
+          FileWriter.deleteIgnoringCase(Paths.get(schemaPath + "step7atriggerfunctions"), "a_" + name + "_function.sql");
+          FileWriter.deleteIgnoringCase(Paths.get(schemaPath + "step7btriggerdefinitions"), "b_" + name + "_trigger.sql");
+          break;
+        default:
+          // A dropped package or type body leaves its spec, which is written again as changed
+          continue;
+      }
+      log.info("Deleted the exported files of dropped {} {}.{}", parts[1], parts[0], name);
+    }
+  }
+}
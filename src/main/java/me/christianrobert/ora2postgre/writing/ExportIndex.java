@@ -148,9 +148,9 @@ public class ExportIndex {
       return tableComparison != 0 ? tableComparison : a.getIndexName().compareToIgnoreCase(b.getIndexName());
     });
 
-    // Add each index DDL
+    // Add each index DDL, closed by a semicolon line so that each index runs as its own statement
     for (PostgreSQLIndexDDL index : schemaIndexes) {
-      content.append(index.getFormattedSQL()).append("\n\n");
+      content.append(index.getFormattedSQL()).append(index.isExecutable() ? "\n;\n\n" : "\n\n");
     }
 
     // Write to file
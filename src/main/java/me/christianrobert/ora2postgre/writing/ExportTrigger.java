@@ -31,9 +31,18 @@ public class ExportTrigger {
    * @param everything Global context containing all trigger data
    */
   public static void saveAllTriggers(String basePath, Everything everything) {
-    log.info("Starting trigger export to base path: {}", basePath);
+    saveAllTriggers(basePath, everything.getTriggerAst(), everything);
+  }
 
-    List<Trigger> triggers = everything.getTriggerAst();
+  /**
+   * Exports the given triggers, e.g. only those changed since the last export.
+   *
+   * @param basePath Base path for file generation
+   * @param triggers Triggers to export
+   * @param everything Global context for transformation
+   */
+  public static void saveAllTriggers(String basePath, List<Trigger> triggers, Everything everything) {
+    log.info("Starting trigger export to base path: {}", basePath);
 
     if (triggers.isEmpty()) {
       log.info("No triggers found to export");
@@ -43,10 +52,10 @@ public class ExportTrigger {
     log.info("Exporting {} triggers", triggers.size());
 
     // Phase 1: Export trigger functions (must be created first)
-    saveTriggerFunctions(basePath, everything);
+    saveTriggerFunctions(basePath, triggers, everything);
 
     // Phase 2: Export trigger definitions (created after functions exist)
-    saveTriggerDefinitions(basePath, everything);
+    saveTriggerDefinitions(basePath, triggers, everything);
 
     log.info("Trigger export completed successfully");
   }
@@ -59,9 +68,12 @@ public class ExportTrigger {
    * @param everything Global context containing trigger data
    */
   public static void saveTriggerFunctions(String basePath, Everything everything) {
+    saveTriggerFunctions(basePath, everything.getTriggerAst(), everything);
+  }
+
+  private static void saveTriggerFunctions(String basePath, List<Trigger> triggers, Everything everything) {
     log.info("Exporting trigger functions...");
 
-    List<Trigger> triggers = everything.getTriggerAst();
     Map<String, Integer> schemaFunctionCounts = new HashMap<>();
 
     for (Trigger trigger : triggers) {
@@ -89,9 +101,12 @@ public class ExportTrigger {
    * @param everything Global context containing trigger data
    */
   public static void saveTriggerDefinitions(String basePath, Everything everything) {
+    saveTriggerDefinitions(basePath, everything.getTriggerAst(), everything);
+  }
+
+  private static void saveTriggerDefinitions(String basePath, List<Trigger> triggers, Everything everything) {
     log.info("Exporting trigger definitions...");
 
-    List<Trigger> triggers = everything.getTriggerAst();
     Map<String, Integer> schemaDefinitionCounts = new HashMap<>();
 
     for (Trigger trigger : triggers) {
@@ -6,6 +6,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.stream.Stream;
 
 public class FileWriter {
 
@@ -20,4 +21,25 @@ public class FileWriter {
       throw new RuntimeException(e);
     }
   }
+
+  /**
+   * Deletes the files in targetDir named filename, ignoring case, since the exports name files
+   * after the parsed names, whose case follows the source code. Nothing happens if targetDir
+   * does not exist.
+   */
+  public static void deleteIgnoringCase(Path targetDir, String filename) {
+    if (!Files.isDirectory(targetDir)) {
+      return;
+    }
+    try (Stream<Path> files = Files.list(targetDir)) {
+      for (Path file : (Iterable<Path>) files::iterator) {
+        if (file.getFileName().toString().equalsIgnoreCase(filename)) {
+          Files.delete(file);
+          log.info("File deleted: {} {}", targetDir, file.getFileName());
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
 }
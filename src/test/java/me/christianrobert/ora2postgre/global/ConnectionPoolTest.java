@@ -0,0 +1,74 @@
+package me.christianrobert.ora2postgre.global;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the fixed-size connection pool used by the parallel workers.
+ */
+public class ConnectionPoolTest {
+
+  @Test
+  public void testReusesReleasedConnection() throws SQLException {
+    Connection conn = mockConnection(true);
+    ConnectionPool pool = new ConnectionPool("test", 2, () -> conn);
+
+    Connection first = pool.acquire();
+    pool.release(first);
+    Connection second = pool.acquire();
+
+    assertSame(first, second);
+    assertEquals(1, pool.getOpenedCount());
+  }
+
+  @Test
+  public void testOpensUpToMaxSize() throws SQLException {
+    ConnectionPool pool = new ConnectionPool("test", 2, () -> mockConnection(true));
+
+    Connection first = pool.acquire();
+    Connection second = pool.acquire();
+
+    assertNotSame(first, second);
+    assertEquals(2, pool.getOpenedCount());
+  }
+
+  @Test
+  public void testInvalidConnectionIsDiscardedAndReplaced() throws SQLException {
+    Connection broken = mockConnection(false);
+    Connection healthy = mockConnection(true);
+    Connection[] next = {broken, healthy};
+    int[] opened = {0};
+    ConnectionPool pool = new ConnectionPool("test", 1, () -> next[opened[0]++]);
+
+    Connection first = pool.acquire();
+    pool.release(first);
+
+    verify(broken).close();
+    assertEquals(0, pool.getOpenedCount());
+    assertSame(healthy, pool.acquire());
+  }
+
+  @Test
+  public void testCloseClosesAllConnections() throws SQLException {
+    Connection conn = mockConnection(true);
+    ConnectionPool pool = new ConnectionPool("test", 1, () -> conn);
+
+    pool.release(pool.acquire());
+    pool.close();
+
+    verify(conn).close();
+    assertThrows(SQLException.class, pool::acquire);
+  }
+
+  private Connection mockConnection(boolean valid) throws SQLException {
+    Connection conn = mock(Connection.class);
+    when(conn.isClosed()).thenReturn(false);
+    when(conn.isValid(anyInt())).thenReturn(valid);
+    return conn;
+  }
+}
@@ -10,8 +10,15 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * Integration test for constraint execution with dependency ordering.
@@ -49,6 +56,23 @@ class ConstraintExecutionIntegrationTest {
     assertFalse(isFileSelectedForPhase(viewFile, ExecutionPhase.POST_TRANSFER_CONSTRAINTS));
   }
 
+  @Test
+  void testIndexesAndConstraintsNeverRunBeforeTransfer() {
+    Path tableFile = tempDir.resolve("schema1/EmployeesTABLE.sql");
+    Path primaryKeyFile = tempDir.resolve("schema1/step8constraints/primary_keys/pk_emptable.sql");
+    Path foreignKeyFile = tempDir.resolve("schema1/step8constraints/foreign_keys/fk_dept_schema.sql");
+    Path indexFile = tempDir.resolve("schema1/step6indexes/idx_emp_table.sql");
+
+    assertTrue(isFileSelectedForPhase(tableFile, ExecutionPhase.PRE_TRANSFER_TABLES));
+    for (ExecutionPhase phase : new ExecutionPhase[]{ExecutionPhase.PRE_TRANSFER_TYPES, ExecutionPhase.PRE_TRANSFER_TABLES}) {
+      assertFalse(isFileSelectedForPhase(primaryKeyFile, phase));
+      assertFalse(isFileSelectedForPhase(foreignKeyFile, phase));
+      assertFalse(isFileSelectedForPhase(indexFile, phase));
+    }
+    assertTrue(isFileSelectedForPhase(primaryKeyFile, ExecutionPhase.POST_TRANSFER_CONSTRAINTS));
+    assertTrue(isFileSelectedForPhase(indexFile, ExecutionPhase.POST_TRANSFER_INDEXES));
+  }
+
   @Test
   void testConstraintExecutionOrder() throws Exception {
     // Create a mock database connection (would need real H2 or similar for full test)
@@ -70,6 +94,40 @@ class ConstraintExecutionIntegrationTest {
     assertTrue(Files.exists(constraintsDir.resolve("foreign_keys/fk_emp_dept.sql")));
   }
 
+  @Test
+  void testSequentialExecutionAddsForeignKeysAfterTheOtherConstraints() throws Exception {
+    List<String> executed = new ArrayList<>();
+    Connection conn = recordingConnection(executed);
+
+    PostgresExecuter.executeAllSqlFiles(tempDir.toString(), conn, List.of(), List.of(),
+            ExecutionPhase.POST_TRANSFER_CONSTRAINTS);
+
+    assertEquals(3, executed.size());
+    assertTrue(executed.get(0).contains("PRIMARY KEY"));
+    assertTrue(executed.get(1).contains("UNIQUE"));
+    assertTrue(executed.get(2).contains("CHECK"));
+
+    executed.clear();
+    PostgresExecuter.executeForeignKeys(tempDir.toString(), conn);
+
+    assertEquals(1, executed.size());
+    assertTrue(executed.get(0).contains("FOREIGN KEY"));
+  }
+
+  @Test
+  void testSplitsStatementsAtSemicolonLinesOnly() {
+    List<String> statements = PostgresExecuter.splitStatements(
+            "CREATE INDEX idx_a ON s.t (a);\n;\n\n"
+                    + "CREATE FUNCTION s.f() RETURNS int AS $$\nBEGIN\n  RETURN 1;\nEND;\n$$ LANGUAGE plpgsql\n;\n"
+                    + "/* a; b */ SELECT ';'\n;\n  \n");
+
+    assertEquals(List.of("CREATE INDEX idx_a ON s.t (a);",
+            "CREATE FUNCTION s.f() RETURNS int AS $$\nBEGIN\n  RETURN 1;\nEND;\n$$ LANGUAGE plpgsql",
+            "/* a; b */ SELECT ';'"), statements);
+    assertEquals(List.of("ALTER TABLE s.t ADD CONSTRAINT c CHECK (x > 0);"),
+            PostgresExecuter.splitStatements("ALTER TABLE s.t ADD CONSTRAINT c CHECK (x > 0);"));
+  }
+
   @Test
   void testConstraintFileContent() throws IOException {
     // Verify constraint files contain expected DDL
@@ -96,6 +154,14 @@ class ConstraintExecutionIntegrationTest {
     assertEquals("POST_TRANSFER_TRIGGERS", phases[5].name());
   }
 
+  private Connection recordingConnection(List<String> executed) throws Exception {
+    Statement statement = mock(Statement.class);
+    when(statement.execute(anyString())).thenAnswer(invocation -> executed.add(invocation.getArgument(0)));
+    Connection conn = mock(Connection.class);
+    when(conn.createStatement()).thenReturn(statement);
+    return conn;
+  }
+
   // Helper method to test file selection for phases
   private boolean isFileSelectedForPhase(Path filePath, ExecutionPhase phase) {
     try {
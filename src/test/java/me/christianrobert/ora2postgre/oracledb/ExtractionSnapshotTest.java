@@ -0,0 +1,123 @@
+package me.christianrobert.ora2postgre.oracledb;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.PlsqlCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for saving the extracted data to a snapshot file and loading it back.
+ */
+public class ExtractionSnapshotTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  public void testRoundTripRestoresExtractedData() throws IOException {
+    Everything data = createExtractedData();
+    Path file = tempDir.resolve("snapshot/extract.bin");
+
+    ExtractionSnapshot.Summary saved = ExtractionSnapshot.save(data, file);
+    Everything loaded = new Everything();
+    loaded.getPackageBodyPlsql().add(new PlsqlCode("OLD", "CREATE PACKAGE BODY old AS END;"));
+    ExtractionSnapshot.Summary summary = ExtractionSnapshot.load(file, loaded);
+
+    assertEquals(saved.getCreatedAt(), summary.getCreatedAt());
+    assertEquals(List.of("HR"), loaded.getUserNames());
+    assertEquals(1, summary.getTables());
+    assertEquals(2, summary.getPlsqlUnits());
+
+    TableMetadata emp = loaded.getTableSql().get(0);
+    assertEquals("EMP", emp.getTableName());
+    assertEquals(List.of("ID", "NAME"), emp.getColumns().stream().map(ColumnMetadata::getColumnName).toList());
+    assertNull(emp.getColumns().get(0).getCharacterLength());
+    assertEquals(100, emp.getColumns().get(1).getCharacterLength());
+    assertEquals("'n/a'", emp.getColumns().get(1).getDefaultValue());
+
+    ConstraintMetadata foreignKey = emp.getConstraints().get(1);
+    assertEquals("DEPT", foreignKey.getReferencedTable());
+    assertEquals(List.of("DEPT_ID"), foreignKey.getColumnNames());
+    assertEquals(List.of("ID"), foreignKey.getReferencedColumns());
+    assertEquals("CASCADE", foreignKey.getDeleteRule());
+    assertFalse(foreignKey.isValidated());
+
+    assertEquals("SELECT id FROM hr.emp", loaded.getViewDefinition().get(0).getRawQuery());
+    assertEquals("EMP_ALIAS", loaded.getSynonyms().get(0).getSynonymName());
+    IndexColumn indexColumn = loaded.getIndexes().get(0).getColumns().get(0);
+    assertEquals("UPPER(NAME)", indexColumn.getColumnExpression());
+    assertTrue(indexColumn.isDescending());
+
+    // Replaces instead of adding to the previous data
+    assertEquals(List.of("CREATE PACKAGE BODY pkg AS\n  -- ä\nEND;"),
+            loaded.getPackageBodyPlsql().stream().map(unit -> unit.code).toList());
+    assertEquals("PKG", loaded.getPackageBodyPlsql().get(0).name);
+    assertEquals("HR", loaded.getTriggerPlsql().get(0).schema);
+    assertNull(loaded.getTriggerPlsql().get(0).name);
+    assertEquals(42L, loaded.getTableRowCounts().get("HR.EMP"));
+    assertEquals(42L, loaded.getTotalRowCount());
+    assertEquals(Map.of("HR|TABLE|EMP", 1700000000000L), loaded.getObjectDdlTimes());
+  }
+
+  @Test
+  public void testRejectsOtherFilesAndVersions() throws IOException {
+    Path file = tempDir.resolve("extract.bin");
+    ExtractionSnapshot.save(createExtractedData(), file);
+    byte[] bytes = Files.readAllBytes(file);
+    bytes[7] = 99; // format version
+    Files.write(file, bytes);
+    Everything data = createExtractedData();
+
+    IOException e = assertThrows(IOException.class, () -> ExtractionSnapshot.load(file, data));
+    assertTrue(e.getMessage().contains("version 99"));
+    assertEquals(1, data.getTableSql().size());
+
+    Files.writeString(file, "not a snapshot");
+    assertThrows(IOException.class, () -> ExtractionSnapshot.load(file, data));
+  }
+
+  private Everything createExtractedData() {
+    Everything data = new Everything();
+    data.getUserNames().add("HR");
+
+    TableMetadata emp = new TableMetadata("HR", "EMP");
+    emp.addColumn(new ColumnMetadata("ID", "NUMBER", null, 10, 0, false, null));
+    emp.addColumn(new ColumnMetadata("NAME", "VARCHAR2", 100, null, null, true, "'n/a'"));
+    ConstraintMetadata primaryKey = new ConstraintMetadata("PK_EMP", ConstraintMetadata.PRIMARY_KEY);
+    primaryKey.addColumnName("ID");
+    emp.addConstraint(primaryKey);
+    ConstraintMetadata foreignKey = new ConstraintMetadata("FK_EMP_DEPT", ConstraintMetadata.FOREIGN_KEY, "HR", "DEPT");
+    foreignKey.addColumnName("DEPT_ID");
+    foreignKey.addReferencedColumnName("ID");
+    foreignKey.setDeleteRule("CASCADE");
+    foreignKey.setValidated(false);
+    emp.addConstraint(foreignKey);
+    data.getTableSql().add(emp);
+
+    ViewMetadata view = new ViewMetadata("HR", "EMP_V");
+    view.addColumn(new ColumnMetadata("ID", "NUMBER", null, 10, 0, false, null));
+    view.setRawQuery("SELECT id FROM hr.emp");
+    data.getViewDefinition().add(view);
+    data.getSynonyms().add(new SynonymMetadata("HR", "EMP_ALIAS", "HR", "EMP", "TABLE"));
+
+    IndexMetadata index = new IndexMetadata("IDX_EMP_NAME", "EMP", "HR", "FUNCTION-BASED NORMAL",
+            false, false, null, "USERS", "VALID", false);
+    index.addColumn(new IndexColumn("SYS_NC00003$", "UPPER(NAME)", "DESC", 1, true));
+    data.getIndexes().add(index);
+
+    data.getPackageBodyPlsql().add(new PlsqlCode("HR", "PKG", "CREATE PACKAGE BODY pkg AS\n  -- ä\nEND;"));
+    data.getTriggerPlsql().add(new PlsqlCode("HR", "CREATE OR REPLACE TRIGGER HR.TRG\n  BEFORE INSERT ON HR.EMP\n;"));
+    data.getTableRowCounts().put("HR.EMP", 42L);
+    data.setTotalRowCount(42L);
+    data.getObjectDdlTimes().put("HR|TABLE|EMP", 1700000000000L);
+    return data;
+  }
+}
@@ -0,0 +1,115 @@
+package me.christianrobert.ora2postgre.oracledb;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.PlsqlCode;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static me.christianrobert.ora2postgre.transfer.MockDataFactory.createMockResultSet;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for re-extracting only the objects changed since the previous extraction.
+ */
+public class IncrementalExtractorTest {
+
+  @Test
+  public void testDiffFindsChangedNewAndDroppedObjects() {
+    Map<String, Long> previous = Map.of("HR|TABLE|EMP", 1L, "HR|TABLE|DEPT", 1L, "HR|VIEW|EMP_V", 1L);
+    Map<String, Long> current = Map.of("HR|TABLE|EMP", 1L, "HR|TABLE|DEPT", 2L, "HR|TABLE|BONUS", 1L);
+
+    assertEquals(Set.of("HR|TABLE|DEPT", "HR|TABLE|BONUS", "HR|VIEW|EMP_V"),
+            IncrementalExtractor.diff(previous, current));
+  }
+
+  @Test
+  public void testReplacesSchemaEntriesInPlace() {
+    PlsqlCode hrOld1 = new PlsqlCode("HR", "old 1");
+    PlsqlCode hrOld2 = new PlsqlCode("HR", "old 2");
+    PlsqlCode sales = new PlsqlCode("SALES", "sales");
+    PlsqlCode hrNew = new PlsqlCode("HR", "new");
+    List<PlsqlCode> list = new ArrayList<>(List.of(hrOld1, hrOld2, sales));
+
+    IncrementalExtractor.replaceSchema(list, "hr", List.of(hrNew));
+    assertEquals(List.of(hrNew, sales), list);
+
+    // A schema without previous entries is appended
+    PlsqlCode finance = new PlsqlCode("FINANCE", "finance");
+    IncrementalExtractor.replaceSchema(list, "FINANCE", List.of(finance));
+    assertEquals(List.of(hrNew, sales, finance), list);
+  }
+
+  @Test
+  public void testReextractsOnlyChangedSchemaAndKind() throws SQLException, IOException {
+    Everything data = new Everything();
+    data.getUserNames().addAll(List.of("HR", "SALES"));
+    PlsqlCode hrSpec = new PlsqlCode("HR", "CREATE PACKAGE pkg_a AS END;");
+    PlsqlCode salesBody = new PlsqlCode("SALES", "CREATE PACKAGE BODY pkg_s AS END;");
+    data.getPackageSpecPlsql().add(hrSpec);
+    data.getPackageBodyPlsql().addAll(List.of(new PlsqlCode("HR", "CREATE PACKAGE BODY pkg_a AS END;"), salesBody));
+    data.getObjectDdlTimes().putAll(Map.of(
+            "HR|PACKAGE|PKG_A", 500L, "HR|PACKAGE BODY|PKG_A", 1000L, "SALES|PACKAGE BODY|PKG_S", 1000L));
+    // Exported before, with one change that is not exported yet
+    data.setChangedObjects(new HashSet<>(Set.of("SALES|PACKAGE BODY|PKG_T")));
+
+    Connection conn = mock(Connection.class);
+    PreparedStatement ddlTimes = mock(PreparedStatement.class);
+    ResultSet hrObjects = createMockResultSet(new String[]{"object_type", "object_name", "last_ddl_time"},
+            new Object[]{"PACKAGE", "PKG_A", 500L}, new Object[]{"PACKAGE BODY", "PKG_A", 2000L});
+    ResultSet salesObjects = createMockResultSet(new String[]{"object_type", "object_name", "last_ddl_time"},
+            new Object[]{"PACKAGE BODY", "PKG_S", 1000L});
+    when(ddlTimes.executeQuery()).thenReturn(hrObjects, salesObjects);
+    PreparedStatement source = mock(PreparedStatement.class);
+    ResultSet hrSource = createMockResultSet(new String[]{"name", "text"},
+            new Object[]{"PKG_A", "PACKAGE BODY pkg_a AS\n"}, new Object[]{"PKG_A", "BEGIN NULL; END;"});
+    when(source.executeQuery()).thenReturn(hrSource);
+    when(conn.prepareStatement(anyString())).thenAnswer(invocation ->
+            invocation.<String>getArgument(0).contains("FROM all_objects") ? ddlTimes : source);
+
+    IncrementalExtractor.Result result = IncrementalExtractor.extract(conn, data,
+            EnumSet.of(ParallelExtractor.Kind.PACKAGE_SPECS, ParallelExtractor.Kind.PACKAGE_BODIES));
+
+    // One DDL time query, one source scan for the changed package body of HR
+    verify(conn, times(2)).prepareStatement(anyString());
+    verify(source).setString(2, "PACKAGE BODY");
+    assertEquals(1, result.getChangedObjects());
+    assertEquals(List.of("package bodies of HR"), result.getReextracted());
+
+    assertEquals(List.of(hrSpec), data.getPackageSpecPlsql());
+    assertEquals(List.of("CREATE PACKAGE BODY pkg_a AS\nBEGIN NULL; END;", salesBody.code),
+            data.getPackageBodyPlsql().stream().map(unit -> unit.code).toList());
+    assertEquals(2000L, data.getObjectDdlTimes().get("HR|PACKAGE BODY|PKG_A"));
+    assertEquals("PKG_A", data.getPackageBodyPlsql().get(0).name);
+    assertEquals(Set.of("SALES|PACKAGE BODY|PKG_T", "HR|PACKAGE BODY|PKG_A"), data.getChangedObjects());
+  }
+
+  @Test
+  public void testWithoutBaselineEverythingIsParsedAgain() throws SQLException, IOException {
+    Everything data = new Everything();
+    data.getUserNames().add("HR");
+    data.setChangedObjects(new HashSet<>());
+
+    IncrementalExtractor.extract(mock(Connection.class), data, EnumSet.noneOf(ParallelExtractor.Kind.class));
+
+    assertNull(data.getChangedObjects());
+  }
+
+  @Test
+  public void testChangeKeyComparesNamesInUpperCase() {
+    assertEquals("HR|PACKAGE BODY|PKG_A", IncrementalExtractor.changeKey("hr", "PACKAGE BODY", "pkg_a"));
+    assertNull(IncrementalExtractor.changeKey("HR", "PACKAGE BODY", null));
+  }
+}
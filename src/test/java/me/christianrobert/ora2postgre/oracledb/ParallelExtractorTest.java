@@ -0,0 +1,62 @@
+package me.christianrobert.ora2postgre.oracledb;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.global.PlsqlCode;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for planning and merging the per-schema tasks of the parallel metadata extraction.
+ */
+public class ParallelExtractorTest {
+
+  @Test
+  public void testPlansTasksInKindOrderAndSkipsExcludedSchemas() {
+    List<ParallelExtractor.Task> tasks = ParallelExtractor.planTasks(
+            EnumSet.of(ParallelExtractor.Kind.INDEXES, ParallelExtractor.Kind.OBJECT_TYPE_SPECS, ParallelExtractor.Kind.TABLES),
+            List.of("HR", "CO_RES_CORE"));
+
+    assertEquals(List.of("table metadata of HR", "table metadata of CO_RES_CORE",
+                    "object type specs of HR",
+                    "indexes of HR", "indexes of CO_RES_CORE"),
+            tasks.stream().map(ParallelExtractor.Task::describe).toList());
+  }
+
+  @Test
+  public void testMergesResultsInTaskOrder() {
+    Everything data = new Everything();
+    List<ParallelExtractor.Task> tasks = ParallelExtractor.planTasks(
+            EnumSet.of(ParallelExtractor.Kind.PACKAGE_SPECS), List.of("HR", "SALES"));
+    PlsqlCode hr = new PlsqlCode("HR", "package hr_pkg");
+    PlsqlCode sales = new PlsqlCode("SALES", "package sales_pkg");
+    tasks.get(0).result = List.of(hr);
+    tasks.get(1).result = List.of(sales);
+
+    for (ParallelExtractor.Task task : tasks) {
+      ParallelExtractor.merge(data, task);
+    }
+
+    assertEquals(List.of(hr, sales), data.getPackageSpecPlsql());
+    assertTrue(data.getPackageBodyPlsql().isEmpty());
+  }
+
+  @Test
+  public void testFailedTaskLeavesModelUntouched() {
+    Everything data = new Everything();
+    ParallelExtractor extractor = new ParallelExtractor(2);
+
+    SQLException e = assertThrows(SQLException.class, () -> extractor.extract(data,
+            EnumSet.of(ParallelExtractor.Kind.TABLES, ParallelExtractor.Kind.VIEWS), List.of("HR", "SALES"),
+            () -> { throw new SQLException("listener refused the connection"); },
+            (completed, total, description) -> fail("no task should complete")));
+
+    assertTrue(e.getMessage().contains("listener refused the connection"));
+    assertTrue(data.getTableSql().isEmpty());
+    assertTrue(data.getViewDefinition().isEmpty());
+  }
+}
@@ -0,0 +1,66 @@
+package me.christianrobert.ora2postgre.oracledb;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for rebuilding PL/SQL units from one ordered ALL_SOURCE scan per schema.
+ */
+public class SourceScannerTest {
+
+  @Test
+  public void testRebuildsUnitsFromOrderedLines() throws SQLException {
+    Connection conn = mockSource(
+            new String[]{"PKG_A", "PACKAGE pkg_a AS -- first\n"},
+            new String[]{"PKG_A", "  PROCEDURE p;\n"},
+            new String[]{"PKG_A", "END pkg_a;\n"},
+            new String[]{"PKG_B", "PACKAGE pkg_b wrapped\n"},
+            new String[]{"PKG_B", "a000000\n"},
+            new String[]{"X=Y", "PACKAGE x AS END;\n"},
+            new String[]{"PKG_C", "PACKAGE pkg_c AS\n"},
+            new String[]{"PKG_C", null},
+            new String[]{"PKG_C", "END pkg_c;"});
+    List<String> units = new ArrayList<>();
+
+    SourceScanner.scan(conn, "HR", "PACKAGE", true, (name, sourceCode) -> units.add(name + ": " + sourceCode));
+
+    assertEquals(List.of(
+            "PKG_A: CREATE PACKAGE pkg_a AS \n  PROCEDURE p;\nEND pkg_a;",
+            "PKG_C: CREATE PACKAGE pkg_c AS\nEND pkg_c;"), units);
+    verify(conn, times(1)).prepareStatement(anyString());
+  }
+
+  @Test
+  public void testKeepsWrappedUnitsWhenAsked() throws SQLException {
+    Connection conn = mockSource(
+            new String[]{"T_ADDRESS", "TYPE t_address AS OBJECT (wrapped_flag NUMBER);"});
+    List<String> units = new ArrayList<>();
+
+    SourceScanner.scan(conn, "HR", "TYPE", false, (name, sourceCode) -> units.add(sourceCode));
+
+    assertEquals(List.of("CREATE TYPE t_address AS OBJECT (wrapped_flag NUMBER);"), units);
+  }
+
+  private Connection mockSource(String[]... lines) throws SQLException {
+    Connection conn = mock(Connection.class);
+    PreparedStatement ps = mock(PreparedStatement.class);
+    ResultSet rs = mock(ResultSet.class);
+    int[] row = {-1};
+    when(conn.prepareStatement(anyString())).thenReturn(ps);
+    when(ps.executeQuery()).thenReturn(rs);
+    when(rs.next()).thenAnswer(invocation -> ++row[0] < lines.length);
+    when(rs.getString("name")).thenAnswer(invocation -> lines[row[0]][0]);
+    when(rs.getString("text")).thenAnswer(invocation -> lines[row[0]][1]);
+    return conn;
+  }
+}
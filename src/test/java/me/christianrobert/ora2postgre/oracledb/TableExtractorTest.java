@@ -1,7 +1,16 @@
 package me.christianrobert.ora2postgre.oracledb;
 
 import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static me.christianrobert.ora2postgre.transfer.MockDataFactory.createMockResultSet;
+import static me.christianrobert.ora2postgre.transfer.MockDataFactory.createMockStatement;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
 
 /**
  * Test for TableExtractor column filtering functionality.
@@ -48,4 +57,59 @@ public class TableExtractorTest {
     assertTrue(testSql.contains("user_generated = 'YES'"),
             "SQL should only include user-generated columns");
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testExtractsSchemaWithFixedNumberOfQueries() throws SQLException {
+    Connection conn = mock(Connection.class);
+    when(conn.prepareStatement(anyString())).thenAnswer(invocation -> {
+      String sql = invocation.getArgument(0);
+      if (sql.startsWith("SELECT table_name, temporary")) {
+        return createMockStatement(createMockResultSet(new String[]{"table_name", "temporary"},
+                new Object[]{"DEPT", "N"}, new Object[]{"EMP", "N"}, new Object[]{"EMP_TMP", "Y"}));
+      } else if (sql.contains("FROM all_tab_cols")) {
+        return createMockStatement(createMockResultSet(new String[]{"table_name", "column_name", "data_type", "char_length",
+                        "data_precision", "data_scale", "nullable", "data_default"},
+                new Object[]{"DEPT", "ID", "NUMBER", 0, 10, 0, "N", null},
+                new Object[]{"EMP", "ID", "NUMBER", 0, 10, 0, "N", null},
+                new Object[]{"EMP", "DEPT_ID", "NUMBER", 0, null, null, "Y", " 1 "},
+                new Object[]{"EMP_TMP", "ID", "NUMBER", 0, null, null, "Y", null},
+                new Object[]{"EMP_VIEW", "ID", "NUMBER", 0, null, null, "Y", null}));
+      } else if (sql.contains("JOIN all_cons_columns rcc")) {
+        return createMockStatement(createMockResultSet(new String[]{"constraint_name", "column_name"},
+                new Object[]{"FK_EMP_DEPT", "ID"}));
+      } else if (sql.contains("FROM all_cons_columns")) {
+        return createMockStatement(createMockResultSet(new String[]{"constraint_name", "column_name"},
+                new Object[]{"FK_EMP_DEPT", "DEPT_ID"}, new Object[]{"PK_DEPT", "ID"}, new Object[]{"PK_EMP", "ID"}));
+      }
+      return createMockStatement(createMockResultSet(new String[]{"table_name", "constraint_name", "constraint_type", "status",
+                      "deferrable", "deferred", "validated", "index_name", "search_condition",
+                      "r_owner", "r_constraint_name", "delete_rule", "r_table_name"},
+              new Object[]{"DEPT", "PK_DEPT", "P", "ENABLED", "NOT DEFERRABLE", "IMMEDIATE", "VALIDATED", "PK_DEPT",
+                      null, null, null, null, null},
+              new Object[]{"EMP", "PK_EMP", "P", "ENABLED", "NOT DEFERRABLE", "IMMEDIATE", "VALIDATED", "PK_EMP",
+                      null, null, null, null, null},
+              new Object[]{"EMP", "FK_EMP_DEPT", "R", "ENABLED", "NOT DEFERRABLE", "IMMEDIATE", "VALIDATED", null,
+                      null, "HR", "PK_DEPT", "CASCADE", "DEPT"},
+              new Object[]{"EMP", "FK_GONE", "R", "ENABLED", "NOT DEFERRABLE", "IMMEDIATE", "VALIDATED", null,
+                      null, "HR", "PK_GONE", "NO ACTION", null}));
+    });
+
+    List<TableMetadata> tables = TableExtractor.extractAllTables(conn, List.of("HR"));
+
+    // One query each for tables, columns, constraint columns, referenced columns and constraints
+    verify(conn, times(5)).prepareStatement(anyString());
+    assertEquals(List.of("DEPT", "EMP"), tables.stream().map(TableMetadata::getTableName).toList());
+
+    TableMetadata emp = tables.get(1);
+    assertEquals(List.of("ID", "DEPT_ID"), emp.getColumns().stream().map(ColumnMetadata::getColumnName).toList());
+    assertEquals("1", emp.getColumns().get(1).getDefaultValue());
+    assertEquals(2, emp.getConstraints().size());
+
+    ConstraintMetadata foreignKey = emp.getConstraints().get(1);
+    assertEquals("FK_EMP_DEPT", foreignKey.getConstraintName());
+    assertEquals("DEPT", foreignKey.getReferencedTable());
+    assertEquals(List.of("DEPT_ID"), foreignKey.getColumnNames());
+    assertEquals(List.of("ID"), foreignKey.getReferencedColumns());
+    assertEquals("CASCADE", foreignKey.getDeleteRule());
+  }
+}
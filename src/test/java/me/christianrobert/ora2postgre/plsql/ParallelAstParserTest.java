@@ -0,0 +1,109 @@
+package me.christianrobert.ora2postgre.plsql;
+
+import me.christianrobert.ora2postgre.global.PlsqlCode;
+import me.christianrobert.ora2postgre.oracledb.IncrementalExtractor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for parsing PL/SQL units concurrently with results in unit order.
+ */
+public class ParallelAstParserTest {
+
+  @Test
+  public void testReturnsResultsInUnitOrder() throws InterruptedException {
+    List<Integer> units = IntStream.range(0, 50).boxed().toList();
+
+    List<Integer> results;
+    try (ParallelAstParser parser = new ParallelAstParser(4)) {
+      // Earlier units take longer, so they finish last
+      results = parser.parseAll("unit", units, String::valueOf, unit -> {
+        Thread.sleep(50 - unit);
+        return unit * 10;
+      });
+    }
+
+    assertEquals(units.stream().map(unit -> unit * 10).toList(), results);
+  }
+
+  @Test
+  public void testSkipsAndReportsFailedUnits() throws InterruptedException {
+    List<PlsqlCode> units = List.of(
+            new PlsqlCode("HR", "CREATE PACKAGE BODY pkg_a AS\nEND;"),
+            new PlsqlCode("HR", "\nCREATE PACKAGE BODY pkg_b AS\n  broken"),
+            new PlsqlCode("SALES", "CREATE PACKAGE BODY pkg_c AS\nEND;"));
+
+    try (ParallelAstParser parser = new ParallelAstParser(2)) {
+      List<String> results = parser.parseAll("package body", units, ParallelAstParser::describe, unit -> {
+        if (unit.code.contains("broken")) {
+          throw new IllegalStateException("no viable alternative at input 'broken'");
+        }
+        return unit.schema;
+      });
+
+      assertEquals(List.of("HR", "SALES"), results);
+      assertEquals(1, parser.getFailures().size());
+      ParallelAstParser.Failure failure = parser.getFailures().get(0);
+      assertEquals("package body", failure.getKind());
+      assertEquals("HR: CREATE PACKAGE BODY pkg_b AS", failure.getUnit());
+      assertEquals("IllegalStateException: no viable alternative at input 'broken'", failure.getMessage());
+    }
+  }
+
+  @Test
+  public void testParsesOnlyChangedUnitAndKeepsOtherResults() throws InterruptedException {
+    PlsqlCode pkgA = new PlsqlCode("HR", "PKG_A", "CREATE PACKAGE BODY pkg_a AS\nEND;");
+    PlsqlCode pkgB = new PlsqlCode("HR", "PKG_B", "CREATE PACKAGE BODY pkg_b AS\n  changed\nEND;");
+    PlsqlCode pkgC = new PlsqlCode("SALES", "PKG_C", "CREATE PACKAGE BODY pkg_c AS\nEND;");
+    // Parsed names keep the case of the source; PKG_D was dropped in Oracle
+    PlsqlCode oldA = new PlsqlCode("HR", "pkg_a", "old a");
+    PlsqlCode oldB = new PlsqlCode("HR", "pkg_b", "old b");
+    PlsqlCode oldC = new PlsqlCode("SALES", "pkg_c", "old c");
+    PlsqlCode oldD = new PlsqlCode("HR", "pkg_d", "old d");
+    List<PlsqlCode> results = new ArrayList<>(List.of(oldA, oldB, oldC, oldD));
+    List<PlsqlCode> parsedUnits = Collections.synchronizedList(new ArrayList<>());
+
+    try (ParallelAstParser parser = new ParallelAstParser(2)) {
+      parser.parseChanged("package body", List.of(pkgA, pkgB, pkgC),
+              unit -> IncrementalExtractor.changeKey(unit.schema, "PACKAGE BODY", unit.name),
+              results, ast -> IncrementalExtractor.changeKey(ast.schema, "PACKAGE BODY", ast.name),
+              Set.of("HR|PACKAGE BODY|PKG_B", "HR|PACKAGE BODY|PKG_D"), ParallelAstParser::describe, unit -> {
+                parsedUnits.add(unit);
+                return new PlsqlCode(unit.schema, unit.name.toLowerCase(), "new");
+              });
+    }
+
+    assertEquals(List.of(pkgB), parsedUnits);
+    assertEquals(3, results.size());
+    assertSame(oldA, results.get(0));
+    assertEquals("new", results.get(1).code);
+    assertSame(oldC, results.get(2));
+  }
+
+  @Test
+  public void testParsesAllUnitsWithoutChangedObjects() throws InterruptedException {
+    List<PlsqlCode> units = List.of(new PlsqlCode("HR", "PKG_A", "a"), new PlsqlCode("HR", "PKG_B", "b"));
+    List<String> results = new ArrayList<>(List.of("stale"));
+
+    try (ParallelAstParser parser = new ParallelAstParser(2)) {
+      parser.parseChanged("package body", units, unit -> unit.name, results, result -> result, null,
+              ParallelAstParser::describe, unit -> unit.code);
+    }
+
+    assertEquals(List.of("a", "b"), results);
+  }
+
+  @Test
+  public void testZeroParallelismUsesAvailableProcessors() {
+    try (ParallelAstParser parser = new ParallelAstParser(0)) {
+      assertEquals(Runtime.getRuntime().availableProcessors(), parser.getParallelism());
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package me.christianrobert.ora2postgre.postgre;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for grouping and ordering the statements of the parallel index and constraint build.
+ */
+public class ParallelDdlBuilderTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  public void testSplitsStatementsLikeSequentialExecutionAndDropsComments() {
+    List<String> statements = ParallelDdlBuilder.splitStatements(
+            "-- Index: IDX_A\nCREATE INDEX idx_a ON hr.emp (a);\n;\n\n"
+                    + "-- Constraint: CHK\n-- Table: HR.EMP\n\n"
+                    + "ALTER TABLE HR.EMP ADD CONSTRAINT CHK CHECK (code <> ';' /* ; */);\n;\n"
+                    + "-- Index not converted: IDX_B (function based)\n");
+
+    assertEquals(List.of("CREATE INDEX idx_a ON hr.emp (a)",
+            "ALTER TABLE HR.EMP ADD CONSTRAINT CHK CHECK (code <> ';' /* ; */)"), statements);
+    assertEquals(2, PostgresExecuter.splitStatements(
+            "CREATE FUNCTION f() RETURNS int AS $$ BEGIN RETURN 1; END; $$ LANGUAGE plpgsql\n;\nSELECT f()").size());
+  }
+
+  @Test
+  public void testFindsTableOfStatements() {
+    assertEquals("hr.emp", ParallelDdlBuilder.tableOf("CREATE UNIQUE INDEX idx_a ON hr.emp(a)"));
+    assertEquals("hr.order", ParallelDdlBuilder.tableOf("ALTER TABLE HR.\"ORDER\" ADD CONSTRAINT PK PRIMARY KEY (ID)"));
+    assertNull(ParallelDdlBuilder.tableOf("COMMENT ON TABLE hr.emp IS 'x'"));
+  }
+
+  @Test
+  public void testAddsForeignKeysNotValidAndValidatesThem() {
+    String fk = "ALTER TABLE HR.EMP ADD CONSTRAINT FK_DEPT FOREIGN KEY (DEPT_ID) REFERENCES HR.DEPT (ID)";
+
+    assertEquals(fk + " NOT VALID", ParallelDdlBuilder.notValid(fk));
+    assertEquals("ALTER TABLE HR.EMP VALIDATE CONSTRAINT FK_DEPT", ParallelDdlBuilder.validateStatement(fk));
+    assertNull(ParallelDdlBuilder.validateStatement("ALTER TABLE HR.EMP ADD CONSTRAINT PK PRIMARY KEY (ID)"));
+  }
+
+  @Test
+  public void testChainsKeepKeyOrderPerTable() throws IOException {
+    Path schema = tempDir.resolve("hr");
+    write(schema.resolve("step6indexes/hr_indexes.sql"),
+            "CREATE INDEX idx_emp_name ON hr.emp (name);\n;\nCREATE INDEX idx_dept_name ON hr.dept (name);\n;\n");
+    write(schema.resolve("step8constraints/foreign_keys/fk_dept.sql"),
+            "ALTER TABLE HR.EMP ADD CONSTRAINT FK_DEPT FOREIGN KEY (DEPT_ID) REFERENCES HR.DEPT (ID);");
+    write(schema.resolve("step8constraints/check_constraints/chk_sal.sql"),
+            "ALTER TABLE HR.EMP ADD CONSTRAINT CHK_SAL CHECK (SAL > 0);");
+    write(schema.resolve("step8constraints/unique_constraints/uk_mail.sql"),
+            "ALTER TABLE HR.EMP ADD CONSTRAINT UK_MAIL UNIQUE (MAIL);");
+    write(schema.resolve("step8constraints/primary_keys/pk_emp.sql"),
+            "ALTER TABLE HR.EMP ADD CONSTRAINT PK_EMP PRIMARY KEY (ID);");
+    write(schema.resolve("step8constraints/primary_keys/pk_dept.sql"),
+            "ALTER TABLE HR.DEPT ADD CONSTRAINT PK_DEPT PRIMARY KEY (ID);");
+    write(schema.resolve("EmpTABLE.sql"), "CREATE TABLE HR.EMP (ID NUMERIC);");
+
+    List<ParallelDdlBuilder.DdlStatement> statements = ParallelDdlBuilder.collectStatements(tempDir);
+    Map<String, List<ParallelDdlBuilder.DdlStatement>> chains = ParallelDdlBuilder.planTableChains(statements, false);
+    Map<String, List<ParallelDdlBuilder.DdlStatement>> foreignKeys = ParallelDdlBuilder.planTableChains(statements, true);
+
+    assertEquals(7, statements.size());
+    assertEquals(List.of("hr.emp", "hr.dept"), List.copyOf(chains.keySet()));
+    assertEquals(List.of(ParallelDdlBuilder.Kind.PRIMARY_KEY, ParallelDdlBuilder.Kind.UNIQUE,
+                    ParallelDdlBuilder.Kind.CHECK, ParallelDdlBuilder.Kind.INDEX),
+            chains.get("hr.emp").stream().map(statement -> statement.kind).toList());
+    assertEquals(1, foreignKeys.get("hr.emp").size());
+  }
+
+  @Test
+  public void testStatementsOfUnknownTablesRunAfterAllChains() throws Exception {
+    Path schema = tempDir.resolve("hr");
+    write(schema.resolve("step6indexes/hr_indexes.sql"),
+            "CREATE INDEX idx_emp_name ON hr.emp (name);\n;\nCOMMENT ON INDEX hr.idx_emp_name IS 'x';\n;\n"
+                    + "CREATE INDEX idx_dept_name ON hr.dept (name);\n;\n");
+    write(schema.resolve("step8constraints/primary_keys/pk_emp.sql"),
+            "ALTER TABLE HR.EMP ADD CONSTRAINT PK_EMP PRIMARY KEY (ID);");
+    write(schema.resolve("step8constraints/primary_keys/pk_dept.sql"),
+            "ALTER TABLE HR.DEPT ADD CONSTRAINT PK_DEPT PRIMARY KEY (ID);");
+
+    List<String> executed = Collections.synchronizedList(new ArrayList<>());
+    ParallelDdlBuilder.BuildSummary summary = new ParallelDdlBuilder(4).build(tempDir, () -> {
+      Statement statement = mock(Statement.class);
+      when(statement.execute(anyString())).thenAnswer(invocation -> executed.add(invocation.getArgument(0)));
+      Connection conn = mock(Connection.class);
+      when(conn.createStatement()).thenReturn(statement);
+      when(conn.getAutoCommit()).thenReturn(true);
+      when(conn.isValid(anyInt())).thenReturn(true);
+      return conn;
+    });
+
+    assertEquals(5, summary.getExecutedCount());
+    assertEquals(5, executed.size());
+    assertEquals("COMMENT ON INDEX hr.idx_emp_name IS 'x'", executed.get(4));
+  }
+
+  private static void write(Path file, String content) throws IOException {
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, content);
+  }
+}
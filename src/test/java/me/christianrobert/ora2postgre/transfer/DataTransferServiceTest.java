@@ -0,0 +1,20 @@
+package me.christianrobert.ora2postgre.transfer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the largest-first table ordering of the parallel transfer.
+ */
+public class DataTransferServiceTest {
+
+  @Test
+  public void testOrderLargestFirst() {
+    List<Integer> order = DataTransferService.orderLargestFirst(new long[]{10, 5000, 0, 300});
+
+    assertEquals(List.of(1, 3, 0, 2), order);
+  }
+}
@@ -5,11 +5,15 @@ import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
 import me.christianrobert.ora2postgre.oracledb.TableMetadata;
 import me.christianrobert.ora2postgre.plsql.ast.*;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 /**
@@ -125,6 +129,41 @@ public class MockDataFactory {
     return rs;
   }
 
+  /**
+   * Creates a mock ResultSet over the given rows, read by column label with getString,
+   * getInt (0 and wasNull for NULL) and getTimestamp (from epoch milliseconds)
+   */
+  public static ResultSet createMockResultSet(String[] labels, Object[]... rows) throws SQLException {
+    ResultSet rs = mock(ResultSet.class);
+    int[] row = {-1};
+    Object[] lastValue = {null};
+    List<String> columns = Arrays.asList(labels);
+    when(rs.next()).thenAnswer(invocation -> ++row[0] < rows.length);
+    when(rs.getString(anyString())).thenAnswer(invocation -> {
+      lastValue[0] = rows[row[0]][columns.indexOf(invocation.<String>getArgument(0))];
+      return lastValue[0] == null ? null : lastValue[0].toString();
+    });
+    when(rs.getInt(anyString())).thenAnswer(invocation -> {
+      lastValue[0] = rows[row[0]][columns.indexOf(invocation.<String>getArgument(0))];
+      return lastValue[0] == null ? 0 : ((Number) lastValue[0]).intValue();
+    });
+    when(rs.getTimestamp(anyString())).thenAnswer(invocation -> {
+      lastValue[0] = rows[row[0]][columns.indexOf(invocation.<String>getArgument(0))];
+      return lastValue[0] == null ? null : new Timestamp(((Number) lastValue[0]).longValue());
+    });
+    when(rs.wasNull()).thenAnswer(invocation -> lastValue[0] == null);
+    return rs;
+  }
+
+  /**
+   * Creates a mock PreparedStatement whose query returns the given ResultSet
+   */
+  public static PreparedStatement createMockStatement(ResultSet rs) throws SQLException {
+    PreparedStatement ps = mock(PreparedStatement.class);
+    when(ps.executeQuery()).thenReturn(rs);
+    return ps;
+  }
+
   /**
    * Simulates an Oracle Struct object for langdata2
    * In a real scenario, this would be a java.sql.Struct with attributes
@@ -0,0 +1,94 @@
+package me.christianrobert.ora2postgre.transfer;
+
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.transfer.copy.CopyTextWriter;
+import org.junit.jupiter.api.Test;
+import org.postgresql.copy.CopyIn;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the per-table row codec that reads columns by index.
+ */
+public class RowCodecTest {
+
+  private static final List<ColumnMetadata> COLUMNS = List.of(
+          new ColumnMetadata("ID", "NUMBER", 22, 0, 0, false, null),
+          new ColumnMetadata("NAME", "VARCHAR2", 100, 0, 0, true, null),
+          new ColumnMetadata("CREATED", "DATE", null, null, null, true, null));
+
+  @Test
+  public void testWritesTextRowByColumnIndex() throws SQLException {
+    ByteArrayOutputStream sent = new ByteArrayOutputStream();
+    CopyIn copyIn = mock(CopyIn.class);
+    doAnswer(invocation -> {
+      sent.write((byte[]) invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+      return null;
+    }).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+    when(copyIn.endCopy()).thenReturn(1L);
+
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getString(1)).thenReturn("7");
+    when(rs.getString(2)).thenReturn("a\tb");
+    when(rs.getTimestamp(3)).thenReturn(Timestamp.valueOf("2024-01-02 03:04:05"));
+
+    RowCodec codec = RowCodec.compile(COLUMNS);
+    CopyTextWriter writer = new CopyTextWriter(copyIn);
+    codec.writeTextRow(rs, writer);
+    writer.finish();
+
+    assertEquals("7\ta\\tb\t2024-01-02 03:04:05.0\n", sent.toString(StandardCharsets.UTF_8));
+    verify(rs, never()).getObject(anyString());
+    verify(rs, never()).getString(anyString());
+  }
+
+  @Test
+  public void testBindsParametersByColumnIndex() throws SQLException {
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getBigDecimal(1)).thenReturn(new BigDecimal("42"));
+    when(rs.getString(2)).thenReturn(null);
+    Timestamp created = Timestamp.valueOf("2024-01-02 03:04:05");
+    when(rs.getTimestamp(3)).thenReturn(created);
+    PreparedStatement stmt = mock(PreparedStatement.class);
+
+    RowCodec.compile(COLUMNS).bindParameters(rs, stmt);
+
+    verify(stmt).setBigDecimal(1, new BigDecimal("42"));
+    verify(stmt).setNull(2, Types.VARCHAR);
+    verify(stmt).setTimestamp(3, created);
+    verify(rs, never()).getObject(anyString());
+  }
+
+  @Test
+  public void testBinarySupportDependsOnAllColumns() {
+    assertTrue(RowCodec.compile(COLUMNS).supportsBinaryCopy());
+
+    List<ColumnMetadata> withXml = List.of(
+            new ColumnMetadata("ID", "NUMBER", 22, 0, 0, false, null),
+            new ColumnMetadata("DOC", "XMLTYPE", null, null, null, true, null));
+    assertFalse(RowCodec.compile(withXml).supportsBinaryCopy());
+  }
+
+  @Test
+  public void testParameterSetterWrapsFailuresWithColumnName() throws SQLException {
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getString(2)).thenThrow(new SQLException("boom"));
+    PreparedStatement stmt = mock(PreparedStatement.class);
+
+    ColumnParameterSetter setter = ParameterSetter.forColumn(COLUMNS.get(1));
+    SQLException e = assertThrows(SQLException.class, () -> setter.set(stmt, 1, rs, 2));
+    assertTrue(e.getMessage().contains("NAME"));
+  }
+}
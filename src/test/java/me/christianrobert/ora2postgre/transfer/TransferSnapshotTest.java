@@ -0,0 +1,53 @@
+package me.christianrobert.ora2postgre.transfer;
+
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.transfer.strategy.ObjectTypeMappingStrategy;
+import me.christianrobert.ora2postgre.transfer.strategy.StrategyOptions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for pinning transfer reads to one Oracle SCN.
+ */
+public class TransferSnapshotTest {
+
+  @Test
+  public void testFlashbackClauseOnlyWhilePinned() {
+    TransferSnapshot snapshot = new TransferSnapshot();
+    assertFalse(snapshot.isPinned());
+    assertEquals("", snapshot.flashbackClause());
+
+    snapshot.pin(1234567L);
+    assertTrue(snapshot.isPinned());
+    assertEquals(1234567L, snapshot.getScn());
+    assertEquals(" AS OF SCN 1234567", snapshot.flashbackClause());
+
+    snapshot.release();
+    assertNull(snapshot.getScn());
+    assertEquals("", snapshot.flashbackClause());
+  }
+
+  @Test
+  public void testRejectsInvalidScn() {
+    TransferSnapshot snapshot = new TransferSnapshot();
+    assertThrows(IllegalArgumentException.class, () -> snapshot.pin(0));
+    assertFalse(snapshot.isPinned());
+  }
+
+  @Test
+  public void testStrategySelectReadsAsOfPinnedScn() throws Exception {
+    TransferSnapshot snapshot = new TransferSnapshot();
+    ObjectTypeMappingStrategy strategy = new ObjectTypeMappingStrategy(StrategyOptions.defaults(), snapshot);
+    TableMetadata table = MockDataFactory.createLangTableMetadata();
+    Method buildSelectQuery = ObjectTypeMappingStrategy.class.getDeclaredMethod("buildSelectQuery", TableMetadata.class);
+    buildSelectQuery.setAccessible(true);
+
+    assertTrue(((String) buildSelectQuery.invoke(strategy, table)).endsWith("FROM USER_ROBERT.LANGTABLE"));
+
+    snapshot.pin(42L);
+    assertTrue(((String) buildSelectQuery.invoke(strategy, table)).endsWith("FROM USER_ROBERT.LANGTABLE AS OF SCN 42"));
+  }
+}
@@ -0,0 +1,90 @@
+package me.christianrobert.ora2postgre.transfer.bulkload;
+
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the bulk-load session settings and the UNLOGGED/LOGGED switch of target tables.
+ */
+public class BulkLoadTuningTest {
+
+  @Test
+  public void testConfiguresSessionWhenEnabled() throws SQLException {
+    Connection conn = mock(Connection.class);
+    Statement stmt = mock(Statement.class);
+    when(conn.createStatement()).thenReturn(stmt);
+    when(conn.getAutoCommit()).thenReturn(true);
+
+    assertSame(conn, new BulkLoadTuning(true, "2GB", false).configureSession(conn));
+
+    verify(stmt).execute("SET synchronous_commit = off");
+    verify(stmt).execute("SET maintenance_work_mem = '2GB'");
+  }
+
+  @Test
+  public void testDisabledLeavesSessionUntouched() throws SQLException {
+    Connection conn = mock(Connection.class);
+
+    BulkLoadTuning.disabled().configureSession(conn);
+
+    verify(conn, never()).createStatement();
+  }
+
+  @Test
+  public void testRejectsInvalidMemorySetting() {
+    assertThrows(IllegalArgumentException.class, () -> new BulkLoadTuning(true, "1GB'; DROP TABLE x; --", false));
+  }
+
+  @Test
+  public void testSwitchesOnlyPermanentTablesAndBack() throws SQLException {
+    TableMetadata logged = new TableMetadata("HR", "EMPLOYEES");
+    TableMetadata alreadyUnlogged = new TableMetadata("HR", "STAGING");
+
+    Connection conn = mock(Connection.class);
+    Statement stmt = mock(Statement.class);
+    PreparedStatement ps = mock(PreparedStatement.class);
+    ResultSet persistent = mockPersistence("p");
+    ResultSet unlogged = mockPersistence("u");
+    when(conn.createStatement()).thenReturn(stmt);
+    when(conn.getAutoCommit()).thenReturn(true);
+    when(conn.prepareStatement(anyString())).thenReturn(ps);
+    when(ps.executeQuery()).thenReturn(persistent, unlogged);
+
+    BulkLoadTuning tuning = new BulkLoadTuning(true, "1GB", true);
+    List<TableMetadata> switched = tuning.setUnlogged(conn, List.of(logged, alreadyUnlogged));
+
+    assertEquals(List.of(logged), switched);
+    verify(stmt).execute("ALTER TABLE HR.EMPLOYEES SET UNLOGGED");
+
+    assertTrue(tuning.setLogged(conn, switched).isEmpty());
+    verify(stmt).execute("ALTER TABLE HR.EMPLOYEES SET LOGGED");
+    verify(stmt, never()).execute("ALTER TABLE HR.STAGING SET LOGGED");
+  }
+
+  @Test
+  public void testUnloggedTablesCanBeTurnedOff() {
+    BulkLoadTuning tuning = new BulkLoadTuning(true, "1GB", true);
+
+    assertTrue(tuning.usesUnloggedTables());
+    assertFalse(tuning.withoutUnloggedTables().usesUnloggedTables());
+    assertTrue(tuning.withoutUnloggedTables().isEnabled());
+  }
+
+  private static ResultSet mockPersistence(String relpersistence) throws SQLException {
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.next()).thenReturn(true);
+    when(rs.getString(1)).thenReturn(relpersistence);
+    return rs;
+  }
+}
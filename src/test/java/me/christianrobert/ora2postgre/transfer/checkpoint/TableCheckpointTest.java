@@ -0,0 +1,63 @@
+package me.christianrobert.ora2postgre.transfer.checkpoint;
+
+import me.christianrobert.ora2postgre.transfer.chunk.TransferChunk;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for matching recorded checkpoints against a freshly planned set of chunks.
+ */
+public class TableCheckpointTest {
+
+  private final List<TransferChunk> plan = List.of(
+          TransferChunk.keyRange(0, "ID", null, 100L),
+          TransferChunk.keyRange(1, "ID", 100L, 200L),
+          TransferChunk.keyRange(2, "ID", 200L, null));
+
+  @Test
+  public void testEmptyCheckpointHasNoPlan() {
+    TableCheckpoint checkpoint = TableCheckpoint.empty();
+
+    assertFalse(checkpoint.isTableCompleted());
+    assertFalse(checkpoint.hasChunkPlan());
+    assertFalse(checkpoint.matchesPlan(plan));
+  }
+
+  @Test
+  public void testCompletedChunksOfUnchangedPlanAreResumed() {
+    Map<Integer, TableCheckpoint.ChunkState> chunks = new HashMap<>();
+    chunks.put(0, new TableCheckpoint.ChunkState(0, plan.get(0).getDescription(), true, 100));
+    chunks.put(1, new TableCheckpoint.ChunkState(1, plan.get(1).getDescription(), false, 0));
+    chunks.put(2, new TableCheckpoint.ChunkState(2, plan.get(2).getDescription(), true, 42));
+    TableCheckpoint checkpoint = new TableCheckpoint(false, 0, chunks);
+
+    assertTrue(checkpoint.matchesPlan(plan));
+    assertEquals(2, checkpoint.getCompletedChunkCount());
+    assertEquals(100, checkpoint.getCompletedChunk(plan.get(0)).getRowsTransferred());
+    assertNull(checkpoint.getCompletedChunk(plan.get(1)));
+    assertEquals(42, checkpoint.getCompletedChunk(plan.get(2)).getRowsTransferred());
+  }
+
+  @Test
+  public void testChangedPlanDoesNotMatch() {
+    Map<Integer, TableCheckpoint.ChunkState> chunks = new HashMap<>();
+    chunks.put(0, new TableCheckpoint.ChunkState(0, "ID < 50", true, 50));
+    chunks.put(1, new TableCheckpoint.ChunkState(1, "ID >= 50", false, 0));
+    TableCheckpoint checkpoint = new TableCheckpoint(false, 0, chunks);
+
+    assertTrue(checkpoint.hasChunkPlan());
+    assertFalse(checkpoint.matchesPlan(plan));
+  }
+
+  @Test
+  public void testInvalidControlTableNameIsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new TransferCheckpointStore("public.x; DROP TABLE y"));
+    assertEquals(TransferCheckpointStore.DEFAULT_CONTROL_TABLE,
+            new TransferCheckpointStore(TransferCheckpointStore.DEFAULT_CONTROL_TABLE).getControlTable());
+  }
+}
@@ -0,0 +1,107 @@
+package me.christianrobert.ora2postgre.transfer.chunk;
+
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.ConstraintMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.transfer.TransferSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for splitting tables into disjoint transfer chunks.
+ */
+public class ChunkPlannerTest {
+
+  @Test
+  public void testKeyRangeChunksCoverWholeKeySpace() throws SQLException {
+    TableMetadata table = createTableWithPrimaryKey("NUMBER");
+    Connection conn = mockMinMaxConnection(1, 1000);
+
+    List<TransferChunk> chunks = ChunkPlanner.planKeyRangeChunks(conn, table, 4, new TransferSnapshot());
+
+    assertEquals(4, chunks.size());
+    assertEquals(" WHERE ID < ?", chunks.get(0).getWhereClause());
+    assertEquals(" WHERE ID >= ?", chunks.get(3).getWhereClause());
+
+    // Each range starts where the previous one ends
+    for (int i = 1; i < chunks.size(); i++) {
+      Object previousUpper = chunks.get(i - 1).getBindValues().get(chunks.get(i - 1).getBindValues().size() - 1);
+      assertEquals(previousUpper, chunks.get(i).getBindValues().get(0));
+    }
+  }
+
+  @Test
+  public void testKeyRangeBoundsAreReadAtSnapshotScn() throws SQLException {
+    TableMetadata table = createTableWithPrimaryKey("NUMBER");
+    Connection conn = mockMinMaxConnection(1, 1000);
+    TransferSnapshot snapshot = new TransferSnapshot();
+    snapshot.pin(42L);
+
+    ChunkPlanner.planKeyRangeChunks(conn, table, 4, snapshot);
+
+    verify(conn).prepareStatement("SELECT MIN(ID), MAX(ID) FROM TEST_SCHEMA.BIG_TABLE AS OF SCN 42");
+  }
+
+  @Test
+  public void testKeyRangeChunksRequireNumericPrimaryKey() throws SQLException {
+    TableMetadata table = createTableWithPrimaryKey("VARCHAR2");
+    Connection conn = mockMinMaxConnection(1, 1000);
+
+    assertTrue(ChunkPlanner.planKeyRangeChunks(conn, table, 4, new TransferSnapshot()).isEmpty());
+    verify(conn, never()).prepareStatement(anyString());
+  }
+
+  @Test
+  public void testFallsBackToWholeTable() throws SQLException {
+    TableMetadata table = new TableMetadata("TEST_SCHEMA", "NO_KEY");
+    table.addColumn(new ColumnMetadata("NAME", "VARCHAR2", 100, null, null, true, null));
+    Connection conn = mock(Connection.class);
+    when(conn.prepareStatement(anyString())).thenThrow(new SQLException("ORA-00942: table or view does not exist"));
+
+    List<TransferChunk> chunks = ChunkPlanner.planChunks(conn, table, 8, new TransferSnapshot());
+
+    assertEquals(1, chunks.size());
+    assertEquals(TransferChunk.Kind.WHOLE_TABLE, chunks.get(0).getKind());
+    assertEquals("", chunks.get(0).getWhereClause());
+  }
+
+  @Test
+  public void testRowidRangesAreHalfOpen() {
+    TransferChunk chunk = TransferChunk.rowidRange(1, "AAAR3sAAEAAAACXAAA", "AAAR3sAAEAAAAD/AAA");
+
+    assertEquals(" WHERE ROWID >= CHARTOROWID(?) AND ROWID < CHARTOROWID(?)", chunk.getWhereClause());
+    assertEquals(List.of("AAAR3sAAEAAAACXAAA", "AAAR3sAAEAAAAD/AAA"), chunk.getBindValues());
+  }
+
+  private TableMetadata createTableWithPrimaryKey(String keyType) {
+    TableMetadata table = new TableMetadata("TEST_SCHEMA", "BIG_TABLE");
+    table.addColumn(new ColumnMetadata("ID", keyType, null, 10, 0, false, null));
+    table.addColumn(new ColumnMetadata("NAME", "VARCHAR2", 100, null, null, true, null));
+    ConstraintMetadata primaryKey = new ConstraintMetadata("PK_BIG_TABLE", ConstraintMetadata.PRIMARY_KEY);
+    primaryKey.addColumnName("ID");
+    table.addConstraint(primaryKey);
+    return table;
+  }
+
+  private Connection mockMinMaxConnection(long min, long max) throws SQLException {
+    Connection conn = mock(Connection.class);
+    PreparedStatement ps = mock(PreparedStatement.class);
+    ResultSet rs = mock(ResultSet.class);
+    when(conn.prepareStatement(anyString())).thenReturn(ps);
+    when(ps.executeQuery()).thenReturn(rs);
+    when(rs.next()).thenReturn(true);
+    when(rs.getBigDecimal(1)).thenReturn(BigDecimal.valueOf(min));
+    when(rs.getBigDecimal(2)).thenReturn(BigDecimal.valueOf(max));
+    return conn;
+  }
+}
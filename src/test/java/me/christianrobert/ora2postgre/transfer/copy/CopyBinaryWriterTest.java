@@ -0,0 +1,120 @@
+package me.christianrobert.ora2postgre.transfer.copy;
+
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.copy.CopyIn;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the COPY binary format writer and the per-column encoder selection.
+ */
+public class CopyBinaryWriterTest {
+
+  private static final int HEADER_LENGTH = 19;
+
+  private ByteArrayOutputStream sent;
+  private CopyIn copyIn;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    sent = new ByteArrayOutputStream();
+    copyIn = mock(CopyIn.class);
+    doAnswer(invocation -> {
+      sent.write((byte[]) invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+      return null;
+    }).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+  }
+
+  @Test
+  public void testHeaderRowAndTrailer() throws SQLException, IOException {
+    CopyBinaryWriter writer = new CopyBinaryWriter(copyIn);
+    writer.startRow(2);
+    writer.writeInt4(42);
+    writer.writeNull();
+    writer.endRow();
+    writer.finish();
+
+    DataInputStream data = new DataInputStream(new ByteArrayInputStream(sent.toByteArray()));
+    byte[] signature = new byte[11];
+    data.readFully(signature);
+    assertArrayEquals(new byte[]{'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0}, signature);
+    assertEquals(0, data.readInt());
+    assertEquals(0, data.readInt());
+
+    assertEquals(2, data.readShort());
+    assertEquals(4, data.readInt());
+    assertEquals(42, data.readInt());
+    assertEquals(-1, data.readInt());
+    assertEquals(-1, data.readShort());
+    assertEquals(0, data.available());
+    assertEquals(1, writer.getRowsWritten());
+  }
+
+  @Test
+  public void testNumericUsesBase10000Digits() throws SQLException, IOException {
+    CopyBinaryWriter writer = new CopyBinaryWriter(copyIn);
+    writer.writeNumeric(new BigDecimal("-12345.678"));
+
+    DataInputStream data = payload(writer);
+    assertEquals(14, data.readInt());      // 4 header shorts + 3 digits
+    assertEquals(3, data.readShort());     // ndigits
+    assertEquals(1, data.readShort());     // weight
+    assertEquals(0x4000, data.readShort()); // negative
+    assertEquals(3, data.readShort());     // dscale
+    assertEquals(1, data.readShort());
+    assertEquals(2345, data.readShort());
+    assertEquals(6780, data.readShort());
+  }
+
+  @Test
+  public void testTimestampAndDateRelativeToPostgresEpoch() throws SQLException, IOException {
+    CopyBinaryWriter writer = new CopyBinaryWriter(copyIn);
+    writer.writeTimestamp(LocalDateTime.of(2000, 1, 2, 0, 0, 1, 500_000));
+    writer.writeDate(LocalDate.of(1999, 12, 31));
+
+    DataInputStream data = payload(writer);
+    assertEquals(8, data.readInt());
+    assertEquals(86_400_000_000L + 1_000_500L, data.readLong());
+    assertEquals(4, data.readInt());
+    assertEquals(-1, data.readInt());
+  }
+
+  @Test
+  public void testEncoderSelectionFollowsTargetColumnType() {
+    assertNotNull(BinaryCopyEncoders.forColumn(column("NUMBER")));
+    assertNotNull(BinaryCopyEncoders.forColumn(column("VARCHAR2")));
+    assertNotNull(BinaryCopyEncoders.forColumn(column("DATE")));
+    assertNotNull(BinaryCopyEncoders.forColumn(column("TIMESTAMP(6)")));
+    assertNotNull(BinaryCopyEncoders.forColumn(column("FLOAT")));
+    assertNull(BinaryCopyEncoders.forColumn(column("XMLTYPE")));
+
+    assertNotNull(BinaryCopyEncoders.forColumns(List.of(column("NUMBER"), column("CHAR"))));
+    assertNull(BinaryCopyEncoders.forColumns(List.of(column("NUMBER"), column("XMLTYPE"))));
+  }
+
+  private DataInputStream payload(CopyBinaryWriter writer) throws SQLException, IOException {
+    // Finishing flushes everything written so far; the trailer follows the payload
+    writer.finish();
+    DataInputStream data = new DataInputStream(new ByteArrayInputStream(sent.toByteArray()));
+    data.skipBytes(HEADER_LENGTH);
+    return data;
+  }
+
+  private ColumnMetadata column(String dataType) {
+    return new ColumnMetadata("COL", dataType, null, null, null, true, null);
+  }
+}
@@ -0,0 +1,114 @@
+package me.christianrobert.ora2postgre.transfer.copy;
+
+import me.christianrobert.ora2postgre.transfer.progress.TransferProgress;
+import org.junit.jupiter.api.Test;
+import org.postgresql.copy.CopyIn;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the bounded buffer ring between the COPY encoder and the writer thread.
+ */
+public class CopyPipelineTest {
+
+  @Test
+  public void testSendsAllBuffersInOrder() throws SQLException {
+    ByteArrayOutputStream sent = new ByteArrayOutputStream();
+    CopyIn copyIn = mock(CopyIn.class);
+    doAnswer(invocation -> {
+      sent.write((byte[]) invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+      return null;
+    }).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+    when(copyIn.endCopy()).thenReturn(2000L);
+    TransferProgress progress = new TransferProgress("test");
+
+    // Small buffers force many hand-offs between the two threads
+    CopyTextWriter writer = new CopyTextWriter(new CopyPipeline(copyIn, mock(Connection.class), "test", 2, 64, progress));
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 2000; i++) {
+      writer.writeText("row " + i);
+      writer.writeText("a\tb");
+      writer.endRow();
+      expected.append("row ").append(i).append("\ta\\tb\n");
+    }
+
+    assertEquals(2000L, writer.finish());
+    assertEquals(expected.toString(), sent.toString(StandardCharsets.UTF_8));
+    assertEquals(0, progress.getPipelineQueueDepth());
+    assertTrue(progress.getPipelinePeakQueueDepth() >= 1);
+    assertTrue(progress.getPipelinePeakQueueDepth() <= 2, "Queue depth is bounded by the buffer count");
+  }
+
+  @Test
+  public void testWriterFailureReachesReader() throws SQLException {
+    CopyIn copyIn = mock(CopyIn.class);
+    doThrow(new SQLException("connection lost")).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+    when(copyIn.isActive()).thenReturn(true);
+
+    CopyBinaryWriter writer = new CopyBinaryWriter(new CopyPipeline(copyIn, mock(Connection.class), "test", 2, 64, null));
+    SQLException e = assertThrows(SQLException.class, () -> {
+      for (int i = 0; i < 100_000; i++) {
+        writer.startRow(1);
+        writer.writeInt8(i);
+        writer.endRow();
+      }
+    });
+    assertTrue(e.getMessage().contains("connection lost"));
+
+    writer.cancel();
+    verify(copyIn).cancelCopy();
+    verify(copyIn, never()).endCopy();
+  }
+
+  @Test
+  public void testCancelAbortsConnectionOfStuckWriter() throws Exception {
+    // A writer blocked in a socket write does not react to the interrupt, only to a closed socket
+    CountDownLatch socketClosed = new CountDownLatch(1);
+    CountDownLatch writing = new CountDownLatch(1);
+    CopyIn copyIn = mock(CopyIn.class);
+    doAnswer(invocation -> {
+      writing.countDown();
+      while (true) {
+        try {
+          if (socketClosed.await(10, TimeUnit.SECONDS)) {
+            throw new SQLException("socket closed");
+          }
+        } catch (InterruptedException e) {
+          // Ignored like a blocking socket write does
+        }
+      }
+    }).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+    Connection connection = mock(Connection.class);
+    doAnswer(invocation -> {
+      socketClosed.countDown();
+      return null;
+    }).when(connection).abort(any(Executor.class));
+
+    CopyPipeline pipeline = new CopyPipeline(copyIn, connection, "test", 2, 64, null);
+    pipeline.cancelTimeoutMs = 100;
+    byte[] buffer = pipeline.firstBuffer(64);
+    pipeline.send(buffer, 64);
+    assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+    pipeline.cancel();
+    verify(connection).abort(any(Executor.class));
+    // The connection lock is held by the writer, so the COPY is not cancelled through it
+    verify(copyIn, never()).cancelCopy();
+  }
+
+  @Test
+  public void testRequiresAtLeastTwoBuffers() {
+    CopyIn copyIn = mock(CopyIn.class);
+    assertThrows(IllegalArgumentException.class, () -> new CopyPipeline(copyIn, mock(Connection.class), "test", 1, 64, null));
+  }
+}
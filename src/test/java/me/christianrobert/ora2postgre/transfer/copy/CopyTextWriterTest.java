@@ -0,0 +1,124 @@
+package me.christianrobert.ora2postgre.transfer.copy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.copy.CopyIn;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for COPY text encoding into the reusable buffer.
+ */
+public class CopyTextWriterTest {
+
+  private ByteArrayOutputStream sent;
+  private CopyIn copyIn;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    sent = new ByteArrayOutputStream();
+    copyIn = mock(CopyIn.class);
+    doAnswer(invocation -> {
+      sent.write((byte[]) invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+      return null;
+    }).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+    when(copyIn.endCopy()).thenReturn(2L);
+    when(copyIn.isActive()).thenReturn(true);
+  }
+
+  @Test
+  public void testEscapesSpecialCharactersAndNulls() throws SQLException {
+    CopyTextWriter writer = new CopyTextWriter(copyIn);
+
+    writer.writeText("a\tb\\c\nd\re");
+    writer.writeNull();
+    writer.writeText("42");
+    writer.endRow();
+    writer.writeText(null);
+    writer.writeText("");
+    writer.endRow();
+
+    assertEquals(2L, writer.finish());
+    assertEquals("a\\tb\\\\c\\nd\\re\t\\N\t42\n\\N\t\n", sent.toString(StandardCharsets.UTF_8));
+    assertEquals(2, writer.getRowsWritten());
+  }
+
+  @Test
+  public void testEncodesUtf8AcrossBufferFlushes() throws SQLException {
+    // Tiny buffer forces many flushes in the middle of a value
+    CopyTextWriter writer = new CopyTextWriter(copyIn, 16);
+    String value = "Grüße € 😀 " + "x".repeat(100);
+
+    writer.writeText(value);
+    writer.endRow();
+    writer.finish();
+
+    assertArrayEquals((value + "\n").getBytes(StandardCharsets.UTF_8), sent.toByteArray());
+    verify(copyIn, atLeast(8)).writeToCopy(any(byte[].class), anyInt(), anyInt());
+  }
+
+  @Test
+  public void testPlainRunsAndEscapesAcrossBufferFlushes() throws SQLException {
+    // Plain ASCII runs longer than the buffer, broken up by escaped and multi-byte chars
+    CopyTextWriter writer = new CopyTextWriter(copyIn, 16);
+    String value = "x".repeat(15) + "\t" + "y".repeat(20) + "\\ü" + "z".repeat(16) + "😀\r";
+
+    writer.writeText(value);
+    writer.writeText("plain");
+    writer.endRow();
+    writer.finish();
+
+    String expected = "x".repeat(15) + "\\t" + "y".repeat(20) + "\\\\ü" + "z".repeat(16) + "😀\\r\tplain\n";
+    assertEquals(expected, sent.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testWritesByteaInEscapedHexFormat() throws SQLException {
+    CopyTextWriter writer = new CopyTextWriter(copyIn, 16);
+
+    writer.writeText("id");
+    writer.writeBytea(new byte[] {0x00, 0x7f, (byte) 0xff});
+    writer.appendBytea(new byte[] {0x10, 0x20, 0x30}, 1, 2);
+    writer.writeBytea(null);
+    writer.endRow();
+    writer.finish();
+
+    // Backslash of the bytea \x prefix is escaped for COPY text format
+    assertEquals("id\t\\\\x007fff2030\t\\N\n", sent.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testStreamsLobValuesInChunks() throws SQLException {
+    CopyTextWriter writer = new CopyTextWriter(copyIn, 16);
+    // The surrogate pair straddles the end of the first 32K read chunk
+    String text = "a".repeat(32 * 1024 - 1) + "😀\tb";
+
+    writer.writeCharacterStream(new StringReader(text));
+    writer.writeBinaryStream(new ByteArrayInputStream(new byte[]{0x00, 0x7f, (byte) 0xff}));
+    writer.writeCharacterStream(null);
+    writer.endRow();
+    writer.finish();
+
+    String expected = "a".repeat(32 * 1024 - 1) + "😀\\tb\t\\\\x007fff\t\\N\n";
+    assertEquals(expected, sent.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testCancelAbortsActiveCopy() throws SQLException {
+    CopyTextWriter writer = new CopyTextWriter(copyIn);
+
+    writer.writeText("partial");
+    writer.cancel();
+
+    verify(copyIn).cancelCopy();
+    verify(copyIn, never()).endCopy();
+  }
+}
@@ -0,0 +1,92 @@
+package me.christianrobert.ora2postgre.transfer.delta;
+
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.ConstraintMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.transfer.chunk.TransferChunk;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the statements that read changed rows from Oracle and apply them to PostgreSQL.
+ */
+public class DeltaQueryBuilderTest {
+
+  private TableMetadata createTable() {
+    TableMetadata table = new TableMetadata("hr", "employees");
+    table.addColumn(new ColumnMetadata("id", "NUMBER", 0, 10, 0, false, null));
+    table.addColumn(new ColumnMetadata("full_name", "VARCHAR2", 100, null, null, true, null));
+    table.addColumn(new ColumnMetadata("updated_at", "DATE", 0, null, null, true, null));
+    ConstraintMetadata primaryKey = new ConstraintMetadata("employees_pk", ConstraintMetadata.PRIMARY_KEY);
+    primaryKey.addColumnName("ID");
+    table.addConstraint(primaryKey);
+    return table;
+  }
+
+  @Test
+  public void testPrimaryKeyColumnsUseMetadataNames() {
+    List<ColumnMetadata> keyColumns = DeltaQueryBuilder.primaryKeyColumns(createTable());
+
+    assertEquals(1, keyColumns.size());
+    assertEquals("id", keyColumns.get(0).getColumnName());
+    assertTrue(DeltaQueryBuilder.primaryKeyColumns(new TableMetadata("hr", "log")).isEmpty());
+  }
+
+  @Test
+  public void testChangedRowsQueries() {
+    TableMetadata table = createTable();
+
+    assertEquals("SELECT id, full_name, updated_at FROM hr.employees WHERE ORA_ROWSCN > ?",
+            DeltaQueryBuilder.buildSelectQuery(table, DeltaQueryBuilder.rowscnPredicate()));
+    assertEquals("SELECT id, full_name, updated_at FROM hr.employees WHERE updated_at >= ?",
+            DeltaQueryBuilder.buildSelectQuery(table,
+                    DeltaQueryBuilder.lastModifiedPredicate(DeltaQueryBuilder.findColumn(table, "UPDATED_AT"))));
+  }
+
+  @Test
+  public void testUpsertSkipsUnchangedRows() {
+    TableMetadata table = createTable();
+
+    assertEquals("INSERT INTO hr.employees AS target (id, full_name, updated_at) VALUES (?, ?, ?)"
+                    + " ON CONFLICT (id) DO UPDATE SET full_name = EXCLUDED.full_name, updated_at = EXCLUDED.updated_at"
+                    + " WHERE (target.full_name, target.updated_at) IS DISTINCT FROM (EXCLUDED.full_name, EXCLUDED.updated_at)",
+            DeltaQueryBuilder.buildUpsert(table, DeltaQueryBuilder.primaryKeyColumns(table)));
+  }
+
+  @Test
+  public void testUpsertOfKeyOnlyTableDoesNothingOnConflict() {
+    TableMetadata table = new TableMetadata("hr", "tags");
+    table.addColumn(new ColumnMetadata("tag", "VARCHAR2", 30, null, null, false, null));
+
+    assertEquals("INSERT INTO hr.tags AS target (tag) VALUES (?) ON CONFLICT (tag) DO NOTHING",
+            DeltaQueryBuilder.buildUpsert(table, table.getColumns()));
+  }
+
+  @Test
+  public void testDeleteMissingKeepsRangePredicateBeforeKeyTable() {
+    TableMetadata table = createTable();
+    ColumnMetadata key = DeltaQueryBuilder.primaryKeyColumns(table).get(0);
+    TransferChunk range = TransferChunk.keyRange(1, "id", 100L, 200L);
+
+    assertEquals("DELETE FROM hr.employees AS target WHERE id >= ? AND id < ?"
+                    + " AND NOT EXISTS (SELECT 1 FROM delta_source_keys WHERE key_value = target.id)",
+            DeltaQueryBuilder.buildDeleteMissing(table, key, range.getPredicate()));
+    assertEquals("DELETE FROM hr.employees AS target"
+                    + " WHERE NOT EXISTS (SELECT 1 FROM delta_source_keys WHERE key_value = target.id)",
+            DeltaQueryBuilder.buildDeleteMissing(table, key, TransferChunk.wholeTable().getPredicate()));
+    assertEquals("numeric", DeltaQueryBuilder.keyColumnType(key));
+    assertNull(DeltaQueryBuilder.keyColumnType(table.getColumns().get(2)));
+    assertEquals("CREATE TEMP TABLE IF NOT EXISTS delta_source_keys (key_value numeric) ON COMMIT DROP",
+            DeltaQueryBuilder.buildCreateKeyTable("numeric"));
+  }
+
+  @Test
+  public void testParsesDeltaModes() {
+    assertEquals(DeltaMode.LAST_MODIFIED, DeltaMode.parse("last-modified"));
+    assertEquals(DeltaMode.ROWSCN, DeltaMode.parse(" rowscn "));
+    assertThrows(IllegalArgumentException.class, () -> DeltaMode.parse("TRIGGER"));
+  }
+}
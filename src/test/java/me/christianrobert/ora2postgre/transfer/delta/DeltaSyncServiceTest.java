@@ -0,0 +1,82 @@
+package me.christianrobert.ora2postgre.transfer.delta;
+
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.ConstraintMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the HASH comparison of delta sync.
+ */
+public class DeltaSyncServiceTest {
+
+  private TableMetadata createTable() {
+    TableMetadata table = new TableMetadata("hr", "prices");
+    table.addColumn(new ColumnMetadata("id", "NUMBER", 0, 10, 0, false, null));
+    table.addColumn(new ColumnMetadata("price", "FLOAT", 0, 126, null, true, null));
+    table.addColumn(new ColumnMetadata("rate", "DECIMAL", 0, 10, 4, true, null));
+    ConstraintMetadata primaryKey = new ConstraintMetadata("prices_pk", ConstraintMetadata.PRIMARY_KEY);
+    primaryKey.addColumnName("ID");
+    table.addConstraint(primaryKey);
+    return table;
+  }
+
+  @Test
+  public void testHashModeResyncsRangeChangedOnlyInFloatAndDecimalColumns() throws SQLException {
+    DeltaSyncService service = new DeltaSyncService(DeltaMode.HASH, null, false, 1, mock(DeltaWatermarkStore.class));
+    // Same key and row count in both databases; only the sums of price and rate differ
+    Connection oracleConn = connection(new BigDecimal[]{BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE});
+    Connection postgresConn = connection(new BigDecimal[]{BigDecimal.ONE, BigDecimal.TEN, BigDecimal.TEN});
+
+    TableDeltaResult result = service.syncTable(createTable(), oracleConn, postgresConn);
+
+    assertEquals(TableDeltaResult.Status.APPLIED, result.getStatus(), result.toString());
+    assertEquals(1, result.getRangesResynced());
+    assertEquals(1, result.getRowsRead());
+    verify(postgresConn).commit();
+  }
+
+  @Test
+  public void testHashModeHashesAllPrimitiveColumns() {
+    assertTrue(DeltaSyncService.unhashableColumns(createTable()).isEmpty());
+  }
+
+  /**
+   * Connection answering checksum queries with one row and the given column sums, the changed
+   * rows query with one row, and upserts with one updated row.
+   */
+  private Connection connection(BigDecimal[] columnSums) throws SQLException {
+    Connection conn = mock(Connection.class);
+    when(conn.getAutoCommit()).thenReturn(true);
+    when(conn.prepareStatement(anyString())).thenAnswer(invocation -> {
+      String sql = invocation.getArgument(0);
+      PreparedStatement ps = mock(PreparedStatement.class);
+      ResultSet rs = mock(ResultSet.class);
+      when(ps.executeQuery()).thenReturn(rs);
+      when(ps.executeBatch()).thenReturn(new int[]{1});
+      when(rs.next()).thenReturn(true, false);
+      if (sql.startsWith("SELECT COUNT(*)")) {
+        int sums = sql.split("SUM\\(").length - 1;
+        when(rs.getLong(1)).thenReturn(1L);
+        when(rs.getBigDecimal(anyInt())).thenAnswer(column -> {
+          int index = (int) column.getArgument(0) - 2;
+          return index < sums ? columnSums[index] : null;
+        });
+      }
+      return ps;
+    });
+    return conn;
+  }
+}
@@ -0,0 +1,98 @@
+package me.christianrobert.ora2postgre.transfer.progress;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the per-table and per-worker fetch/encode/send metrics and their Prometheus rendering.
+ */
+public class TransferMetricsTest {
+
+  private static final long MS = 1_000_000;
+
+  @Test
+  public void testBatchesAggregateToWorkerSessionAndTable() {
+    TransferProgress session = new TransferProgress("s1");
+    TransferProgress worker1 = session.createWorkerProgress(1);
+    TransferProgress worker2 = session.createWorkerProgress(2);
+
+    worker1.recordBatch("HR.EMP", 1000, 50_000, 30 * MS, 10 * MS, 5 * MS, 0, 45 * MS);
+    worker2.recordBatch("HR.EMP", 500, 25_000, 20 * MS, 5 * MS, 80 * MS, 10 * MS, 115 * MS);
+    worker2.recordBatch("HR.DEPT", 10, 400, 1 * MS, 1 * MS, 1 * MS, 0, 3 * MS);
+
+    assertEquals(50_000, worker1.getBytesTransferred());
+    assertEquals(81, worker2.getSendTimeMs());
+    assertEquals(75_400, session.getBytesTransferred());
+    assertEquals(51, session.getFetchTimeMs());
+
+    TableTransferMetrics emp = session.getTableMetrics("HR.EMP");
+    assertEquals(1500, emp.getRows());
+    assertEquals(75_000, emp.getBytes());
+    assertEquals(50, emp.getFetchTimeMs());
+    assertEquals(15, emp.getEncodeTimeMs());
+    assertEquals(85, emp.getSendTimeMs());
+    assertEquals("send", emp.getBottleneck());
+    assertEquals(115, emp.getActiveTimeMs());
+    assertEquals(2, emp.getBatchLatency().getCount());
+
+    // Workers resolve table metrics through the session
+    assertSame(emp, worker1.getTableMetrics("HR.EMP"));
+    assertEquals(2, session.getTableMetrics().size());
+    assertEquals("HR.DEPT", session.getTableMetrics().get(0).getTableName());
+  }
+
+  @Test
+  public void testBatchTimerReportsDeltasOfRunningTotals() {
+    TransferProgress session = new TransferProgress("s2");
+    BatchTimer timer = new BatchTimer(session, "HR.EMP");
+
+    timer.completeBatch(100, 4_000, 2 * MS);
+    timer.completeBatch(250, 10_000, 5 * MS);
+
+    TableTransferMetrics emp = session.getTableMetrics("HR.EMP");
+    assertEquals(250, emp.getRows());
+    assertEquals(10_000, emp.getBytes());
+    assertEquals(5, emp.getSendTimeMs());
+    assertEquals(0, emp.getFetchTimeMs());
+    assertEquals(2, emp.getBatchLatency().getCount());
+  }
+
+  @Test
+  public void testLatencyHistogramBuckets() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(MS / 2);     // le 1ms
+    histogram.record(MS);         // le 1ms, bounds are inclusive
+    histogram.record(7 * MS);     // le 10ms
+    histogram.record(60_000 * MS); // above the last bound
+
+    long[] cumulative = histogram.getCumulativeCounts();
+    assertEquals(LatencyHistogram.BUCKET_BOUNDS_MS.length + 1, cumulative.length);
+    assertEquals(2, cumulative[0]);
+    assertEquals(2, cumulative[1]);
+    assertEquals(3, cumulative[2]);
+    assertEquals(4, cumulative[cumulative.length - 1]);
+    assertEquals(1, histogram.getPercentileBoundMs(0.5));
+    assertEquals(-1, histogram.getPercentileBoundMs(0.99));
+  }
+
+  @Test
+  public void testPrometheusOutput() {
+    TransferProgress session = new TransferProgress("s3");
+    session.initializeTransfer(2, 1000);
+    TransferProgress worker = session.createWorkerProgress(1);
+    worker.recordBatch("HR.\"Mixed\"", 100, 2_000, 40 * MS, 20 * MS, 10 * MS, 0, 70 * MS);
+
+    String text = PrometheusMetricsWriter.write(session);
+
+    assertTrue(text.contains("# TYPE ora2pg_transfer_rows_total counter\n"));
+    assertTrue(text.contains("ora2pg_transfer_tables_total{session=\"s3\"} 2\n"));
+    assertTrue(text.contains("ora2pg_transfer_rows_total{table=\"HR.\\\"Mixed\\\"\"} 100\n"));
+    assertTrue(text.contains("ora2pg_transfer_phase_seconds_total{table=\"HR.\\\"Mixed\\\"\",phase=\"fetch\"} 0.040\n"));
+    assertTrue(text.contains("ora2pg_transfer_batch_latency_seconds_bucket{table=\"HR.\\\"Mixed\\\"\",le=\"0.050\"} 0\n"));
+    assertTrue(text.contains("ora2pg_transfer_batch_latency_seconds_bucket{table=\"HR.\\\"Mixed\\\"\",le=\"0.100\"} 1\n"));
+    assertTrue(text.contains("ora2pg_transfer_batch_latency_seconds_count{table=\"HR.\\\"Mixed\\\"\"} 1\n"));
+    assertTrue(text.contains("ora2pg_transfer_worker_phase_seconds_total{worker=\"1\",phase=\"encode\"} 0.020\n"));
+    assertEquals("", PrometheusMetricsWriter.write(null));
+  }
+}
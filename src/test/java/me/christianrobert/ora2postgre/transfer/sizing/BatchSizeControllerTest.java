@@ -0,0 +1,87 @@
+package me.christianrobert.ora2postgre.transfer.sizing;
+
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for sizing fetches and batches from row width and observed throughput.
+ */
+public class BatchSizeControllerTest {
+
+  private static final long SECOND = 1_000_000_000L;
+
+  @Test
+  public void testEstimatesRowWidthFromColumnMetadata() {
+    TableMetadata table = new TableMetadata("HR", "DOCS");
+    table.addColumn(new ColumnMetadata("TITLE", "VARCHAR2", 100, null, null, true, null));
+    table.addColumn(new ColumnMetadata("ID", "NUMBER", 0, 10, 0, false, null));
+    table.addColumn(new ColumnMetadata("CREATED", "DATE", 0, null, null, true, null));
+    table.addColumn(new ColumnMetadata("BODY", "CLOB", 0, null, null, true, null));
+
+    assertEquals(100 + 22 + 8 + 32 * 1024, BatchSizeController.estimateRowBytes(table));
+  }
+
+  @Test
+  public void testMemoryBudgetBoundsInitialSize() {
+    // 1 MB for a fetch plus a batch of 1000-byte rows
+    BatchSizeController sizer = BatchSizeController.adaptive(1000, 1024 * 1024, 10, 100_000);
+
+    assertEquals(524, sizer.getBatchSize());
+    assertEquals(524, sizer.getFetchSize());
+  }
+
+  @Test
+  public void testGrowsWhileThroughputImprovesAndStepsBack() {
+    BatchSizeController sizer = BatchSizeController.adaptive(100, 1024L * 1024 * 1024, 100, 100_000);
+    assertEquals(5000, sizer.getBatchSize());
+
+    assertTrue(sizer.recordBatch(5000, 0, SECOND));
+    assertEquals(7500, sizer.getBatchSize());
+
+    assertTrue(sizer.recordBatch(7500, 0, SECOND));
+    assertEquals(11250, sizer.getBatchSize());
+    assertEquals(BatchSizeController.MAX_FETCH_SIZE, sizer.getFetchSize());
+
+    // Slower than before: back to the last good size, and stay there
+    assertTrue(sizer.recordBatch(11250, 0, 2 * SECOND));
+    assertEquals(7500, sizer.getBatchSize());
+    assertFalse(sizer.recordBatch(7500, 0, SECOND / 10));
+    assertEquals(7500, sizer.getBatchSize());
+  }
+
+  @Test
+  public void testMeasuredRowWidthShrinksSize() {
+    // Metadata suggests 10 bytes per row, but rows turn out to be 10000 bytes wide
+    BatchSizeController sizer = BatchSizeController.adaptive(10, 10L * 1024 * 1024, 1, 100_000);
+    assertEquals(5000, sizer.getBatchSize());
+
+    sizer.recordBatch(5000, 5000L * 10_000, SECOND);
+
+    assertEquals(10_000, sizer.getAverageRowBytes());
+    assertEquals(524, sizer.getBatchSize());
+  }
+
+  @Test
+  public void testFixedSizesNeverChange() {
+    BatchSizeController sizer = BatchSizeController.fixed(5000, 10000);
+
+    assertFalse(sizer.recordBatch(10000, 1_000_000, SECOND));
+    assertEquals(5000, sizer.getFetchSize());
+    assertEquals(10000, sizer.getBatchSize());
+  }
+
+  @Test
+  public void testRowLimitCapsAdaptiveSize() {
+    TableMetadata table = new TableMetadata("HR", "IDS");
+    table.addColumn(new ColumnMetadata("ID", "NUMBER", 0, 10, 0, false, null));
+
+    BatchSizeController sizer = BatchSizing.adaptive(64L * 1024 * 1024, 500, 50_000)
+            .controllerFor(table, 5000, 10000, 100);
+
+    assertEquals(100, sizer.getBatchSize());
+    assertEquals(100, sizer.getFetchSize());
+  }
+}
@@ -0,0 +1,90 @@
+package me.christianrobert.ora2postgre.transfer.verify;
+
+import me.christianrobert.ora2postgre.oracledb.ColumnMetadata;
+import me.christianrobert.ora2postgre.oracledb.TableMetadata;
+import me.christianrobert.ora2postgre.transfer.chunk.TransferChunk;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the checksum queries compared between Oracle and PostgreSQL.
+ */
+public class ChecksumQueryBuilderTest {
+
+  private TableMetadata createTable() {
+    TableMetadata table = new TableMetadata("hr", "employees");
+    table.addColumn(new ColumnMetadata("id", "NUMBER", 0, 10, 0, false, null));
+    table.addColumn(new ColumnMetadata("full_name", "VARCHAR2", 100, null, null, true, null));
+    table.addColumn(new ColumnMetadata("hired", "DATE", 0, null, null, true, null));
+    table.addColumn(new ColumnMetadata("photo", "BLOB", 0, null, null, true, null));
+    table.addColumn(new ColumnMetadata("salary", "BINARY_DOUBLE", 0, null, null, true, null));
+    return table;
+  }
+
+  @Test
+  public void testLobAndFloatingPointColumnsAreNotHashed() {
+    List<ColumnMetadata> columns = ChecksumQueryBuilder.hashableColumns(createTable());
+
+    assertEquals(List.of("id", "full_name", "hired"), columns.stream().map(ColumnMetadata::getColumnName).toList());
+  }
+
+  @Test
+  public void testQueriesHashTheSameColumnsOverTheSameRange() {
+    TableMetadata table = createTable();
+    List<ColumnMetadata> columns = ChecksumQueryBuilder.hashableColumns(table);
+    TransferChunk range = TransferChunk.keyRange(1, "id", 100L, 200L);
+
+    String oracle = ChecksumQueryBuilder.buildQuery(ChecksumQueryBuilder.Dialect.ORACLE, table, columns, "id", range);
+    String postgres = ChecksumQueryBuilder.buildQuery(ChecksumQueryBuilder.Dialect.POSTGRES, table, columns, "id", range);
+
+    for (String sql : List.of(oracle, postgres)) {
+      assertTrue(sql.startsWith("SELECT COUNT(*), SUM("), sql);
+      assertTrue(sql.endsWith(" FROM hr.employees WHERE id >= ? AND id < ?"), sql);
+      assertEquals(3, sql.split("SUM\\(").length - 1, sql);
+    }
+    assertTrue(oracle.contains("STANDARD_HASH(TO_CHAR(id, 'TM9', 'NLS_NUMERIC_CHARACTERS=''.,''') || '|' || "
+            + "CASE WHEN full_name IS NULL THEN 'N'"), oracle);
+    assertTrue(oracle.contains("TO_CHAR(hired, 'YYYY-MM-DD HH24:MI:SS')"), oracle);
+    assertTrue(postgres.contains("md5(regexp_replace(trim_scale(id::numeric)::text, '^(-?)0\\.', '\\1.') || '|' || "
+            + "CASE WHEN full_name IS NULL THEN 'N' ELSE upper(md5(full_name::text)) END)"), postgres);
+    assertTrue(postgres.contains("to_char(hired, 'YYYY-MM-DD HH24:MI:SS')"), postgres);
+  }
+
+  @Test
+  public void testOracleNumbersUseADecimalPointWhateverTheSessionLocale() {
+    ColumnMetadata amount = new ColumnMetadata("amount", "NUMBER", 0, 10, 2, true, null);
+
+    assertEquals("TO_CHAR(amount, 'TM9', 'NLS_NUMERIC_CHARACTERS=''.,''')",
+            ChecksumQueryBuilder.normalizedValue(ChecksumQueryBuilder.Dialect.ORACLE, amount, "amount"));
+  }
+
+  @Test
+  public void testTablesWithoutKeyHashValuesOnly() {
+    TableMetadata table = createTable();
+    String sql = ChecksumQueryBuilder.buildQuery(ChecksumQueryBuilder.Dialect.POSTGRES, table,
+            ChecksumQueryBuilder.hashableColumns(table), null, TransferChunk.wholeTable());
+
+    assertFalse(sql.contains("'|'"), sql);
+    assertTrue(sql.endsWith(" FROM hr.employees"), sql);
+  }
+
+  @Test
+  public void testChecksumComparisonReportsDifferingColumns() {
+    ChunkChecksum source = new ChunkChecksum(3, new BigDecimal[]{
+            new BigDecimal("100"), new BigDecimal("200"), null});
+    ChunkChecksum sameValues = new ChunkChecksum(3, new BigDecimal[]{
+            new BigDecimal("100.0"), new BigDecimal("200"), null});
+    ChunkChecksum changedName = new ChunkChecksum(3, new BigDecimal[]{
+            new BigDecimal("100"), new BigDecimal("201"), null});
+
+    assertTrue(source.matches(sameValues));
+    assertFalse(source.matches(changedName));
+    assertEquals(List.of(1), source.differingColumns(changedName));
+    assertFalse(source.matches(new ChunkChecksum(2, new BigDecimal[]{
+            new BigDecimal("100"), new BigDecimal("200"), null})));
+  }
+}
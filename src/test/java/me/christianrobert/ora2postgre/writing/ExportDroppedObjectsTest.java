@@ -0,0 +1,55 @@
+package me.christianrobert.ora2postgre.writing;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExportDroppedObjectsTest {
+
+  @Test
+  public void testDeletesTheFilesOfDroppedObjectsIgnoringCase(@TempDir Path tempDir) throws IOException {
+    Path viewSpec = write(tempDir, "hr/step1viewspec/Emp_vVIEW.sql");
+    Path viewBody = write(tempDir, "hr/step4viewbody/Emp_vVIEW.sql");
+    Path packageSpec = write(tempDir, "hr/step3packagespec/pkg_a.sql");
+    Path packageBody = write(tempDir, "hr/step6packagebody/pkg_a.sql");
+    Path triggerFunction = write(tempDir, "hr/step7atriggerfunctions/a_trg_emp_function.sql");
+    Path triggerDefinition = write(tempDir, "hr/step7btriggerdefinitions/b_trg_emp_trigger.sql");
+    Path otherPackage = write(tempDir, "hr/step3packagespec/pkg_b.sql");
+
+    ExportDroppedObjects.deleteFiles(tempDir.toString(),
+            List.of("HR|VIEW|EMP_V", "HR|PACKAGE|PKG_A", "HR|PACKAGE BODY|PKG_A", "HR|TRIGGER|TRG_EMP"));
+
+    assertFalse(Files.exists(viewSpec));
+    assertFalse(Files.exists(viewBody));
+    assertFalse(Files.exists(packageSpec));
+    assertFalse(Files.exists(packageBody));
+    assertFalse(Files.exists(triggerFunction));
+    assertFalse(Files.exists(triggerDefinition));
+    assertTrue(Files.exists(otherPackage));
+  }
+
+  @Test
+  public void testDroppedBodyKeepsTheSpecFiles(@TempDir Path tempDir) throws IOException {
+    Path packageSpec = write(tempDir, "hr/step3packagespec/pkg_a.sql");
+    Path packageBody = write(tempDir, "hr/step6packagebody/pkg_a.sql");
+
+    // Missing directories of other schemas are skipped
+    ExportDroppedObjects.deleteFiles(tempDir.toString(), List.of("HR|PACKAGE BODY|PKG_A", "SALES|FUNCTION|F_X"));
+
+    assertTrue(Files.exists(packageSpec));
+    assertTrue(Files.exists(packageBody));
+  }
+
+  private static Path write(Path root, String relative) throws IOException {
+    Path file = root.resolve(relative);
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, "-- exported");
+    return file;
+  }
+}
@@ -0,0 +1,46 @@
+package me.christianrobert.ora2postgre.writing;
+
+import me.christianrobert.ora2postgre.global.Everything;
+import me.christianrobert.ora2postgre.oracledb.IndexColumn;
+import me.christianrobert.ora2postgre.oracledb.IndexMetadata;
+import me.christianrobert.ora2postgre.postgre.PostgresExecuter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExportIndexTest {
+
+  @Test
+  public void testEachIndexIsItsOwnStatement(@TempDir Path tempDir) throws IOException {
+    Everything data = new Everything();
+    data.getIndexes().add(index("IDX_EMP_NAME", "EMP", "NAME"));
+    data.getIndexes().add(index("IDX_DEPT_NAME", "DEPT", "NAME"));
+
+    new ExportIndex().exportIndexes(tempDir.toString(), data);
+
+    Path file;
+    try (Stream<Path> walk = Files.walk(tempDir)) {
+      file = walk.filter(path -> path.getFileName().toString().equals("hr_indexes.sql")).findFirst().orElseThrow();
+    }
+    List<String> statements = PostgresExecuter.splitStatements(Files.readString(file));
+
+    assertEquals(2, statements.size());
+    assertTrue(statements.get(0).contains("-- Index: IDX_DEPT_NAME"));
+    assertTrue(statements.get(0).toLowerCase().contains("create index"));
+    assertFalse(statements.get(0).contains("IDX_EMP_NAME"));
+    assertTrue(statements.get(1).contains("-- Index: IDX_EMP_NAME"));
+  }
+
+  private static IndexMetadata index(String name, String table, String column) {
+    IndexMetadata index = new IndexMetadata(name, table, "HR", "NORMAL", false, false, null, "USERS", "VALID", false);
+    index.addColumn(new IndexColumn(column, "ASC", 1, false));
+    return index;
+  }
+}